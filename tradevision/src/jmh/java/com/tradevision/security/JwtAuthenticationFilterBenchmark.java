@@ -0,0 +1,90 @@
+package com.tradevision.security;
+
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.entity.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 인증 비용 측정 (검증 캐시 사용 / 미사용)
+ * 세션 수만큼의 사용자 토큰을 번갈아 사용하며, 캐시 사용 시 측정 구간에서는 모두 캐시 적중
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits";
+    private static final int SESSIONS = 256;  // 2의 거듭제곱 (인덱스 마스킹)
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private final HttpServletRequest[] requests = new HttpServletRequest[SESSIONS];
+
+    private JwtAuthenticationFilter filter;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(
+                SECRET, 3600000L, 604800000L, new VerifiedTokenCache(cached ? 10000 : 0));
+        filter = new JwtAuthenticationFilter(tokenProvider);
+
+        for (int i = 0; i < SESSIONS; i++) {
+            User user = User.builder()
+                    .id((long) i + 1)
+                    .email("user" + i + "@example.com")
+                    .password("encodedPassword")
+                    .nickname("사용자" + i)
+                    .investmentLevel(InvestmentLevel.BEGINNER)
+                    .build();
+            requests[i] = bearerRequest(tokenProvider.generateAccessToken(user, "FREE"));
+        }
+    }
+
+    /**
+     * 요청 하나 인증 (토큰 추출 → 검증/클레임 추출 → SecurityContext 설정)
+     */
+    @Benchmark
+    public Object authenticate() throws Exception {
+        HttpServletRequest request = requests[cursor++ & (SESSIONS - 1)];
+        filter.doFilterInternal(request, null, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    /**
+     * Authorization 헤더만 응답하는 요청 (서블릿 컨테이너 없이 필터만 측정)
+     */
+    private static HttpServletRequest bearerRequest(String token) {
+        String header = "Bearer " + token;
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> "getHeader".equals(method.getName()) && "Authorization".equals(args[0])
+                        ? header
+                        : null);
+    }
+}
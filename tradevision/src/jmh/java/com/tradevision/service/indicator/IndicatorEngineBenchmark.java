@@ -0,0 +1,85 @@
+package com.tradevision.service.indicator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IndicatorEngine 캔들당 갱신 비용 측정
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm이 0 B/op이면 갱신 경로 할당 없음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndicatorEngineBenchmark {
+
+    private static final int SAMPLES = 4096;  // 2의 거듭제곱 (인덱스 마스킹)
+
+    private final double[] highs = new double[SAMPLES];
+    private final double[] lows = new double[SAMPLES];
+    private final double[] closes = new double[SAMPLES];
+    private final double[] volumes = new double[SAMPLES];
+
+    private IndicatorEngine engine;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        double price = 70000;
+        for (int i = 0; i < SAMPLES; i++) {
+            price += random.nextGaussian() * 300;
+            closes[i] = price;
+            highs[i] = price + random.nextDouble() * 500;
+            lows[i] = price - random.nextDouble() * 500;
+            volumes[i] = 1000 + random.nextInt(100_000);
+        }
+        engine = new IndicatorEngine(IndicatorSettings.DEFAULT);
+        for (int i = 0; i < SAMPLES; i++) {
+            engine.update(highs[i], lows[i], closes[i], volumes[i]);
+        }
+    }
+
+    /**
+     * 캔들 하나 반영 (모든 지표 갱신)
+     */
+    @Benchmark
+    public double update() {
+        int i = cursor++ & (SAMPLES - 1);
+        engine.update(highs[i], lows[i], closes[i], volumes[i]);
+        return engine.macdHistogram();
+    }
+
+    /**
+     * 캔들 하나 반영 후 모든 지표 읽기
+     */
+    @Benchmark
+    public void updateAndReadAll(Blackhole blackhole) {
+        int i = cursor++ & (SAMPLES - 1);
+        engine.update(highs[i], lows[i], closes[i], volumes[i]);
+        blackhole.consume(engine.sma());
+        blackhole.consume(engine.ema());
+        blackhole.consume(engine.rsi());
+        blackhole.consume(engine.macd());
+        blackhole.consume(engine.macdSignal());
+        blackhole.consume(engine.macdHistogram());
+        blackhole.consume(engine.bollingerUpper());
+        blackhole.consume(engine.bollingerLower());
+        blackhole.consume(engine.vwap());
+        blackhole.consume(engine.obv());
+    }
+}
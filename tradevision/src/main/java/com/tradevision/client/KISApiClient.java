@@ -1,11 +1,20 @@
 package com.tradevision.client;
 
 import com.tradevision.constant.CandleType;
+import com.tradevision.dto.external.KISCandleResponse;
 import com.tradevision.dto.external.KISStockPriceResponse;
-import com.tradevision.dto.external.KISTokenResponse;
 import com.tradevision.exception.ErrorCode;
 import com.tradevision.exception.ExternalApiException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -19,7 +28,10 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 /**
  * 한국투자증권 OpenAPI 클라이언트
@@ -31,7 +43,13 @@ public class KISApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(KISApiClient.class);
 
+    private static final String KIS_API = "kisApi";
+
     private final WebClient webClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final KISTokenManager tokenManager;
 
     @Value("${external-api.kis.base-url}")
     private String baseUrl;
@@ -42,58 +60,47 @@ public class KISApiClient {
     @Value("${external-api.kis.app-secret}")
     private String appSecret;
 
-    // 토큰 캐싱을 위한 변수
-    private String cachedAccessToken;
-    private LocalDateTime tokenExpireTime;
-
     /**
-     * OAuth 토큰 발급
-     * 토큰은 24시간 유효하므로 캐싱하여 재사용
+     * OAuth 토큰 조회
+     * 토큰 캐싱/갱신은 KISTokenManager가 담당 (유효한 토큰은 Circuit Breaker/Retry를 거치지 않고 바로 반환)
      *
      * @return Access Token
      */
-    @CircuitBreaker(name = "kisApi", fallbackMethod = "getTokenFallback")
-    @Retry(name = "kisApi")
     public String getAccessToken() {
-        // 캐시된 토큰이 있고 만료되지 않았으면 재사용
-        if (cachedAccessToken != null && tokenExpireTime != null
-                && LocalDateTime.now().isBefore(tokenExpireTime)) {
-            log.debug("캐시된 KIS Access Token 사용");
-            return cachedAccessToken;
-        }
+        return tokenManager.getAccessToken();
+    }
 
-        log.info("KIS API Access Token 발급 요청");
+    /**
+     * 주식 현재가 조회
+     * 시세 조회는 kisApi Rate Limiter로 초당 호출 수를 제한 (논블로킹 호출과 같은 한도 공유)
+     *
+     * @param stockCode  종목 코드 (6자리)
+     * @param candleType 캔들 타입
+     * @return 주식 시세 정보
+     */
+    @CircuitBreaker(name = "kisApi", fallbackMethod = "getStockPriceFallback")
+    @Retry(name = "kisApi")
+    @RateLimiter(name = "kisApi")
+    public KISStockPriceResponse getStockPrice(String stockCode, CandleType candleType) {
+        log.info("KIS API 주식 시세 조회: {} ({})", stockCode, candleType.getDisplayName());
 
-        try {
-            String requestBody = String.format(
-                    "{\"grant_type\":\"client_credentials\",\"appkey\":\"%s\",\"appsecret\":\"%s\"}",
-                    appKey, appSecret
-            );
+        String accessToken = getAccessToken();
 
-            KISTokenResponse response = webClient.post()
-                    .uri(baseUrl + "/oauth2/tokenP")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(KISTokenResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+        try {
+            KISStockPriceResponse response = requestStockPrice(accessToken, stockCode).block();
 
-            if (response == null || response.getAccessToken() == null) {
-                throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR, "토큰 발급 실패");
+            if (response == null || !"0".equals(response.getResultCode())) {
+                throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
+                        "주식 시세 조회 실패: " + (response != null ? response.getMessage() : "응답 없음"));
             }
 
-            // 토큰 캐싱 (만료 시간 - 10분 여유)
-            cachedAccessToken = response.getAccessToken();
-            tokenExpireTime = LocalDateTime.now().plusSeconds(response.getExpiresIn() - 600);
-
-            log.info("KIS Access Token 발급 성공");
-            return cachedAccessToken;
+            log.info("KIS API 주식 시세 조회 성공: {}", stockCode);
+            return response;
 
         } catch (WebClientResponseException e) {
-            log.error("KIS API 토큰 발급 실패: {}", e.getMessage());
+            log.error("KIS API 주식 시세 조회 실패: {}", e.getMessage());
             throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
-                    "KIS API 토큰 발급 실패: " + e.getStatusCode());
+                    "주식 시세 조회 실패: " + e.getStatusCode());
         } catch (Exception e) {
             log.error("KIS API 통신 오류: {}", e.getMessage());
             throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
@@ -102,50 +109,158 @@ public class KISApiClient {
     }
 
     /**
-     * 주식 현재가 조회
+     * 기간별(일/주/월봉) 캔들 조회
+     * 한 번에 최대 100건을 최신순으로 반환 (더 긴 구간은 호출자가 to를 앞당기며 반복 조회)
      *
      * @param stockCode  종목 코드 (6자리)
-     * @param candleType 캔들 타입
-     * @return 주식 시세 정보
+     * @param candleType 캔들 타입 (D, W, M)
+     * @param from       시작 일자
+     * @param to         종료 일자
+     * @return 캔들 응답
      */
-    @CircuitBreaker(name = "kisApi", fallbackMethod = "getStockPriceFallback")
+    @CircuitBreaker(name = "kisApi", fallbackMethod = "getPeriodCandlesFallback")
     @Retry(name = "kisApi")
-    public KISStockPriceResponse getStockPrice(String stockCode, CandleType candleType) {
-        log.info("KIS API 주식 시세 조회: {} ({})", stockCode, candleType.getDisplayName());
+    @RateLimiter(name = "kisApi")
+    public KISCandleResponse getPeriodCandles(String stockCode, CandleType candleType, LocalDate from, LocalDate to) {
+        log.info("KIS API 기간별 캔들 조회: {} ({}, {} ~ {})", stockCode, candleType.getDisplayName(), from, to);
+
+        return requestCandles("/uapi/domestic-stock/v1/quotations/inquire-daily-itemchartprice", "FHKST03010100",
+                Map.of(
+                        "FID_COND_MRKT_DIV_CODE", "J",
+                        "FID_INPUT_ISCD", stockCode,
+                        "FID_INPUT_DATE_1", from.format(DateTimeFormatter.BASIC_ISO_DATE),
+                        "FID_INPUT_DATE_2", to.format(DateTimeFormatter.BASIC_ISO_DATE),
+                        "FID_PERIOD_DIV_CODE", candleType.name(),
+                        "FID_ORG_ADJ_PRC", "0"));  // 수정주가 기준
+    }
+
+    /**
+     * 당일 1분봉 조회
+     * 지정 시각 이전 최대 30건을 최신순으로 반환 (KIS는 당일 분봉만 제공)
+     *
+     * @param stockCode 종목 코드 (6자리)
+     * @param until     조회 기준 시각
+     * @return 캔들 응답
+     */
+    @CircuitBreaker(name = "kisApi", fallbackMethod = "getMinuteCandlesFallback")
+    @Retry(name = "kisApi")
+    @RateLimiter(name = "kisApi")
+    public KISCandleResponse getMinuteCandles(String stockCode, LocalTime until) {
+        log.info("KIS API 분봉 조회: {} (~ {})", stockCode, until);
+
+        return requestCandles("/uapi/domestic-stock/v1/quotations/inquire-time-itemchartprice", "FHKST03010200",
+                Map.of(
+                        "FID_ETC_CLS_CODE", "",
+                        "FID_COND_MRKT_DIV_CODE", "J",
+                        "FID_INPUT_ISCD", stockCode,
+                        "FID_INPUT_HOUR_1", until.format(DateTimeFormatter.ofPattern("HHmmss")),
+                        "FID_PW_DATA_INCU_YN", "N"));
+    }
 
+    /**
+     * OAuth 토큰 조회 (논블로킹)
+     *
+     * @return Access Token Mono
+     */
+    public Mono<String> getAccessTokenReactive() {
+        return tokenManager.getAccessTokenReactive();
+    }
+
+    /**
+     * 주식 현재가 조회 (논블로킹)
+     * 토큰 발급과 시세 조회를 이어서 수행하며, 응답을 기다리는 동안 스레드를 점유하지 않음
+     *
+     * @param stockCode  종목 코드 (6자리)
+     * @param candleType 캔들 타입
+     * @return 주식 시세 정보 Mono
+     */
+    public Mono<KISStockPriceResponse> getStockPriceReactive(String stockCode, CandleType candleType) {
+        log.info("KIS API 주식 시세 조회 (논블로킹): {} ({})", stockCode, candleType.getDisplayName());
+
+        return getAccessTokenReactive()
+                .flatMap(accessToken -> requestStockPrice(accessToken, stockCode)
+                        .switchIfEmpty(Mono.error(() ->
+                                new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR, "주식 시세 조회 실패: 응답 없음")))
+                        .map(response -> {
+                            if (!"0".equals(response.getResultCode())) {
+                                throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
+                                        "주식 시세 조회 실패: " + response.getMessage());
+                            }
+                            return response;
+                        })
+                        .transformDeferred(RateLimiterOperator.of(rateLimiterRegistry.rateLimiter(KIS_API)))
+                        .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(KIS_API)))
+                        .transformDeferred(RetryOperator.of(retryRegistry.retry(KIS_API)))
+                        .onErrorMap(e -> !(e instanceof ExternalApiException),
+                                e -> toExternalApiException("주식 시세 조회 실패", e)));
+    }
+
+    /**
+     * 주식 현재가 시세 조회 API 호출 Mono 생성
+     *
+     * @param accessToken Access Token
+     * @param stockCode   종목 코드
+     * @return 시세 응답 Mono
+     */
+    private Mono<KISStockPriceResponse> requestStockPrice(String accessToken, String stockCode) {
+        String trId = "FHKST01010100"; // 주식현재가 시세 조회 TR ID
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(baseUrl + "/uapi/domestic-stock/v1/quotations/inquire-price")
+                        .queryParam("FID_COND_MRKT_DIV_CODE", "J") // 시장 구분 (J: 주식)
+                        .queryParam("FID_INPUT_ISCD", stockCode) // 종목 코드
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("appkey", appKey)
+                .header("appsecret", appSecret)
+                .header("tr_id", trId)
+                .retrieve()
+                .bodyToMono(KISStockPriceResponse.class)
+                .timeout(Duration.ofSeconds(10));
+    }
+
+    /**
+     * 캔들 조회 API 호출 (블로킹)
+     *
+     * @param path   API 경로
+     * @param trId   거래 ID
+     * @param params 쿼리 파라미터
+     * @return 캔들 응답
+     */
+    private KISCandleResponse requestCandles(String path, String trId, Map<String, String> params) {
         String accessToken = getAccessToken();
 
         try {
-            String trId = "FHKST01010100"; // 주식현재가 시세 조회 TR ID
-
-            KISStockPriceResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(baseUrl + "/uapi/domestic-stock/v1/quotations/inquire-price")
-                            .queryParam("FID_COND_MRKT_DIV_CODE", "J") // 시장 구분 (J: 주식)
-                            .queryParam("FID_INPUT_ISCD", stockCode) // 종목 코드
-                            .build())
+            KISCandleResponse response = webClient.get()
+                    .uri(uriBuilder -> {
+                        uriBuilder.path(baseUrl + path);
+                        params.forEach(uriBuilder::queryParam);
+                        return uriBuilder.build();
+                    })
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                     .header("appkey", appKey)
                     .header("appsecret", appSecret)
                     .header("tr_id", trId)
                     .retrieve()
-                    .bodyToMono(KISStockPriceResponse.class)
+                    .bodyToMono(KISCandleResponse.class)
                     .timeout(Duration.ofSeconds(10))
                     .block();
 
             if (response == null || !"0".equals(response.getResultCode())) {
                 throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
-                        "주식 시세 조회 실패: " + (response != null ? response.getMessage() : "응답 없음"));
+                        "캔들 조회 실패: " + (response != null ? response.getMessage() : "응답 없음"));
             }
-
-            log.info("KIS API 주식 시세 조회 성공: {}", stockCode);
             return response;
 
         } catch (WebClientResponseException e) {
-            log.error("KIS API 주식 시세 조회 실패: {}", e.getMessage());
+            log.error("KIS API 캔들 조회 실패: {}", e.getMessage());
             throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
-                    "주식 시세 조회 실패: " + e.getStatusCode());
+                    "캔들 조회 실패: " + e.getStatusCode());
+        } catch (ExternalApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("KIS API 통신 오류: {}", e.getMessage());
             throw new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
@@ -154,12 +269,32 @@ public class KISApiClient {
     }
 
     /**
-     * Circuit Breaker Fallback - 토큰 발급 실패 시
+     * 논블로킹 호출 오류를 ExternalApiException으로 변환
+     * (어노테이션 방식의 catch 블록 및 Fallback과 같은 메시지)
+     *
+     * @param message 실패 메시지 접두어
+     * @param e       발생한 오류
+     * @return 변환된 예외
      */
-    private String getTokenFallback(Exception e) {
-        log.error("KIS API Circuit Breaker 작동 (토큰 발급): {}", e.getMessage());
-        throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
-                "한국투자증권 API 서버에 일시적으로 접근할 수 없습니다");
+    private ExternalApiException toExternalApiException(String message, Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            log.error("KIS API Circuit Breaker 작동 (논블로킹): {}", e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                    "한국투자증권 API 서버에 일시적으로 접근할 수 없습니다");
+        }
+        if (e instanceof RequestNotPermitted) {
+            log.warn("KIS API 호출 한도 초과 (논블로킹): {}", e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                    "시세 조회 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("{}: {}", message, e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
+                    message + ": " + responseException.getStatusCode());
+        }
+        log.error("KIS API 통신 오류: {}", e.getMessage());
+        return new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
+                "KIS API 통신 오류: " + e.getMessage());
     }
 
     /**
@@ -170,4 +305,23 @@ public class KISApiClient {
         throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
                 "한국투자증권 API 서버에 일시적으로 접근할 수 없습니다");
     }
+
+    /**
+     * Circuit Breaker Fallback - 기간별 캔들 조회 실패 시
+     */
+    private KISCandleResponse getPeriodCandlesFallback(String stockCode, CandleType candleType,
+                                                       LocalDate from, LocalDate to, Exception e) {
+        log.error("KIS API Circuit Breaker 작동 (기간별 캔들 조회): {}", e.getMessage());
+        throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                "한국투자증권 API 서버에 일시적으로 접근할 수 없습니다");
+    }
+
+    /**
+     * Circuit Breaker Fallback - 분봉 조회 실패 시
+     */
+    private KISCandleResponse getMinuteCandlesFallback(String stockCode, LocalTime until, Exception e) {
+        log.error("KIS API Circuit Breaker 작동 (분봉 조회): {}", e.getMessage());
+        throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                "한국투자증권 API 서버에 일시적으로 접근할 수 없습니다");
+    }
 }
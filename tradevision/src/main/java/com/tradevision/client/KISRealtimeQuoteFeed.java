@@ -0,0 +1,297 @@
+package com.tradevision.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradevision.dto.response.StockTickResponse;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.exception.ExternalApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한국투자증권 실시간 체결가(H0STCNT0) WebSocket 피드
+ * 하나의 WebSocket 세션에 종목별 실시간 구독을 등록/해제 (종목당 상위 구독 1개)
+ * 연결이 끊기면 구독 중인 종목이 남아 있는 동안 재연결 후 다시 등록
+ */
+@Component
+public class KISRealtimeQuoteFeed implements RealtimeQuoteFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(KISRealtimeQuoteFeed.class);
+
+    private static final String TR_ID = "H0STCNT0";           // 국내주식 실시간 체결가
+    private static final String TR_TYPE_SUBSCRIBE = "1";
+    private static final String TR_TYPE_UNSUBSCRIBE = "2";
+    private static final String PINGPONG = "PINGPONG";
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final DateTimeFormatter TRADE_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final WebClient webClient;
+    private final WebSocketClient webSocketClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String websocketUrl;
+    private final String appKey;
+    private final String appSecret;
+
+    // 수신한 체결가를 종목별 구독자에게 전달 (세션 수신 스레드 하나에서만 발행)
+    private final Sinks.Many<StockTickResponse> ticks = Sinks.many().multicast().directBestEffort();
+
+    // 아래 필드는 모두 this 잠금 안에서 읽고 씀
+    private final Set<String> activeCodes = new LinkedHashSet<>();
+    private Sinks.Many<OutboundMessage> outbound;
+    private Disposable connection;
+
+    @Autowired
+    public KISRealtimeQuoteFeed(
+            WebClient webClient,
+            ObjectMapper objectMapper,
+            @Value("${external-api.kis.base-url}") String baseUrl,
+            @Value("${external-api.kis.websocket-url:ws://ops.koreainvestment.com:21000}") String websocketUrl,
+            @Value("${external-api.kis.app-key}") String appKey,
+            @Value("${external-api.kis.app-secret}") String appSecret) {
+        this(webClient, new ReactorNettyWebSocketClient(), objectMapper, baseUrl, websocketUrl, appKey, appSecret);
+    }
+
+    KISRealtimeQuoteFeed(
+            WebClient webClient,
+            WebSocketClient webSocketClient,
+            ObjectMapper objectMapper,
+            String baseUrl,
+            String websocketUrl,
+            String appKey,
+            String appSecret) {
+        this.webClient = webClient;
+        this.webSocketClient = webSocketClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.websocketUrl = websocketUrl;
+        this.appKey = appKey;
+        this.appSecret = appSecret;
+    }
+
+    @Override
+    public Flux<StockTickResponse> ticks(String stockCode) {
+        return Flux.defer(() -> {
+                    register(stockCode);
+                    return ticks.asFlux().filter(tick -> stockCode.equals(tick.getStockCode()));
+                })
+                .doFinally(signal -> unregister(stockCode));
+    }
+
+    /**
+     * 종목 실시간 구독 등록 (연결이 없으면 연결 후 등록)
+     */
+    private synchronized void register(String stockCode) {
+        if (!activeCodes.add(stockCode)) {
+            return;
+        }
+        if (connection == null) {
+            connect();  // 연결 시 activeCodes 전체를 등록
+        } else {
+            emit(new OutboundMessage(stockCode, TR_TYPE_SUBSCRIBE, null));
+        }
+        log.info("KIS 실시간 체결가 구독 등록: {} (구독 종목 {}개)", stockCode, activeCodes.size());
+    }
+
+    /**
+     * 종목 실시간 구독 해제 (구독 종목이 없으면 연결 종료)
+     */
+    private synchronized void unregister(String stockCode) {
+        if (!activeCodes.remove(stockCode)) {
+            return;
+        }
+        log.info("KIS 실시간 체결가 구독 해제: {} (구독 종목 {}개)", stockCode, activeCodes.size());
+
+        if (activeCodes.isEmpty() && connection != null) {
+            connection.dispose();
+            connection = null;
+            outbound = null;
+        } else if (connection != null) {
+            emit(new OutboundMessage(stockCode, TR_TYPE_UNSUBSCRIBE, null));
+        }
+    }
+
+    /**
+     * WebSocket 접속키 발급 후 세션 연결, 현재 구독 종목 전체 등록
+     */
+    private void connect() {
+        Sinks.Many<OutboundMessage> messages = Sinks.many().unicast().onBackpressureBuffer();
+        activeCodes.forEach(code -> messages.tryEmitNext(new OutboundMessage(code, TR_TYPE_SUBSCRIBE, null)));
+        outbound = messages;
+
+        connection = requestApprovalKey()
+                .flatMap(approvalKey -> webSocketClient.execute(URI.create(websocketUrl + "/tryitout/" + TR_ID),
+                        session -> session.send(messages.asFlux()
+                                        .map(message -> session.textMessage(message.toText(approvalKey, objectMapper))))
+                                .and(session.receive()
+                                        .map(WebSocketMessage::getPayloadAsText)
+                                        .doOnNext(this::handleMessage)
+                                        .then())))
+                .subscribe(
+                        unused -> { },
+                        error -> onDisconnected(messages, error),
+                        () -> onDisconnected(messages, null));
+    }
+
+    /**
+     * 세션 종료 처리: 구독 중인 종목이 남아 있으면 잠시 후 재연결
+     */
+    private synchronized void onDisconnected(Sinks.Many<OutboundMessage> messages, Throwable error) {
+        if (outbound != messages) {
+            return;  // 이미 정리되었거나 새 연결로 교체됨
+        }
+        connection = null;
+        outbound = null;
+
+        if (error != null) {
+            log.warn("KIS 실시간 시세 연결 종료: {}", error.getMessage());
+        }
+        if (!activeCodes.isEmpty()) {
+            Mono.delay(RECONNECT_DELAY).subscribe(tick -> reconnect());
+        }
+    }
+
+    private synchronized void reconnect() {
+        if (connection == null && !activeCodes.isEmpty()) {
+            log.info("KIS 실시간 시세 재연결 (구독 종목 {}개)", activeCodes.size());
+            connect();
+        }
+    }
+
+    private synchronized void emit(OutboundMessage message) {
+        if (outbound != null) {
+            outbound.tryEmitNext(message);
+        }
+    }
+
+    /**
+     * 수신 메시지 처리
+     * JSON: 구독 응답/PINGPONG, 그 외: "암호화여부|TR_ID|건수|데이터" 형식의 실시간 데이터
+     */
+    private void handleMessage(String payload) {
+        if (payload.startsWith("{")) {
+            if (payload.contains(PINGPONG)) {
+                emit(new OutboundMessage(null, null, payload));  // 수신한 PINGPONG을 그대로 회신
+            } else {
+                log.debug("KIS 실시간 시세 응답: {}", payload);
+            }
+            return;
+        }
+
+        try {
+            for (StockTickResponse tick : parseTicks(payload)) {
+                ticks.tryEmitNext(tick);
+            }
+        } catch (RuntimeException e) {
+            // 형식이 다른 메시지 하나 때문에 세션을 끊지 않음
+            log.warn("KIS 실시간 체결가 파싱 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실시간 체결가 데이터 파싱
+     * 한 메시지에 여러 건이 올 수 있으며 각 건의 필드는 '^'로 구분
+     * (0: 종목코드, 1: 체결시각, 2: 현재가, 4: 전일대비, 5: 등락률, 7: 시가, 8: 고가, 9: 저가, 12: 체결량, 13: 누적거래량)
+     *
+     * @param payload 실시간 데이터 메시지
+     * @return 체결가 목록
+     */
+    static List<StockTickResponse> parseTicks(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length < 4 || !TR_ID.equals(parts[1])) {
+            return List.of();
+        }
+
+        int count = Integer.parseInt(parts[2]);
+        String[] fields = parts[3].split("\\^");
+        int fieldsPerTick = fields.length / count;
+
+        List<StockTickResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = i * fieldsPerTick;
+            result.add(StockTickResponse.builder()
+                    .stockCode(fields[offset])
+                    .tradeTime(LocalTime.parse(fields[offset + 1], TRADE_TIME_FORMAT))
+                    .currentPrice(new BigDecimal(fields[offset + 2]))
+                    .priceChange(new BigDecimal(fields[offset + 4]))
+                    .changeRate(new BigDecimal(fields[offset + 5]))
+                    .openPrice(new BigDecimal(fields[offset + 7]))
+                    .highPrice(new BigDecimal(fields[offset + 8]))
+                    .lowPrice(new BigDecimal(fields[offset + 9]))
+                    .tradeVolume(Long.parseLong(fields[offset + 12]))
+                    .accumulatedVolume(Long.parseLong(fields[offset + 13]))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * WebSocket 접속키 발급
+     */
+    private Mono<String> requestApprovalKey() {
+        return webClient.post()
+                .uri(baseUrl + "/oauth2/Approval")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "grant_type", "client_credentials",
+                        "appkey", appKey,
+                        "secretkey", appSecret))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofSeconds(10))
+                .map(body -> body.path("approval_key").asText(""))
+                .filter(key -> !key.isEmpty())
+                .switchIfEmpty(Mono.error(() ->
+                        new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR, "KIS 실시간 접속키 발급 실패")));
+    }
+
+    /**
+     * 송신 메시지 (구독 등록/해제 또는 그대로 보낼 원문)
+     */
+    private record OutboundMessage(String stockCode, String trType, String raw) {
+
+        String toText(String approvalKey, ObjectMapper objectMapper) {
+            if (raw != null) {
+                return raw;
+            }
+            try {
+                return objectMapper.writeValueAsString(Map.of(
+                        "header", Map.of(
+                                "approval_key", approvalKey,
+                                "custtype", "P",
+                                "tr_type", trType,
+                                "content-type", "utf-8"),
+                        "body", Map.of(
+                                "input", Map.of(
+                                        "tr_id", TR_ID,
+                                        "tr_key", stockCode))));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("KIS 실시간 구독 메시지 생성 실패", e);
+            }
+        }
+    }
+}
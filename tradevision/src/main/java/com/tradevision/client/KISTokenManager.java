@@ -0,0 +1,323 @@
+package com.tradevision.client;
+
+import com.tradevision.dto.external.KISTokenResponse;
+import com.tradevision.entity.KisAccessToken;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.exception.ExternalApiException;
+import com.tradevision.repository.KisAccessTokenRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 한국투자증권 API Access Token 관리자
+ * - 조회: 불변 토큰 객체를 AtomicReference에서 잠금 없이 읽음 (유효한 토큰은 AOP 프록시/네트워크를 거치지 않음)
+ * - 갱신: 동시에 여러 요청이 만료를 감지해도 발급 요청은 한 번만 수행 (single-flight)
+ * - 사전 갱신: 만료 전(app.kis-token.refresh-ahead)에 백그라운드에서 갱신
+ * - 저장: 발급한 토큰을 DB에 저장하여 재시작/다중 인스턴스에서 재사용 (행 잠금으로 인스턴스 간 중복 발급 방지)
+ */
+@Component
+public class KISTokenManager {
+
+    private static final Logger log = LoggerFactory.getLogger(KISTokenManager.class);
+
+    private static final String KIS_API = "kisApi";
+    private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(10);  // 만료 직전 토큰은 사용하지 않음
+
+    private final WebClient webClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final KisAccessTokenRepository tokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String baseUrl;
+    private final String appKey;
+    private final String appSecret;
+    private final String tokenKey;
+    private final Duration refreshAhead;
+    private final Clock clock;
+
+    private final AtomicReference<Token> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Token>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public KISTokenManager(
+            WebClient webClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            KisAccessTokenRepository tokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${external-api.kis.base-url}") String baseUrl,
+            @Value("${external-api.kis.app-key}") String appKey,
+            @Value("${external-api.kis.app-secret}") String appSecret,
+            @Value("${app.kis-token.refresh-ahead:1h}") Duration refreshAhead) {
+        this(webClient, circuitBreakerRegistry, retryRegistry, tokenRepository, transactionManager,
+                baseUrl, appKey, appSecret, refreshAhead, Clock.systemDefaultZone());
+    }
+
+    KISTokenManager(
+            WebClient webClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            KisAccessTokenRepository tokenRepository,
+            PlatformTransactionManager transactionManager,
+            String baseUrl,
+            String appKey,
+            String appSecret,
+            Duration refreshAhead,
+            Clock clock) {
+        this.webClient = webClient;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.tokenRepository = tokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.baseUrl = baseUrl;
+        this.appKey = appKey;
+        this.appSecret = appSecret;
+        this.tokenKey = sha256(appKey);
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+    }
+
+    /**
+     * 유효한 Access Token 조회 (블로킹)
+     * 캐시된 토큰이 없거나 만료 직전이면 진행 중인 갱신을 기다림
+     *
+     * @return Access Token
+     */
+    public String getAccessToken() {
+        Token token = current.get();
+        if (token != null && token.isUsable(now())) {
+            return token.value();
+        }
+        return await(refresh()).value();
+    }
+
+    /**
+     * 유효한 Access Token 조회 (논블로킹)
+     *
+     * @return Access Token Mono
+     */
+    public Mono<String> getAccessTokenReactive() {
+        return Mono.defer(() -> {
+            Token token = current.get();
+            if (token != null && token.isUsable(now())) {
+                return Mono.just(token.value());
+            }
+            return Mono.fromFuture(refresh(), true).map(Token::value);
+        });
+    }
+
+    /**
+     * 만료가 가까운 토큰 사전 갱신 (app.kis-token.refresh-check-interval-ms 주기)
+     * 요청 경로에서 만료를 만나기 전에 갱신하여 발급 지연이 사용자 요청에 드러나지 않도록 함
+     * App Key가 설정되지 않은 환경(로컬/테스트)에서는 실행하지 않음
+     */
+    @Scheduled(initialDelayString = "${app.kis-token.initial-delay-ms:10000}",
+            fixedDelayString = "${app.kis-token.refresh-check-interval-ms:300000}")
+    public void refreshIfExpiringSoon() {
+        if (appKey == null || appKey.isBlank()) {
+            return;
+        }
+
+        Token token = current.get();
+        if (token != null && !token.needsRefresh(now(), refreshAhead)) {
+            return;
+        }
+
+        try {
+            await(refresh());
+        } catch (Exception e) {
+            // 실패해도 기존 토큰은 만료 전까지 계속 사용, 다음 주기에 재시도
+            log.warn("KIS Access Token 사전 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 갱신 (single-flight)
+     * 진행 중인 갱신이 있으면 그 결과를 공유하고, 없으면 새 갱신을 시작
+     * 갱신은 DB 잠금과 HTTP 호출을 포함하므로 요청 스레드(이벤트 루프 포함)가 아닌 boundedElastic에서 실행
+     *
+     * @return 갱신된 토큰 Future
+     */
+    CompletableFuture<Token> refresh() {
+        Token token = current.get();
+        if (token != null && !token.needsRefresh(now(), refreshAhead)) {
+            return CompletableFuture.completedFuture(token);  // 직전에 다른 요청이 갱신을 마침
+        }
+
+        CompletableFuture<Token> existing = inFlight.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<Token> created = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, created)) {
+            CompletableFuture<Token> winner = inFlight.get();
+            return winner != null ? winner : refresh();
+        }
+
+        Mono.fromCallable(this::loadOrIssue)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        issued -> {
+                            current.set(issued);
+                            inFlight.set(null);
+                            created.complete(issued);
+                        },
+                        error -> {
+                            inFlight.set(null);
+                            created.completeExceptionally(error);
+                        });
+        return created;
+    }
+
+    /**
+     * DB에 저장된 토큰이 충분히 유효하면 재사용, 아니면 새로 발급 후 저장
+     * 다른 인스턴스가 먼저 행을 추가한 경우(기본 키 충돌) 한 번 더 조회
+     */
+    private Token loadOrIssue() {
+        try {
+            return transactionTemplate.execute(status -> loadOrIssueLocked());
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 인스턴스가 KIS Access Token을 먼저 저장함, 저장된 토큰 재조회");
+            return transactionTemplate.execute(status -> loadOrIssueLocked());
+        }
+    }
+
+    private Token loadOrIssueLocked() {
+        Optional<KisAccessToken> stored = tokenRepository.findByTokenKeyForUpdate(tokenKey);
+        LocalDateTime now = now();
+
+        if (stored.isPresent()) {
+            Token token = new Token(stored.get().getAccessToken(), stored.get().getExpiresAt());
+            if (!token.needsRefresh(now, refreshAhead)) {
+                log.debug("저장된 KIS Access Token 사용 (만료: {})", token.expiresAt());
+                return token;
+            }
+        }
+
+        Token issued = issueToken();
+        stored.ifPresentOrElse(
+                entity -> entity.update(issued.value(), issued.expiresAt(), now),
+                () -> tokenRepository.saveAndFlush(KisAccessToken.builder()
+                        .tokenKey(tokenKey)
+                        .accessToken(issued.value())
+                        .expiresAt(issued.expiresAt())
+                        .updatedAt(now)
+                        .build()));
+        return issued;
+    }
+
+    /**
+     * 토큰 발급 API 호출 (Circuit Breaker/Retry는 실제 발급 호출에만 적용)
+     */
+    private Token issueToken() {
+        log.info("KIS API Access Token 발급 요청");
+
+        String requestBody = String.format(
+                "{\"grant_type\":\"client_credentials\",\"appkey\":\"%s\",\"appsecret\":\"%s\"}",
+                appKey, appSecret
+        );
+
+        KISTokenResponse response = webClient.post()
+                .uri(baseUrl + "/oauth2/tokenP")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(KISTokenResponse.class)
+                .timeout(Duration.ofSeconds(10))
+                .filter(body -> body.getAccessToken() != null && body.getExpiresIn() != null)
+                .switchIfEmpty(Mono.error(() ->
+                        new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR, "토큰 발급 실패")))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(KIS_API)))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(KIS_API)))
+                .onErrorMap(e -> !(e instanceof ExternalApiException), this::toExternalApiException)
+                .block();
+
+        log.info("KIS Access Token 발급 성공");
+        return new Token(response.getAccessToken(), now().plusSeconds(response.getExpiresIn()));
+    }
+
+    private ExternalApiException toExternalApiException(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            log.error("KIS API Circuit Breaker 작동 (토큰 발급): {}", e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                    "한국투자증권 API 서버에 일시적으로 접근할 수 없습니다");
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("KIS API 토큰 발급 실패: {}", e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR,
+                    "KIS API 토큰 발급 실패: " + responseException.getStatusCode());
+        }
+        log.error("KIS API 통신 오류: {}", e.getMessage());
+        return new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR, "KIS API 통신 오류: " + e.getMessage());
+    }
+
+    private Token await(CompletableFuture<Token> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(
+                    (value != null ? value : "").getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 불변 토큰 객체 (값과 만료 시각을 함께 교체하여 읽는 쪽에서 항상 일관된 쌍을 봄)
+     */
+    record Token(String value, LocalDateTime expiresAt) {
+
+        boolean isUsable(LocalDateTime now) {
+            return now.isBefore(expiresAt.minus(EXPIRY_MARGIN));
+        }
+
+        boolean needsRefresh(LocalDateTime now, Duration refreshAhead) {
+            return !now.isBefore(expiresAt.minus(refreshAhead));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.tradevision.client;
+
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.exception.ExternalApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 동시 호출 수 제한
+ * 가상 스레드 모드에서는 스레드풀 크기가 호출량을 제한하지 않으므로
+ * 세마포어로 OpenAI API 동시 호출 수를 제한 (대기 시간 초과 시 실패 처리)
+ * 논블로킹 호출은 스레드를 붙잡지 않도록 허가를 기다리는 대기열에 넣고, 허가가 반환될 때 순서대로 넘겨줌
+ */
+@Component
+public class OpenAICallLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenAICallLimiter.class);
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public OpenAICallLimiter(
+            @Value("${app.openai.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${app.openai.acquire-timeout:60s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 허가를 얻은 뒤 호출 실행
+     *
+     * @param call OpenAI API 호출
+     * @return 호출 결과
+     */
+    public <T> T call(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 허가를 얻은 뒤 호출 실행 (논블로킹)
+     * 구독할 때마다 허가를 얻으므로 재시도도 시도마다 허가를 얻고, 완료/오류/취소 시 반환
+     *
+     * @param call OpenAI API 호출 Mono
+     * @return 호출 결과 Mono
+     */
+    public <T> Mono<T> callReactive(Supplier<Mono<T>> call) {
+        return Mono.usingWhen(acquireAsync(), permit -> Mono.defer(call), permit -> Mono.fromRunnable(permit::release));
+    }
+
+    /**
+     * 현재 남은 허가 수
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 허가를 논블로킹으로 얻음 (바로 없으면 대기열에서 기다리고, 대기 시간 초과 시 실패)
+     */
+    private Mono<Permit> acquireAsync() {
+        return Mono.<Permit>create(sink -> {
+            if (waiters.isEmpty() && permits.tryAcquire()) {
+                sink.success(new Permit());
+                return;
+            }
+
+            Waiter waiter = new Waiter(sink);
+            waiters.add(waiter);
+            Disposable timeout = Schedulers.parallel().schedule(() -> {
+                if (waiter.claim()) {
+                    waiters.remove(waiter);
+                    log.warn("OpenAI 동시 호출 대기 시간 초과 ({}ms)", acquireTimeout.toMillis());
+                    sink.error(new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                            "AI 분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+                }
+            }, acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            sink.onCancel(() -> {
+                if (waiter.claim()) {
+                    waiters.remove(waiter);
+                }
+            });
+            sink.onDispose(timeout);
+            // 대기열에 넣는 사이에 반환된 허가가 있으면 바로 넘겨받음
+            handOff();
+        }).doOnDiscard(Permit.class, Permit::release);  // 취소 직후 넘겨받은 허가는 반환
+    }
+
+    /**
+     * 허가 반환 후 기다리는 논블로킹 호출에 넘겨줌
+     */
+    private void release() {
+        permits.release();
+        handOff();
+    }
+
+    private void handOff() {
+        while (!waiters.isEmpty() && permits.tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter != null && waiter.claim()) {
+                waiter.sink.success(new Permit());
+            } else {
+                permits.release();  // 이미 취소/시간 초과된 대기자
+            }
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("OpenAI 동시 호출 대기 시간 초과 ({}ms)", acquireTimeout.toMillis());
+                throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                        "AI 분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE, "AI 분석 요청이 중단되었습니다");
+        }
+    }
+
+    /**
+     * 논블로킹 호출이 얻은 허가 (여러 번 반환해도 한 번만 반환)
+     */
+    private final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                OpenAICallLimiter.this.release();
+            }
+        }
+    }
+
+    /**
+     * 허가를 기다리는 논블로킹 호출 (허가 전달, 시간 초과, 취소 중 먼저 일어난 하나만 처리)
+     */
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -1,24 +1,49 @@
 package com.tradevision.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradevision.dto.external.OpenAIRequest;
 import com.tradevision.dto.external.OpenAIResponse;
+import com.tradevision.dto.external.OpenAIStreamChunk;
 import com.tradevision.exception.ErrorCode;
 import com.tradevision.exception.ExternalApiException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * OpenAI API 클라이언트
@@ -28,10 +53,27 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OpenAIClient {
 
+    /**
+     * 차트 분석 프롬프트/모델 버전
+     * 프롬프트나 모델을 바꾸면 올려서, 이전 버전으로 만든 분석 결과가 재사용되지 않도록 함
+     */
+    public static final String PROMPT_VERSION = "v1";
+
     private static final Logger log = LoggerFactory.getLogger(OpenAIClient.class);
+    private static final String OPENAI_API = "openaiApi";
     private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+    private static final String STREAM_DONE = "[DONE]";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SERVER_SENT_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String IMAGE_URL_PLACEHOLDER = "__TRADEVISION_IMAGE_DATA_URL__";
+    // 요청 본문(이미지 Base64)을 쓰는 블로킹 작업은 Reactor boundedElastic 스케줄러에서 실행
+    private static final Executor REQUEST_BODY_WRITER = task -> Schedulers.boundedElastic().schedule(task);
 
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final OpenAICallLimiter callLimiter;
 
     @Value("${external-api.openai.base-url}")
     private String baseUrl;
@@ -45,52 +87,184 @@ public class OpenAIClient {
     @Value("${external-api.openai.max-tokens:2000}")
     private Integer maxTokens;
 
+    /**
+     * 이미지 상세도 (low, high, auto) - 전처리로 해상도를 줄였으므로 필요에 따라 조정
+     */
+    @Value("${external-api.openai.image-detail:high}")
+    private String imageDetail;
+
     /**
      * GPT-4 Vision을 사용한 차트 이미지 분석
      *
-     * @param base64Image Base64로 인코딩된 차트 이미지
-     * @param prompt      분석 요청 프롬프트
+     * @param imagePath 저장된 차트 이미지 경로
+     * @param mimeType  이미지 MIME 타입
+     * @param prompt    분석 요청 프롬프트
      * @return AI 분석 결과
      */
     @CircuitBreaker(name = "openaiApi", fallbackMethod = "analyzeChartFallback")
     @Retry(name = "openaiApi")
-    public String analyzeChart(String base64Image, String prompt) {
+    public String analyzeChart(Path imagePath, String mimeType, String prompt) {
         log.info("OpenAI API 차트 분석 요청 시작");
 
         try {
-            // OpenAI API 요청 생성
-            OpenAIRequest request = buildAnalysisRequest(base64Image, prompt);
+            // 동시 호출 수 제한 (가상 스레드 모드에서는 스레드풀이 호출량을 제한하지 않음)
+            return callLimiter.call(() -> requestAnalysis(imagePath, mimeType, prompt).block());
+        } catch (WebClientResponseException e) {
+            log.error("OpenAI API 호출 실패: {} - {}", e.getStatusCode(), e.getMessage());
+            throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR,
+                    "OpenAI API 호출 실패: " + e.getStatusCode());
+        } catch (ExternalApiException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("OpenAI API 통신 오류: {}", e.getMessage(), e);
+            throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR,
+                    "AI 분석 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * GPT-4 Vision을 사용한 차트 이미지 분석 (논블로킹)
+     * 호출 스레드를 붙잡지 않는 Mono를 반환하여 다른 Mono/Flux와 조합할 수 있음
+     * Circuit Breaker/Retry는 어노테이션 대신 Resilience4j Reactor 연산자로 적용 (같은 openaiApi 설정 사용)
+     * 동시 호출 수 제한은 허가를 기다리는 동안에도 스레드를 붙잡지 않는 OpenAICallLimiter.callReactive로 적용
+     *
+     * @param imagePath 저장된 차트 이미지 경로
+     * @param mimeType  이미지 MIME 타입
+     * @param prompt    분석 요청 프롬프트
+     * @return AI 분석 결과 Mono
+     */
+    public Mono<String> analyzeChartReactive(Path imagePath, String mimeType, String prompt) {
+        // 동시 호출 수 제한 (블로킹/스트리밍 호출과 같은 허가를 공유, 재시도는 시도마다 허가를 얻음)
+        return callLimiter.callReactive(() -> requestAnalysis(imagePath, mimeType, prompt))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(OPENAI_API)))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(OPENAI_API)))
+                .onErrorMap(e -> !(e instanceof ExternalApiException), this::toExternalApiException);
+    }
 
-            // API 호출
-            OpenAIResponse response = webClient.post()
+    /**
+     * 차트 분석 API 호출 Mono 생성 (Circuit Breaker/Retry 미적용)
+     *
+     * @param imagePath 저장된 차트 이미지 경로
+     * @param mimeType  이미지 MIME 타입
+     * @param prompt    분석 요청 프롬프트
+     * @return AI 분석 결과 Mono
+     */
+    private Mono<String> requestAnalysis(Path imagePath, String mimeType, String prompt) {
+        // OpenAI API 요청 본문 생성 (이미지는 전송 시점에 스트리밍 인코딩)
+        return Mono.fromCallable(() -> buildStreamingRequestBody(imagePath, mimeType, prompt, false))
+                .flatMap(body -> webClient.post()
+                        .uri(baseUrl + CHAT_COMPLETIONS_ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .contentLength(body.contentLength())
+                        .body(BodyInserters.fromDataBuffers(body.publisher()))
+                        .retrieve()
+                        .bodyToMono(OpenAIResponse.class))
+                .timeout(Duration.ofSeconds(60))  // 60초 타임아웃
+                .switchIfEmpty(Mono.error(() ->
+                        new ExternalApiException(ErrorCode.OPENAI_API_ERROR, "OpenAI API 응답이 비어있습니다")))
+                .map(this::extractAnalysisResult);
+    }
+
+    /**
+     * OpenAI 응답에서 분석 결과 텍스트 추출
+     *
+     * @param response OpenAI API 응답
+     * @return AI 분석 결과
+     */
+    private String extractAnalysisResult(OpenAIResponse response) {
+        if (response.getChoices() == null || response.getChoices().isEmpty()) {
+            throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR, "OpenAI API 응답이 비어있습니다");
+        }
+
+        String analysisResult = response.getChoices().get(0).getMessage().getContent();
+
+        if (analysisResult == null || analysisResult.isBlank()) {
+            throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR, "AI 분석 결과가 비어있습니다");
+        }
+
+        log.info("OpenAI API 차트 분석 완료 (토큰 사용: {})",
+                response.getUsage() != null ? response.getUsage().getTotalTokens() : "N/A");
+
+        return analysisResult;
+    }
+
+    /**
+     * 논블로킹 호출 오류를 ExternalApiException으로 변환
+     * (어노테이션 방식의 catch 블록 및 Fallback과 같은 메시지)
+     *
+     * @param e 발생한 오류
+     * @return 변환된 예외
+     */
+    private ExternalApiException toExternalApiException(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            log.error("OpenAI API Circuit Breaker 작동 (논블로킹): {}", e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                    "AI 분석 서비스에 일시적으로 접근할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("OpenAI API 호출 실패: {} - {}", responseException.getStatusCode(), e.getMessage());
+            return new ExternalApiException(ErrorCode.OPENAI_API_ERROR,
+                    "OpenAI API 호출 실패: " + responseException.getStatusCode());
+        }
+        log.error("OpenAI API 통신 오류: {}", e.getMessage(), e);
+        return new ExternalApiException(ErrorCode.OPENAI_API_ERROR,
+                "AI 분석 중 오류가 발생했습니다: " + e.getMessage());
+    }
+
+    /**
+     * GPT-4 Vision 스트리밍 차트 분석 (stream: true)
+     * 응답 조각이 도착할 때마다 onToken으로 전달하고, 전체 응답을 이어붙여 반환
+     * 이미 전달된 조각이 중복되지 않도록 재시도(@Retry)는 적용하지 않음
+     *
+     * @param imagePath 저장된 차트 이미지 경로
+     * @param mimeType  이미지 MIME 타입
+     * @param prompt    분석 요청 프롬프트
+     * @param onToken   응답 조각 수신 콜백
+     * @return AI 분석 결과 (전체 응답)
+     */
+    @CircuitBreaker(name = "openaiApi", fallbackMethod = "analyzeChartStreamFallback")
+    public String analyzeChartStream(Path imagePath, String mimeType, String prompt, Consumer<String> onToken) {
+        log.info("OpenAI API 차트 분석 스트리밍 요청 시작");
+
+        try {
+            StreamingRequestBody body = buildStreamingRequestBody(imagePath, mimeType, prompt, true);
+            StringBuilder analysisResult = new StringBuilder();
+
+            // 동시 호출 수 제한 (가상 스레드 모드에서는 스레드풀이 호출량을 제한하지 않음)
+            callLimiter.call(() -> webClient.post()
                     .uri(baseUrl + CHAT_COMPLETIONS_ENDPOINT)
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .bodyValue(request)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(body.contentLength())
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(BodyInserters.fromDataBuffers(body.publisher()))
                     .retrieve()
-                    .bodyToMono(OpenAIResponse.class)
-                    .timeout(Duration.ofSeconds(60))  // 60초 타임아웃
-                    .block();
-
-            if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
-                throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR, "OpenAI API 응답이 비어있습니다");
-            }
+                    .bodyToFlux(SERVER_SENT_EVENT_TYPE)
+                    .mapNotNull(ServerSentEvent::data)
+                    .takeWhile(data -> !STREAM_DONE.equals(data))
+                    .mapNotNull(this::parseDeltaContent)
+                    .doOnNext(token -> {
+                        analysisResult.append(token);
+                        onToken.accept(token);
+                    })
+                    .timeout(Duration.ofSeconds(60))  // 응답 조각 사이 60초 타임아웃
+                    .blockLast());
 
-            String analysisResult = response.getChoices().get(0).getMessage().getContent();
-
-            if (analysisResult == null || analysisResult.isBlank()) {
+            if (analysisResult.isEmpty()) {
                 throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR, "AI 분석 결과가 비어있습니다");
             }
 
-            log.info("OpenAI API 차트 분석 완료 (토큰 사용: {})",
-                    response.getUsage() != null ? response.getUsage().getTotalTokens() : "N/A");
+            log.info("OpenAI API 차트 분석 스트리밍 완료 (응답 길이: {})", analysisResult.length());
 
-            return analysisResult;
+            return analysisResult.toString();
 
         } catch (WebClientResponseException e) {
             log.error("OpenAI API 호출 실패: {} - {}", e.getStatusCode(), e.getMessage());
             throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR,
                     "OpenAI API 호출 실패: " + e.getStatusCode());
+        } catch (ExternalApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("OpenAI API 통신 오류: {}", e.getMessage(), e);
             throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR,
@@ -98,18 +272,74 @@ public class OpenAIClient {
         }
     }
 
+    /**
+     * 스트리밍 응답 청크에서 증분 텍스트 추출
+     *
+     * @param data SSE data 필드 (JSON)
+     * @return 증분 텍스트 (없으면 null)
+     */
+    private String parseDeltaContent(String data) {
+        try {
+            return objectMapper.readValue(data, OpenAIStreamChunk.class).getDeltaContent();
+        } catch (JsonProcessingException e) {
+            throw new ExternalApiException(ErrorCode.OPENAI_API_ERROR, "AI 응답 형식이 올바르지 않습니다");
+        }
+    }
+
+    /**
+     * 이미지를 스트리밍으로 인코딩하는 OpenAI API 요청 본문 생성
+     * 이미지 자리에 표시자를 넣은 JSON을 직렬화한 뒤 앞/뒤 부분으로 나누고,
+     * 전송 시점에 [앞부분 + data URL 접두어 + 파일 Base64 + 뒷부분] 순서로 바로 써서
+     * 이미지 크기와 관계없이 요청당 메모리 사용량을 작게 유지
+     *
+     * @param imagePath 이미지 경로
+     * @param mimeType  이미지 MIME 타입
+     * @param prompt    분석 프롬프트
+     * @param stream    스트리밍 응답 여부
+     * @return 스트리밍 요청 본문
+     */
+    private StreamingRequestBody buildStreamingRequestBody(
+            Path imagePath, String mimeType, String prompt, boolean stream) throws IOException {
+        String json = objectMapper.writeValueAsString(buildAnalysisRequest(IMAGE_URL_PLACEHOLDER, prompt, stream));
+        int placeholderIndex = json.indexOf(IMAGE_URL_PLACEHOLDER);
+
+        byte[] prefix = (json.substring(0, placeholderIndex) + "data:" + mimeType + ";base64,")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] suffix = json.substring(placeholderIndex + IMAGE_URL_PLACEHOLDER.length())
+                .getBytes(StandardCharsets.UTF_8);
+
+        long imageSize = Files.size(imagePath);
+        long base64Length = 4 * ((imageSize + 2) / 3);
+        long contentLength = prefix.length + base64Length + suffix.length;
+
+        Publisher<DataBuffer> publisher = DataBufferUtils.outputStreamPublisher(out -> {
+            try {
+                out.write(prefix);
+                // Base64 스트림을 닫아 마지막 패딩을 쓰되, 아래 스트림은 닫지 않음
+                try (OutputStream base64Out = Base64.getEncoder().wrap(new NonClosingOutputStream(out))) {
+                    Files.copy(imagePath, base64Out);
+                }
+                out.write(suffix);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, DefaultDataBufferFactory.sharedInstance, REQUEST_BODY_WRITER);
+
+        return new StreamingRequestBody(publisher, contentLength);
+    }
+
     /**
      * OpenAI API 요청 생성
      *
-     * @param base64Image Base64 인코딩된 이미지
-     * @param prompt      분석 프롬프트
+     * @param imageUrl 이미지 URL (data URL 또는 표시자)
+     * @param prompt   분석 프롬프트
+     * @param stream   스트리밍 응답 여부
      * @return OpenAI API 요청 객체
      */
-    private OpenAIRequest buildAnalysisRequest(String base64Image, String prompt) {
-        // 이미지 URL 객체 생성 (Base64 데이터 URL 형식)
-        OpenAIRequest.ImageUrl imageUrl = OpenAIRequest.ImageUrl.builder()
-                .url("data:image/jpeg;base64," + base64Image)
-                .detail("high")  // 고해상도 분석
+    private OpenAIRequest buildAnalysisRequest(String imageUrl, String prompt, boolean stream) {
+        OpenAIRequest.ImageUrl image = OpenAIRequest.ImageUrl.builder()
+                .url(imageUrl)
+                .detail(imageDetail)
                 .build();
 
         // 콘텐츠 목록 생성 (텍스트 + 이미지)
@@ -120,7 +350,7 @@ public class OpenAIClient {
                         .build(),
                 OpenAIRequest.Content.builder()
                         .type("image_url")
-                        .imageUrl(imageUrl)
+                        .imageUrl(image)
                         .build()
         );
 
@@ -135,18 +365,32 @@ public class OpenAIClient {
                 .model(model)
                 .messages(List.of(message))
                 .maxTokens(maxTokens)
+                .stream(stream ? Boolean.TRUE : null)
                 .build();
     }
 
     /**
      * Circuit Breaker Fallback - AI 분석 실패 시
      */
-    private String analyzeChartFallback(String base64Image, String prompt, Exception e) {
+    private String analyzeChartFallback(Path imagePath, String mimeType, String prompt, Exception e) {
         log.error("OpenAI API Circuit Breaker 작동: {}", e.getMessage());
         throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
                 "AI 분석 서비스에 일시적으로 접근할 수 없습니다. 잠시 후 다시 시도해주세요");
     }
 
+    /**
+     * Circuit Breaker Fallback - 스트리밍 AI 분석 실패 시
+     */
+    private String analyzeChartStreamFallback(
+            Path imagePath, String mimeType, String prompt, Consumer<String> onToken, Exception e) {
+        if (e instanceof ExternalApiException externalApiException) {
+            throw externalApiException;
+        }
+        log.error("OpenAI API Circuit Breaker 작동 (스트리밍): {}", e.getMessage());
+        throw new ExternalApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                "AI 분석 서비스에 일시적으로 접근할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+
     /**
      * 차트 분석용 프롬프트 생성
      *
@@ -188,4 +432,64 @@ public class OpenAIClient {
                 candleType != null ? candleType : "미제공"
         );
     }
+
+    /**
+     * 시세 데이터로 계산한 참고 수치를 포함한 차트 분석용 프롬프트 생성
+     *
+     * @param stockCode       종목 코드
+     * @param stockName       종목명
+     * @param candleType      캔들 타입
+     * @param referenceLevels 시세 기반 패턴 감지 결과 (추세/패턴/지지·저항선/거래량)
+     * @return 분석 프롬프트
+     */
+    public String buildChartAnalysisPrompt(String stockCode, String stockName, String candleType,
+                                           String referenceLevels) {
+        String prompt = buildChartAnalysisPrompt(stockCode, stockName, candleType);
+        if (referenceLevels == null || referenceLevels.isBlank()) {
+            return prompt;
+        }
+        return prompt + """
+
+                시세 데이터로 계산한 참고 수치 (이미지와 다르면 이미지를 기준으로 판단하고, supportLevel/resistanceLevel은 이 수치를 우선 검토하세요):
+                """ + referenceLevels + "\n";
+    }
+
+    /**
+     * 스트리밍 요청 본문 (본문 Publisher + 전체 길이)
+     */
+    private record StreamingRequestBody(Publisher<DataBuffer> publisher, long contentLength) {
+    }
+
+    /**
+     * close()를 무시하는 OutputStream
+     * Base64 인코딩 스트림을 닫아도 요청 본문 스트림은 계속 쓸 수 있도록 함
+     */
+    private static class NonClosingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private NonClosingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.flush();
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package com.tradevision.client;
+
+import com.tradevision.dto.response.StockTickResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * 실시간 시세 피드
+ * 종목별 실시간 체결가 스트림을 제공 (구독 시 상위 구독 등록, 구독 취소 시 해제)
+ */
+public interface RealtimeQuoteFeed {
+
+    /**
+     * 종목 실시간 체결가 스트림
+     *
+     * @param stockCode 종목 코드
+     * @return 체결가 Flux (구독을 취소하면 상위 구독도 해제)
+     */
+    Flux<StockTickResponse> ticks(String stockCode);
+}
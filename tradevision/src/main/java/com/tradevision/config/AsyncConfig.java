@@ -1,11 +1,14 @@
 package com.tradevision.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
@@ -17,18 +20,70 @@ public class AsyncConfig {
 
     /**
      * 비동기 작업을 위한 ThreadPool 설정
-     * OpenAI API 호출 등에 사용
+     * 차트 분석 워커(ChartAnalysisWorker)의 OpenAI API 호출 등에 사용
+     * 큐까지 가득 차면 TaskRejectedException으로 거부 (호출자가 실패 처리)
+     * spring.threads.virtual.enabled=true (virtual 프로필)이면 작업마다 가상 스레드를 사용하고,
+     * OpenAI 동시 호출 수는 OpenAICallLimiter가 제한
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(
+            @Value("${app.async.core-pool-size:5}") int corePoolSize,
+            @Value("${app.async.max-pool-size:10}") int maxPoolSize,
+            @Value("${app.async.queue-capacity:100}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("async-vt-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);     // 기본 스레드 수
+        executor.setMaxPoolSize(maxPoolSize);       // 최대 스레드 수
+        executor.setQueueCapacity(queueCapacity);   // 큐 용량
+        executor.setThreadNamePrefix("async-");     // 스레드 이름 접두사
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 차트 일괄 분석 전용 ThreadPool
+     * 일괄 분석이 단건 분석 워커(taskExecutor)를 독점하지 않도록 분리
+     * 사용자별 동시 실행 수는 ChartAnalysisBatchDispatcher가 제한
+     */
+    @Bean(name = "batchAnalysisExecutor")
+    public Executor batchAnalysisExecutor(
+            @Value("${app.batch.pool-size:10}") int poolSize,
+            @Value("${app.batch.queue-capacity:200}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("batch-analysis-vt-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);           // 기본 스레드 수
-        executor.setMaxPoolSize(10);           // 최대 스레드 수
-        executor.setQueueCapacity(100);        // 큐 용량
-        executor.setThreadNamePrefix("async-"); // 스레드 이름 접두사
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-analysis-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 작업마다 가상 스레드를 생성하는 Executor (Java 21 필요)
+     * 대기열/거부 없이 즉시 실행하며, 종료 시 실행 중인 작업을 최대 60초 기다림
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @return 가상 스레드 Executor
+     */
+    private Executor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
 }
@@ -0,0 +1,33 @@
+package com.tradevision.config;
+
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
+import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+/**
+ * 스케줄링 설정
+ * KIS Access Token 사전 갱신 등 주기 작업 실행
+ * 사용량 카운터 보정처럼 DB 값을 덮어쓰는 작업은 {@code @SchedulerLock}(shedlock 테이블)으로 한 인스턴스에서만 실행
+ */
+@Configuration
+@EnableScheduling
+@EnableSchedulerLock(defaultLockAtMostFor = "PT10M")
+public class SchedulingConfig {
+
+    /**
+     * 주기 작업 잠금 제공자 (인스턴스 간 시계 차이가 없도록 DB 시각 기준)
+     */
+    @Bean
+    public LockProvider lockProvider(DataSource dataSource) {
+        return new JdbcTemplateLockProvider(JdbcTemplateLockProvider.Configuration.builder()
+                .withJdbcTemplate(new JdbcTemplate(dataSource))
+                .usingDbTime()
+                .build());
+    }
+}
@@ -0,0 +1,43 @@
+package com.tradevision.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API용 WebClient 설정
+ * KIS, OpenAI 클라이언트가 공유하는 Reactor Netty 커넥션 풀
+ * 논블로킹(Mono) 호출은 소수의 이벤트 루프 스레드에서 처리되므로,
+ * 동시 호출 수는 스레드 수가 아니라 커넥션 풀 크기로 제한됨
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public WebClient webClient(
+            WebClient.Builder builder,
+            @Value("${app.http-client.max-connections:500}") int maxConnections,
+            @Value("${app.http-client.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${app.http-client.connect-timeout-ms:5000}") int connectTimeoutMs) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("external-api")
+                .maxConnections(maxConnections)                 // 최대 동시 커넥션 수
+                .pendingAcquireMaxCount(pendingAcquireMaxCount) // 커넥션 대기 요청 수
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs);
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
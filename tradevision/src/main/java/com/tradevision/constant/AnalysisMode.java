@@ -0,0 +1,26 @@
+package com.tradevision.constant;
+
+/**
+ * 차트 분석 모드 enum
+ * FULL은 AI 이미지 분석, FAST는 종목 시세 데이터의 수치 패턴 감지 결과만으로 즉시 응답
+ */
+public enum AnalysisMode {
+    FULL("AI 분석", "차트 이미지를 AI로 분석 (시세 데이터로 감지한 수치를 프롬프트에 참고로 포함)"),
+    FAST("빠른 분석", "종목 시세 데이터로 패턴/추세/지지·저항선만 즉시 계산 (종목 코드 필요)");
+
+    private final String displayName;  // 화면 표시용 이름
+    private final String description;   // 모드 설명
+
+    AnalysisMode(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
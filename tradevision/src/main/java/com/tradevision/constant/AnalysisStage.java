@@ -0,0 +1,40 @@
+package com.tradevision.constant;
+
+/**
+ * 차트 분석 진행 단계 enum
+ * SSE 스트림(/api/chart-analysis/{id}/stream)으로 전달되는 이벤트 이름
+ */
+public enum AnalysisStage {
+    STORED("저장 완료", "이미지가 저장되고 분석 대기열에 등록됨"),
+    ENCODED("이미지 준비 완료", "전송할 이미지가 준비됨 (Base64 인코딩은 전송 중 스트리밍)"),
+    SENT("요청 전송", "AI 분석 요청을 전송함"),
+    FIRST_TOKEN("응답 시작", "AI가 첫 응답을 보내기 시작함"),
+    TOKEN("응답 수신", "AI 응답 조각"),
+    PARSED("해석 완료", "AI 응답을 분석 결과로 해석함"),
+    SAVED("저장 완료", "분석 결과가 저장됨"),
+    FAILED("실패", "분석에 실패함");
+
+    private final String displayName;  // 화면 표시용 이름
+    private final String description;   // 단계 설명
+
+    AnalysisStage(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 스트림을 종료하는 마지막 단계인지 확인
+     * @return 저장 완료 또는 실패면 true
+     */
+    public boolean isTerminal() {
+        return this == SAVED || this == FAILED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tradevision.constant;
+
+/**
+ * 차트 분석 작업 상태 enum
+ * 비동기 분석 작업의 진행 단계를 정의
+ */
+public enum AnalysisStatus {
+    PENDING("대기", "분석 요청이 접수되어 대기 중"),
+    PROCESSING("분석 중", "AI가 차트를 분석하는 중"),
+    COMPLETED("완료", "분석이 완료됨"),
+    FAILED("실패", "분석에 실패함");
+
+    private final String displayName;  // 화면 표시용 이름
+    private final String description;   // 상태 설명
+
+    AnalysisStatus(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 종료 상태인지 확인
+     * @return 완료 또는 실패면 true
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,42 @@
+package com.tradevision.constant;
+
+import java.time.LocalDate;
+
+/**
+ * 사용량 집계 기간 enum
+ * 일일 분석 한도는 DAY, 구독 플랜의 월간 한도는 MONTH 카운터로 확인
+ */
+public enum UsagePeriod {
+    DAY("일간"),
+    MONTH("월간");
+
+    private final String displayName;  // 화면 표시용 이름
+
+    UsagePeriod(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 주어진 날짜가 속한 기간의 시작일
+     *
+     * @param date 날짜
+     * @return 기간 시작일 (DAY: 당일, MONTH: 1일)
+     */
+    public LocalDate startOf(LocalDate date) {
+        return this == DAY ? date : date.withDayOfMonth(1);
+    }
+
+    /**
+     * 다음 기간의 시작일 (기간 끝, 미포함)
+     *
+     * @param periodStart 기간 시작일
+     * @return 다음 기간 시작일
+     */
+    public LocalDate nextStart(LocalDate periodStart) {
+        return this == DAY ? periodStart.plusDays(1) : periodStart.plusMonths(1);
+    }
+}
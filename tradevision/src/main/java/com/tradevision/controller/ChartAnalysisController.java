@@ -1,8 +1,11 @@
 package com.tradevision.controller;
 
+import com.tradevision.dto.request.ChartAnalysisBatchRequest;
 import com.tradevision.dto.request.ChartAnalysisRequest;
 import com.tradevision.dto.response.ApiResponse;
+import com.tradevision.dto.response.ChartAnalysisBatchResponse;
 import com.tradevision.dto.response.ChartAnalysisResponse;
+import com.tradevision.security.UserPrincipal;
 import com.tradevision.service.ChartAnalysisService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,11 +15,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 차트 분석 API 컨트롤러
@@ -33,12 +37,13 @@ public class ChartAnalysisController {
     /**
      * 차트 이미지 분석 요청 API
      * POST /api/chart-analysis
+     * 분석은 비동기로 수행되며, 응답의 analysisId로 GET /api/chart-analysis/{analysisId}를 조회해 결과를 확인
      *
      * @param request        분석 요청 (이미지, 종목 정보)
      * @param authentication 인증 정보
-     * @return 201 Created, AI 분석 결과
+     * @return 202 Accepted, 접수된 분석 (status = PENDING)
      */
-    @Operation(summary = "차트 이미지 분석", description = "업로드된 차트 이미지를 AI로 분석합니다")
+    @Operation(summary = "차트 이미지 분석", description = "업로드된 차트 이미지의 AI 분석을 접수합니다. 결과는 분석 ID로 조회합니다")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<ChartAnalysisResponse>> analyzeChart(
             @ModelAttribute ChartAnalysisRequest request,
@@ -49,8 +54,56 @@ public class ChartAnalysisController {
 
         ChartAnalysisResponse result = chartAnalysisService.analyzeChart(request, userId);
 
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.success("차트 분석 요청이 접수되었습니다", result)
+        );
+    }
+
+    /**
+     * 차트 일괄 분석 요청 API
+     * POST /api/chart-analysis/batch
+     * 여러 차트 이미지를 한 번에 접수하고, 응답의 batchId로 GET /api/chart-analysis/batch/{batchId}를 조회해 진행 상황을 확인
+     *
+     * @param request        일괄 분석 요청 (이미지 목록, 종목 정보 목록)
+     * @param authentication 인증 정보
+     * @return 202 Accepted, 일괄 분석 ID와 차트별 상태
+     */
+    @Operation(summary = "차트 일괄 분석", description = "여러 차트 이미지의 AI 분석을 한 번에 접수합니다. 결과는 일괄 분석 ID로 조회합니다")
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ChartAnalysisBatchResponse>> analyzeBatch(
+            @ModelAttribute ChartAnalysisBatchRequest request,
+            Authentication authentication) {
+
+        Long userId = extractUserIdFromAuth(authentication);
+
+        ChartAnalysisBatchResponse result = chartAnalysisService.analyzeBatch(request, userId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.success("차트 일괄 분석 요청이 접수되었습니다", result)
+        );
+    }
+
+    /**
+     * 일괄 분석 진행 상황 조회 API
+     * GET /api/chart-analysis/batch/{batchId}
+     *
+     * @param batchId        일괄 분석 ID
+     * @param authentication 인증 정보
+     * @return 200 OK, 차트별 상태와 상태별 개수
+     */
+    @Operation(summary = "일괄 분석 진행 상황 조회", description = "일괄 분석에 포함된 차트별 분석 상태를 조회합니다")
+    @GetMapping("/batch/{batchId}")
+    public ResponseEntity<ApiResponse<ChartAnalysisBatchResponse>> getBatch(
+            @Parameter(description = "일괄 분석 ID")
+            @PathVariable String batchId,
+            Authentication authentication) {
+
+        Long userId = extractUserIdFromAuth(authentication);
+
+        ChartAnalysisBatchResponse batch = chartAnalysisService.getBatch(batchId, userId);
+
         return ResponseEntity.ok(
-                ApiResponse.success("차트 분석이 완료되었습니다", result)
+                ApiResponse.success("일괄 분석 조회에 성공했습니다", batch)
         );
     }
 
@@ -84,9 +137,9 @@ public class ChartAnalysisController {
      *
      * @param analysisId     분석 ID
      * @param authentication 인증 정보
-     * @return 200 OK, 분석 결과 상세
+     * @return 200 OK, 분석 결과 상세 (분석 진행 상태 포함)
      */
-    @Operation(summary = "분석 결과 상세 조회", description = "특정 분석 결과의 상세 정보를 조회합니다")
+    @Operation(summary = "분석 결과 상세 조회", description = "특정 분석 결과의 상세 정보와 진행 상태를 조회합니다")
     @GetMapping("/{analysisId}")
     public ResponseEntity<ApiResponse<ChartAnalysisResponse>> getAnalysisById(
             @Parameter(description = "분석 ID", example = "1")
@@ -103,8 +156,28 @@ public class ChartAnalysisController {
     }
 
     /**
-     * Authentication 객체에서 사용자 ID 추출
-     * TODO: 실제 UserDetails 구현에 맞게 수정 필요
+     * 분석 진행 상황 스트림 API (Server-Sent Events)
+     * GET /api/chart-analysis/{analysisId}/stream
+     * 단계 전환(STORED, ENCODED, SENT, FIRST_TOKEN, PARSED, SAVED/FAILED)과 AI 응답 조각(TOKEN)을 실시간 전달
+     *
+     * @param analysisId     분석 ID
+     * @param authentication 인증 정보
+     * @return text/event-stream
+     */
+    @Operation(summary = "분석 진행 상황 스트림", description = "분석 단계 전환과 AI 응답을 Server-Sent Events로 실시간 전달합니다")
+    @GetMapping(value = "/{analysisId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnalysisProgress(
+            @Parameter(description = "분석 ID", example = "1")
+            @PathVariable Long analysisId,
+            Authentication authentication) {
+
+        Long userId = extractUserIdFromAuth(authentication);
+
+        return chartAnalysisService.streamAnalysisProgress(analysisId, userId);
+    }
+
+    /**
+     * Authentication 객체에서 사용자 ID 추출 (Access Token 클레임 기반)
      *
      * @param authentication 인증 정보
      * @return 사용자 ID
@@ -114,11 +187,8 @@ public class ChartAnalysisController {
             throw new IllegalStateException("인증 정보가 없습니다");
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            // UserDetails에서 username(email)을 가져와서 DB에서 조회
-            // 간단하게 하드코딩 (실제로는 UserRepository로 조회 필요)
-            return 1L; // TODO: 실제 사용자 ID 조회 로직 구현
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
         }
 
         throw new IllegalStateException("유효하지 않은 인증 정보입니다");
@@ -4,7 +4,7 @@ import com.tradevision.constant.ContentType;
 import com.tradevision.constant.InvestmentLevel;
 import com.tradevision.constant.TechniqueCategory;
 import com.tradevision.dto.*;
-import com.tradevision.repository.UserRepository;
+import com.tradevision.security.UserPrincipal;
 import com.tradevision.service.ContentProgressService;
 import com.tradevision.service.LearningContentService;
 import jakarta.validation.Valid;
@@ -16,7 +16,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -32,7 +31,6 @@ public class LearningContentController {
 
     private final LearningContentService learningContentService;
     private final ContentProgressService progressService;
-    private final UserRepository userRepository;
 
     /**
      * 모든 모듈 조회
@@ -225,6 +223,21 @@ public class LearningContentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 콘텐츠 제목 자동완성 (검색창 입력 중 호출, 미완성 한글 음절도 접두어로 일치)
+     *
+     * @param keyword 입력 중인 검색어
+     * @param limit   최대 개수 (기본 10, 최대 20)
+     * @return 제목 목록
+     */
+    @GetMapping("/contents/autocomplete")
+    public ResponseEntity<List<String>> autocompleteContents(
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+
+        return ResponseEntity.ok(learningContentService.suggestContentTitles(keyword, Math.min(Math.max(limit, 1), 20)));
+    }
+
     /**
      * 콘텐츠 진행도 업데이트 (로그인 필수)
      *
@@ -413,12 +426,8 @@ public class LearningContentController {
             return null;
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            String email = ((UserDetails) principal).getUsername();
-            return userRepository.findByEmail(email)
-                    .map(user -> user.getId())
-                    .orElse(null);
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
         }
 
         return null;
@@ -432,12 +441,8 @@ public class LearningContentController {
             throw new IllegalStateException("인증이 필요합니다");
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            String email = ((UserDetails) principal).getUsername();
-            return userRepository.findByEmail(email)
-                    .map(user -> user.getId())
-                    .orElseThrow(() -> new IllegalStateException("유효하지 않은 사용자입니다"));
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
         }
 
         throw new IllegalStateException("유효하지 않은 인증 정보입니다");
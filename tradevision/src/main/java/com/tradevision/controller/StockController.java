@@ -1,18 +1,29 @@
 package com.tradevision.controller;
 
 import com.tradevision.constant.CandleType;
+import com.tradevision.dto.request.StockQuotesRequest;
 import com.tradevision.dto.request.StockSearchRequest;
 import com.tradevision.dto.response.ApiResponse;
+import com.tradevision.dto.response.CandleSeriesResponse;
 import com.tradevision.dto.response.StockPriceResponse;
+import com.tradevision.dto.response.StockQuotesResponse;
+import com.tradevision.dto.response.TechnicalIndicatorResponse;
+import com.tradevision.service.CandleHistoryService;
 import com.tradevision.service.StockService;
+import com.tradevision.service.TechnicalIndicatorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
 
 /**
  * 주식 데이터 API 컨트롤러
@@ -25,6 +36,8 @@ import org.springframework.web.bind.annotation.*;
 public class StockController {
 
     private final StockService stockService;
+    private final CandleHistoryService candleHistoryService;
+    private final TechnicalIndicatorService technicalIndicatorService;
 
     /**
      * 주식 현재가 조회 API
@@ -51,6 +64,97 @@ public class StockController {
         );
     }
 
+    /**
+     * 실시간 시세 스트림 API (Server-Sent Events)
+     * GET /api/stocks/{stockCode}/stream
+     * 폴링 대신 체결가가 바뀔 때마다 tick 이벤트로 전달 (구독 직후 마지막 체결가 전송)
+     *
+     * @param stockCode      종목 코드 (6자리)
+     * @param authentication 인증 정보
+     * @return text/event-stream
+     */
+    @Operation(summary = "실시간 시세 스트림", description = "종목의 실시간 체결가를 SSE로 구독합니다")
+    @GetMapping(value = "/{stockCode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStockPrice(
+            @Parameter(description = "종목 코드 (6자리 숫자)", example = "005930")
+            @PathVariable String stockCode,
+            Authentication authentication) {
+
+        return stockService.streamStockPrice(stockCode);
+    }
+
+    /**
+     * 캔들 이력 조회 API
+     * GET /api/stocks/{stockCode}/candles?type=D&from=...&to=...
+     *
+     * @param stockCode      종목 코드 (6자리)
+     * @param type           캔들 타입 (선택, 기본값: 일봉)
+     * @param from           시작 시각 (선택, ISO-8601)
+     * @param to             종료 시각 (선택, ISO-8601, 기본값: 현재)
+     * @param authentication 인증 정보
+     * @return 200 OK, 구간 내 OHLCV 캔들 목록
+     */
+    @Operation(summary = "캔들 이력 조회", description = "종목의 캔들 타입별 OHLCV 이력을 구간으로 조회합니다")
+    @GetMapping("/{stockCode}/candles")
+    public ResponseEntity<ApiResponse<CandleSeriesResponse>> getCandles(
+            @Parameter(description = "종목 코드 (6자리 숫자)", example = "005930")
+            @PathVariable String stockCode,
+            @Parameter(description = "캔들 타입", example = "D")
+            @RequestParam(required = false) CandleType type,
+            @Parameter(description = "시작 시각", example = "2024-01-02T09:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각", example = "2024-06-28T15:30:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            Authentication authentication) {
+
+        CandleSeriesResponse candles = candleHistoryService.getCandles(stockCode, type, from, to);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("캔들 이력 조회에 성공했습니다", candles)
+        );
+    }
+
+    /**
+     * 보조지표 조회 API
+     * GET /api/stocks/{stockCode}/indicators?type=D&from=...&to=...
+     * 캔들 이력 구간에 대한 SMA/EMA, RSI, MACD(12/26/9), 볼린저 밴드, VWAP, OBV
+     *
+     * @param stockCode       종목 코드 (6자리)
+     * @param type            캔들 타입 (선택, 기본값: 일봉)
+     * @param from            시작 시각 (선택, ISO-8601)
+     * @param to              종료 시각 (선택, ISO-8601, 기본값: 현재)
+     * @param smaPeriod       단순 이동평균 기간 (기본값: 20)
+     * @param emaPeriod       지수 이동평균 기간 (기본값: 20)
+     * @param rsiPeriod       RSI 기간 (기본값: 14)
+     * @param bollingerPeriod 볼린저 밴드 기간 (기본값: 20)
+     * @param authentication  인증 정보
+     * @return 200 OK, 캔들별 보조지표
+     */
+    @Operation(summary = "보조지표 조회", description = "캔들 이력에 대한 이동평균, RSI, MACD, 볼린저 밴드, VWAP, OBV를 계산합니다")
+    @GetMapping("/{stockCode}/indicators")
+    public ResponseEntity<ApiResponse<TechnicalIndicatorResponse>> getIndicators(
+            @Parameter(description = "종목 코드 (6자리 숫자)", example = "005930")
+            @PathVariable String stockCode,
+            @Parameter(description = "캔들 타입", example = "D")
+            @RequestParam(required = false) CandleType type,
+            @Parameter(description = "시작 시각", example = "2024-01-02T09:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각", example = "2024-06-28T15:30:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int smaPeriod,
+            @RequestParam(defaultValue = "20") int emaPeriod,
+            @RequestParam(defaultValue = "14") int rsiPeriod,
+            @RequestParam(defaultValue = "20") int bollingerPeriod,
+            Authentication authentication) {
+
+        TechnicalIndicatorResponse indicators = technicalIndicatorService.getIndicators(
+                stockCode, type, from, to, smaPeriod, emaPeriod, rsiPeriod, bollingerPeriod);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("보조지표 조회에 성공했습니다", indicators)
+        );
+    }
+
     /**
      * 주식 검색 API (POST 방식)
      * POST /api/stocks/search
@@ -75,6 +179,31 @@ public class StockController {
         );
     }
 
+    /**
+     * 다중 종목 시세 조회 API
+     * POST /api/stocks/quotes
+     * 관심 종목 목록 등 여러 종목을 한 번에 조회 (일부 종목 실패 시에도 200 OK, 종목별 결과에 실패 사유 포함)
+     *
+     * @param request        다중 종목 시세 조회 요청 (최대 100개)
+     * @param authentication 인증 정보
+     * @return 200 OK, 종목별 시세 조회 결과
+     */
+    @Operation(summary = "다중 종목 시세 조회", description = "최대 100개 종목의 시세를 한 번에 조회합니다")
+    @PostMapping("/quotes")
+    public ResponseEntity<ApiResponse<StockQuotesResponse>> getStockQuotes(
+            @Valid @RequestBody StockQuotesRequest request,
+            Authentication authentication) {
+
+        StockQuotesResponse quotes = stockService.getStockQuotes(
+                request.getStockCodes(),
+                request.getCandleType()
+        );
+
+        return ResponseEntity.ok(
+                ApiResponse.success("다중 종목 시세 조회에 성공했습니다", quotes)
+        );
+    }
+
     /**
      * 종목 코드 유효성 검증 API
      * GET /api/stocks/validate/{stockCode}
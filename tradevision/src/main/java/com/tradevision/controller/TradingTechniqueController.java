@@ -4,7 +4,7 @@ import com.tradevision.constant.InvestmentLevel;
 import com.tradevision.constant.ProgressStatus;
 import com.tradevision.constant.TechniqueCategory;
 import com.tradevision.dto.*;
-import com.tradevision.repository.UserRepository;
+import com.tradevision.security.UserPrincipal;
 import com.tradevision.service.RecommendationService;
 import com.tradevision.service.TradingTechniqueService;
 import jakarta.validation.Valid;
@@ -16,9 +16,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 매매기법 컨트롤러
  */
@@ -30,7 +31,6 @@ public class TradingTechniqueController {
 
     private final TradingTechniqueService techniqueService;
     private final RecommendationService recommendationService;
-    private final UserRepository userRepository;
 
     /**
      * 모든 기법 조회 (필터링 가능)
@@ -111,6 +111,21 @@ public class TradingTechniqueController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 기법명 자동완성 (검색창 입력 중 호출, 미완성 한글 음절도 접두어로 일치)
+     *
+     * @param keyword 입력 중인 검색어
+     * @param limit   최대 개수 (기본 10, 최대 20)
+     * @return 기법명 목록
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocompleteTechniques(
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+
+        return ResponseEntity.ok(techniqueService.suggestTechniqueNames(keyword, Math.min(Math.max(limit, 1), 20)));
+    }
+
     /**
      * 인기 기법 조회
      *
@@ -233,12 +248,8 @@ public class TradingTechniqueController {
             return null;
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            String email = ((UserDetails) principal).getUsername();
-            return userRepository.findByEmail(email)
-                    .map(user -> user.getId())
-                    .orElse(null);
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
         }
 
         return null;
@@ -256,12 +267,8 @@ public class TradingTechniqueController {
             throw new IllegalStateException("인증이 필요합니다");
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            String email = ((UserDetails) principal).getUsername();
-            return userRepository.findByEmail(email)
-                    .map(user -> user.getId())
-                    .orElseThrow(() -> new IllegalStateException("유효하지 않은 사용자입니다"));
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
         }
 
         throw new IllegalStateException("유효하지 않은 인증 정보입니다");
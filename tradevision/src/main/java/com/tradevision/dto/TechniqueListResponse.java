@@ -1,5 +1,6 @@
 package com.tradevision.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,8 +18,9 @@ import java.util.List;
 public class TechniqueListResponse {
 
     /**
-     * 기법 목록
+     * 기법 목록 (본문 TEXT 필드는 목록에서 조회하지 않으므로 JSON에서 제외)
      */
+    @JsonIgnoreProperties({"description", "usageGuide", "exampleScenario"})
     private List<TechniqueResponse> techniques;
 
     /**
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 
 /**
  * 매매기법 응답 DTO
+ * 목록 응답(TechniqueListResponse)에서는 description / usageGuide / exampleScenario 를 조회하지 않으며 JSON에서도 제외됨
  */
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,105 @@
+package com.tradevision.dto.external;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한국투자증권 API 캔들(기간별/분봉) 시세 응답 DTO
+ * 기간별 시세(FHKST03010100)와 당일 분봉(FHKST03010200)이 같은 output2 형식을 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KISCandleResponse {
+
+    /**
+     * 응답 코드 (0: 성공)
+     */
+    @JsonProperty("rt_cd")
+    private String resultCode;
+
+    /**
+     * 응답 메시지
+     */
+    @JsonProperty("msg_cd")
+    private String messageCode;
+
+    /**
+     * 응답 메시지 내용
+     */
+    @JsonProperty("msg1")
+    private String message;
+
+    /**
+     * 캔들 목록 (최신순)
+     */
+    @JsonProperty("output2")
+    private List<Candle> candles;
+
+    /**
+     * 캔들 데이터
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candle {
+
+        /**
+         * 영업일자 (yyyyMMdd)
+         */
+        @JsonProperty("stck_bsop_date")
+        private String businessDate;
+
+        /**
+         * 체결 시각 (HHmmss, 분봉만)
+         */
+        @JsonProperty("stck_cntg_hour")
+        private String tradeTime;
+
+        /**
+         * 시가
+         */
+        @JsonProperty("stck_oprc")
+        private String openPrice;
+
+        /**
+         * 고가
+         */
+        @JsonProperty("stck_hgpr")
+        private String highPrice;
+
+        /**
+         * 저가
+         */
+        @JsonProperty("stck_lwpr")
+        private String lowPrice;
+
+        /**
+         * 종가 (기간별 시세)
+         */
+        @JsonProperty("stck_clpr")
+        private String closePrice;
+
+        /**
+         * 현재가 (분봉의 종가)
+         */
+        @JsonProperty("stck_prpr")
+        private String currentPrice;
+
+        /**
+         * 누적 거래량 (기간별 시세)
+         */
+        @JsonProperty("acml_vol")
+        private String accumulatedVolume;
+
+        /**
+         * 체결 거래량 (분봉)
+         */
+        @JsonProperty("cntg_vol")
+        private String tradeVolume;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tradevision.dto.external;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,6 +34,12 @@ public class OpenAIRequest {
     @JsonProperty("max_tokens")
     private Integer maxTokens;
 
+    /**
+     * 스트리밍 응답 여부 (true면 Server-Sent Events로 토큰 단위 응답)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
+
     /**
      * 메시지 객체
      */
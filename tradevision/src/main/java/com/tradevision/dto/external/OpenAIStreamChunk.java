@@ -0,0 +1,88 @@
+package com.tradevision.dto.external;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * OpenAI API 스트리밍 응답 청크 DTO (stream: true)
+ * Server-Sent Events의 data 필드 하나에 해당
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAIStreamChunk {
+
+    /**
+     * 응답 ID
+     */
+    private String id;
+
+    /**
+     * 선택지 목록 (보통 1개)
+     */
+    private List<Choice> choices;
+
+    /**
+     * 첫 번째 선택지의 증분 텍스트 추출
+     *
+     * @return 증분 텍스트 (없으면 null)
+     */
+    public String getDeltaContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return null;
+        }
+        return choices.get(0).getDelta().getContent();
+    }
+
+    /**
+     * 선택지 객체
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+
+        /**
+         * 인덱스
+         */
+        private Integer index;
+
+        /**
+         * 증분 메시지
+         */
+        private Delta delta;
+
+        /**
+         * 종료 이유 (stop, length, content_filter)
+         */
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    /**
+     * 증분 메시지 객체
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Delta {
+
+        /**
+         * 역할 (첫 청크에만 포함)
+         */
+        private String role;
+
+        /**
+         * 증분 텍스트
+         */
+        private String content;
+    }
+}
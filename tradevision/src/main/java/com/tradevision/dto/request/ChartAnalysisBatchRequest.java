@@ -0,0 +1,103 @@
+package com.tradevision.dto.request;
+
+import com.tradevision.constant.AnalysisMode;
+import com.tradevision.constant.CandleType;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 차트 일괄 분석 요청 DTO
+ * 이미지 목록과 같은 순서의 종목 코드/종목명/캔들 타입 목록
+ * 종목 코드/종목명/캔들 타입은 하나만 보내면 모든 이미지에 같은 값을 적용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChartAnalysisBatchRequest {
+
+    /**
+     * 차트 이미지 파일 목록
+     */
+    @NotEmpty(message = "차트 이미지는 필수입니다")
+    @Builder.Default
+    private List<MultipartFile> chartImages = new ArrayList<>();
+
+    /**
+     * 종목 코드 목록 (선택)
+     */
+    @Builder.Default
+    private List<String> stockCodes = new ArrayList<>();
+
+    /**
+     * 종목명 목록 (선택)
+     */
+    @Builder.Default
+    private List<String> stockNames = new ArrayList<>();
+
+    /**
+     * 캔들 타입 목록 (필수)
+     */
+    @NotEmpty(message = "캔들 타입은 필수입니다")
+    @Builder.Default
+    private List<CandleType> candleTypes = new ArrayList<>();
+
+    /**
+     * 분석 모드 (선택, 기본값: FULL, 모든 이미지에 적용)
+     * FAST는 종목 코드가 있고 시세 데이터가 충분한 차트에만 적용되며, 나머지는 FULL로 처리
+     */
+    private AnalysisMode analysisMode;
+
+    /**
+     * 일괄 분석에 포함된 차트 수
+     */
+    public int size() {
+        return chartImages != null ? chartImages.size() : 0;
+    }
+
+    /**
+     * index번째 차트의 단건 분석 요청으로 변환
+     *
+     * @param index 차트 순서 (0부터)
+     * @return 단건 분석 요청
+     */
+    public ChartAnalysisRequest toItemRequest(int index) {
+        return ChartAnalysisRequest.builder()
+                .chartImage(chartImages.get(index))
+                .stockCode(valueAt(stockCodes, index))
+                .stockName(valueAt(stockNames, index))
+                .candleType(valueAt(candleTypes, index))
+                .analysisMode(analysisMode)
+                .build();
+    }
+
+    /**
+     * 목록 크기가 이미지 수와 같으면 같은 위치의 값, 하나면 공통 값, 비어있으면 null
+     */
+    private static <T> T valueAt(List<T> values, int index) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.size() == 1 ? values.get(0) : values.get(index);
+    }
+
+    /**
+     * 종목 코드/종목명/캔들 타입 목록 크기가 이미지 수와 맞는지 확인
+     *
+     * @return 모든 목록 크기가 0, 1 또는 이미지 수이면 true
+     */
+    public boolean hasConsistentSizes() {
+        return isConsistent(stockCodes) && isConsistent(stockNames) && isConsistent(candleTypes);
+    }
+
+    private boolean isConsistent(List<?> values) {
+        return values == null || values.size() <= 1 || values.size() == size();
+    }
+}
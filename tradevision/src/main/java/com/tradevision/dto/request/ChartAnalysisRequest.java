@@ -1,5 +1,6 @@
 package com.tradevision.dto.request;
 
+import com.tradevision.constant.AnalysisMode;
 import com.tradevision.constant.CandleType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -41,4 +42,10 @@ public class ChartAnalysisRequest {
      */
     @NotNull(message = "캔들 타입은 필수입니다")
     private CandleType candleType;
+
+    /**
+     * 분석 모드 (선택, 기본값: FULL)
+     * FAST는 종목 코드가 있고 시세 데이터가 충분할 때만 적용되며, 아니면 FULL로 처리
+     */
+    private AnalysisMode analysisMode;
 }
@@ -0,0 +1,32 @@
+package com.tradevision.dto.request;
+
+import com.tradevision.constant.CandleType;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다중 종목 시세 조회 요청 DTO
+ * 종목 코드 형식은 종목별로 검증하여, 잘못된 코드가 있어도 나머지 종목은 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockQuotesRequest {
+
+    /**
+     * 종목 코드 목록 (최대 100개, 중복은 한 번만 조회)
+     */
+    @NotEmpty(message = "종목 코드는 최소 1개 이상이어야 합니다")
+    private List<String> stockCodes;
+
+    /**
+     * 캔들 타입 (기본값: 일봉)
+     */
+    private CandleType candleType;
+}
@@ -0,0 +1,47 @@
+package com.tradevision.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tradevision.constant.AnalysisStage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 차트 분석 진행 이벤트 DTO
+ * SSE 스트림으로 전달되는 단계 전환 및 AI 응답 조각
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisProgressEvent {
+
+    /**
+     * 분석 ID
+     */
+    private Long analysisId;
+
+    /**
+     * 진행 단계
+     */
+    private AnalysisStage stage;
+
+    /**
+     * 단계 설명 메시지
+     */
+    private String message;
+
+    /**
+     * AI 응답 조각 (TOKEN 단계)
+     */
+    private String token;
+
+    /**
+     * 이벤트 발생 시간
+     */
+    private LocalDateTime timestamp;
+}
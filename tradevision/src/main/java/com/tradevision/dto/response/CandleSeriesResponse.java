@@ -0,0 +1,63 @@
+package com.tradevision.dto.response;
+
+import com.tradevision.constant.CandleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캔들 이력 응답 DTO
+ * 차트 라이브러리에 바로 넘길 수 있도록 열 단위 배열로 응답 (같은 인덱스가 같은 캔들)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandleSeriesResponse {
+
+    /**
+     * 종목 코드
+     */
+    private String stockCode;
+
+    /**
+     * 캔들 타입
+     */
+    private CandleType candleType;
+
+    /**
+     * 캔들 수
+     */
+    private int count;
+
+    /**
+     * 캔들 시작 시각 (epoch 밀리초)
+     */
+    private long[] timestamps;
+
+    /**
+     * 시가
+     */
+    private long[] open;
+
+    /**
+     * 고가
+     */
+    private long[] high;
+
+    /**
+     * 저가
+     */
+    private long[] low;
+
+    /**
+     * 종가
+     */
+    private long[] close;
+
+    /**
+     * 거래량
+     */
+    private long[] volume;
+}
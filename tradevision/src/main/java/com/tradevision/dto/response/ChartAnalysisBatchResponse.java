@@ -0,0 +1,48 @@
+package com.tradevision.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 차트 일괄 분석 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChartAnalysisBatchResponse {
+
+    /**
+     * 일괄 분석 ID
+     */
+    private String batchId;
+
+    /**
+     * 전체 차트 수
+     */
+    private int totalCount;
+
+    /**
+     * 대기/분석 중인 차트 수
+     */
+    private int inProgressCount;
+
+    /**
+     * 분석 완료된 차트 수
+     */
+    private int completedCount;
+
+    /**
+     * 분석 실패한 차트 수
+     */
+    private int failedCount;
+
+    /**
+     * 차트별 분석 상태 (요청 순서)
+     */
+    private List<ChartAnalysisResponse> items;
+}
@@ -1,5 +1,6 @@
 package com.tradevision.dto.response;
 
+import com.tradevision.constant.AnalysisStatus;
 import com.tradevision.constant.CandleType;
 import com.tradevision.constant.FeedbackType;
 import lombok.AllArgsConstructor;
@@ -44,10 +45,25 @@ public class ChartAnalysisResponse {
     private String imagePath;
 
     /**
-     * AI 분석 결과
+     * 썸네일 경로 (히스토리 목록용)
+     */
+    private String thumbnailPath;
+
+    /**
+     * 분석 작업 상태 (대기/분석 중/완료/실패)
+     */
+    private AnalysisStatus status;
+
+    /**
+     * AI 분석 결과 (분석 완료 전에는 null)
      */
     private AnalysisResult analysisResult;
 
+    /**
+     * 분석 실패 사유 (실패 시)
+     */
+    private String errorMessage;
+
     /**
      * 사용자 피드백
      */
@@ -58,6 +74,11 @@ public class ChartAnalysisResponse {
      */
     private LocalDateTime createdAt;
 
+    /**
+     * 분석 완료 일시
+     */
+    private LocalDateTime completedAt;
+
     /**
      * AI 분석 결과 상세 정보
      */
@@ -0,0 +1,98 @@
+package com.tradevision.dto.response;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다중 종목 시세 조회 응답 DTO
+ * 일부 종목 조회가 실패해도 전체 응답은 성공으로 반환하고, 종목별 결과에 실패 사유를 담음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockQuotesResponse {
+
+    /**
+     * 캔들 타입
+     */
+    private CandleType candleType;
+
+    /**
+     * 조회한 종목 수 (중복 제거 후)
+     */
+    private int totalCount;
+
+    /**
+     * 조회 성공한 종목 수
+     */
+    private int successCount;
+
+    /**
+     * 조회 실패한 종목 수
+     */
+    private int failedCount;
+
+    /**
+     * 종목별 조회 결과 (요청 순서)
+     */
+    private List<Item> items;
+
+    /**
+     * 종목별 조회 결과
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        /**
+         * 종목 코드
+         */
+        private String stockCode;
+
+        /**
+         * 조회 성공 여부
+         */
+        private boolean success;
+
+        /**
+         * 시세 정보 (실패 시 null)
+         */
+        private StockPriceResponse quote;
+
+        /**
+         * 에러 코드 (성공 시 null)
+         */
+        private String errorCode;
+
+        /**
+         * 실패 사유 (성공 시 null)
+         */
+        private String message;
+
+        public static Item success(StockPriceResponse quote) {
+            return Item.builder()
+                    .stockCode(quote.getStockCode())
+                    .success(true)
+                    .quote(quote)
+                    .build();
+        }
+
+        public static Item failed(String stockCode, ErrorCode errorCode, String message) {
+            return Item.builder()
+                    .stockCode(stockCode)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .message(message)
+                    .build();
+        }
+    }
+}
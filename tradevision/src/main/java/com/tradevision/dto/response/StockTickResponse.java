@@ -0,0 +1,70 @@
+package com.tradevision.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+/**
+ * 실시간 체결가 응답 DTO
+ * 한국투자증권 실시간 체결가(H0STCNT0) 한 건
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockTickResponse {
+
+    /**
+     * 종목 코드
+     */
+    private String stockCode;
+
+    /**
+     * 체결 시각
+     */
+    private LocalTime tradeTime;
+
+    /**
+     * 현재가 (체결가)
+     */
+    private BigDecimal currentPrice;
+
+    /**
+     * 전일 대비 변동가
+     */
+    private BigDecimal priceChange;
+
+    /**
+     * 전일 대비 변동률 (%)
+     */
+    private BigDecimal changeRate;
+
+    /**
+     * 시가
+     */
+    private BigDecimal openPrice;
+
+    /**
+     * 고가
+     */
+    private BigDecimal highPrice;
+
+    /**
+     * 저가
+     */
+    private BigDecimal lowPrice;
+
+    /**
+     * 체결 거래량
+     */
+    private Long tradeVolume;
+
+    /**
+     * 누적 거래량
+     */
+    private Long accumulatedVolume;
+}
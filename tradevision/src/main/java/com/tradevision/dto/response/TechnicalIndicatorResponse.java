@@ -0,0 +1,99 @@
+package com.tradevision.dto.response;
+
+import com.tradevision.constant.CandleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보조지표 응답 DTO
+ * 캔들 이력과 같은 인덱스로 지표 값을 열 단위 배열로 응답
+ * 워밍업 구간(계산에 필요한 캔들 수 미만)의 값은 null
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TechnicalIndicatorResponse {
+
+    /**
+     * 종목 코드
+     */
+    private String stockCode;
+
+    /**
+     * 캔들 타입
+     */
+    private CandleType candleType;
+
+    /**
+     * 캔들 수
+     */
+    private int count;
+
+    /**
+     * 캔들 시작 시각 (epoch 밀리초)
+     */
+    private long[] timestamps;
+
+    /**
+     * 종가
+     */
+    private long[] close;
+
+    /**
+     * 단순 이동평균
+     */
+    private Double[] sma;
+
+    /**
+     * 지수 이동평균
+     */
+    private Double[] ema;
+
+    /**
+     * RSI (0~100)
+     */
+    private Double[] rsi;
+
+    /**
+     * MACD 선
+     */
+    private Double[] macd;
+
+    /**
+     * MACD 시그널 선
+     */
+    private Double[] macdSignal;
+
+    /**
+     * MACD 히스토그램
+     */
+    private Double[] macdHistogram;
+
+    /**
+     * 볼린저 밴드 상단
+     */
+    private Double[] bollingerUpper;
+
+    /**
+     * 볼린저 밴드 중심선
+     */
+    private Double[] bollingerMiddle;
+
+    /**
+     * 볼린저 밴드 하단
+     */
+    private Double[] bollingerLower;
+
+    /**
+     * 거래량 가중 평균가 (분봉은 거래일마다 초기화)
+     */
+    private Double[] vwap;
+
+    /**
+     * OBV (On-Balance Volume)
+     */
+    private Double[] obv;
+}
@@ -0,0 +1,333 @@
+package com.tradevision.entity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * OHLCV 캔들 시계열 (열 단위 기본형 배열)
+ * stock_candles 테이블의 메모리 표현 (JPA 엔티티가 아닌 값 객체)
+ * 시각/시가/고가/저가/종가/거래량을 각각 long[]로 보관하여 캔들 객체 없이 메모리를 적게 쓰고,
+ * 시각 배열 이분 탐색으로 구간을 잘라냄
+ * 시각은 KST 기준 epoch 초, 가격은 원 단위 정수. 불변 객체이며 변경 연산은 새 시계열을 반환
+ */
+public final class CandleSeries {
+
+    public static final ZoneOffset KST = ZoneOffset.ofHours(9);
+
+    private static final CandleSeries EMPTY = new CandleSeries(new long[0], new long[0], new long[0],
+            new long[0], new long[0], new long[0]);
+
+    private final long[] times;
+    private final long[] open;
+    private final long[] high;
+    private final long[] low;
+    private final long[] close;
+    private final long[] volume;
+
+    private CandleSeries(long[] times, long[] open, long[] high, long[] low, long[] close, long[] volume) {
+        this.times = times;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    public static CandleSeries empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return times.length;
+    }
+
+    public boolean isEmpty() {
+        return times.length == 0;
+    }
+
+    public LocalDateTime timeAt(int index) {
+        return LocalDateTime.ofEpochSecond(times[index], 0, KST);
+    }
+
+    public LocalDateTime firstTime() {
+        return timeAt(0);
+    }
+
+    public LocalDateTime lastTime() {
+        return timeAt(times.length - 1);
+    }
+
+    public long openAt(int index) {
+        return open[index];
+    }
+
+    public long highAt(int index) {
+        return high[index];
+    }
+
+    public long lowAt(int index) {
+        return low[index];
+    }
+
+    public long closeAt(int index) {
+        return close[index];
+    }
+
+    public long volumeAt(int index) {
+        return volume[index];
+    }
+
+    /**
+     * 열 배열 복사본 (응답 직렬화용)
+     */
+    public long[] epochMillis() {
+        long[] millis = new long[times.length];
+        for (int i = 0; i < times.length; i++) {
+            millis[i] = times[i] * 1000;
+        }
+        return millis;
+    }
+
+    public long[] opens() {
+        return open.clone();
+    }
+
+    public long[] highs() {
+        return high.clone();
+    }
+
+    public long[] lows() {
+        return low.clone();
+    }
+
+    public long[] closes() {
+        return close.clone();
+    }
+
+    public long[] volumes() {
+        return volume.clone();
+    }
+
+    /**
+     * [from, to] 구간의 캔들
+     *
+     * @param from 시작 시각 (포함)
+     * @param to   종료 시각 (포함)
+     * @return 구간 시계열
+     */
+    public CandleSeries slice(LocalDateTime from, LocalDateTime to) {
+        int start = lowerBound(from.toEpochSecond(KST));
+        int end = lowerBound(to.toEpochSecond(KST) + 1);
+        return range(start, end);
+    }
+
+    /**
+     * 마지막 n개 캔들
+     */
+    public CandleSeries last(int n) {
+        return n >= times.length ? this : range(times.length - n, times.length);
+    }
+
+    /**
+     * 두 시계열 병합 (같은 시각은 other 값으로 대체)
+     * 두 시계열 모두 시각 오름차순이므로 선형 병합
+     *
+     * @param other 새로 받은 캔들
+     * @return 병합된 시계열
+     */
+    public CandleSeries merge(CandleSeries other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+
+        Builder builder = new Builder(times.length + other.times.length);
+        int i = 0;
+        int j = 0;
+        while (i < times.length || j < other.times.length) {
+            if (j >= other.times.length || (i < times.length && times[i] < other.times[j])) {
+                builder.append(this, i++);
+            } else {
+                if (i < times.length && times[i] == other.times[j]) {
+                    i++;  // 같은 시각은 새 값 사용
+                }
+                builder.append(other, j++);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 분 단위 묶음으로 재집계 (예: 1분봉 → 5분봉)
+     * 묶음 시작 시각은 정시 기준으로 정렬 (09:00, 09:05, ...)
+     *
+     * @param minutes 묶음 크기 (분)
+     * @return 재집계된 시계열
+     */
+    public CandleSeries aggregate(int minutes) {
+        long bucketSeconds = minutes * 60L;
+        Builder builder = new Builder(times.length / minutes + 1);
+
+        int i = 0;
+        while (i < times.length) {
+            long bucket = times[i] - Math.floorMod(times[i], bucketSeconds);
+            long o = open[i];
+            long h = high[i];
+            long l = low[i];
+            long c = close[i];
+            long v = volume[i];
+            i++;
+            while (i < times.length && times[i] < bucket + bucketSeconds) {
+                h = Math.max(h, high[i]);
+                l = Math.min(l, low[i]);
+                c = close[i];
+                v += volume[i];
+                i++;
+            }
+            builder.add(bucket, o, h, l, c, v);
+        }
+        return builder.build();
+    }
+
+    private CandleSeries range(int start, int end) {
+        if (start == 0 && end == times.length) {
+            return this;
+        }
+        if (start >= end) {
+            return EMPTY;
+        }
+        return new CandleSeries(
+                Arrays.copyOfRange(times, start, end),
+                Arrays.copyOfRange(open, start, end),
+                Arrays.copyOfRange(high, start, end),
+                Arrays.copyOfRange(low, start, end),
+                Arrays.copyOfRange(close, start, end),
+                Arrays.copyOfRange(volume, start, end));
+    }
+
+    /**
+     * key 이상인 첫 위치
+     */
+    private int lowerBound(long key) {
+        int index = Arrays.binarySearch(times, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 시계열 생성기
+     * 시각 오름차순으로 추가하는 것이 기본이며, 순서가 섞이면 build 시 정렬 (같은 시각은 나중 값 사용)
+     */
+    public static final class Builder {
+        private long[] times;
+        private long[] open;
+        private long[] high;
+        private long[] low;
+        private long[] close;
+        private long[] volume;
+        private int size;
+        private boolean sorted = true;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 8);
+            times = new long[capacity];
+            open = new long[capacity];
+            high = new long[capacity];
+            low = new long[capacity];
+            close = new long[capacity];
+            volume = new long[capacity];
+        }
+
+        public Builder add(LocalDateTime time, long o, long h, long l, long c, long v) {
+            return add(time.toEpochSecond(KST), o, h, l, c, v);
+        }
+
+        private Builder add(long epochSecond, long o, long h, long l, long c, long v) {
+            if (size == times.length) {
+                grow();
+            }
+            if (size > 0 && epochSecond <= times[size - 1]) {
+                sorted = false;
+            }
+            times[size] = epochSecond;
+            open[size] = o;
+            high[size] = h;
+            low[size] = l;
+            close[size] = c;
+            volume[size] = v;
+            size++;
+            return this;
+        }
+
+        private void append(CandleSeries series, int index) {
+            add(series.times[index], series.open[index], series.high[index],
+                    series.low[index], series.close[index], series.volume[index]);
+        }
+
+        public CandleSeries build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (!sorted) {
+                sortAndDeduplicate();
+            }
+            return new CandleSeries(
+                    Arrays.copyOf(times, size),
+                    Arrays.copyOf(open, size),
+                    Arrays.copyOf(high, size),
+                    Arrays.copyOf(low, size),
+                    Arrays.copyOf(close, size),
+                    Arrays.copyOf(volume, size));
+        }
+
+        private void grow() {
+            int capacity = times.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            open = Arrays.copyOf(open, capacity);
+            high = Arrays.copyOf(high, capacity);
+            low = Arrays.copyOf(low, capacity);
+            close = Arrays.copyOf(close, capacity);
+            volume = Arrays.copyOf(volume, capacity);
+        }
+
+        /**
+         * 시각 기준 안정 정렬 후 같은 시각은 마지막 값만 유지
+         */
+        private void sortAndDeduplicate() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(times[a], times[b]));
+
+            long[][] columns = {times, open, high, low, close, volume};
+            long[][] sortedColumns = new long[columns.length][size];
+            int count = 0;
+            for (int k = 0; k < size; k++) {
+                int source = order[k];
+                if (count > 0 && sortedColumns[0][count - 1] == times[source]) {
+                    count--;  // 같은 시각은 나중에 추가된 값으로 덮어씀
+                }
+                for (int c = 0; c < columns.length; c++) {
+                    sortedColumns[c][count] = columns[c][source];
+                }
+                count++;
+            }
+
+            times = sortedColumns[0];
+            open = sortedColumns[1];
+            high = sortedColumns[2];
+            low = sortedColumns[3];
+            close = sortedColumns[4];
+            volume = sortedColumns[5];
+            size = count;
+            sorted = true;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.tradevision.entity;
 
+import com.tradevision.constant.AnalysisStatus;
 import com.tradevision.constant.CandleType;
 import com.tradevision.constant.FeedbackType;
 import jakarta.persistence.*;
@@ -58,14 +59,47 @@ public class ChartAnalysis {
     @Column(name = "image_path", nullable = false, length = 500)
     private String imagePath;
 
+    /**
+     * 히스토리 목록용 썸네일 경로
+     */
+    @Column(name = "thumbnail_path", length = 500)
+    private String thumbnailPath;
+
+    /**
+     * 분석 요청 지문 (이미지 SHA-256 + 종목 코드 + 캔들 타입 + 프롬프트 버전의 SHA-256)
+     * 같은 지문의 완료된 분석 결과를 재사용
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * 일괄 분석 ID (일괄 분석으로 접수된 경우)
+     */
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    /**
+     * 분석 작업 상태 (대기/분석 중/완료/실패)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private AnalysisStatus status = AnalysisStatus.PENDING;
+
     /**
      * AI 분석 결과 (JSON)
-     * 패턴, 지지/저항선, 매매 의견 등
+     * 패턴, 지지/저항선, 매매 의견 등 (분석 완료 전에는 null)
      */
     @Lob
-    @Column(name = "analysis_result", nullable = false, columnDefinition = "TEXT")
+    @Column(name = "analysis_result", columnDefinition = "TEXT")
     private String analysisResult;
 
+    /**
+     * 분석 실패 사유
+     */
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
     /**
      * 사용자 피드백 (성공/실패/없음)
      */
@@ -80,6 +114,12 @@ public class ChartAnalysis {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 분석 완료 일시
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     /**
      * 생성 시 분석 일시 자동 설정
      */
@@ -88,6 +128,73 @@ public class ChartAnalysis {
         this.createdAt = LocalDateTime.now();
     }
 
+    /**
+     * 분석 시작 처리 (PENDING 상태에서만)
+     *
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean markProcessing() {
+        if (this.status != AnalysisStatus.PENDING) {
+            return false;
+        }
+        this.status = AnalysisStatus.PROCESSING;
+        return true;
+    }
+
+    /**
+     * 분석 완료 처리 (종료 상태면 변경하지 않음)
+     *
+     * @param analysisResult AI 분석 결과 (JSON)
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean complete(String analysisResult) {
+        if (this.status.isTerminal()) {
+            return false;
+        }
+        this.analysisResult = analysisResult;
+        this.status = AnalysisStatus.COMPLETED;
+        this.errorMessage = null;
+        this.completedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * 분석 실패 처리 (종료 상태면 변경하지 않음)
+     *
+     * @param errorMessage 실패 사유
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean fail(String errorMessage) {
+        if (this.status.isTerminal()) {
+            return false;
+        }
+        this.status = AnalysisStatus.FAILED;
+        this.errorMessage = truncateErrorMessage(errorMessage);
+        this.completedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * 실패 사유를 컬럼 길이(500자)에 맞게 자름
+     *
+     * @param errorMessage 실패 사유
+     * @return 500자 이하의 실패 사유
+     */
+    public static String truncateErrorMessage(String errorMessage) {
+        return errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500)
+                : errorMessage;
+    }
+
+    /**
+     * 썸네일 경로 업데이트
+     *
+     * @param thumbnailPath 썸네일 경로 (생성 실패 시 null)
+     */
+    public void updateThumbnail(String thumbnailPath) {
+        this.thumbnailPath = thumbnailPath;
+    }
+
     /**
      * 피드백 업데이트
      *
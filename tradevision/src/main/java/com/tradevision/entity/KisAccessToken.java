@@ -0,0 +1,60 @@
+package com.tradevision.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한국투자증권 API Access Token 엔티티
+ * 재시작 및 다중 인스턴스 환경에서 발급된 토큰을 공유 (App Key별 1행)
+ */
+@Entity
+@Table(name = "kis_access_tokens")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KisAccessToken {
+
+    /**
+     * App Key SHA-256 해시 (App Key 원문은 저장하지 않음)
+     */
+    @Id
+    @Column(name = "token_key", length = 64)
+    private String tokenKey;
+
+    /**
+     * Access Token 값
+     */
+    @Column(name = "access_token", nullable = false, length = 1000)
+    private String accessToken;
+
+    /**
+     * 만료 일시
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 발급 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 새로 발급받은 토큰으로 갱신
+     *
+     * @param accessToken Access Token 값
+     * @param expiresAt   만료 일시
+     * @param updatedAt   발급 일시
+     */
+    public void update(String accessToken, LocalDateTime expiresAt, LocalDateTime updatedAt) {
+        this.accessToken = accessToken;
+        this.expiresAt = expiresAt;
+        this.updatedAt = updatedAt;
+    }
+}
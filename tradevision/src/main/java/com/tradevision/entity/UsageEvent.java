@@ -0,0 +1,26 @@
+package com.tradevision.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용 이력 이벤트
+ * usage_tracking 테이블 한 행의 메모리 표현 (JPA 엔티티가 아닌 값 객체)
+ * 요청 경로에서 만들어 UsageEventBuffer에 넣고, 백그라운드 기록기가 일괄 INSERT로 저장
+ *
+ * @param userId     사용자 ID (비로그인이면 null)
+ * @param sessionId  세션 ID
+ * @param ipAddress  클라이언트 IP
+ * @param actionType 동작 유형
+ * @param resourceId 대상 리소스 ID
+ * @param metadata   부가 정보 (JSON)
+ * @param createdAt  발생 일시 (기록 시각이 아닌 요청 시각)
+ */
+public record UsageEvent(
+        Long userId,
+        String sessionId,
+        String ipAddress,
+        String actionType,
+        Long resourceId,
+        String metadata,
+        LocalDateTime createdAt) {
+}
@@ -32,6 +32,7 @@ public enum ErrorCode {
     CHART_NOT_DETECTED("4004", "업로드한 이미지에서 차트를 찾을 수 없습니다. 차트 이미지를 업로드해주세요"),
     OPENAI_API_ERROR("4006", "AI 분석 서비스에 문제가 발생했습니다"),
     DAILY_LIMIT_EXCEEDED("4007", "오늘의 AI 분석 한도를 초과했습니다. 내일 다시 시도해주세요"),
+    BATCH_SIZE_EXCEEDED("4008", "한 번에 분석할 수 있는 차트 수를 초과했습니다"),
 
     // 학습 관련 (5xxx)
     LEARNING_CONTENT_NOT_FOUND("5001", "학습 콘텐츠를 찾을 수 없습니다"),
@@ -1,9 +1,11 @@
 package com.tradevision.repository;
 
+import com.tradevision.constant.AnalysisStatus;
 import com.tradevision.entity.ChartAnalysis;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -47,6 +49,108 @@ public interface ChartAnalysisRepository extends JpaRepository<ChartAnalysis, Lo
      */
     Optional<ChartAnalysis> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * 일괄 분석에 포함된 분석 목록 조회 (접수 순)
+     *
+     * @param batchId 일괄 분석 ID
+     * @param userId  사용자 ID
+     * @return 분석 목록
+     */
+    List<ChartAnalysis> findByBatchIdAndUserIdOrderByIdAsc(String batchId, Long userId);
+
+    /**
+     * 같은 사용자의 같은 지문 분석 중 가장 최근 것 조회 (지정한 상태 제외)
+     * 재업로드/새로고침 시 새 분석을 만들지 않고 기존 분석을 반환하기 위해 사용
+     *
+     * @param userId      사용자 ID
+     * @param contentHash 분석 요청 지문
+     * @param status      제외할 상태
+     * @return 기존 분석
+     */
+    Optional<ChartAnalysis> findFirstByUserIdAndContentHashAndStatusNotOrderByIdDesc(
+            Long userId, String contentHash, AnalysisStatus status);
+
+    /**
+     * 같은 지문의 완료된 분석 중 가장 최근 것 조회
+     *
+     * @param contentHash 분석 요청 지문
+     * @param status      분석 상태
+     * @param completedAt 이 시각 이후 완료된 분석만 조회
+     * @return 완료된 분석
+     */
+    Optional<ChartAnalysis> findFirstByContentHashAndStatusAndCompletedAtAfterOrderByIdDesc(
+            String contentHash, AnalysisStatus status, LocalDateTime completedAt);
+
+    /**
+     * 오래 끝나지 않은 분석 작업 조회 (접수 순, 최대 100건)
+     * 재시작/장애로 작업 큐에서 사라진 PENDING/PROCESSING 분석을 정리할 때 사용
+     *
+     * @param statuses 진행 중 상태
+     * @param before   이 시각 이전에 접수된 분석만 조회
+     * @return 분석 목록
+     */
+    List<ChartAnalysis> findTop100ByStatusInAndCreatedAtBeforeOrderByIdAsc(
+            List<AnalysisStatus> statuses, LocalDateTime before);
+
+    /**
+     * 분석 작업 상태만 조회
+     * 영속성 컨텍스트를 거치지 않고 최신 상태를 확인할 때 사용
+     *
+     * @param id 분석 ID
+     * @return 분석 작업 상태
+     */
+    @Query("SELECT c.status FROM ChartAnalysis c WHERE c.id = :id")
+    Optional<AnalysisStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * 대기 중인 분석을 분석 중으로 전환 (PENDING 상태에서만)
+     * 정리 작업이 이미 실패 처리한 분석이 늦게 실행되지 않도록 조건부 UPDATE로 처리
+     *
+     * @param id 분석 ID
+     * @return 변경된 행 수 (0이면 이미 다른 상태)
+     */
+    @Modifying
+    @Query("UPDATE ChartAnalysis c SET c.status = com.tradevision.constant.AnalysisStatus.PROCESSING " +
+            "WHERE c.id = :id AND c.status = com.tradevision.constant.AnalysisStatus.PENDING")
+    int markProcessing(@Param("id") Long id);
+
+    /**
+     * 분석 중인 분석을 완료로 전환 (PROCESSING 상태에서만)
+     *
+     * @param id             분석 ID
+     * @param analysisResult AI 분석 결과 (JSON)
+     * @param thumbnailPath  썸네일 경로 (생성 실패 시 null)
+     * @param completedAt    완료 일시
+     * @return 변경된 행 수 (0이면 그 사이에 실패 처리됨)
+     */
+    @Modifying
+    @Query("UPDATE ChartAnalysis c SET c.status = com.tradevision.constant.AnalysisStatus.COMPLETED, " +
+            "c.analysisResult = :analysisResult, c.thumbnailPath = :thumbnailPath, " +
+            "c.errorMessage = NULL, c.completedAt = :completedAt " +
+            "WHERE c.id = :id AND c.status = com.tradevision.constant.AnalysisStatus.PROCESSING")
+    int markCompleted(@Param("id") Long id,
+                      @Param("analysisResult") String analysisResult,
+                      @Param("thumbnailPath") String thumbnailPath,
+                      @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 진행 중인 분석을 실패로 전환 (PENDING/PROCESSING 상태에서만)
+     * 정리 작업, 큐 포화, 워커 오류가 동시에 실패 처리해도 한 호출만 전환되도록 조건부 UPDATE로 처리
+     *
+     * @param id           분석 ID
+     * @param errorMessage 실패 사유
+     * @param completedAt  종료 일시
+     * @return 변경된 행 수 (0이면 이미 종료됨)
+     */
+    @Modifying
+    @Query("UPDATE ChartAnalysis c SET c.status = com.tradevision.constant.AnalysisStatus.FAILED, " +
+            "c.errorMessage = :errorMessage, c.completedAt = :completedAt " +
+            "WHERE c.id = :id AND c.status IN (com.tradevision.constant.AnalysisStatus.PENDING, " +
+            "com.tradevision.constant.AnalysisStatus.PROCESSING)")
+    int markFailed(@Param("id") Long id,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("completedAt") LocalDateTime completedAt);
+
     /**
      * 사용자의 일일 분석 횟수 조회
      *
@@ -65,12 +169,14 @@ public interface ChartAnalysisRepository extends JpaRepository<ChartAnalysis, Lo
 
     /**
      * 사용자의 오늘 분석 횟수 조회
+     * 실패한 분석은 한도에서 제외 (대기/분석 중인 작업은 포함)
      *
      * @param userId 사용자 ID
      * @param today  오늘 시작 시간
      * @return 오늘 분석 횟수
      */
     @Query("SELECT COUNT(c) FROM ChartAnalysis c WHERE c.user.id = :userId " +
-            "AND c.createdAt >= :today")
+            "AND c.createdAt >= :today " +
+            "AND c.status <> com.tradevision.constant.AnalysisStatus.FAILED")
     long countTodayAnalyses(@Param("userId") Long userId, @Param("today") LocalDateTime today);
 }
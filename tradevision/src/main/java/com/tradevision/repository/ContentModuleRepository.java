@@ -89,4 +89,11 @@ public interface ContentModuleRepository extends JpaRepository<ContentModule, Lo
      * @return 모듈 수
      */
     long countByDifficultyLevelAndIsActiveTrue(InvestmentLevel level);
+
+    /**
+     * 활성화된 모든 모듈 조회 (카탈로그 스냅샷 적재용)
+     *
+     * @return 모듈 목록
+     */
+    List<ContentModule> findAllByIsActiveTrue();
 }
@@ -0,0 +1,30 @@
+package com.tradevision.repository;
+
+import com.tradevision.entity.KisAccessToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * KIS Access Token Repository
+ * KisAccessToken 엔티티에 대한 데이터베이스 접근
+ */
+@Repository
+public interface KisAccessTokenRepository extends JpaRepository<KisAccessToken, String> {
+
+    /**
+     * 토큰 조회 (쓰기 잠금)
+     * 여러 인스턴스가 동시에 갱신할 때 한 인스턴스만 새 토큰을 발급하도록 행 잠금
+     *
+     * @param tokenKey App Key 해시
+     * @return KisAccessToken Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM KisAccessToken t WHERE t.tokenKey = :tokenKey")
+    Optional<KisAccessToken> findByTokenKeyForUpdate(@Param("tokenKey") String tokenKey);
+}
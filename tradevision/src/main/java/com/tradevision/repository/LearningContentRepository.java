@@ -4,6 +4,7 @@ import com.tradevision.constant.ContentType;
 import com.tradevision.entity.LearningContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +16,7 @@ import java.util.Optional;
 
 /**
  * 학습 콘텐츠 Repository
+ * 목록 조회는 응답에 모듈명이 포함되므로 module을 함께 조회 (@EntityGraph, 콘텐츠마다 모듈 지연 로딩 방지)
  */
 @Repository
 public interface LearningContentRepository extends JpaRepository<LearningContent, Long> {
@@ -26,6 +28,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @param pageable 페이징 정보
      * @return 콘텐츠 목록
      */
+    @EntityGraph(attributePaths = "module")
     @Query("SELECT c FROM LearningContent c WHERE c.module.id = :moduleId AND c.isActive = true ORDER BY c.displayOrder ASC")
     Page<LearningContent> findByModuleIdAndIsActiveTrue(@Param("moduleId") Long moduleId, Pageable pageable);
 
@@ -45,6 +48,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @param pageable    페이징 정보
      * @return 콘텐츠 목록
      */
+    @EntityGraph(attributePaths = "module")
     Page<LearningContent> findByContentTypeAndIsActiveTrueOrderByCreatedAtDesc(
             ContentType contentType, Pageable pageable);
 
@@ -54,6 +58,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @param pageable 페이징 정보
      * @return 콘텐츠 목록
      */
+    @EntityGraph(attributePaths = "module")
     Page<LearningContent> findByIsFreeTrueAndIsActiveTrueOrderByViewCountDesc(Pageable pageable);
 
     /**
@@ -62,6 +67,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @param pageable 페이징 정보
      * @return 콘텐츠 목록
      */
+    @EntityGraph(attributePaths = "module")
     @Query("SELECT c FROM LearningContent c WHERE c.isActive = true ORDER BY c.viewCount DESC")
     List<LearningContent> findTopByViewCount(Pageable pageable);
 
@@ -81,6 +87,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @param pageable 페이징 정보
      * @return 콘텐츠 목록
      */
+    @EntityGraph(attributePaths = "module")
     @Query("SELECT c FROM LearningContent c WHERE c.isActive = true AND " +
             "(LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(c.titleEn) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -94,6 +101,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @param id 콘텐츠 ID
      * @return 콘텐츠
      */
+    @EntityGraph(attributePaths = "module")
     Optional<LearningContent> findByIdAndIsActiveTrue(Long id);
 
     /**
@@ -130,4 +138,13 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * @return 콘텐츠 수
      */
     long countByModuleIdAndIsActiveTrue(Long moduleId);
+
+    /**
+     * 활성화된 모든 콘텐츠를 모듈과 함께 조회 (카탈로그 스냅샷 적재용)
+     *
+     * @return 콘텐츠 목록
+     */
+    @EntityGraph(attributePaths = "module")
+    @Query("SELECT c FROM LearningContent c WHERE c.isActive = true")
+    List<LearningContent> findAllActiveWithModule();
 }
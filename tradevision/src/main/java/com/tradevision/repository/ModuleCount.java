@@ -0,0 +1,17 @@
+package com.tradevision.repository;
+
+/**
+ * 모듈별 집계 결과 (GROUP BY module_id 조회용 프로젝션)
+ */
+public interface ModuleCount {
+
+    /**
+     * 모듈 ID
+     */
+    Long getModuleId();
+
+    /**
+     * 집계 개수
+     */
+    Long getTotal();
+}
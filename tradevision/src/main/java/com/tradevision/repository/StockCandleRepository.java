@@ -0,0 +1,130 @@
+package com.tradevision.repository;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.entity.CandleSeries;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 캔들 이력 Repository
+ * 캔들은 건수가 많고 엔티티 상태 관리가 필요 없으므로 JPA 대신 JdbcTemplate으로
+ * 기본형 열 배열(CandleSeries)에 바로 읽고 일괄 upsert
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockCandleRepository {
+
+    private static final String SELECT_RANGE = """
+            SELECT candle_time, open_price, high_price, low_price, close_price, volume
+            FROM stock_candles
+            WHERE stock_code = ? AND candle_type = ? AND candle_time BETWEEN ? AND ?
+            ORDER BY candle_time DESC
+            LIMIT ?
+            """;
+
+    private static final String SELECT_LAST_BEFORE = """
+            SELECT candle_time, open_price, high_price, low_price, close_price, volume
+            FROM stock_candles
+            WHERE stock_code = ? AND candle_type = ? AND candle_time < ?
+            ORDER BY candle_time DESC
+            LIMIT ?
+            """;
+
+    private static final String UPSERT = """
+            INSERT INTO stock_candles
+                (stock_code, candle_type, candle_time, open_price, high_price, low_price, close_price, volume)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                open_price = VALUES(open_price),
+                high_price = VALUES(high_price),
+                low_price = VALUES(low_price),
+                close_price = VALUES(close_price),
+                volume = VALUES(volume)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 구간 캔들 조회 (구간의 최근 limit개, 시각 오름차순)
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @param from       시작 시각 (포함)
+     * @param to         종료 시각 (포함)
+     * @param limit      최대 캔들 수
+     * @return 캔들 시계열
+     */
+    public CandleSeries findRange(String stockCode, CandleType candleType,
+                                  LocalDateTime from, LocalDateTime to, int limit) {
+        CandleSeries.Builder builder = CandleSeries.builder(Math.min(limit, 256));
+        jdbcTemplate.query(SELECT_RANGE,
+                rs -> {
+                    builder.add(rs.getTimestamp(1).toLocalDateTime(),
+                            rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+                },
+                stockCode, candleType.name(), Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+        return builder.build();  // 최신순으로 읽었으므로 build에서 시각 오름차순 정렬
+    }
+
+    /**
+     * 기준 시각 직전 캔들 조회 (보조지표 워밍업용, 시각 오름차순)
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @param before     기준 시각 (제외)
+     * @param limit      최대 캔들 수
+     * @return 기준 시각 이전 최근 limit개 캔들
+     */
+    public CandleSeries findLastBefore(String stockCode, CandleType candleType, LocalDateTime before, int limit) {
+        CandleSeries.Builder builder = CandleSeries.builder(limit);
+        jdbcTemplate.query(SELECT_LAST_BEFORE,
+                rs -> {
+                    builder.add(rs.getTimestamp(1).toLocalDateTime(),
+                            rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+                },
+                stockCode, candleType.name(), Timestamp.valueOf(before), limit);
+        return builder.build();  // 최신순으로 읽었으므로 build에서 시각 오름차순 정렬
+    }
+
+    /**
+     * 캔들 일괄 저장 (같은 시각은 갱신 - 진행 중인 마지막 캔들 반영)
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @param series     저장할 캔들
+     */
+    public void upsertAll(String stockCode, CandleType candleType, CandleSeries series) {
+        for (int start = 0; start < series.size(); start += BATCH_SIZE) {
+            int offset = start;
+            int count = Math.min(BATCH_SIZE, series.size() - start);
+            jdbcTemplate.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = offset + i;
+                    ps.setString(1, stockCode);
+                    ps.setString(2, candleType.name());
+                    ps.setTimestamp(3, Timestamp.valueOf(series.timeAt(index)));
+                    ps.setLong(4, series.openAt(index));
+                    ps.setLong(5, series.highAt(index));
+                    ps.setLong(6, series.lowAt(index));
+                    ps.setLong(7, series.closeAt(index));
+                    ps.setLong(8, series.volumeAt(index));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            });
+        }
+    }
+}
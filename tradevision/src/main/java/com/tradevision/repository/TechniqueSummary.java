@@ -0,0 +1,27 @@
+package com.tradevision.repository;
+
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.constant.TechniqueCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매매기법 목록용 프로젝션 (JPQL 생성자 표현식)
+ * description / usage_guide / example_scenario (TEXT) 컬럼은 조회하지 않으며, 본문은 상세 조회에서만 로딩
+ */
+public record TechniqueSummary(
+        Long id,
+        String name,
+        String nameEn,
+        InvestmentLevel difficultyLevel,
+        TechniqueCategory category,
+        String summary,
+        String advantages,
+        String disadvantages,
+        Integer riskLevel,
+        Long viewCount,
+        Long recommendationCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -20,6 +20,14 @@ import java.util.Optional;
 @Repository
 public interface TradingTechniqueRepository extends JpaRepository<TradingTechnique, Long> {
 
+    /**
+     * 목록용 요약 SELECT 절 (TEXT 컬럼 제외)
+     */
+    String SUMMARY_SELECT = "SELECT new com.tradevision.repository.TechniqueSummary(" +
+            "t.id, t.name, t.nameEn, t.difficultyLevel, t.category, t.summary, " +
+            "t.advantages, t.disadvantages, t.riskLevel, t.viewCount, t.recommendationCount, " +
+            "t.createdAt, t.updatedAt) FROM TradingTechnique t ";
+
     /**
      * 활성화된 모든 기법 조회 (페이징)
      *
@@ -117,4 +125,12 @@ public interface TradingTechniqueRepository extends JpaRepository<TradingTechniq
      * @return 기법
      */
     Optional<TradingTechnique> findByIdAndIsActiveTrue(Long id);
+
+    /**
+     * 활성화된 모든 기법 요약 조회 (카탈로그 스냅샷 적재용)
+     *
+     * @return 기법 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.isActive = true")
+    List<TechniqueSummary> findAllActiveSummaries();
 }
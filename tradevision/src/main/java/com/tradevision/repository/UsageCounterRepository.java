@@ -0,0 +1,209 @@
+package com.tradevision.repository;
+
+import com.tradevision.constant.UsagePeriod;
+import com.tradevision.entity.UsageTracking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용량 카운터 Repository
+ * 한도 확인/사용 기록 경로에서 호출되므로 JPA 엔티티 대신 JdbcTemplate으로
+ * 기본 키 조회, 원자적 upsert(INSERT ... ON DUPLICATE KEY UPDATE), 조건부 UPDATE, 보정 UPDATE만 수행
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsageCounterRepository {
+
+    private static final String SELECT_COUNT = """
+            SELECT used_count
+            FROM usage_counters
+            WHERE user_id = ? AND action_type = ? AND period_type = ? AND period_start = ?
+            """;
+
+    private static final String ADD = """
+            INSERT INTO usage_counters (user_id, action_type, period_type, period_start, used_count)
+            VALUES (?, ?, ?, ?, GREATEST(?, 0))
+            ON DUPLICATE KEY UPDATE used_count = GREATEST(used_count + ?, 0)
+            """;
+
+    // 한도 안에서만 증가 (행 잠금 아래에서 조건을 다시 평가하므로 동시 요청도 한도를 넘지 않음)
+    private static final String RESERVE = """
+            UPDATE usage_counters
+            SET used_count = used_count + ?
+            WHERE user_id = ? AND action_type = ? AND period_type = ? AND period_start = ?
+              AND used_count + ? <= ?
+            """;
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT IGNORE INTO usage_counters (user_id, action_type, period_type, period_start, used_count)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // 일일 분석 한도는 실패한 분석을 제외한 chart_analyses 기준 (대기/분석 중인 작업은 포함)
+    private static final String COUNT_CHART_ANALYSES = """
+            SELECT COUNT(*)
+            FROM chart_analyses
+            WHERE user_id = ? AND created_at >= ? AND created_at < ? AND status <> 'FAILED'
+            """;
+
+    private static final String COUNT_USAGE_EVENTS = """
+            SELECT COUNT(*)
+            FROM usage_tracking
+            WHERE user_id = ? AND action_type = ? AND created_at >= ? AND created_at < ?
+            """;
+
+    private static final String SELECT_IDS = """
+            SELECT user_id, action_type
+            FROM usage_counters
+            WHERE period_type = ? AND period_start = ?
+            """;
+
+    // 보정은 원본 집계 값을 한 문장으로 대입 (읽고 더하는 사이에 커밋된 예약을 덮어쓰지 않도록)
+    private static final String RECONCILE_CHART_ANALYSES = """
+            UPDATE usage_counters
+            SET used_count = (
+                    SELECT COUNT(*)
+                    FROM chart_analyses
+                    WHERE user_id = ? AND created_at >= ? AND created_at < ? AND status <> 'FAILED')
+            WHERE user_id = ? AND action_type = ? AND period_type = ? AND period_start = ?
+            """;
+
+    private static final String RECONCILE_USAGE_EVENTS = """
+            UPDATE usage_counters
+            SET used_count = (
+                    SELECT COUNT(*)
+                    FROM usage_tracking
+                    WHERE user_id = ? AND action_type = ? AND created_at >= ? AND created_at < ?)
+            WHERE user_id = ? AND action_type = ? AND period_type = ? AND period_start = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카운터 조회
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     * @return 사용 횟수 (카운터 행이 없으면 empty)
+     */
+    public Optional<Long> find(Long userId, String actionType, UsagePeriod period, LocalDate periodStart) {
+        List<Long> counts = jdbcTemplate.queryForList(SELECT_COUNT, Long.class,
+                userId, actionType, period.name(), Date.valueOf(periodStart));
+        return counts.stream().findFirst();
+    }
+
+    /**
+     * 카운터 원자적 증감 (행이 없으면 생성, 0 미만으로 내려가지 않음)
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     * @param delta       증감량
+     */
+    public void add(Long userId, String actionType, UsagePeriod period, LocalDate periodStart, long delta) {
+        jdbcTemplate.update(ADD, userId, actionType, period.name(), Date.valueOf(periodStart), delta, delta);
+    }
+
+    /**
+     * 한도 안에서 카운터 원자적 증가 (한도 예약)
+     * 카운터 행이 이미 있어야 하며, 증가 후 값이 한도를 넘으면 변경하지 않음
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     * @param delta       예약할 사용 횟수
+     * @param limit       기간 한도
+     * @return 예약 성공 여부
+     */
+    public boolean reserve(Long userId, String actionType, UsagePeriod period, LocalDate periodStart,
+                           long delta, long limit) {
+        return jdbcTemplate.update(RESERVE, delta, userId, actionType, period.name(), Date.valueOf(periodStart),
+                delta, limit) == 1;
+    }
+
+    /**
+     * 카운터 행이 없을 때만 초기값으로 생성 (다른 인스턴스가 먼저 만들었으면 무시)
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     * @param count       초기 사용 횟수
+     */
+    public void insertIfAbsent(Long userId, String actionType, UsagePeriod period, LocalDate periodStart, long count) {
+        jdbcTemplate.update(INSERT_IF_ABSENT, userId, actionType, period.name(), Date.valueOf(periodStart), count);
+    }
+
+    /**
+     * 기간의 카운터 목록 (보정 대상)
+     *
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     * @return (사용자, 동작) 목록
+     */
+    public List<CounterId> findIds(UsagePeriod period, LocalDate periodStart) {
+        return jdbcTemplate.query(SELECT_IDS,
+                (rs, rowNum) -> new CounterId(rs.getLong(1), rs.getString(2)),
+                period.name(), Date.valueOf(periodStart));
+    }
+
+    /**
+     * 카운터를 원본 이력 집계 값으로 보정 (UPDATE 한 문장, 카운터 행 잠금 아래에서 집계)
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     */
+    public void reconcile(Long userId, String actionType, UsagePeriod period, LocalDate periodStart) {
+        Timestamp from = Timestamp.valueOf(periodStart.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(period.nextStart(periodStart).atStartOfDay());
+        Date start = Date.valueOf(periodStart);
+        if (UsageTracking.ACTION_CHART_ANALYSIS.equals(actionType)) {
+            jdbcTemplate.update(RECONCILE_CHART_ANALYSES,
+                    userId, from, to, userId, actionType, period.name(), start);
+        } else {
+            jdbcTemplate.update(RECONCILE_USAGE_EVENTS,
+                    userId, actionType, from, to, userId, actionType, period.name(), start);
+        }
+    }
+
+    /**
+     * 원본 이력에서 기간 사용 횟수 집계 (카운터 초기 적재/보정용)
+     * 날짜 함수 대신 created_at 구간 조건으로 인덱스 범위 조회
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param period      집계 기간
+     * @param periodStart 기간 시작일
+     * @return 사용 횟수
+     */
+    public long countSource(Long userId, String actionType, UsagePeriod period, LocalDate periodStart) {
+        Timestamp from = Timestamp.valueOf(periodStart.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(period.nextStart(periodStart).atStartOfDay());
+        Long count = UsageTracking.ACTION_CHART_ANALYSIS.equals(actionType)
+                ? jdbcTemplate.queryForObject(COUNT_CHART_ANALYSES, Long.class, userId, from, to)
+                : jdbcTemplate.queryForObject(COUNT_USAGE_EVENTS, Long.class, userId, actionType, from, to);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 카운터 식별자 (기간 제외)
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     */
+    public record CounterId(Long userId, String actionType) {
+    }
+}
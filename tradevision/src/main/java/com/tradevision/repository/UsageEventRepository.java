@@ -0,0 +1,70 @@
+package com.tradevision.repository;
+
+import com.tradevision.entity.UsageEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 사용 이력 일괄 기록 Repository
+ * UsageTracking 엔티티는 IDENTITY 키라 JPA로는 INSERT가 배치로 묶이지 않으므로,
+ * 사용 이력 기록은 JdbcTemplate 일괄 INSERT로 처리 (조회/삭제는 UsageTrackingRepository)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsageEventRepository {
+
+    private static final String INSERT = """
+            INSERT INTO usage_tracking
+                (user_id, session_id, ip_address, action_type, resource_id, metadata, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용 이력 일괄 저장
+     *
+     * @param events 저장할 사용 이력
+     */
+    public void insertAll(List<UsageEvent> events) {
+        for (int start = 0; start < events.size(); start += BATCH_SIZE) {
+            List<UsageEvent> chunk = events.subList(start, Math.min(start + BATCH_SIZE, events.size()));
+            jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    UsageEvent event = chunk.get(i);
+                    setNullableLong(ps, 1, event.userId());
+                    ps.setString(2, event.sessionId());
+                    ps.setString(3, event.ipAddress());
+                    ps.setString(4, event.actionType());
+                    setNullableLong(ps, 5, event.resourceId());
+                    ps.setString(6, event.metadata());
+                    ps.setTimestamp(7, Timestamp.valueOf(event.createdAt()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chunk.size();
+                }
+            });
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -21,8 +21,5 @@ public interface UsageTrackingRepository extends JpaRepository<UsageTracking, Lo
     @Query("SELECT COUNT(u) FROM UsageTracking u WHERE u.sessionId = :sessionId AND u.actionType = :actionType AND u.createdAt >= :startDate")
     long countBySessionIdAndActionTypeAndCreatedAtAfter(String sessionId, String actionType, LocalDateTime startDate);
 
-    @Query("SELECT COUNT(u) FROM UsageTracking u WHERE u.user.id = :userId AND u.actionType = :actionType AND YEAR(u.createdAt) = YEAR(CURRENT_DATE) AND MONTH(u.createdAt) = MONTH(CURRENT_DATE)")
-    long countByUserIdAndActionTypeInCurrentMonth(Long userId, String actionType);
-
     List<UsageTracking> findByCreatedAtBefore(LocalDateTime date);
 }
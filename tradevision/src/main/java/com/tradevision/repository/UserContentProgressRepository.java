@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -137,4 +138,28 @@ public interface UserContentProgressRepository extends JpaRepository<UserContent
      * @return 완료한 사용자 수
      */
     long countByContentIdAndIsCompletedTrue(Long contentId);
+
+    /**
+     * 사용자의 여러 콘텐츠 진행도를 한 번에 조회 (목록 응답용)
+     *
+     * @param userId     사용자 ID
+     * @param contentIds 콘텐츠 ID 목록
+     * @return 진행도 목록 (진행 기록이 없는 콘텐츠는 결과에 없음)
+     */
+    @Query("SELECT p FROM UserContentProgress p WHERE p.user.id = :userId AND p.content.id IN :contentIds")
+    List<UserContentProgress> findByUserIdAndContentIdIn(@Param("userId") Long userId,
+                                                         @Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 사용자의 여러 모듈별 완료 개수를 한 번에 조회 (목록 응답용)
+     *
+     * @param userId    사용자 ID
+     * @param moduleIds 모듈 ID 목록
+     * @return 모듈별 완료 개수 (완료한 콘텐츠가 없는 모듈은 결과에 없음)
+     */
+    @Query("SELECT p.content.module.id AS moduleId, COUNT(p) AS total FROM UserContentProgress p " +
+            "WHERE p.user.id = :userId AND p.content.module.id IN :moduleIds AND p.isCompleted = true " +
+            "GROUP BY p.content.module.id")
+    List<ModuleCount> countCompletedByModuleIds(@Param("userId") Long userId,
+                                                @Param("moduleIds") Collection<Long> moduleIds);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,17 @@ public interface UserTechniqueProgressRepository extends JpaRepository<UserTechn
      */
     Optional<UserTechniqueProgress> findByUserIdAndTechniqueId(Long userId, Long techniqueId);
 
+    /**
+     * 사용자의 여러 기법 진행도를 한 번에 조회 (목록 응답용)
+     *
+     * @param userId       사용자 ID
+     * @param techniqueIds 기법 ID 목록
+     * @return 진행도 목록 (진행 기록이 없는 기법은 결과에 없음)
+     */
+    @Query("SELECT p FROM UserTechniqueProgress p WHERE p.user.id = :userId AND p.technique.id IN :techniqueIds")
+    List<UserTechniqueProgress> findByUserIdAndTechniqueIdIn(@Param("userId") Long userId,
+                                                             @Param("techniqueIds") Collection<Long> techniqueIds);
+
     /**
      * 사용자의 상태별 진행도 조회
      *
@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -20,6 +19,7 @@ import java.io.IOException;
 /**
  * JWT 인증 필터
  * 요청 헤더에서 JWT 토큰을 추출하고 검증하여 SecurityContext에 인증 정보 설정
+ * 인증 정보는 토큰 클레임으로 구성하므로 요청마다 사용자 DB 조회를 하지 않음
  */
 @Component
 @RequiredArgsConstructor
@@ -30,11 +30,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
 
     /**
      * 요청마다 실행되는 필터 로직
-     * Authorization 헤더에서 JWT 토큰 추출 → 검증 → 인증 정보 설정
+     * Authorization 헤더에서 JWT 토큰 추출 → 검증/클레임 추출 → 인증 정보 설정
      */
     @Override
     protected void doFilterInternal(
@@ -46,30 +45,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. 요청 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
-            // 2. 토큰 유효성 검증
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                // 3. 토큰에서 이메일 추출
-                String email = tokenProvider.getEmailFromToken(jwt);
+            // 2. 토큰 검증 및 클레임에서 사용자 정보 추출 (한 번만 파싱)
+            UserPrincipal principal = StringUtils.hasText(jwt) ? tokenProvider.parseAccessToken(jwt) : null;
 
-                // 4. 이메일로 사용자 정보 로드
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-                // 5. Authentication 객체 생성
+            if (principal != null) {
+                // 3. Authentication 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                principal.getAuthorities()
                         );
 
                 authentication.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
                 );
 
-                // 6. SecurityContext에 인증 정보 설정
+                // 4. SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("SecurityContext에 '{}' 인증 정보 저장", email);
+                log.debug("SecurityContext에 '{}' 인증 정보 저장", principal.getEmail());
             }
         } catch (Exception ex) {
             log.error("SecurityContext에 사용자 인증 정보를 설정할 수 없습니다", ex);
@@ -1,9 +1,12 @@
 package com.tradevision.security;
 
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -14,37 +17,65 @@ import java.util.Date;
 /**
  * JWT 토큰 생성 및 검증 Provider
  * Access Token과 Refresh Token을 생성하고 검증
+ * Access Token에는 사용자 ID/투자 수준/구독 플랜을 클레임으로 담아, 요청마다 DB 조회 없이 인증 정보를 구성
+ * 검증된 Access Token은 VerifiedTokenCache에 보관해 같은 토큰의 반복 검증을 생략
  */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_INVESTMENT_LEVEL = "lvl";
+    static final String CLAIM_PLAN = "plan";
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
+    private final VerifiedTokenCache tokenCache;
 
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            VerifiedTokenCache tokenCache) {
         // Secret Key 생성 (최소 256비트 필요)
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변/스레드 안전하므로 한 번만 생성해 재사용
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.tokenCache = tokenCache;
+    }
+
+    /**
+     * 검증 캐시 없이 생성
+     */
+    JwtTokenProvider(String secret, long accessTokenValidity, long refreshTokenValidity) {
+        this(secret, accessTokenValidity, refreshTokenValidity, new VerifiedTokenCache(0));
     }
 
     /**
      * Access Token 생성
-     * @param email 사용자 이메일
+     * 플랜은 발급 시점 기준이므로 플랜 변경은 다음 토큰 갱신부터 반영됨
+     *
+     * @param user     사용자
+     * @param planTier 구독 플랜 이름 (FREE, PRO 등)
      * @return JWT Access Token
      */
-    public String generateAccessToken(String email) {
+    public String generateAccessToken(User user, String planTier) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenValidity);
 
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_INVESTMENT_LEVEL, user.getInvestmentLevel().name())
+                .claim(CLAIM_PLAN, planTier)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -68,19 +99,53 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Access Token 검증 및 인증 정보 추출 (서명 검증과 파싱을 한 번에 수행)
+     * 사용자 ID 클레임이 없는 토큰(Refresh Token 등)은 Access Token으로 인정하지 않음
+     * 캐시에 있는 토큰은 검증 없이 캐시된 인증 정보를 반환 (토큰 만료 시각까지)
+     *
+     * @param token JWT 토큰
+     * @return 인증 사용자 정보 (유효하지 않으면 null)
+     */
+    public UserPrincipal parseAccessToken(String token) {
+        UserPrincipal cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String investmentLevel = claims.get(CLAIM_INVESTMENT_LEVEL, String.class);
+        if (userId == null || investmentLevel == null) {
+            log.warn("Access Token 클레임이 없는 JWT 토큰입니다");
+            return null;
+        }
+
+        UserPrincipal principal = UserPrincipal.of(
+                userId.longValue(),
+                claims.getSubject(),
+                InvestmentLevel.valueOf(investmentLevel),
+                claims.get(CLAIM_PLAN, String.class)
+        );
+        if (claims.getExpiration() != null) {
+            tokenCache.put(token, principal, claims.getExpiration().toInstant());
+        }
+        return principal;
+    }
+
     /**
      * 토큰에서 이메일 추출
      * @param token JWT 토큰
      * @return 사용자 이메일
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parser.parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
     }
 
     /**
@@ -89,12 +154,25 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * Refresh Token의 만료 시간 가져오기
+     * @return 만료 시간 (milliseconds)
+     */
+    public long getRefreshTokenValidity() {
+        return refreshTokenValidity;
+    }
+
+    /**
+     * 서명 검증 후 클레임 반환
+     * @param token JWT 토큰
+     * @return 클레임 (유효하지 않으면 null)
+     */
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SignatureException e) {
             log.warn("잘못된 JWT 서명입니다");
         } catch (SecurityException | MalformedJwtException e) {
@@ -108,14 +186,6 @@ public class JwtTokenProvider {
         } catch (Exception e) {
             log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
         }
-        return false;
-    }
-
-    /**
-     * Refresh Token의 만료 시간 가져오기
-     * @return 만료 시간 (milliseconds)
-     */
-    public long getRefreshTokenValidity() {
-        return refreshTokenValidity;
+        return null;
     }
 }
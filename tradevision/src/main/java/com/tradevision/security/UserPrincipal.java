@@ -1,5 +1,6 @@
 package com.tradevision.security;
 
+import com.tradevision.constant.InvestmentLevel;
 import com.tradevision.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -10,30 +11,51 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증된 사용자 정보
+ * 요청 인증 시에는 Access Token 클레임으로만 구성되므로 password/nickname은 비어 있음
+ */
 @Data
 @AllArgsConstructor
 public class UserPrincipal implements UserDetails {
 
+    private static final Collection<GrantedAuthority> USER_AUTHORITIES = Collections.singletonList(
+        new SimpleGrantedAuthority("ROLE_USER")
+    );
+
     private Long id;
     private String email;
     private String password;
     private String nickname;
+    private InvestmentLevel investmentLevel;
+    private String plan;
     private Collection<? extends GrantedAuthority> authorities;
 
     public static UserPrincipal create(User user) {
-        Collection<GrantedAuthority> authorities = Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_USER")
-        );
-
         return new UserPrincipal(
             user.getId(),
             user.getEmail(),
             user.getPassword(),
             user.getNickname(),
-            authorities
+            user.getInvestmentLevel(),
+            null,
+            USER_AUTHORITIES
         );
     }
 
+    /**
+     * Access Token 클레임으로 생성
+     *
+     * @param id              사용자 ID
+     * @param email           사용자 이메일
+     * @param investmentLevel 투자 경험 수준
+     * @param plan            구독 플랜 이름
+     * @return UserPrincipal
+     */
+    public static UserPrincipal of(Long id, String email, InvestmentLevel investmentLevel, String plan) {
+        return new UserPrincipal(id, email, null, null, investmentLevel, plan, USER_AUTHORITIES);
+    }
+
     @Override
     public String getUsername() {
         return email;
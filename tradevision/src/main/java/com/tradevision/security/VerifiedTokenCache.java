@@ -0,0 +1,149 @@
+package com.tradevision.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 Access Token 캐시
+ * 토큰 SHA-256 다이제스트 → 클레임으로 구성한 인증 정보
+ * 같은 브라우저 세션의 반복 요청에서 HMAC 서명 검증과 JSON 파싱을 생략
+ * 원문 토큰은 보관하지 않고, 토큰 만료 시각이 지나면 캐시에서도 무효
+ * 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목을 제거 (LRU, 저장당 O(1))
+ * 적중/미스 횟수는 hitCount/missCount로만 제공 (메트릭 레지스트리에는 등록하지 않음)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    });
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<TokenKey, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        // accessOrder = true: 가장 오래 사용되지 않은 토큰부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenKey, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 (만료된 항목은 제거)
+     *
+     * @param token JWT 토큰
+     * @return 인증 사용자 정보 (없거나 만료되었으면 null)
+     */
+    public UserPrincipal get(String token) {
+        if (!isEnabled()) {
+            return null;
+        }
+        TokenKey key = TokenKey.of(token);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(clock.millis())) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal();
+    }
+
+    /**
+     * 검증된 인증 정보 저장
+     *
+     * @param token     JWT 토큰
+     * @param principal 인증 사용자 정보
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void put(String token, UserPrincipal principal, Instant expiresAt) {
+        if (!isEnabled() || expiresAt == null) {
+            return;
+        }
+        TokenKey key = TokenKey.of(token);
+        Entry entry = new Entry(principal, expiresAt.toEpochMilli());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 캐시 사용 여부 (jwt.token-cache.max-entries = 0이면 사용 안 함)
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * 캐시 적중 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시 미스 횟수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (256비트를 long 4개로 보관해 비교/해시 비용 최소화)
+     */
+    private record TokenKey(long w0, long w1, long w2, long w3) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.tradevision.exception.ErrorCode;
 import com.tradevision.exception.UnauthorizedException;
 import com.tradevision.repository.RefreshTokenRepository;
 import com.tradevision.repository.UserRepository;
+import com.tradevision.repository.UserSubscriptionRepository;
 import com.tradevision.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -33,10 +34,16 @@ public class AuthService {
 
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
+    /**
+     * 활성 구독이 없는 사용자의 플랜
+     */
+    private static final String DEFAULT_PLAN = "FREE";
+
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserSubscriptionRepository subscriptionRepository;
 
     /**
      * 회원가입
@@ -97,7 +104,7 @@ public class AuthService {
         }
 
         // 3. Access Token 생성
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail());
+        String accessToken = jwtTokenProvider.generateAccessToken(user, resolvePlanTier(user.getId()));
 
         // 4. Refresh Token 생성
         String refreshTokenValue = jwtTokenProvider.generateRefreshToken(user.getEmail());
@@ -156,8 +163,8 @@ public class AuthService {
         // 4. 사용자 정보 가져오기
         User user = refreshToken.getUser();
 
-        // 5. 새 Access Token 생성
-        String newAccessToken = jwtTokenProvider.generateAccessToken(user.getEmail());
+        // 5. 새 Access Token 생성 (플랜 변경은 이 시점에 토큰에 반영)
+        String newAccessToken = jwtTokenProvider.generateAccessToken(user, resolvePlanTier(user.getId()));
 
         log.info("토큰 갱신 성공: {}", user.getEmail());
 
@@ -173,4 +180,16 @@ public class AuthService {
                         .build())
                 .build();
     }
+
+    /**
+     * Access Token 클레임에 담을 구독 플랜 이름
+     *
+     * @param userId 사용자 ID
+     * @return 활성 구독 플랜 이름 (없으면 FREE)
+     */
+    private String resolvePlanTier(Long userId) {
+        return subscriptionRepository.findActiveSubscriptionByUserId(userId)
+                .map(subscription -> subscription.getPlan().getName())
+                .orElse(DEFAULT_PLAN);
+    }
 }
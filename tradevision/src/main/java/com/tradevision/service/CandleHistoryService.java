@@ -0,0 +1,464 @@
+package com.tradevision.service;
+
+import com.tradevision.client.KISApiClient;
+import com.tradevision.constant.CandleType;
+import com.tradevision.dto.external.KISCandleResponse;
+import com.tradevision.dto.response.CandleSeriesResponse;
+import com.tradevision.entity.CandleSeries;
+import com.tradevision.exception.BusinessException;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.repository.StockCandleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캔들 이력 서비스
+ * 종목/캔들 타입별 OHLCV 시계열을 메모리(CandleSeries, LRU, 시계열당 최근 max-points개)에 유지하고 구간 조회를 메모리에서 처리
+ * - 메모리에 없는 과거 구간은 DB(stock_candles)에서 읽어 채우고, DB에도 없는 앞 구간은 KIS에서 받아 저장
+ * - 최신 구간은 캔들 타입별 동기화 주기마다 KIS에서 받아 DB에 upsert 후 병합
+ * - 5분/15분/60분봉은 1분봉을 재집계 (KIS 분봉 API는 당일 1분봉만 제공)
+ */
+@Service
+public class CandleHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleHistoryService.class);
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int PERIOD_PAGE_SIZE = 100;      // 기간별 시세 1회 최대 건수
+    private static final int MAX_PERIOD_PAGES = 20;
+    private static final int MAX_MINUTE_PAGES = 15;       // 30건씩, 정규장 390분
+    private static final LocalTime MARKET_OPEN = LocalTime.of(9, 0);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final KISApiClient kisApiClient;
+    private final StockCandleRepository candleRepository;
+    private final int maxPoints;
+    private final Duration intradaySyncInterval;
+    private final Duration periodSyncInterval;
+    private final Clock clock;
+    private final Map<SeriesKey, SeriesState> memory;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Set<SeriesKey> syncing = ConcurrentHashMap.newKeySet();  // KIS 수집 중인 시계열
+
+    @Autowired
+    public CandleHistoryService(
+            KISApiClient kisApiClient,
+            StockCandleRepository candleRepository,
+            @Value("${app.candles.max-series:1000}") int maxSeries,
+            @Value("${app.candles.max-points:2000}") int maxPoints,
+            @Value("${app.candles.intraday-sync-interval:30s}") Duration intradaySyncInterval,
+            @Value("${app.candles.period-sync-interval:5m}") Duration periodSyncInterval) {
+        this(kisApiClient, candleRepository, maxSeries, maxPoints, intradaySyncInterval, periodSyncInterval,
+                Clock.system(CandleSeries.KST));
+    }
+
+    CandleHistoryService(
+            KISApiClient kisApiClient,
+            StockCandleRepository candleRepository,
+            int maxSeries,
+            int maxPoints,
+            Duration intradaySyncInterval,
+            Duration periodSyncInterval,
+            Clock clock) {
+        this.kisApiClient = kisApiClient;
+        this.candleRepository = candleRepository;
+        this.maxPoints = maxPoints;
+        this.intradaySyncInterval = intradaySyncInterval;
+        this.periodSyncInterval = periodSyncInterval;
+        this.clock = clock;
+        // accessOrder = true: 가장 오래 조회되지 않은 시계열부터 제거
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SeriesKey, SeriesState> eldest) {
+                return size() > maxSeries;
+            }
+        };
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 캔들 구간 조회
+     *
+     * @param stockCode  종목 코드 (6자리)
+     * @param candleType 캔들 타입 (기본값: 일봉)
+     * @param from       시작 시각 (기본값: 캔들 타입별 기본 기간 전)
+     * @param to         종료 시각 (기본값: 현재)
+     * @return 캔들 이력 (최대 app.candles.max-points개, 최신 캔들 우선)
+     */
+    public CandleSeriesResponse getCandles(String stockCode, CandleType candleType,
+                                           LocalDateTime from, LocalDateTime to) {
+        CandleType targetCandleType = candleType != null ? candleType : CandleType.D;
+        CandleSeries series = getSeries(stockCode, targetCandleType, from, to);
+
+        return CandleSeriesResponse.builder()
+                .stockCode(stockCode)
+                .candleType(targetCandleType)
+                .count(series.size())
+                .timestamps(series.epochMillis())
+                .open(series.opens())
+                .high(series.highs())
+                .low(series.lows())
+                .close(series.closes())
+                .volume(series.volumes())
+                .build();
+    }
+
+    /**
+     * 캔들 구간 조회 (응답 변환 없이 시계열 그대로, 서버 내부 분석용)
+     *
+     * @param stockCode  종목 코드 (6자리)
+     * @param candleType 캔들 타입 (기본값: 일봉)
+     * @param from       시작 시각 (기본값: 캔들 타입별 기본 기간 전)
+     * @param to         종료 시각 (기본값: 현재)
+     * @return 캔들 시계열 (최대 app.candles.max-points개, 최신 캔들 우선)
+     */
+    public CandleSeries getSeries(String stockCode, CandleType candleType, LocalDateTime from, LocalDateTime to) {
+        if (stockCode == null || !stockCode.matches("^\\d{6}$")) {
+            throw new BusinessException(ErrorCode.INVALID_STOCK_CODE);
+        }
+
+        CandleType targetCandleType = candleType != null ? candleType : CandleType.D;
+        LocalDateTime rangeTo = to != null ? to : now();
+        LocalDateTime rangeFrom = from != null ? from : rangeTo.minus(defaultSpan(targetCandleType));
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "조회 시작 시각이 종료 시각보다 늦습니다");
+        }
+
+        return load(new SeriesKey(stockCode, targetCandleType), rangeFrom, rangeTo)
+                .slice(rangeFrom, rangeTo)
+                .last(maxPoints);
+    }
+
+    /**
+     * 이미 받아 둔 최근 캔들 조회 (KIS 호출 없음, 서버 내부 분석용)
+     * 메모리 시계열이 기본 조회 기간을 덮으면 메모리에서, 아니면 DB(stock_candles)에서 읽음
+     * 마지막 동기화 이후의 캔들은 없을 수 있으므로 결과의 마지막 캔들 시각으로 기준 시점을 확인
+     *
+     * @param stockCode  종목 코드 (6자리)
+     * @param candleType 캔들 타입
+     * @return 캔들 시계열 (최대 app.candles.max-points개, 최신 캔들 우선)
+     */
+    public CandleSeries getStoredSeries(String stockCode, CandleType candleType) {
+        if (stockCode == null || !stockCode.matches("^\\d{6}$")) {
+            throw new BusinessException(ErrorCode.INVALID_STOCK_CODE);
+        }
+
+        SeriesKey key = new SeriesKey(stockCode, candleType);
+        LocalDateTime rangeTo = now();
+        LocalDateTime rangeFrom = rangeTo.minus(defaultSpan(candleType));
+
+        SeriesState state = getState(key);
+        CandleSeries series = state != null && !rangeFrom.isBefore(state.coveredFrom())
+                ? state.series()
+                : candleRepository.findRange(stockCode, candleType, rangeFrom, rangeTo, maxPoints);
+        return series.slice(rangeFrom, rangeTo).last(maxPoints);
+    }
+
+    /**
+     * 기준 시각 직전 캔들 조회 (KIS 호출 없음, 보조지표 워밍업용)
+     * 메모리 시계열에 충분히 있으면 메모리에서, 아니면 DB(stock_candles)에서 읽음
+     *
+     * @param stockCode  종목 코드 (6자리)
+     * @param candleType 캔들 타입
+     * @param before     기준 시각 (제외)
+     * @param count      최대 캔들 수
+     * @return 기준 시각 이전 최근 count개 캔들 (시각 오름차순)
+     */
+    public CandleSeries getSeriesBefore(String stockCode, CandleType candleType, LocalDateTime before, int count) {
+        SeriesState state = getState(new SeriesKey(stockCode, candleType));
+        if (state != null && !state.series().isEmpty()) {
+            CandleSeries cached = state.series().slice(state.series().firstTime(), before.minusSeconds(1));
+            if (cached.size() >= count) {
+                return cached.last(count);
+            }
+        }
+        return candleRepository.findLastBefore(stockCode, candleType, before, count);
+    }
+
+    /**
+     * 요청 구간을 포함하도록 메모리 시계열을 채운 뒤 반환
+     * 잠금 안에서는 메모리/DB 조회와 병합만 하고, KIS 수집과 DB 저장은 잠금 밖에서 시계열당 한 요청만 수행
+     * (수집 중 들어온 요청은 기존 시계열로 응답, KIS 장애 시에도 메모리/DB에 있는 구간으로 응답)
+     */
+    private CandleSeries load(SeriesKey key, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime now = now();
+        SeriesState state;
+        boolean backfill;
+        boolean sync;
+        synchronized (lockFor(key)) {
+            state = getState(key);
+
+            // 1. 메모리보다 앞선 구간은 DB에서 채움 (최근 max-points개까지, 실제로 읽은 구간만 채운 것으로 기록)
+            if (state == null || from.isBefore(state.coveredFrom())) {
+                LocalDateTime gapEnd = state == null ? to : state.coveredFrom();
+                CandleSeries stored = candleRepository.findRange(key.stockCode(), key.candleType(), from, gapEnd, maxPoints);
+                CandleSeries base = state == null ? CandleSeries.empty() : state.series();
+                LocalDateTime coveredFrom = stored.isEmpty() ? gapEnd : stored.firstTime();
+                state = new SeriesState(base.merge(stored), coveredFrom, state == null ? null : state.syncedAt());
+                putState(key, trim(state));
+            }
+
+            // DB에도 없는 앞 구간은 KIS에서 받음 (이미 요청 구간의 max-points개를 채웠으면 생략)
+            backfill = from.isBefore(state.coveredFrom())
+                    && state.series().slice(from, to).size() < maxPoints;
+            sync = needsSync(state, key.candleType(), to, now);
+            if ((!backfill && !sync) || !syncing.add(key)) {
+                return state.series();
+            }
+        }
+
+        // 2. 앞 구간과 최신 구간을 KIS에서 받아 저장 (잠금 밖)
+        //    메모리가 비어 있으면 요청 구간 전체를 한 번에 받음
+        LocalDateTime syncTo = to.isBefore(now) ? to : now;
+        boolean empty = state.series().isEmpty();
+        CandleSeries fetched = CandleSeries.empty();
+        try {
+            if (empty) {
+                fetched = fetchFromKis(key, from, syncTo);
+            } else {
+                if (backfill) {
+                    fetched = fetched.merge(fetchFromKis(key, from, state.coveredFrom()));
+                }
+                if (sync) {
+                    fetched = fetched.merge(fetchFromKis(key, state.series().lastTime(), syncTo));
+                }
+            }
+            if (!fetched.isEmpty()) {
+                candleRepository.upsertAll(key.stockCode(), key.candleType(), fetched);
+            }
+        } catch (RuntimeException e) {
+            syncing.remove(key);
+            if (empty) {
+                throw e;
+            }
+            log.warn("KIS 캔들 동기화 실패, 저장된 캔들로 응답: {} ({}) - {}",
+                    key.stockCode(), key.candleType().getDisplayName(), e.getMessage());
+            return state.series();
+        }
+
+        // 3. 수집한 캔들을 최신 메모리 시계열에 병합 (수집 중 다른 요청이 DB 구간을 채웠을 수 있음)
+        boolean coveredToFrom = empty || backfill;
+        boolean synced = empty || sync;
+        synchronized (lockFor(key)) {
+            try {
+                SeriesState current = getState(key);
+                SeriesState base = current != null ? current : state;
+                LocalDateTime coveredFrom = coveredToFrom && from.isBefore(base.coveredFrom()) ? from : base.coveredFrom();
+                putState(key, trim(new SeriesState(base.series().merge(fetched), coveredFrom,
+                        synced ? now : base.syncedAt())));
+                return state.series().merge(fetched);
+            } finally {
+                syncing.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 메모리 시계열을 최근 app.candles.max-points개로 제한
+     * 잘라낸 구간은 다시 요청되면 DB에서 채우도록 coveredFrom을 남은 첫 캔들 시각으로 옮김
+     */
+    private SeriesState trim(SeriesState state) {
+        if (state.series().size() <= maxPoints) {
+            return state;
+        }
+        CandleSeries kept = state.series().last(maxPoints);
+        return new SeriesState(kept, kept.firstTime(), state.syncedAt());
+    }
+
+    /**
+     * KIS 동기화 필요 여부
+     * 동기화 주기가 지났고, 요청 구간이 메모리의 마지막 캔들 이후를 포함할 때
+     * (마지막 캔들은 진행 중일 수 있으므로 동기화 시 다시 받아 갱신)
+     */
+    private boolean needsSync(SeriesState state, CandleType candleType, LocalDateTime to, LocalDateTime now) {
+        if (state.syncedAt() != null
+                && Duration.between(state.syncedAt(), now).compareTo(syncInterval(candleType)) < 0) {
+            return false;
+        }
+        return state.series().isEmpty() || to.isAfter(state.series().lastTime());
+    }
+
+    /**
+     * KIS에서 캔들 수집
+     */
+    private CandleSeries fetchFromKis(SeriesKey key, LocalDateTime from, LocalDateTime to) {
+        return switch (key.candleType()) {
+            case D, W, M -> fetchPeriodCandles(key.stockCode(), key.candleType(), from.toLocalDate(), to.toLocalDate());
+            case M1 -> fetchTodayMinuteCandles(key.stockCode(), from, to);
+            case M5 -> fetchTodayMinuteCandles(key.stockCode(), alignDown(from, 5), to).aggregate(5);
+            case M15 -> fetchTodayMinuteCandles(key.stockCode(), alignDown(from, 15), to).aggregate(15);
+            case H1 -> fetchTodayMinuteCandles(key.stockCode(), alignDown(from, 60), to).aggregate(60);
+        };
+    }
+
+    /**
+     * 기간별(일/주/월봉) 캔들 수집 (최신순 100건씩, 종료 일자를 앞당기며 반복)
+     */
+    private CandleSeries fetchPeriodCandles(String stockCode, CandleType candleType, LocalDate from, LocalDate to) {
+        CandleSeries.Builder builder = CandleSeries.builder(PERIOD_PAGE_SIZE);
+        LocalDate end = to;
+
+        for (int page = 0; page < MAX_PERIOD_PAGES && !end.isBefore(from); page++) {
+            List<KISCandleResponse.Candle> candles = candles(kisApiClient.getPeriodCandles(stockCode, candleType, from, end));
+            LocalDate oldest = null;
+            for (KISCandleResponse.Candle candle : candles) {
+                if (isBlank(candle.getBusinessDate())) {
+                    continue;
+                }
+                LocalDate date = LocalDate.parse(candle.getBusinessDate(), DATE_FORMAT);
+                builder.add(date.atStartOfDay(),
+                        parseLong(candle.getOpenPrice()), parseLong(candle.getHighPrice()),
+                        parseLong(candle.getLowPrice()), parseLong(candle.getClosePrice()),
+                        parseLong(candle.getAccumulatedVolume()));
+                oldest = oldest == null || date.isBefore(oldest) ? date : oldest;
+            }
+            if (candles.size() < PERIOD_PAGE_SIZE || oldest == null) {
+                break;
+            }
+            end = oldest.minusDays(1);
+        }
+
+        CandleSeries series = builder.build();
+        log.info("KIS 기간별 캔들 수집: {} ({}) {}건", stockCode, candleType.getDisplayName(), series.size());
+        return series;
+    }
+
+    /**
+     * 당일 1분봉 수집 (기준 시각 이전 30건씩, 기준 시각을 앞당기며 반복)
+     * KIS는 당일 분봉만 제공하므로 구간이 오늘 이전이면 수집하지 않음
+     */
+    private CandleSeries fetchTodayMinuteCandles(String stockCode, LocalDateTime from, LocalDateTime to) {
+        LocalDate today = now().toLocalDate();
+        LocalDateTime start = from.isAfter(today.atTime(MARKET_OPEN)) ? from : today.atTime(MARKET_OPEN);
+        if (start.isAfter(to)) {
+            return CandleSeries.empty();
+        }
+
+        CandleSeries.Builder builder = CandleSeries.builder(64);
+        LocalTime until = to.toLocalTime();
+
+        for (int page = 0; page < MAX_MINUTE_PAGES; page++) {
+            List<KISCandleResponse.Candle> candles = candles(kisApiClient.getMinuteCandles(stockCode, until));
+            LocalDateTime oldest = null;
+            for (KISCandleResponse.Candle candle : candles) {
+                if (isBlank(candle.getBusinessDate()) || isBlank(candle.getTradeTime())) {
+                    continue;
+                }
+                LocalDateTime time = LocalDateTime.of(
+                        LocalDate.parse(candle.getBusinessDate(), DATE_FORMAT),
+                        LocalTime.parse(candle.getTradeTime(), TIME_FORMAT));
+                oldest = oldest == null || time.isBefore(oldest) ? time : oldest;
+                if (time.isBefore(start) || time.isAfter(to)) {
+                    continue;
+                }
+                builder.add(time,
+                        parseLong(candle.getOpenPrice()), parseLong(candle.getHighPrice()),
+                        parseLong(candle.getLowPrice()), parseLong(candle.getCurrentPrice()),
+                        parseLong(candle.getTradeVolume()));
+            }
+            if (oldest == null || !oldest.isAfter(start)) {
+                break;
+            }
+            until = oldest.toLocalTime().minusMinutes(1);
+        }
+
+        CandleSeries series = builder.build();
+        log.info("KIS 분봉 수집: {} {}건", stockCode, series.size());
+        return series;
+    }
+
+    private List<KISCandleResponse.Candle> candles(KISCandleResponse response) {
+        return response.getCandles() != null ? response.getCandles() : List.of();
+    }
+
+    private Duration syncInterval(CandleType candleType) {
+        return switch (candleType) {
+            case M1, M5, M15, H1 -> intradaySyncInterval;
+            case D, W, M -> periodSyncInterval;
+        };
+    }
+
+    /**
+     * 기간 미지정 시 기본 조회 기간
+     */
+    private Duration defaultSpan(CandleType candleType) {
+        return switch (candleType) {
+            case M1 -> Duration.ofDays(1);
+            case M5 -> Duration.ofDays(3);
+            case M15 -> Duration.ofDays(7);
+            case H1 -> Duration.ofDays(30);
+            case D -> Duration.ofDays(365);
+            case W -> Duration.ofDays(365 * 5);
+            case M -> Duration.ofDays(365 * 20);
+        };
+    }
+
+    private LocalDateTime alignDown(LocalDateTime time, int minutes) {
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+        return time.toLocalDate().atStartOfDay().plusMinutes(minuteOfDay - minuteOfDay % minutes);
+    }
+
+    private Object lockFor(SeriesKey key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    private SeriesState getState(SeriesKey key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    private void putState(SeriesKey key, SeriesState state) {
+        synchronized (memory) {
+            memory.put(key, state);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private long parseLong(String value) {
+        try {
+            return isBlank(value) ? 0L : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Long 변환 실패: {}", value);
+            return 0L;
+        }
+    }
+
+    private record SeriesKey(String stockCode, CandleType candleType) {
+    }
+
+    /**
+     * 메모리 시계열 상태
+     *
+     * @param series      캔들 시계열
+     * @param coveredFrom 메모리에 채운 가장 이른 시각 (이후 구간은 메모리에 있음)
+     * @param syncedAt    마지막 KIS 동기화 시각 (없으면 null)
+     */
+    private record SeriesState(CandleSeries series, LocalDateTime coveredFrom, LocalDateTime syncedAt) {
+    }
+}
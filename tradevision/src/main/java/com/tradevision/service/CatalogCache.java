@@ -0,0 +1,233 @@
+package com.tradevision.service;
+
+import com.tradevision.entity.LearningContent;
+import com.tradevision.repository.ContentModuleRepository;
+import com.tradevision.repository.LearningContentRepository;
+import com.tradevision.repository.TechniqueSummary;
+import com.tradevision.repository.TradingTechniqueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 학습 카탈로그 읽기 캐시
+ * 모듈/콘텐츠/매매기법은 건수가 작고 거의 바뀌지 않으므로 전체를 불변 스냅샷(CatalogSnapshot)으로 적재하고,
+ * 목록/필터 API는 DB 대신 스냅샷에서 응답
+ * 새 스냅샷은 별도로 만든 뒤 참조만 교체하므로 조회 중인 요청은 항상 한 버전의 일관된 데이터를 봄
+ * 검색/자동완성은 역색인(CatalogSearchIndex)에서 처리하며, 스냅샷 교체 시 검색 필드가 바뀐 항목만 다시 색인
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+
+    private final ContentModuleRepository moduleRepository;
+    private final LearningContentRepository contentRepository;
+    private final TradingTechniqueRepository techniqueRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final CatalogSearchIndex contentIndex = new CatalogSearchIndex();
+    private final CatalogSearchIndex techniqueIndex = new CatalogSearchIndex();
+
+    public CatalogCache(ContentModuleRepository moduleRepository,
+                        LearningContentRepository contentRepository,
+                        TradingTechniqueRepository techniqueRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.moduleRepository = moduleRepository;
+        this.contentRepository = contentRepository;
+        this.techniqueRepository = techniqueRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 현재 스냅샷 (아직 적재 전이면 적재 후 반환)
+     *
+     * @return 카탈로그 스냅샷
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            return snapshot != null ? snapshot : load();
+        }
+    }
+
+    /**
+     * 스냅샷 재적재 (app.catalog.refresh-interval-ms 주기)
+     * 카탈로그는 마이그레이션/운영 DB 작업으로만 바뀌므로 변경은 최대 이 주기만큼 늦게 반영됨
+     * 실패하면 기존 스냅샷을 계속 사용하고 다음 주기에 재시도
+     */
+    @Scheduled(initialDelayString = "${app.catalog.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.catalog.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            synchronized (this) {
+                load();
+            }
+        } catch (Exception e) {
+            log.warn("카탈로그 스냅샷 갱신 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 콘텐츠 검색 (제목/영문 제목/요약, BM25 순위)
+     *
+     * @param keyword 검색어 (비어 있으면 조회수순 전체)
+     * @return 콘텐츠 목록
+     */
+    public List<LearningContent> searchContents(String keyword) {
+        CatalogSnapshot snapshot = current();
+        if (keyword == null || keyword.isBlank()) {
+            return snapshot.popularContents();
+        }
+        return contentIndex.search(keyword).stream()
+                .map(snapshot::content)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * 기법 검색 (기법명/영문명/요약, BM25 순위)
+     *
+     * @param keyword 검색어 (비어 있으면 조회수순 전체)
+     * @return 기법 요약 목록
+     */
+    public List<TechniqueSummary> searchTechniques(String keyword) {
+        CatalogSnapshot snapshot = current();
+        if (keyword == null || keyword.isBlank()) {
+            return snapshot.popularTechniques();
+        }
+        return techniqueIndex.search(keyword).stream()
+                .map(snapshot::technique)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * 콘텐츠 제목 자동완성 (조회수순)
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수
+     * @return 제목 목록
+     */
+    public List<String> suggestContentTitles(String prefix, int limit) {
+        CatalogSnapshot snapshot = current();
+        return contentIndex.suggest(prefix).stream()
+                .map(snapshot::content)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(LearningContent::getViewCount,
+                        Comparator.nullsLast(Comparator.<Long>reverseOrder())))
+                .map(LearningContent::getTitle)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 기법명 자동완성 (조회수순)
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수
+     * @return 기법명 목록
+     */
+    public List<String> suggestTechniqueNames(String prefix, int limit) {
+        CatalogSnapshot snapshot = current();
+        return techniqueIndex.suggest(prefix).stream()
+                .map(snapshot::technique)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(TechniqueSummary::viewCount,
+                        Comparator.nullsLast(Comparator.<Long>reverseOrder())))
+                .map(TechniqueSummary::name)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    private CatalogSnapshot load() {
+        CatalogSnapshot snapshot = transactionTemplate.execute(status -> CatalogSnapshot.of(
+                versions.incrementAndGet(),
+                Instant.now(),
+                moduleRepository.findAllByIsActiveTrue(),
+                contentRepository.findAllActiveWithModule(),
+                techniqueRepository.findAllActiveSummaries()));
+        CatalogSnapshot previous = current.get();
+        reindexContents(previous, snapshot);
+        reindexTechniques(previous, snapshot);
+        current.set(snapshot);
+        log.debug("카탈로그 스냅샷 적재 - 버전: {}", snapshot.version());
+        return snapshot;
+    }
+
+    /**
+     * 새로 생겼거나 검색 필드가 바뀐 콘텐츠만 다시 색인하고, 빠진 콘텐츠는 색인에서 제거
+     */
+    private void reindexContents(CatalogSnapshot previous, CatalogSnapshot next) {
+        Set<Long> indexed = contentIndex.ids();
+        Set<Long> stale = new HashSet<>(indexed);
+        for (LearningContent content : next.popularContents()) {
+            stale.remove(content.getId());
+            List<CatalogSearchIndex.Field> fields = searchFields(content);
+            boolean unchanged = indexed.contains(content.getId()) && previous != null && previous.content(content.getId())
+                    .map(before -> Objects.equals(searchFields(before), fields))
+                    .orElse(false);
+            if (!unchanged) {
+                contentIndex.upsert(content.getId(), fields, List.of(nullToEmpty(content.getTitle()), nullToEmpty(content.getTitleEn())));
+            }
+        }
+        stale.forEach(contentIndex::remove);
+    }
+
+    /**
+     * 새로 생겼거나 검색 필드가 바뀐 기법만 다시 색인하고, 빠진 기법은 색인에서 제거
+     */
+    private void reindexTechniques(CatalogSnapshot previous, CatalogSnapshot next) {
+        Set<Long> indexed = techniqueIndex.ids();
+        Set<Long> stale = new HashSet<>(indexed);
+        for (TechniqueSummary technique : next.popularTechniques()) {
+            stale.remove(technique.id());
+            List<CatalogSearchIndex.Field> fields = searchFields(technique);
+            boolean unchanged = indexed.contains(technique.id()) && previous != null && previous.technique(technique.id())
+                    .map(before -> Objects.equals(searchFields(before), fields))
+                    .orElse(false);
+            if (!unchanged) {
+                techniqueIndex.upsert(technique.id(), fields, List.of(nullToEmpty(technique.name()), nullToEmpty(technique.nameEn())));
+            }
+        }
+        stale.forEach(techniqueIndex::remove);
+    }
+
+    private static List<CatalogSearchIndex.Field> searchFields(LearningContent content) {
+        return List.of(
+                new CatalogSearchIndex.Field(nullToEmpty(content.getTitle()), 3f),
+                new CatalogSearchIndex.Field(nullToEmpty(content.getTitleEn()), 2f),
+                new CatalogSearchIndex.Field(nullToEmpty(content.getSummary()), 1f));
+    }
+
+    private static List<CatalogSearchIndex.Field> searchFields(TechniqueSummary technique) {
+        return List.of(
+                new CatalogSearchIndex.Field(nullToEmpty(technique.name()), 3f),
+                new CatalogSearchIndex.Field(nullToEmpty(technique.nameEn()), 2f),
+                new CatalogSearchIndex.Field(nullToEmpty(technique.summary()), 1f));
+    }
+
+    private static String nullToEmpty(String text) {
+        return text != null ? text : "";
+    }
+}
@@ -0,0 +1,140 @@
+package com.tradevision.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수/좋아요/추천수 쓰기 지연(write-behind) 버퍼
+ * 상세 조회마다 같은 행에 UPDATE ... + 1 을 실행하면 인기 콘텐츠 행에서 락 경합이 생기므로,
+ * 요청 경로에서는 ID별 LongAdder에 더하기만 하고 주기적으로 카운터별 배치 UPDATE 한 번으로 반영
+ * 장애 시 유실 범위는 마지막 반영 이후 app.counters.flush-interval-ms 이내이며, 종료 시 남은 값을 반영
+ */
+@Slf4j
+@Component
+public class CatalogCounterBuffer {
+
+    /**
+     * 버퍼링 대상 카운터 (테이블/컬럼)
+     */
+    public enum Counter {
+        CONTENT_VIEW("learning_contents", "view_count"),
+        CONTENT_LIKE("learning_contents", "like_count"),
+        TECHNIQUE_VIEW("trading_techniques", "view_count");
+
+        private final String sql;
+
+        Counter(String table, String column) {
+            // 감소분이 섞여도 음수가 되지 않도록 0에서 멈춤 (기존 decrementLikeCount 의 likeCount > 0 조건과 동일)
+            this.sql = "UPDATE " + table + " SET " + column + " = GREATEST(" + column + " + ?, 0) WHERE id = ?";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Counter, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(Counter.class);
+
+    public CatalogCounterBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Counter counter : Counter.values()) {
+            pending.put(counter, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 카운터 1 증가
+     *
+     * @param counter 카운터
+     * @param id      대상 ID
+     */
+    public void increment(Counter counter, Long id) {
+        add(counter, id, 1);
+    }
+
+    /**
+     * 카운터 1 감소 (반영 시 0 미만으로 내려가지 않음)
+     *
+     * @param counter 카운터
+     * @param id      대상 ID
+     */
+    public void decrement(Counter counter, Long id) {
+        add(counter, id, -1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분
+     *
+     * @param counter 카운터
+     * @param id      대상 ID
+     * @return 미반영 증감분
+     */
+    public long pending(Counter counter, Long id) {
+        LongAdder adder = pending.get(counter).get(id);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 미반영 증감분을 카운터별 배치 UPDATE로 반영 (app.counters.flush-interval-ms 주기)
+     * 카운터별 배치는 한 트랜잭션으로 실행하여 일부 행만 반영된 채 실패하지 않도록 하고,
+     * 실패한 카운터의 증감분은 버퍼에 되돌려 다음 주기에 재시도 (롤백되었으므로 중복 반영 없음)
+     */
+    @Scheduled(initialDelayString = "${app.counters.flush-interval-ms:5000}",
+            fixedDelayString = "${app.counters.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        for (Counter counter : Counter.values()) {
+            List<Object[]> batch = drain(pending.get(counter));
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(counter.sql, batch));
+                log.debug("카운터 반영 - {}: {}건", counter, batch.size());
+            } catch (Exception e) {
+                log.warn("카운터 반영 실패, 다음 주기에 재시도 - {}: {}", counter, e.getMessage());
+                for (Object[] row : batch) {
+                    add(counter, (Long) row[1], (Long) row[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Counter counter, Long id, long delta) {
+        pending.get(counter).computeIfAbsent(id, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * ID별 증감분을 읽고 0으로 초기화 (sumThenReset 은 셀 단위 getAndSet 이라 동시 증가분을 잃지 않음)
+     * 카탈로그 ID 수는 작으므로 LongAdder 는 제거하지 않고 재사용
+     */
+    private List<Object[]> drain(ConcurrentHashMap<Long, LongAdder> counters) {
+        List<Object[]> batch = new ArrayList<>();
+        counters.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                batch.add(new Object[]{delta, id});
+            }
+        });
+        return batch;
+    }
+}
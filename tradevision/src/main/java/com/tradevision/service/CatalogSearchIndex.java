@@ -0,0 +1,257 @@
+package com.tradevision.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카탈로그 검색용 역색인 (BM25 순위, 자모 접두어 자동완성)
+ * 문서 단위로 추가/갱신/삭제할 수 있어 카탈로그가 바뀐 항목만 다시 색인
+ * 용어 사전이 정렬되어 있어 검색 비용은 전체 문서 수가 아니라 일치한 용어의 문서 수에 비례
+ */
+public class CatalogSearchIndex {
+
+    /**
+     * 색인 필드 (가중치는 필드 내 출현 빈도에 곱해짐 - 제목이 요약보다 높은 점수)
+     */
+    public record Field(String text, float weight) {
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * 자동완성 후보 최대 문서 수
+     */
+    private static final int MAX_SUGGESTIONS = 200;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final TreeMap<String, Set<Long>> suggestions = new TreeMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private double totalLength;
+
+    private record IndexedDocument(Map<String, Float> termWeights, double length, Set<String> suggestKeys) {
+    }
+
+    /**
+     * 문서 추가 또는 갱신
+     *
+     * @param id           문서 ID
+     * @param fields       검색 필드
+     * @param suggestTexts 자동완성 대상 텍스트 (제목 등)
+     */
+    public void upsert(Long id, List<Field> fields, List<String> suggestTexts) {
+        Map<String, Float> termWeights = new HashMap<>();
+        double length = 0;
+        for (Field field : fields) {
+            for (String term : SearchTokenizer.indexTerms(field.text())) {
+                termWeights.merge(term, field.weight(), Float::sum);
+                length += field.weight();
+            }
+        }
+
+        Set<String> suggestKeys = new HashSet<>();
+        for (String text : suggestTexts) {
+            addSuggestKeys(text, suggestKeys);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+            suggestKeys.forEach(key -> suggestions.computeIfAbsent(key, k -> new HashSet<>()).add(id));
+            documents.put(id, new IndexedDocument(termWeights, length, suggestKeys));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     *
+     * @param id 문서 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 ID
+     */
+    public Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (필수 토큰을 모두 포함하는 문서를 BM25 점수 내림차순으로 반환)
+     * 선택 토큰(어절의 두 번째 이후 bigram)은 일치한 문서의 점수에만 더함
+     *
+     * @param query 검색어
+     * @return 문서 ID 목록 (점수순, 동점이면 ID순)
+     */
+    public List<Long> search(String query) {
+        Set<SearchTokenizer.QueryTerm> queryTerms = new LinkedHashSet<>(SearchTokenizer.queryTerms(query));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = Math.max(totalLength / documents.size(), 1e-9);
+
+            Map<Long, Double> scores = null;
+            for (SearchTokenizer.QueryTerm queryTerm : queryTerms) {
+                if (!queryTerm.required()) {
+                    continue;
+                }
+                Map<Long, Double> termScores = score(queryTerm, averageLength);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // 필수 토큰을 모두 포함하는 문서만 유지 (AND)
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            for (SearchTokenizer.QueryTerm queryTerm : queryTerms) {
+                if (queryTerm.required()) {
+                    continue;
+                }
+                Map<Long, Double> found = scores;
+                score(queryTerm, averageLength).forEach((id, score) -> found.computeIfPresent(id, (key, sum) -> sum + score));
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자동완성 (제목 또는 제목 중간 단어가 입력으로 시작하는 문서)
+     *
+     * @param prefix 입력 중인 검색어
+     * @return 문서 ID 목록 (키 순서, 최대 MAX_SUGGESTIONS 건)
+     */
+    public Set<Long> suggest(String prefix) {
+        String key = SearchTokenizer.key(prefix);
+        if (key.isEmpty()) {
+            return Set.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (Set<Long> matched : prefixRange(suggestions, key).values()) {
+                ids.addAll(matched);
+                if (ids.size() >= MAX_SUGGESTIONS) {
+                    break;
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰 하나의 문서별 BM25 점수 (접두어 토큰은 펼쳐진 모든 용어의 문서 합집합, 문서별 최고 점수)
+     * 카탈로그 규모가 작아 짧은 접두어도 용어 수를 자르지 않음 (자르면 뒤쪽 용어의 문서가 AND 결과에서 빠짐)
+     */
+    private Map<Long, Double> score(SearchTokenizer.QueryTerm queryTerm, double averageLength) {
+        List<Map<Long, Float>> matched = new ArrayList<>();
+        if (queryTerm.prefix()) {
+            matched.addAll(prefixRange(postings, queryTerm.term()).values());
+        } else if (postings.containsKey(queryTerm.term())) {
+            matched.add(postings.get(queryTerm.term()));
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = documents.size();
+        for (Map<Long, Float> postingList : matched) {
+            double idf = Math.log(1 + (documentCount - postingList.size() + 0.5) / (postingList.size() + 0.5));
+            postingList.forEach((id, termFrequency) -> {
+                double length = documents.get(id).length();
+                double norm = termFrequency + K1 * (1 - B + B * length / averageLength);
+                double score = idf * termFrequency * (K1 + 1) / norm;
+                scores.merge(id, score, Math::max);
+            });
+        }
+        return scores;
+    }
+
+    private void removeInternal(Long id) {
+        IndexedDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        previous.termWeights().keySet().forEach(term -> {
+            Map<Long, Float> postingList = postings.get(term);
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        previous.suggestKeys().forEach(key -> {
+            Set<Long> ids = suggestions.get(key);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                suggestions.remove(key);
+            }
+        });
+        totalLength -= previous.length();
+    }
+
+    /**
+     * 제목 전체와 각 단어 시작 위치부터의 키를 등록 ("교차"로 "이동평균선 교차 전략" 자동완성)
+     */
+    private static void addSuggestKeys(String text, Set<String> keys) {
+        if (text == null) {
+            return;
+        }
+        boolean wordStart = true;
+        for (int i = 0; i < text.length(); i++) {
+            boolean letter = Character.isLetterOrDigit(text.charAt(i));
+            if (letter && wordStart) {
+                String key = SearchTokenizer.key(text.substring(i));
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                }
+            }
+            wordStart = !letter;
+        }
+    }
+
+    private static <V> NavigableMap<String, V> prefixRange(TreeMap<String, V> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+}
@@ -0,0 +1,256 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.ContentType;
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.constant.TechniqueCategory;
+import com.tradevision.entity.ContentModule;
+import com.tradevision.entity.LearningContent;
+import com.tradevision.repository.TechniqueSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 카탈로그(모듈/콘텐츠/매매기법) 불변 스냅샷
+ * 활성 항목만 담으며, 목록 API가 쓰는 정렬 순서대로 미리 정렬한 인덱스를 만들어 두어
+ * 조회 시에는 필터링/정렬 없이 잘라서(page) 반환
+ * 조회수 순 목록은 스냅샷 생성 시점 기준 (CatalogCache 갱신 주기만큼 늦을 수 있음)
+ */
+public final class CatalogSnapshot {
+
+    private static final Comparator<ContentModule> MODULE_ORDER =
+            Comparator.comparing(ContentModule::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<LearningContent> CONTENT_DISPLAY_ORDER =
+            Comparator.comparing(LearningContent::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<LearningContent> CONTENT_LATEST =
+            Comparator.comparing(LearningContent::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+    private static final Comparator<LearningContent> CONTENT_POPULAR =
+            Comparator.comparing(LearningContent::getViewCount, Comparator.nullsLast(Comparator.<Long>reverseOrder()));
+    private static final Comparator<TechniqueSummary> TECHNIQUE_LATEST =
+            Comparator.comparing(TechniqueSummary::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+    private static final Comparator<TechniqueSummary> TECHNIQUE_RECOMMENDED =
+            Comparator.comparing(TechniqueSummary::recommendationCount, Comparator.nullsLast(Comparator.<Long>reverseOrder()));
+    private static final Comparator<TechniqueSummary> TECHNIQUE_POPULAR =
+            Comparator.comparing(TechniqueSummary::viewCount, Comparator.nullsLast(Comparator.<Long>reverseOrder()));
+
+    private final long version;
+    private final Instant loadedAt;
+
+    // 모듈
+    private final Map<Long, ContentModule> modulesById;
+    private final List<ContentModule> modules;
+    private final List<ContentModule> requiredModules;
+    private final Map<InvestmentLevel, List<ContentModule>> modulesByDifficulty;
+    private final Map<TechniqueCategory, List<ContentModule>> modulesByCategory;
+
+    // 콘텐츠
+    private final Map<Long, LearningContent> contentsById;
+    private final Map<Long, List<LearningContent>> contentsByModule;
+    private final Map<ContentType, List<LearningContent>> contentsByType;
+    private final List<LearningContent> freeContents;
+    private final List<LearningContent> popularContents;
+
+    // 매매기법
+    private final Map<Long, TechniqueSummary> techniquesById;
+    private final List<TechniqueSummary> techniques;
+    private final Map<InvestmentLevel, List<TechniqueSummary>> techniquesByDifficulty;
+    private final Map<TechniqueCategory, List<TechniqueSummary>> techniquesByCategory;
+    private final List<TechniqueSummary> popularTechniques;
+
+    private CatalogSnapshot(long version, Instant loadedAt, Collection<ContentModule> moduleList,
+                            Collection<LearningContent> contentList, Collection<TechniqueSummary> techniqueList) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+
+        this.modulesById = moduleList.stream().collect(Collectors.toUnmodifiableMap(ContentModule::getId, Function.identity()));
+        this.modules = moduleList.stream().sorted(MODULE_ORDER).toList();
+        this.requiredModules = modules.stream().filter(module -> Boolean.TRUE.equals(module.getIsRequired())).toList();
+        this.modulesByDifficulty = groupBy(modules, ContentModule::getDifficultyLevel, InvestmentLevel.class);
+        this.modulesByCategory = groupBy(modules, ContentModule::getCategory, TechniqueCategory.class);
+
+        this.contentsById = contentList.stream().collect(Collectors.toUnmodifiableMap(LearningContent::getId, Function.identity()));
+        this.contentsByModule = contentList.stream()
+                .sorted(CONTENT_DISPLAY_ORDER)
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(content -> content.getModule().getId(), Collectors.toUnmodifiableList()),
+                        Map::copyOf));
+        this.contentsByType = groupBy(contentList.stream().sorted(CONTENT_LATEST).toList(),
+                LearningContent::getContentType, ContentType.class);
+        this.popularContents = contentList.stream().sorted(CONTENT_POPULAR).toList();
+        this.freeContents = popularContents.stream().filter(content -> Boolean.TRUE.equals(content.getIsFree())).toList();
+
+        this.techniquesById = techniqueList.stream().collect(Collectors.toUnmodifiableMap(TechniqueSummary::id, Function.identity()));
+        this.techniques = techniqueList.stream().sorted(TECHNIQUE_LATEST).toList();
+        this.techniquesByDifficulty = groupBy(techniqueList.stream().sorted(TECHNIQUE_RECOMMENDED).toList(),
+                TechniqueSummary::difficultyLevel, InvestmentLevel.class);
+        this.popularTechniques = techniqueList.stream().sorted(TECHNIQUE_POPULAR).toList();
+        this.techniquesByCategory = groupBy(popularTechniques, TechniqueSummary::category, TechniqueCategory.class);
+    }
+
+    /**
+     * 스냅샷 생성 (활성 항목만 전달)
+     *
+     * @param version    스냅샷 버전
+     * @param loadedAt   적재 시각
+     * @param modules    활성 모듈
+     * @param contents   활성 콘텐츠 (module이 초기화된 상태)
+     * @param techniques 활성 매매기법 요약
+     * @return 스냅샷
+     */
+    public static CatalogSnapshot of(long version, Instant loadedAt, Collection<ContentModule> modules,
+                                     Collection<LearningContent> contents, Collection<TechniqueSummary> techniques) {
+        return new CatalogSnapshot(version, loadedAt, modules, contents, techniques);
+    }
+
+    /**
+     * 미리 정렬된 목록을 페이지로 자름 (요청의 Sort는 무시하고 인덱스 순서를 유지 - 기존 고정 ORDER BY 쿼리와 동일)
+     *
+     * @param items    정렬된 목록
+     * @param pageable 페이징 정보
+     * @return 페이지
+     */
+    public static <T> Page<T> page(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(items, pageable, items.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public Optional<ContentModule> module(Long moduleId) {
+        return Optional.ofNullable(modulesById.get(moduleId));
+    }
+
+    /**
+     * 난이도/카테고리 필터 모듈 목록 (표시 순서)
+     *
+     * @param difficulty 난이도 (null이면 전체)
+     * @param category   카테고리 (null이면 전체)
+     */
+    public List<ContentModule> modules(InvestmentLevel difficulty, TechniqueCategory category) {
+        if (difficulty != null && category != null) {
+            return modulesByDifficulty.getOrDefault(difficulty, List.of()).stream()
+                    .filter(module -> module.getCategory() == category)
+                    .toList();
+        }
+        if (difficulty != null) {
+            return modulesByDifficulty.getOrDefault(difficulty, List.of());
+        }
+        if (category != null) {
+            return modulesByCategory.getOrDefault(category, List.of());
+        }
+        return modules;
+    }
+
+    public List<ContentModule> requiredModules() {
+        return requiredModules;
+    }
+
+    /**
+     * 모듈의 활성 콘텐츠 수
+     */
+    public long contentCount(Long moduleId) {
+        return contentsByModule.getOrDefault(moduleId, List.of()).size();
+    }
+
+    public Optional<LearningContent> content(Long contentId) {
+        return Optional.ofNullable(contentsById.get(contentId));
+    }
+
+    /**
+     * 모듈별 콘텐츠 (표시 순서)
+     */
+    public List<LearningContent> contentsByModule(Long moduleId) {
+        return contentsByModule.getOrDefault(moduleId, List.of());
+    }
+
+    /**
+     * 타입별 콘텐츠 (최신순)
+     */
+    public List<LearningContent> contentsByType(ContentType contentType) {
+        return contentsByType.getOrDefault(contentType, List.of());
+    }
+
+    /**
+     * 무료 콘텐츠 (조회수순)
+     */
+    public List<LearningContent> freeContents() {
+        return freeContents;
+    }
+
+    /**
+     * 전체 콘텐츠 (조회수순)
+     */
+    public List<LearningContent> popularContents() {
+        return popularContents;
+    }
+
+    public Optional<TechniqueSummary> technique(Long techniqueId) {
+        return Optional.ofNullable(techniquesById.get(techniqueId));
+    }
+
+    /**
+     * 전체 기법 (최신순)
+     */
+    public List<TechniqueSummary> techniques() {
+        return techniques;
+    }
+
+    /**
+     * 난이도별 기법 (추천수순)
+     */
+    public List<TechniqueSummary> techniquesByDifficulty(InvestmentLevel level) {
+        return techniquesByDifficulty.getOrDefault(level, List.of());
+    }
+
+    /**
+     * 난이도와 카테고리별 기법 (추천수순)
+     */
+    public List<TechniqueSummary> techniquesByDifficultyAndCategory(InvestmentLevel level, TechniqueCategory category) {
+        return techniquesByDifficulty(level).stream()
+                .filter(technique -> technique.category() == category)
+                .toList();
+    }
+
+    /**
+     * 카테고리별 기법 (조회수순)
+     */
+    public List<TechniqueSummary> techniquesByCategory(TechniqueCategory category) {
+        return techniquesByCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * 전체 기법 (조회수순)
+     */
+    public List<TechniqueSummary> popularTechniques() {
+        return popularTechniques;
+    }
+
+    private static <K extends Enum<K>, T> Map<K, List<T>> groupBy(List<T> sorted, Function<T, K> key, Class<K> keyType) {
+        Map<K, List<T>> grouped = sorted.stream()
+                .filter(item -> key.apply(item) != null)
+                .collect(Collectors.groupingBy(key, () -> new EnumMap<>(keyType), Collectors.toUnmodifiableList()));
+        return Collections.unmodifiableMap(grouped);
+    }
+}
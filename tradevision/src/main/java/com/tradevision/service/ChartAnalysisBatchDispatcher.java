@@ -0,0 +1,143 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.AnalysisStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 차트 일괄 분석 작업 분배기
+ * 일괄 분석 작업을 전용 스레드풀(batchAnalysisExecutor)에서 동시에 실행하되,
+ * 사용자별 동시 실행 수를 제한하여 한 사용자의 큰 일괄 분석이 다른 사용자를 밀어내지 않도록 함
+ * 사용자별 대기열에 쌓인 작업은 앞선 작업이 끝날 때마다 이어서 실행
+ * 실행 중인 작업도 대기 작업도 없는 사용자의 대기열은 제거
+ */
+@Component
+public class ChartAnalysisBatchDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ChartAnalysisBatchDispatcher.class);
+    private static final String REJECTED_MESSAGE = "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+
+    private final ChartAnalysisWorker chartAnalysisWorker;
+    private final ChartAnalysisProgressPublisher progressPublisher;
+    private final Executor executor;
+    private final int perUserConcurrency;
+    private final Map<Long, UserLane> lanes = new ConcurrentHashMap<>();
+
+    public ChartAnalysisBatchDispatcher(
+            ChartAnalysisWorker chartAnalysisWorker,
+            ChartAnalysisProgressPublisher progressPublisher,
+            @Qualifier("batchAnalysisExecutor") Executor executor,
+            @Value("${app.batch.per-user-concurrency:3}") int perUserConcurrency) {
+        this.chartAnalysisWorker = chartAnalysisWorker;
+        this.progressPublisher = progressPublisher;
+        this.executor = executor;
+        this.perUserConcurrency = perUserConcurrency;
+    }
+
+    /**
+     * 일괄 분석 작업 제출
+     *
+     * @param jobs 분석 작업 목록 (같은 사용자)
+     */
+    public void submit(List<ChartAnalysisJob> jobs) {
+        for (ChartAnalysisJob job : jobs) {
+            progressPublisher.publish(job.getAnalysisId(), AnalysisStage.STORED);
+            // 대기열 제거와 같은 잠금(맵 버킷) 안에서 추가하여 제거된 대기열에 작업이 들어가지 않도록 함
+            UserLane lane = lanes.compute(job.getUserId(), (userId, existing) -> {
+                UserLane target = existing != null ? existing : new UserLane(userId, perUserConcurrency);
+                target.queue.add(job);
+                return target;
+            });
+            drain(lane);
+        }
+    }
+
+    /**
+     * 대기열이 남아 있는 사용자 수
+     */
+    int laneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * 허용된 동시 실행 수만큼 대기열의 작업을 스레드풀에 제출
+     *
+     * @param lane 사용자별 대기열
+     */
+    private void drain(UserLane lane) {
+        while (lane.permits.tryAcquire()) {
+            ChartAnalysisJob job = lane.queue.poll();
+            if (job == null) {
+                lane.permits.release();
+                // 허가를 반납하는 사이에 추가된 작업이 있으면 다시 시도
+                if (lane.queue.isEmpty()) {
+                    removeIfIdle(lane);
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                executor.execute(() -> run(lane, job));
+            } catch (TaskRejectedException | RejectedExecutionException e) {
+                lane.permits.release();
+                log.warn("일괄 분석 작업 큐 포화로 작업 거부: analysisId={}", job.getAnalysisId());
+                chartAnalysisWorker.fail(job, REJECTED_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 작업과 대기 작업이 모두 없으면 사용자 대기열 제거
+     *
+     * @param lane 사용자별 대기열
+     */
+    private void removeIfIdle(UserLane lane) {
+        lanes.computeIfPresent(lane.userId, (userId, current) -> current == lane && lane.isIdle() ? null : current);
+    }
+
+    /**
+     * 작업 실행 후 허가를 반납하고 다음 작업 제출
+     */
+    private void run(UserLane lane, ChartAnalysisJob job) {
+        try {
+            chartAnalysisWorker.execute(job);
+        } finally {
+            lane.permits.release();
+            drain(lane);
+        }
+    }
+
+    /**
+     * 사용자별 대기열과 동시 실행 허가
+     */
+    private static class UserLane {
+        private final Long userId;
+        private final int perUserConcurrency;
+        private final Queue<ChartAnalysisJob> queue = new ConcurrentLinkedQueue<>();
+        private final Semaphore permits;
+
+        private UserLane(Long userId, int perUserConcurrency) {
+            this.userId = userId;
+            this.perUserConcurrency = perUserConcurrency;
+            this.permits = new Semaphore(perUserConcurrency);
+        }
+
+        private boolean isIdle() {
+            return queue.isEmpty() && permits.availablePermits() == perUserConcurrency;
+        }
+    }
+}
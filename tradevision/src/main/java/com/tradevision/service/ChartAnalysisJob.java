@@ -0,0 +1,40 @@
+package com.tradevision.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 차트 분석 작업
+ * 요청 스레드에서 PENDING 상태로 저장된 분석을 워커에게 넘기기 위한 작업 정보
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ChartAnalysisJob {
+
+    /**
+     * 분석 ID (PENDING 상태로 저장된 ChartAnalysis)
+     */
+    private final Long analysisId;
+
+    /**
+     * 사용자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 저장된 차트 이미지 경로
+     */
+    private final String imagePath;
+
+    /**
+     * 분석 요청 지문 (완료 시 결과 캐시 키)
+     */
+    private final String contentHash;
+
+    /**
+     * AI 분석 프롬프트
+     */
+    private final String prompt;
+}
@@ -0,0 +1,246 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.AnalysisStage;
+import com.tradevision.dto.response.AnalysisProgressEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 차트 분석 진행 상황 SSE 발행기
+ * 분석 ID별 구독자(SseEmitter)를 관리하고 워커가 보내는 단계 전환/AI 응답 조각을 전달
+ * SseEmitter는 서블릿 비동기 모드로 동작하므로 연결 유지 중에 요청 스레드를 점유하지 않음
+ * 채널은 구독자가 있는 동안에만 유지하며, 구독자가 없는 분석의 이벤트와 응답 조각은 버림
+ * 전송은 채널 잠금 밖에서 구독자별 잠금으로 순서를 지켜 수행하여, 느린 구독자가 채널 전체를 막지 않도록 함
+ */
+@Component
+public class ChartAnalysisProgressPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ChartAnalysisProgressPublisher.class);
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    @Value("${app.analysis-stream.timeout-ms:120000}")
+    private long emitterTimeoutMs;
+
+    /**
+     * 분석 진행 스트림 구독
+     * 구독 중에 진행된 마지막 단계와 지금까지 받은 AI 응답을 먼저 재전송
+     *
+     * @param analysisId 분석 ID
+     * @return SSE Emitter
+     */
+    public SseEmitter subscribe(Long analysisId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        emitter.onCompletion(() -> unsubscribe(analysisId, emitter));
+        emitter.onTimeout(() -> {
+            unsubscribe(analysisId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe(analysisId, emitter));
+
+        // 재전송이 끝나기 전에 워커의 이벤트가 먼저 전송되지 않도록 구독자 잠금을 쥔 채 등록
+        synchronized (emitter) {
+            List<AnalysisProgressEvent> replay = new ArrayList<>();
+            // 채널 생성/구독자 추가를 원자적으로 처리 (동시에 마지막 구독자가 떠나며 채널이 제거되는 경우 방지)
+            Channel channel = channels.compute(analysisId, (id, existing) -> {
+                Channel target = existing != null ? existing : new Channel();
+                synchronized (target) {
+                    target.emitters.add(emitter);
+                    replay.addAll(replayEvents(target, id));
+                }
+                return target;
+            });
+
+            for (AnalysisProgressEvent event : replay) {
+                send(analysisId, emitter, event);
+            }
+            log.debug("분석 진행 스트림 구독: analysisId={}, subscribers={}", analysisId, channel.emitters.size());
+        }
+        return emitter;
+    }
+
+    /**
+     * 단계 전환 이벤트 발행
+     * 종료 단계(SAVED, FAILED)면 모든 구독을 종료
+     *
+     * @param analysisId 분석 ID
+     * @param stage      진행 단계
+     */
+    public void publish(Long analysisId, AnalysisStage stage) {
+        publish(analysisId, stage, stage.getDescription());
+    }
+
+    /**
+     * 단계 전환 이벤트 발행 (메시지 지정)
+     *
+     * @param analysisId 분석 ID
+     * @param stage      진행 단계
+     * @param message    단계 설명 메시지
+     */
+    public void publish(Long analysisId, AnalysisStage stage, String message) {
+        if (stage.isTerminal()) {
+            Channel channel = channels.remove(analysisId);
+            if (channel == null) {
+                return;
+            }
+            List<SseEmitter> targets;
+            synchronized (channel) {
+                targets = List.copyOf(channel.emitters);
+                channel.emitters.clear();
+            }
+            AnalysisProgressEvent event = buildEvent(analysisId, stage, message, null);
+            for (SseEmitter emitter : targets) {
+                synchronized (emitter) {
+                    sendAndComplete(emitter, event);
+                }
+            }
+            return;
+        }
+
+        Channel channel = channels.get(analysisId);
+        if (channel == null) {
+            return;
+        }
+        AnalysisProgressEvent event = buildEvent(analysisId, stage, message, null);
+        List<SseEmitter> targets;
+        synchronized (channel) {
+            channel.lastEvent = event;
+            targets = List.copyOf(channel.emitters);
+        }
+        broadcast(analysisId, targets, event);
+    }
+
+    /**
+     * AI 응답 조각 발행
+     *
+     * @param analysisId 분석 ID
+     * @param token      응답 조각
+     */
+    public void publishToken(Long analysisId, String token) {
+        Channel channel = channels.get(analysisId);
+        if (channel == null) {
+            return;
+        }
+        AnalysisProgressEvent event = buildEvent(analysisId, AnalysisStage.TOKEN, null, token);
+        List<SseEmitter> targets;
+        synchronized (channel) {
+            channel.receivedTokens.append(token);
+            targets = List.copyOf(channel.emitters);
+        }
+        broadcast(analysisId, targets, event);
+    }
+
+    /**
+     * 이미 종료된 분석의 마지막 이벤트를 보내고 스트림 종료
+     *
+     * @param emitter    SSE Emitter
+     * @param analysisId 분석 ID
+     * @param stage      종료 단계 (SAVED, FAILED)
+     * @param message    단계 설명 메시지
+     */
+    public void completeImmediately(SseEmitter emitter, Long analysisId, AnalysisStage stage, String message) {
+        unsubscribe(analysisId, emitter);
+        synchronized (emitter) {
+            sendAndComplete(emitter, buildEvent(analysisId, stage, message, null));
+        }
+    }
+
+    /**
+     * 구독 중인 분석 수
+     */
+    int activeChannelCount() {
+        return channels.size();
+    }
+
+    /**
+     * 구독 해제, 마지막 구독자였으면 채널과 버퍼링한 응답도 제거
+     */
+    void unsubscribe(Long analysisId, SseEmitter emitter) {
+        channels.computeIfPresent(analysisId, (id, channel) -> {
+            synchronized (channel) {
+                if (!channel.emitters.remove(emitter) || !channel.emitters.isEmpty()) {
+                    return channel;
+                }
+            }
+            return null;
+        });
+    }
+
+    private void broadcast(Long analysisId, List<SseEmitter> targets, AnalysisProgressEvent event) {
+        for (SseEmitter emitter : targets) {
+            synchronized (emitter) {
+                send(analysisId, emitter, event);
+            }
+        }
+    }
+
+    /**
+     * 새 구독자에게 재전송할 현재까지의 진행 상황 (채널 잠금 안에서 호출)
+     */
+    private List<AnalysisProgressEvent> replayEvents(Channel channel, Long analysisId) {
+        List<AnalysisProgressEvent> events = new ArrayList<>(2);
+        if (channel.lastEvent != null) {
+            events.add(channel.lastEvent);
+        }
+        if (channel.receivedTokens.length() > 0) {
+            events.add(buildEvent(analysisId, AnalysisStage.TOKEN, null, channel.receivedTokens.toString()));
+        }
+        return events;
+    }
+
+    private void send(Long analysisId, SseEmitter emitter, AnalysisProgressEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.getStage().name())
+                    .data(event));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 - 구독 해제
+            log.debug("분석 진행 스트림 전송 실패, 구독 해제: {}", e.getMessage());
+            unsubscribe(analysisId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendAndComplete(SseEmitter emitter, AnalysisProgressEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.getStage().name())
+                    .data(event));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("분석 진행 스트림 종료 이벤트 전송 실패: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private AnalysisProgressEvent buildEvent(Long analysisId, AnalysisStage stage, String message, String token) {
+        return AnalysisProgressEvent.builder()
+                .analysisId(analysisId)
+                .stage(stage)
+                .message(message)
+                .token(token)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 분석 하나에 대한 구독 채널 (상태 변경은 채널 잠금 안에서 수행)
+     */
+    private static class Channel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final StringBuilder receivedTokens = new StringBuilder();
+        private AnalysisProgressEvent lastEvent;
+    }
+}
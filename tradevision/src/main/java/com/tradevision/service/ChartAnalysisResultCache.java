@@ -0,0 +1,99 @@
+package com.tradevision.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 차트 분석 결과 캐시 (LRU + TTL)
+ * 분석 요청 지문(이미지 해시 + 종목 + 캔들 타입 + 프롬프트 버전) → AI 분석 결과 JSON
+ * 같은 스크린샷 재업로드 시 OpenAI 호출 없이 저장된 결과를 재사용
+ */
+@Component
+public class ChartAnalysisResultCache {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    public ChartAnalysisResultCache(
+            @Value("${app.analysis-cache.max-entries:1000}") int maxEntries,
+            @Value("${app.analysis-cache.ttl:24h}") Duration ttl) {
+        this(maxEntries, ttl, Clock.systemDefaultZone());
+    }
+
+    ChartAnalysisResultCache(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        // accessOrder = true: 가장 오래 사용되지 않은 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ChartAnalysisResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 분석 결과 조회 (만료된 항목은 제거)
+     *
+     * @param fingerprint 분석 요청 지문
+     * @return 분석 결과 JSON
+     */
+    public synchronized Optional<String> get(String fingerprint) {
+        Entry entry = entries.get(fingerprint);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt.isBefore(clock.instant())) {
+            entries.remove(fingerprint);
+            return Optional.empty();
+        }
+        return Optional.of(entry.analysisResult);
+    }
+
+    /**
+     * 분석 결과 저장
+     *
+     * @param fingerprint    분석 요청 지문
+     * @param analysisResult 분석 결과 JSON
+     */
+    public synchronized void put(String fingerprint, String analysisResult) {
+        entries.put(fingerprint, new Entry(analysisResult, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * 결과 재사용 기준 시점 (이보다 오래된 DB 결과는 재사용하지 않음)
+     *
+     * @return 현재 시각 - TTL
+     */
+    public LocalDateTime reusableSince() {
+        return LocalDateTime.now(clock).minus(ttl);
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final String analysisResult;
+        private final Instant expiresAt;
+
+        private Entry(String analysisResult, Instant expiresAt) {
+            this.analysisResult = analysisResult;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.tradevision.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradevision.client.OpenAIClient;
-import com.tradevision.constant.CandleType;
+import com.tradevision.constant.AnalysisMode;
+import com.tradevision.constant.AnalysisStage;
+import com.tradevision.constant.AnalysisStatus;
+import com.tradevision.constant.UsagePeriod;
+import com.tradevision.dto.request.ChartAnalysisBatchRequest;
 import com.tradevision.dto.request.ChartAnalysisRequest;
+import com.tradevision.dto.response.ChartAnalysisBatchResponse;
 import com.tradevision.dto.response.ChartAnalysisResponse;
 import com.tradevision.entity.ChartAnalysis;
+import com.tradevision.entity.UsageTracking;
 import com.tradevision.entity.User;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
@@ -16,28 +23,24 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * 차트 분석 서비스
- * 이미지 업로드, AI 분석, 히스토리 관리
+ * 이미지 업로드, AI 분석 작업 접수, 히스토리 관리
  */
 @Service
 @RequiredArgsConstructor
@@ -50,20 +53,31 @@ public class ChartAnalysisService {
     private final ChartAnalysisRepository chartAnalysisRepository;
     private final UserRepository userRepository;
     private final OpenAIClient openAIClient;
+    private final ChartAnalysisWorker chartAnalysisWorker;
+    private final ChartAnalysisBatchDispatcher chartAnalysisBatchDispatcher;
+    private final ChartAnalysisProgressPublisher progressPublisher;
+    private final ChartImageStorage chartImageStorage;
+    private final ChartImagePreprocessor chartImagePreprocessor;
+    private final ChartAnalysisResultCache analysisResultCache;
+    private final ChartPatternDetector chartPatternDetector;
+    private final UsageCounterService usageCounterService;
     private final ObjectMapper objectMapper;
 
-    @Value("${app.upload.dir:uploads/charts}")
-    private String uploadDir;
-
     @Value("${app.daily-analysis-limit:10}")
     private int dailyAnalysisLimit;
 
+    @Value("${app.batch.max-items:20}")
+    private int maxBatchItems;
+
     /**
      * 차트 이미지 분석 요청
+     * 이미지를 저장하고 PENDING 상태의 분석을 생성한 뒤 즉시 반환
+     * 실제 AI 분석은 트랜잭션 커밋 후 ChartAnalysisWorker가 비동기로 수행
+     * 같은 이미지/종목/캔들 타입의 완료된 결과가 있으면 OpenAI 호출 없이 재사용
      *
      * @param request 분석 요청 정보
      * @param userId  사용자 ID
-     * @return 분석 결과
+     * @return 접수된 분석 (status = PENDING)
      */
     @Transactional
     public ChartAnalysisResponse analyzeChart(ChartAnalysisRequest request, Long userId) {
@@ -73,53 +87,207 @@ public class ChartAnalysisService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
-        // 2. 일일 분석 횟수 확인
-        checkDailyLimit(userId);
-
-        // 3. 이미지 유효성 검증
+        // 2. 이미지 유효성 검증 (잘못된 요청은 한도를 예약하기 전에 거부)
         MultipartFile chartImage = request.getChartImage();
         validateImage(chartImage);
 
-        // 4. 이미지 저장
-        String imagePath = saveImage(chartImage, userId);
+        // 3. 일일 분석 한도 예약 (트랜잭션 롤백 시 함께 취소, 분석 실패 시 워커가 반환)
+        reserveDailyQuota(userId, 1);
 
-        try {
-            // 5. 이미지를 Base64로 인코딩
-            String base64Image = encodeImageToBase64(chartImage);
-
-            // 6. AI 분석 프롬프트 생성
-            String prompt = openAIClient.buildChartAnalysisPrompt(
-                    request.getStockCode(),
-                    request.getStockName(),
-                    request.getCandleType().getDisplayName()
-            );
+        // 4. 같은 사용자가 같은 요청을 이미 했다면 기존 분석 반환 (재시도/새로고침)
+        //    아니면 이미지 저장 후 분석 생성 (캐시된 결과가 있으면 바로 완료)
+        Submission submission = submit(request, user, null, true);
 
-            // 7. OpenAI API 호출하여 분석
-            String analysisResultJson = openAIClient.analyzeChart(base64Image, prompt);
+        // 5. 커밋 후 워커에 작업 제출
+        if (submission.job() != null) {
+            ChartAnalysisJob job = submission.job();
+            dispatchAfterCommit(() -> dispatch(job));
+            log.info("차트 분석 작업 접수: analysisId={}", job.getAnalysisId());
+        }
 
-            // 8. 분석 결과 저장
-            ChartAnalysis analysis = ChartAnalysis.builder()
-                    .user(user)
-                    .stockCode(request.getStockCode())
-                    .stockName(request.getStockName())
-                    .candleType(request.getCandleType())
-                    .imagePath(imagePath)
-                    .analysisResult(analysisResultJson)
-                    .build();
+        // 6. 응답 DTO 변환
+        return convertToResponse(submission.analysis());
+    }
 
-            ChartAnalysis savedAnalysis = chartAnalysisRepository.save(analysis);
+    /**
+     * 차트 일괄 분석 요청
+     * 일일 한도는 일괄 분석 전체에 대해 한 번에 예약하고,
+     * 각 차트는 같은 batchId로 저장된 뒤 전용 스레드풀에서 사용자별 동시 실행 수 제한 하에 분석됨
+     *
+     * @param request 일괄 분석 요청
+     * @param userId  사용자 ID
+     * @return 일괄 분석 ID와 차트별 상태
+     */
+    @Transactional
+    public ChartAnalysisBatchResponse analyzeBatch(ChartAnalysisBatchRequest request, Long userId) {
+        int itemCount = request.size();
+        log.info("차트 일괄 분석 요청: userId={}, count={}", userId, itemCount);
+
+        // 1. 사용자 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
-            log.info("차트 분석 완료: analysisId={}", savedAnalysis.getId());
+        // 2. 요청 형식 확인
+        if (itemCount == 0 || !request.hasConsistentSizes()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        if (itemCount > maxBatchItems) {
+            throw new BusinessException(ErrorCode.BATCH_SIZE_EXCEEDED);
+        }
 
-            // 9. 응답 DTO 변환
-            return convertToResponse(savedAnalysis);
+        // 3. 모든 이미지 유효성 검증 (하나라도 잘못되면 한도를 예약하기 전에 전체 거부)
+        List<ChartAnalysisRequest> itemRequests = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            ChartAnalysisRequest itemRequest = request.toItemRequest(i);
+            if (itemRequest.getCandleType() == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+            validateImage(itemRequest.getChartImage());
+            itemRequests.add(itemRequest);
+        }
 
-        } catch (Exception e) {
-            // 분석 실패 시 업로드된 이미지 삭제
-            deleteImageFile(imagePath);
-            log.error("차트 분석 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.AI_ANALYSIS_FAILED);
+        // 4. 일일 분석 한도 예약 (일괄 분석 전체를 한 번에) 후 접수
+        reserveDailyQuota(userId, itemCount);
+
+        String batchId = UUID.randomUUID().toString();
+        List<ChartAnalysis> analyses = new ArrayList<>(itemCount);
+        List<ChartAnalysisJob> jobs = new ArrayList<>();
+        for (ChartAnalysisRequest itemRequest : itemRequests) {
+            Submission submission = submit(itemRequest, user, batchId, false);
+            analyses.add(submission.analysis());
+            if (submission.job() != null) {
+                jobs.add(submission.job());
+            }
+        }
+
+        // 5. 커밋 후 일괄 분석 분배기에 작업 제출
+        if (!jobs.isEmpty()) {
+            dispatchAfterCommit(() -> chartAnalysisBatchDispatcher.submit(jobs));
+        }
+
+        log.info("차트 일괄 분석 접수: batchId={}, count={}, queued={}", batchId, itemCount, jobs.size());
+
+        return convertToBatchResponse(batchId, analyses);
+    }
+
+    /**
+     * 일괄 분석 진행 상황 조회
+     *
+     * @param batchId 일괄 분석 ID
+     * @param userId  사용자 ID
+     * @return 일괄 분석 ID와 차트별 상태
+     */
+    @Transactional(readOnly = true)
+    public ChartAnalysisBatchResponse getBatch(String batchId, Long userId) {
+        List<ChartAnalysis> analyses = chartAnalysisRepository.findByBatchIdAndUserIdOrderByIdAsc(batchId, userId);
+        if (analyses.isEmpty()) {
+            throw new ResourceNotFoundException(ErrorCode.ANALYSIS_NOT_FOUND);
+        }
+        return convertToBatchResponse(batchId, analyses);
+    }
+
+    /**
+     * 차트 한 건 접수
+     * 이미지를 저장하고, 캐시된 결과가 있으면 완료 상태로, 없으면 PENDING 상태로 분석을 저장
+     *
+     * @param request        분석 요청 정보 (유효성 검증 완료)
+     * @param user           사용자
+     * @param batchId        일괄 분석 ID (단건이면 null)
+     * @param reuseOwnResult 같은 사용자의 같은 요청이 있으면 새로 만들지 않고 반환할지 여부
+     * @return 저장된 분석과 워커에 넘길 작업 (분석이 필요 없으면 job = null)
+     */
+    private Submission submit(ChartAnalysisRequest request, User user, String batchId, boolean reuseOwnResult) {
+        MultipartFile chartImage = request.getChartImage();
+
+        // 1. 종목 코드가 있으면 시세 데이터로 패턴 감지 (FAST는 감지 결과가 있을 때만 적용)
+        Optional<PatternDetection> detection = request.getStockCode() != null
+                ? chartPatternDetector.detect(request.getStockCode(), request.getCandleType())
+                : Optional.empty();
+        boolean fastMode = request.getAnalysisMode() == AnalysisMode.FAST && detection.isPresent();
+        if (request.getAnalysisMode() == AnalysisMode.FAST && !fastMode) {
+            log.info("시세 데이터가 없어 빠른 분석 대신 AI 분석으로 처리: stockCode={}", request.getStockCode());
         }
+
+        // 2. AI 분석 프롬프트 생성 (감지 결과가 있으면 참고 수치로 포함)
+        String prompt = fastMode ? null : detection
+                .map(result -> openAIClient.buildChartAnalysisPrompt(
+                        request.getStockCode(),
+                        request.getStockName(),
+                        request.getCandleType().getDisplayName(),
+                        result.toPromptHints()))
+                .orElseGet(() -> openAIClient.buildChartAnalysisPrompt(
+                        request.getStockCode(),
+                        request.getStockName(),
+                        request.getCandleType().getDisplayName()));
+
+        // 3. 이미지 저장 (내용 해시 경로, 동일 이미지는 한 번만 저장)
+        // FAST 결과는 이미지가 아닌 시세에서 나오므로 감지에 쓴 마지막 캔들 시각을 지문에 포함 (새 캔들이 생기면 다시 감지)
+        StoredChartImage storedImage = chartImageStorage.store(chartImage);
+        String contentHash = chartImageStorage.fingerprint(
+                storedImage.getImageHash(),
+                request.getStockCode(),
+                request.getCandleType().name(),
+                fastMode
+                        ? ChartPatternDetector.VERSION + "@" + detection.get().lastCandleTime()
+                        : OpenAIClient.PROMPT_VERSION
+        );
+
+        // 4. 같은 사용자가 같은 요청을 이미 했다면 기존 분석 반환 (재시도/새로고침)
+        if (reuseOwnResult) {
+            Optional<ChartAnalysis> existing = chartAnalysisRepository
+                    .findFirstByUserIdAndContentHashAndStatusNotOrderByIdDesc(
+                            user.getId(), contentHash, AnalysisStatus.FAILED);
+            if (existing.isPresent()) {
+                log.info("동일한 분석 요청이 이미 존재하여 재사용: analysisId={}", existing.get().getId());
+                // 새 분석을 만들지 않으므로 미리 예약한 한도 반환 (같은 트랜잭션)
+                usageCounterService.release(user.getId(), UsageTracking.ACTION_CHART_ANALYSIS, 1);
+                return new Submission(existing.get(), null);
+            }
+        }
+
+        ChartAnalysis analysis = ChartAnalysis.builder()
+                .user(user)
+                .batchId(batchId)
+                .stockCode(request.getStockCode())
+                .stockName(request.getStockName())
+                .candleType(request.getCandleType())
+                .imagePath(storedImage.getPath())
+                .contentHash(contentHash)
+                .status(AnalysisStatus.PENDING)
+                .build();
+
+        // 5. 빠른 분석은 감지 결과로 바로 완료 처리 (OpenAI 호출 없음)
+        if (fastMode) {
+            analysis.complete(toJson(detection.get().toAnalysisResult()));
+            analysis.updateThumbnail(chartImagePreprocessor.createThumbnail(storedImage.getPath()));
+            ChartAnalysis savedAnalysis = chartAnalysisRepository.save(analysis);
+            log.info("시세 기반 빠른 분석 완료: analysisId={}, pattern={}",
+                    savedAnalysis.getId(), detection.get().pattern());
+            return new Submission(savedAnalysis, null);
+        }
+
+        // 6. 다른 요청에서 이미 완료된 결과가 있으면 OpenAI 호출 없이 바로 완료 처리
+        Optional<String> cachedResult = findReusableResult(contentHash);
+        if (cachedResult.isPresent()) {
+            analysis.complete(cachedResult.get());
+            analysis.updateThumbnail(chartImagePreprocessor.createThumbnail(storedImage.getPath()));
+            ChartAnalysis savedAnalysis = chartAnalysisRepository.save(analysis);
+            log.info("캐시된 분석 결과 재사용: analysisId={}", savedAnalysis.getId());
+            return new Submission(savedAnalysis, null);
+        }
+
+        // 7. PENDING 상태로 분석 저장
+        ChartAnalysis savedAnalysis = chartAnalysisRepository.save(analysis);
+
+        ChartAnalysisJob job = ChartAnalysisJob.builder()
+                .analysisId(savedAnalysis.getId())
+                .userId(user.getId())
+                .imagePath(storedImage.getPath())
+                .contentHash(contentHash)
+                .prompt(prompt)
+                .build();
+
+        return new Submission(savedAnalysis, job);
     }
 
     /**
@@ -157,19 +325,95 @@ public class ChartAnalysisService {
     }
 
     /**
-     * 일일 분석 횟수 제한 확인
+     * 분석 진행 상황 스트림 구독
+     * 이미 종료된 분석이면 마지막 상태만 보내고 스트림을 닫음
+     * 구독 후 재확인이 워커의 최신 커밋을 볼 수 있도록 트랜잭션 없이 조회마다 새 스냅샷으로 읽음
+     * (REPEATABLE READ 트랜잭션 안에서는 첫 조회 시점의 스냅샷을 다시 읽어 종료를 놓침)
+     *
+     * @param analysisId 분석 ID
+     * @param userId     사용자 ID
+     * @return SSE Emitter
+     */
+    public SseEmitter streamAnalysisProgress(Long analysisId, Long userId) {
+        ChartAnalysis analysis = chartAnalysisRepository.findByIdAndUserId(analysisId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ANALYSIS_NOT_FOUND));
+
+        if (analysis.getStatus().isTerminal()) {
+            SseEmitter emitter = new SseEmitter();
+            progressPublisher.completeImmediately(emitter, analysisId,
+                    toTerminalStage(analysis.getStatus()), analysis.getErrorMessage());
+            return emitter;
+        }
+
+        // 구독 등록 후 상태를 다시 확인하여, 그 사이에 끝난 분석의 종료 이벤트를 놓치지 않도록 함
+        SseEmitter emitter = progressPublisher.subscribe(analysisId);
+        chartAnalysisRepository.findStatusById(analysisId)
+                .filter(AnalysisStatus::isTerminal)
+                .ifPresent(status -> progressPublisher.completeImmediately(
+                        emitter, analysisId, toTerminalStage(status), null));
+
+        return emitter;
+    }
+
+    /**
+     * 종료 상태를 SSE 종료 단계로 변환
+     */
+    private AnalysisStage toTerminalStage(AnalysisStatus status) {
+        return status == AnalysisStatus.COMPLETED ? AnalysisStage.SAVED : AnalysisStage.FAILED;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 분석 작업 제출
+     * 워커가 커밋되지 않은 분석을 조회하지 않도록 커밋 이후에 실행
+     *
+     * @param dispatchAction 작업 제출 동작
+     */
+    private void dispatchAfterCommit(Runnable dispatchAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatchAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatchAction.run();
+            }
+        });
+    }
+
+    /**
+     * 워커 스레드풀에 분석 작업 제출
+     * 스레드풀이 포화 상태면 작업을 실패 처리
      *
-     * @param userId 사용자 ID
+     * @param job 분석 작업
      */
-    private void checkDailyLimit(Long userId) {
-        LocalDateTime todayStart = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        long todayCount = chartAnalysisRepository.countTodayAnalyses(userId, todayStart);
+    private void dispatch(ChartAnalysisJob job) {
+        try {
+            progressPublisher.publish(job.getAnalysisId(), AnalysisStage.STORED);
+            chartAnalysisWorker.process(job);
+        } catch (TaskRejectedException e) {
+            log.warn("분석 작업 큐 포화로 작업 거부: analysisId={}", job.getAnalysisId());
+            chartAnalysisWorker.fail(job, "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
 
-        if (todayCount >= dailyAnalysisLimit) {
+    /**
+     * 일일 분석 한도 예약
+     * 한도 확인과 사용 집계를 조건부 UPDATE 한 번으로 처리하여 동시 요청도 한도를 넘지 못하게 함
+     *
+     * @param userId         사용자 ID
+     * @param requestedCount 이번에 요청한 분석 수
+     */
+    private void reserveDailyQuota(Long userId, int requestedCount) {
+        boolean reserved = usageCounterService.tryReserve(
+                userId, UsageTracking.ACTION_CHART_ANALYSIS, UsagePeriod.DAY, requestedCount, dailyAnalysisLimit);
+
+        if (!reserved) {
             throw new BusinessException(ErrorCode.DAILY_LIMIT_EXCEEDED);
         }
 
-        log.debug("오늘 분석 횟수: {}/{}", todayCount, dailyAnalysisLimit);
+        log.debug("일일 분석 한도 예약: userId={}, count={}", userId, requestedCount);
     }
 
     /**
@@ -212,66 +456,37 @@ public class ChartAnalysisService {
     }
 
     /**
-     * 이미지 파일 저장
+     * 같은 지문의 재사용 가능한 분석 결과 조회
+     * 메모리 캐시를 먼저 확인하고, 없으면 DB에서 TTL 이내에 완료된 결과를 찾아 캐시에 적재
      *
-     * @param image  업로드된 이미지
-     * @param userId 사용자 ID
-     * @return 저장된 이미지 경로
+     * @param contentHash 분석 요청 지문
+     * @return 분석 결과 JSON
      */
-    private String saveImage(MultipartFile image, Long userId) {
-        try {
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir, String.valueOf(userId));
-            Files.createDirectories(uploadPath);
-
-            // 고유한 파일명 생성
-            String originalFilename = image.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String newFilename = UUID.randomUUID().toString() + "." + extension;
-
-            // 파일 저장
-            Path filePath = uploadPath.resolve(newFilename);
-            Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            String savedPath = uploadDir + "/" + userId + "/" + newFilename;
-            log.info("이미지 저장 완료: {}", savedPath);
-
-            return savedPath;
-
-        } catch (IOException e) {
-            log.error("이미지 저장 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    private Optional<String> findReusableResult(String contentHash) {
+        Optional<String> cached = analysisResultCache.get(contentHash);
+        if (cached.isPresent()) {
+            return cached;
         }
-    }
 
-    /**
-     * 이미지를 Base64로 인코딩
-     *
-     * @param image 업로드된 이미지
-     * @return Base64 인코딩된 문자열
-     */
-    private String encodeImageToBase64(MultipartFile image) {
-        try {
-            byte[] imageBytes = image.getBytes();
-            return Base64.getEncoder().encodeToString(imageBytes);
-        } catch (IOException e) {
-            log.error("이미지 Base64 인코딩 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        Optional<String> stored = chartAnalysisRepository
+                .findFirstByContentHashAndStatusAndCompletedAtAfterOrderByIdDesc(
+                        contentHash, AnalysisStatus.COMPLETED, analysisResultCache.reusableSince())
+                .map(ChartAnalysis::getAnalysisResult);
+        stored.ifPresent(result -> analysisResultCache.put(contentHash, result));
+        return stored;
     }
 
     /**
-     * 이미지 파일 삭제
+     * 분석 결과를 저장용 JSON으로 변환
      *
-     * @param imagePath 이미지 경로
+     * @param analysisResult 분석 결과
+     * @return 분석 결과 JSON
      */
-    private void deleteImageFile(String imagePath) {
+    private String toJson(ChartAnalysisResponse.AnalysisResult analysisResult) {
         try {
-            Path path = Paths.get(imagePath);
-            Files.deleteIfExists(path);
-            log.info("이미지 삭제 완료: {}", imagePath);
-        } catch (IOException e) {
-            log.warn("이미지 삭제 실패: {}", imagePath, e);
+            return objectMapper.writeValueAsString(analysisResult);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "분석 결과 변환에 실패했습니다");
         }
     }
 
@@ -289,6 +504,34 @@ public class ChartAnalysisService {
         return filename.substring(lastDotIndex + 1);
     }
 
+    /**
+     * 일괄 분석 응답 생성 (상태별 개수 집계)
+     *
+     * @param batchId  일괄 분석 ID
+     * @param analyses 일괄 분석에 포함된 분석 목록
+     * @return ChartAnalysisBatchResponse
+     */
+    private ChartAnalysisBatchResponse convertToBatchResponse(String batchId, List<ChartAnalysis> analyses) {
+        int completedCount = 0;
+        int failedCount = 0;
+        for (ChartAnalysis analysis : analyses) {
+            if (analysis.getStatus() == AnalysisStatus.COMPLETED) {
+                completedCount++;
+            } else if (analysis.getStatus() == AnalysisStatus.FAILED) {
+                failedCount++;
+            }
+        }
+
+        return ChartAnalysisBatchResponse.builder()
+                .batchId(batchId)
+                .totalCount(analyses.size())
+                .inProgressCount(analyses.size() - completedCount - failedCount)
+                .completedCount(completedCount)
+                .failedCount(failedCount)
+                .items(analyses.stream().map(this::convertToResponse).toList())
+                .build();
+    }
+
     /**
      * ChartAnalysis 엔티티를 Response DTO로 변환
      *
@@ -296,36 +539,45 @@ public class ChartAnalysisService {
      * @return ChartAnalysisResponse
      */
     private ChartAnalysisResponse convertToResponse(ChartAnalysis analysis) {
+        ChartAnalysisResponse.ChartAnalysisResponseBuilder builder = ChartAnalysisResponse.builder()
+                .analysisId(analysis.getId())
+                .stockCode(analysis.getStockCode())
+                .stockName(analysis.getStockName())
+                .candleType(analysis.getCandleType())
+                .imagePath(analysis.getImagePath())
+                .thumbnailPath(analysis.getThumbnailPath())
+                .status(analysis.getStatus())
+                .errorMessage(analysis.getErrorMessage())
+                .feedback(analysis.getFeedback())
+                .createdAt(analysis.getCreatedAt())
+                .completedAt(analysis.getCompletedAt());
+
+        // 분석이 완료되지 않은 경우 결과 없이 반환
+        if (analysis.getAnalysisResult() == null) {
+            return builder.build();
+        }
+
         try {
             // JSON 분석 결과를 AnalysisResult 객체로 파싱
             ChartAnalysisResponse.AnalysisResult analysisResult = objectMapper.readValue(
                     analysis.getAnalysisResult(),
                     ChartAnalysisResponse.AnalysisResult.class
             );
-
-            return ChartAnalysisResponse.builder()
-                    .analysisId(analysis.getId())
-                    .stockCode(analysis.getStockCode())
-                    .stockName(analysis.getStockName())
-                    .candleType(analysis.getCandleType())
-                    .imagePath(analysis.getImagePath())
-                    .analysisResult(analysisResult)
-                    .feedback(analysis.getFeedback())
-                    .createdAt(analysis.getCreatedAt())
-                    .build();
-
+            builder.analysisResult(analysisResult);
         } catch (Exception e) {
+            // 파싱 실패 시 결과 없이 기본 응답 반환
             log.error("분석 결과 JSON 파싱 실패: {}", e.getMessage(), e);
-            // 파싱 실패 시 기본 응답 반환
-            return ChartAnalysisResponse.builder()
-                    .analysisId(analysis.getId())
-                    .stockCode(analysis.getStockCode())
-                    .stockName(analysis.getStockName())
-                    .candleType(analysis.getCandleType())
-                    .imagePath(analysis.getImagePath())
-                    .feedback(analysis.getFeedback())
-                    .createdAt(analysis.getCreatedAt())
-                    .build();
         }
+
+        return builder.build();
+    }
+
+    /**
+     * 차트 한 건 접수 결과
+     *
+     * @param analysis 저장된 (또는 재사용된) 분석
+     * @param job      워커에 넘길 작업 (분석이 필요 없으면 null)
+     */
+    private record Submission(ChartAnalysis analysis, ChartAnalysisJob job) {
     }
 }
@@ -0,0 +1,195 @@
+package com.tradevision.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradevision.client.OpenAIClient;
+import com.tradevision.constant.AnalysisStage;
+import com.tradevision.entity.ChartAnalysis;
+import com.tradevision.entity.UsageTracking;
+import com.tradevision.repository.ChartAnalysisRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * 차트 분석 워커
+ * PENDING 상태의 분석 작업을 비동기 스레드풀(taskExecutor)에서 처리
+ * OpenAI 호출은 DB 트랜잭션 밖에서 수행하고, 상태 변경만 짧은 트랜잭션으로 반영
+ * 상태 전환은 PENDING → PROCESSING → COMPLETED 순서의 조건부 UPDATE로만 수행하며, 종료된 분석은 되돌리지 않음
+ * 진행 단계와 AI 응답 조각은 ChartAnalysisProgressPublisher로 SSE 구독자에게 전달
+ * 분석이 실패하면 접수 시 예약한 일일 분석 한도를 반환
+ */
+@Component
+public class ChartAnalysisWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ChartAnalysisWorker.class);
+
+    private final ChartAnalysisRepository chartAnalysisRepository;
+    private final OpenAIClient openAIClient;
+    private final ChartAnalysisProgressPublisher progressPublisher;
+    private final ChartAnalysisResultCache analysisResultCache;
+    private final ChartImagePreprocessor chartImagePreprocessor;
+    private final UsageCounterService usageCounterService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChartAnalysisWorker(
+            ChartAnalysisRepository chartAnalysisRepository,
+            OpenAIClient openAIClient,
+            ChartAnalysisProgressPublisher progressPublisher,
+            ChartAnalysisResultCache analysisResultCache,
+            ChartImagePreprocessor chartImagePreprocessor,
+            UsageCounterService usageCounterService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.chartAnalysisRepository = chartAnalysisRepository;
+        this.openAIClient = openAIClient;
+        this.progressPublisher = progressPublisher;
+        this.analysisResultCache = analysisResultCache;
+        this.chartImagePreprocessor = chartImagePreprocessor;
+        this.usageCounterService = usageCounterService;
+        this.objectMapper = objectMapper;
+        // afterCommit 콜백 등 기존 트랜잭션 컨텍스트에서 호출되어도 항상 새 트랜잭션으로 반영
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 분석 작업을 taskExecutor에 제출
+     * 스레드풀과 큐가 모두 가득 차면 TaskRejectedException이 호출자에게 전달됨
+     *
+     * @param job 분석 작업
+     */
+    @Async("taskExecutor")
+    public void process(ChartAnalysisJob job) {
+        execute(job);
+    }
+
+    /**
+     * 분석 작업 실행 (호출 스레드에서 동기 실행)
+     *
+     * @param job 분석 작업
+     */
+    public void execute(ChartAnalysisJob job) {
+        Long analysisId = job.getAnalysisId();
+        // 대기 중에 정리 작업 등으로 이미 종료된 분석은 실행하지 않음 (한도가 이미 반환됨)
+        if (!transition(() -> chartAnalysisRepository.markProcessing(analysisId))) {
+            log.info("대기 상태가 아닌 분석 작업 건너뜀: analysisId={}", analysisId);
+            return;
+        }
+        log.info("차트 분석 작업 시작: analysisId={}", analysisId);
+
+        try {
+            // 1. 저장된 이미지 확인 후 전처리 (축소, 썸네일)
+            //    Base64 인코딩은 전송 시 요청 본문에 바로 스트리밍
+            if (!Files.isReadable(Paths.get(job.getImagePath()))) {
+                throw new IOException("분석할 이미지를 읽을 수 없습니다: " + job.getImagePath());
+            }
+            PreparedChartImage preparedImage = chartImagePreprocessor.prepare(job.getImagePath());
+            progressPublisher.publish(analysisId, AnalysisStage.ENCODED);
+
+            // 2. OpenAI API 스트리밍 호출 (트랜잭션 밖), 응답 조각은 SSE 구독자에게 바로 전달
+            progressPublisher.publish(analysisId, AnalysisStage.SENT);
+            AtomicBoolean firstToken = new AtomicBoolean(true);
+            Consumer<String> onToken = token -> {
+                if (firstToken.compareAndSet(true, false)) {
+                    progressPublisher.publish(analysisId, AnalysisStage.FIRST_TOKEN);
+                }
+                progressPublisher.publishToken(analysisId, token);
+            };
+            String rawResult = openAIClient.analyzeChartStream(
+                    preparedImage.getPath(), preparedImage.getMimeType(), job.getPrompt(), onToken);
+
+            // 3. 응답에서 JSON 추출 및 검증
+            String analysisResultJson = extractJson(rawResult);
+            progressPublisher.publish(analysisId, AnalysisStage.PARSED);
+
+            // 4. 분석 결과 및 썸네일 경로 저장 (그 사이에 실패 처리되었으면 결과를 버림)
+            if (!transition(() -> chartAnalysisRepository.markCompleted(
+                    analysisId, analysisResultJson, preparedImage.getThumbnailPath(), LocalDateTime.now()))) {
+                log.warn("분석 중 상태가 아니어서 결과를 저장하지 않음: analysisId={}", analysisId);
+                return;
+            }
+            if (job.getContentHash() != null) {
+                analysisResultCache.put(job.getContentHash(), analysisResultJson);
+            }
+            progressPublisher.publish(analysisId, AnalysisStage.SAVED);
+
+            log.info("차트 분석 작업 완료: analysisId={}", analysisId);
+
+        } catch (Exception e) {
+            log.error("차트 분석 작업 실패: analysisId={}, {}", analysisId, e.getMessage(), e);
+            fail(job, "AI 분석에 실패했습니다. 다시 시도해주세요");
+        }
+    }
+
+    /**
+     * 분석 작업 실패 처리
+     * 작업 큐 포화 등으로 실행조차 되지 못한 경우에도 사용
+     * 이미지는 내용 해시 경로로 다른 분석과 공유되므로 삭제하지 않음 (재시도 시 재사용)
+     * 실패 전환에 성공한 호출만 같은 트랜잭션에서 예약한 한도를 반환 (동시에 여러 곳에서 호출되어도 한 번만 반환)
+     *
+     * @param job     분석 작업
+     * @param message 실패 사유
+     */
+    public void fail(ChartAnalysisJob job, String message) {
+        Long analysisId = job.getAnalysisId();
+        Boolean failed = transactionTemplate.execute(status -> {
+            int updated = chartAnalysisRepository.markFailed(
+                    analysisId, ChartAnalysis.truncateErrorMessage(message), LocalDateTime.now());
+            if (updated == 0) {
+                return false;
+            }
+            chartAnalysisRepository.findById(analysisId).ifPresent(analysis ->
+                    usageCounterService.release(job.getUserId(), UsageTracking.ACTION_CHART_ANALYSIS,
+                            analysis.getCreatedAt().toLocalDate(), 1));
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(failed)) {
+            log.debug("이미 종료된 분석이라 실패 처리하지 않음: analysisId={}", analysisId);
+            return;
+        }
+        progressPublisher.publish(analysisId, AnalysisStage.FAILED, message);
+    }
+
+    /**
+     * 조건부 UPDATE로 상태 전환 (짧은 트랜잭션)
+     *
+     * @param update 변경된 행 수를 반환하는 조건부 UPDATE
+     * @return 상태가 바뀌었으면 true
+     */
+    private boolean transition(IntSupplier update) {
+        Integer updated = transactionTemplate.execute(status -> update.getAsInt());
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * AI 응답에서 JSON 객체 부분 추출 및 검증
+     * 모델이 ```json 코드 블록으로 감싸 응답하는 경우를 처리
+     *
+     * @param rawResult AI 응답 원문
+     * @return JSON 문자열
+     */
+    private String extractJson(String rawResult) throws JsonProcessingException {
+        int start = rawResult.indexOf('{');
+        int end = rawResult.lastIndexOf('}');
+        String json = start >= 0 && end > start ? rawResult.substring(start, end + 1) : rawResult;
+
+        // 유효한 JSON인지 확인 (아니면 JsonProcessingException)
+        objectMapper.readTree(json);
+        return json;
+    }
+}
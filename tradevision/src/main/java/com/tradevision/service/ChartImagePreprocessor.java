@@ -0,0 +1,187 @@
+package com.tradevision.service;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+/**
+ * 차트 이미지 전처리
+ * OpenAI 전송 전 긴 변을 최대 해상도 이하로 축소하고, 히스토리 목록용 썸네일을 생성
+ * 결과 파일은 원본(내용 해시 경로) 옆에 설정값을 포함한 이름으로 저장되어 같은 이미지는 한 번만 처리됨
+ */
+@Component
+public class ChartImagePreprocessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ChartImagePreprocessor.class);
+
+    @Value("${app.image.max-dimension:1536}")
+    private int maxDimension;
+
+    @Value("${app.image.quality:0.9}")
+    private double quality;
+
+    @Value("${app.image.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    /**
+     * AI 분석용 이미지 준비
+     * 최대 해상도 이하면 원본을 그대로 사용하고, 크면 축소본을 생성
+     * 포맷은 확장자가 아닌 이미지 헤더로 판단 (.jpg로 저장된 PNG도 PNG로 처리)
+     * 전처리에 실패하면 원본으로 분석을 진행
+     *
+     * @param imagePath 저장된 원본 이미지 경로
+     * @return 전처리된 이미지 정보
+     */
+    public PreparedChartImage prepare(String imagePath) {
+        Path original = Paths.get(imagePath);
+        String format = extensionFormatOf(original);
+        Path analysisImage = original;
+
+        try {
+            ImageInfo info = inspect(original);
+            if (info != null) {
+                format = info.format();
+                Dimension dimension = info.dimension();
+                if (Math.max(dimension.width, dimension.height) > maxDimension) {
+                    analysisImage = siblingOf(original, "-" + maxDimension + qualitySuffix(), format);
+                    if (!Files.exists(analysisImage)) {
+                        writeResized(original, analysisImage, maxDimension, format);
+                        log.info("분석용 이미지 축소: {}x{} -> 최대 {}px ({} -> {} bytes)",
+                                dimension.width, dimension.height, maxDimension,
+                                Files.size(original), Files.size(analysisImage));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("분석용 이미지 축소 실패, 원본으로 진행: {}", imagePath, e);
+            analysisImage = original;
+        }
+
+        return new PreparedChartImage(analysisImage, mimeTypeOf(format), createThumbnail(imagePath));
+    }
+
+    /**
+     * 히스토리 목록용 썸네일 생성 (이미 있으면 재사용)
+     *
+     * @param imagePath 저장된 원본 이미지 경로
+     * @return 썸네일 경로 (생성 실패 시 null)
+     */
+    public String createThumbnail(String imagePath) {
+        Path original = Paths.get(imagePath);
+
+        try {
+            ImageInfo info = inspect(original);
+            String format = info != null ? info.format() : extensionFormatOf(original);
+            Path thumbnail = siblingOf(original, "-thumb" + thumbnailSize + qualitySuffix(), format);
+            if (!Files.exists(thumbnail)) {
+                writeResized(original, thumbnail, thumbnailSize, format);
+            }
+            return thumbnail.toString();
+        } catch (IOException e) {
+            log.warn("썸네일 생성 실패: {}", imagePath, e);
+            return null;
+        }
+    }
+
+    /**
+     * 축소본을 임시 파일에 쓴 뒤 대상 경로로 원자적으로 이동
+     * 같은 이미지에 대한 동시 요청이 서로의 파일을 덮어쓰거나 쓰다 만 파일을 읽지 않도록 함
+     */
+    private void writeResized(Path original, Path target, int size, String format) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                Thumbnails.of(original.toFile())
+                        .size(size, size)
+                        .outputFormat(format)
+                        .outputQuality(quality)
+                        .toOutputStream(out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 이미지 전체를 디코딩하지 않고 헤더에서 포맷과 크기만 읽음
+     *
+     * @param imagePath 이미지 경로
+     * @return 포맷과 크기 (읽을 수 없으면 null)
+     */
+    private ImageInfo inspect(Path imagePath) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(imagePath.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                String format = "png".equalsIgnoreCase(reader.getFormatName()) ? "png" : "jpg";
+                return new ImageInfo(format, new Dimension(reader.getWidth(0), reader.getHeight(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 원본과 같은 디렉토리에 접미사를 붙인 파일 경로 생성
+     * 예: {hash}.png -> {hash}-1536q90.png
+     */
+    private Path siblingOf(Path original, String suffix, String format) {
+        String filename = original.getFileName().toString();
+        int lastDotIndex = filename.lastIndexOf('.');
+        String baseName = lastDotIndex == -1 ? filename : filename.substring(0, lastDotIndex);
+        return original.resolveSibling(baseName + suffix + "." + format);
+    }
+
+    /**
+     * 출력 품질 접미사 (품질 설정이 바뀌면 이전 결과 파일을 재사용하지 않도록)
+     */
+    private String qualitySuffix() {
+        return "q" + Math.round(quality * 100);
+    }
+
+    /**
+     * 이미지 헤더를 읽을 수 없을 때 확장자로 포맷 추정 (png 또는 jpg)
+     */
+    private String extensionFormatOf(Path imagePath) {
+        String filename = imagePath.getFileName().toString().toLowerCase();
+        return filename.endsWith(".png") ? "png" : "jpg";
+    }
+
+    /**
+     * 출력 포맷의 MIME 타입
+     */
+    private String mimeTypeOf(String format) {
+        return "png".equals(format) ? "image/png" : "image/jpeg";
+    }
+
+    /**
+     * 이미지 헤더 정보
+     *
+     * @param format    출력 포맷 (png 또는 jpg)
+     * @param dimension 크기
+     */
+    private record ImageInfo(String format, Dimension dimension) {
+    }
+}
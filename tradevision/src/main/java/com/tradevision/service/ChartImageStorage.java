@@ -0,0 +1,173 @@
+package com.tradevision.service;
+
+import com.tradevision.exception.BusinessException;
+import com.tradevision.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 차트 이미지 저장소 (내용 주소 기반)
+ * 이미지를 한 번 읽으면서 SHA-256 해시를 계산하고 {uploadDir}/{해시 앞 2자리}/{해시}.{확장자}에 저장
+ * 같은 이미지를 여러 번 업로드해도 디스크에는 한 번만 저장됨
+ */
+@Component
+public class ChartImageStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(ChartImageStorage.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_DIR = "tmp";
+    private static final long TRANSFER_CHUNK_SIZE = 256 * 1024;
+
+    @Value("${app.upload.dir:uploads/charts}")
+    private String uploadDir;
+
+    /**
+     * 이미지 저장
+     *
+     * @param image 업로드된 이미지
+     * @return 저장된 이미지 정보 (경로, 내용 해시)
+     */
+    public StoredChartImage store(MultipartFile image) {
+        String extension = getFileExtension(image.getOriginalFilename()).toLowerCase();
+        Path tempFile = null;
+
+        try {
+            // 1. 임시 파일에 쓰면서 해시 계산 (한 번만 읽음)
+            Path tempDir = Paths.get(uploadDir, TEMP_DIR);
+            Files.createDirectories(tempDir);
+            tempFile = Files.createTempFile(tempDir, "upload-", "." + extension);
+
+            MessageDigest digest = newDigest();
+            transferTo(new DigestInputStream(image.getInputStream(), digest), tempFile);
+            String imageHash = HexFormat.of().formatHex(digest.digest());
+
+            // 2. 해시 경로로 이동 (이미 있으면 임시 파일만 삭제)
+            String shard = imageHash.substring(0, 2);
+            String filename = imageHash + "." + extension;
+            Path target = Paths.get(uploadDir, shard, filename);
+            Files.createDirectories(target.getParent());
+
+            if (Files.exists(target)) {
+                Files.deleteIfExists(tempFile);
+                log.info("동일 이미지가 이미 저장되어 있어 재사용: {}", target);
+            } else {
+                moveIntoPlace(tempFile, target);
+                log.info("이미지 저장 완료: {}", target);
+            }
+
+            return new StoredChartImage(uploadDir + "/" + shard + "/" + filename, imageHash, extension);
+
+        } catch (IOException e) {
+            log.error("이미지 저장 실패: {}", e.getMessage(), e);
+            deleteQuietly(tempFile);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 분석 요청 지문 계산
+     * 이미지 내용 해시 + 종목 코드 + 캔들 타입 + 프롬프트 버전의 SHA-256
+     * 지문이 같으면 AI 분석 결과도 같은 것으로 간주
+     *
+     * @param imageHash     이미지 내용 해시
+     * @param stockCode     종목 코드 (선택)
+     * @param candleType    캔들 타입
+     * @param promptVersion 프롬프트 버전
+     * @return 분석 요청 지문 (16진수)
+     */
+    public String fingerprint(String imageHash, String stockCode, String candleType, String promptVersion) {
+        String key = String.join("|",
+                imageHash,
+                stockCode != null ? stockCode : "",
+                candleType != null ? candleType : "",
+                promptVersion);
+        return HexFormat.of().formatHex(newDigest().digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 입력 스트림을 FileChannel로 파일에 전송
+     * 업로드 본문을 힙 배열로 모으지 않고 고정 크기 단위로 디스크에 바로 기록
+     *
+     * @param in     입력 스트림 (해시 계산용 DigestInputStream)
+     * @param target 대상 파일
+     */
+    private void transferTo(InputStream in, Path target) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel destination = FileChannel.open(target,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = destination.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * 임시 파일을 최종 경로로 원자적 이동
+     * 동시에 같은 이미지가 저장된 경우 먼저 저장된 파일을 사용
+     */
+    private void moveIntoPlace(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 파일 확장자 추출
+     *
+     * @param filename 파일명
+     * @return 확장자
+     */
+    private String getFileExtension(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int lastDotIndex = filename.lastIndexOf('.');
+        if (lastDotIndex == -1) {
+            return "";
+        }
+        return filename.substring(lastDotIndex + 1);
+    }
+}
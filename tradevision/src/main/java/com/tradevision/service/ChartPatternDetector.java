@@ -0,0 +1,334 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.entity.CandleSeries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 시세 데이터 기반 차트 패턴 감지기
+ * 종목의 OHLCV 시계열에서 지지/저항선, 추세, 쌍바닥/쌍봉, 삼각형 패턴을 수치로 감지
+ * - FULL 분석: 감지 결과를 AI 프롬프트에 참고 수치로 포함
+ * - FAST 분석: 감지 결과를 그대로 분석 결과로 사용 (OpenAI 호출 없음)
+ */
+@Component
+public class ChartPatternDetector {
+
+    /**
+     * 감지 로직 버전 (FAST 분석 결과 지문에 포함, 로직 변경 시 올려 이전 결과 재사용 방지)
+     */
+    public static final String VERSION = "pattern-v1";
+
+    private static final Logger log = LoggerFactory.getLogger(ChartPatternDetector.class);
+
+    static final int MIN_BARS = 30;
+    private static final int LOOKBACK = 120;          // 감지에 사용할 최근 캔들 수
+    private static final int PIVOT_WINDOW = 3;        // 좌우 3개보다 높은/낮은 캔들을 고점/저점으로 판단
+    private static final int PATTERN_WINDOW = 60;     // 삼각형 판단 구간
+    private static final int RECENT_PIVOT_BARS = 20;  // 쌍바닥/쌍봉의 두 번째 바닥/봉우리가 이 안에 있어야 함
+    private static final double LEVEL_TOLERANCE = 0.015;
+    private static final double DOUBLE_TOLERANCE = 0.03;
+    private static final double MIN_NECKLINE_DEPTH = 0.03;
+    private static final double FLAT_TOLERANCE = 0.015;
+    private static final double TREND_THRESHOLD = 0.03;
+
+    private final CandleHistoryService candleHistoryService;
+
+    public ChartPatternDetector(CandleHistoryService candleHistoryService) {
+        this.candleHistoryService = candleHistoryService;
+    }
+
+    /**
+     * 종목의 최근 시세로 패턴 감지
+     * 업로드 트랜잭션 안에서 호출되므로 KIS를 호출하지 않고 이미 받아 둔 시세(메모리/DB)만 사용
+     * 시세 조회 실패나 데이터 부족 시 분석 자체를 막지 않도록 빈 결과 반환
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @return 감지 결과 (시세가 없거나 부족하면 empty)
+     */
+    public Optional<PatternDetection> detect(String stockCode, CandleType candleType) {
+        try {
+            return detect(candleHistoryService.getStoredSeries(stockCode, candleType));
+        } catch (RuntimeException e) {
+            log.warn("시세 기반 패턴 감지 생략: stockCode={}, reason={}", stockCode, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 시계열에서 패턴 감지
+     *
+     * @param candles 캔들 시계열 (시각 오름차순)
+     * @return 감지 결과 (캔들이 MIN_BARS개 미만이면 empty)
+     */
+    Optional<PatternDetection> detect(CandleSeries candles) {
+        CandleSeries series = candles.last(LOOKBACK);
+        int n = series.size();
+        if (n < MIN_BARS) {
+            return Optional.empty();
+        }
+
+        long[] high = series.highs();
+        long[] low = series.lows();
+        long[] close = series.closes();
+        long lastClose = close[n - 1];
+
+        List<Integer> pivotHighs = pivots(high, true);
+        List<Integer> pivotLows = pivots(low, false);
+
+        String trend = trend(close);
+        long support = level(low, pivotLows, lastClose, false);
+        long resistance = level(high, pivotHighs, lastClose, true);
+        String pattern = pattern(high, low, pivotHighs, pivotLows, trend, lastClose);
+
+        return Optional.of(new PatternDetection(pattern, trend, support, resistance,
+                volumeAnalysis(series.volumes()), riskLevel(close), lastClose, n, series.lastTime()));
+    }
+
+    /**
+     * 좌우 PIVOT_WINDOW개 캔들보다 높은 고점(또는 낮은 저점) 위치
+     * 같은 값이 이어지면 첫 캔들만 고점/저점으로 인정
+     */
+    private List<Integer> pivots(long[] values, boolean highs) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = PIVOT_WINDOW; i < values.length - PIVOT_WINDOW; i++) {
+            boolean pivot = true;
+            for (int j = i - PIVOT_WINDOW; j <= i + PIVOT_WINDOW && pivot; j++) {
+                if (j == i) {
+                    continue;
+                }
+                long diff = highs ? values[i] - values[j] : values[j] - values[i];
+                pivot = j < i ? diff > 0 : diff >= 0;
+            }
+            if (pivot) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 추세: 최근 종가 회귀선의 구간 변화율
+     */
+    private String trend(long[] close) {
+        int from = Math.max(0, close.length - PATTERN_WINDOW);
+        double change = relativeChange(close, from, close.length);
+        if (change > TREND_THRESHOLD) {
+            return "상승";
+        }
+        if (change < -TREND_THRESHOLD) {
+            return "하락";
+        }
+        return "횡보";
+    }
+
+    /**
+     * 지지선(종가 아래) / 저항선(종가 위)
+     * 고점/저점 중 비슷한 가격대(±1.5%)에 가장 많이 모인 가격, 같으면 종가에 가까운 가격
+     * 해당하는 고점/저점이 없으면 최근 20개 캔들의 최저가/최고가
+     */
+    private long level(long[] values, List<Integer> pivots, long lastClose, boolean above) {
+        long best = -1;
+        int bestTouches = 0;
+        for (int i : pivots) {
+            long candidate = values[i];
+            if (above ? candidate < lastClose : candidate > lastClose) {
+                continue;
+            }
+            int touches = 0;
+            for (int j : pivots) {
+                if (Math.abs(values[j] - candidate) <= candidate * LEVEL_TOLERANCE) {
+                    touches++;
+                }
+            }
+            if (touches > bestTouches
+                    || (touches == bestTouches && Math.abs(candidate - lastClose) < Math.abs(best - lastClose))) {
+                best = candidate;
+                bestTouches = touches;
+            }
+        }
+        if (best >= 0) {
+            return best;
+        }
+
+        long extreme = values[values.length - 1];
+        for (int i = Math.max(0, values.length - 20); i < values.length; i++) {
+            extreme = above ? Math.max(extreme, values[i]) : Math.min(extreme, values[i]);
+        }
+        return extreme;
+    }
+
+    /**
+     * 패턴 판단 (쌍바닥 → 쌍봉 → 삼각형 순, 해당 없으면 추세로 표현)
+     */
+    private String pattern(long[] high, long[] low, List<Integer> pivotHighs, List<Integer> pivotLows,
+                           String trend, long lastClose) {
+        int n = high.length;
+
+        if (isDouble(low, high, pivotLows, n, false)) {
+            return "쌍바닥";
+        }
+        if (isDouble(high, low, pivotHighs, n, true)) {
+            return "쌍봉";
+        }
+
+        List<Integer> recentHighs = pivotHighs.stream().filter(i -> i >= n - PATTERN_WINDOW).toList();
+        List<Integer> recentLows = pivotLows.stream().filter(i -> i >= n - PATTERN_WINDOW).toList();
+        if (recentHighs.size() >= 2 && recentLows.size() >= 2) {
+            double highChange = pivotChange(high, recentHighs, lastClose);
+            double lowChange = pivotChange(low, recentLows, lastClose);
+            boolean flatHighs = Math.abs(highChange) < FLAT_TOLERANCE;
+            boolean flatLows = Math.abs(lowChange) < FLAT_TOLERANCE;
+
+            if (flatHighs && lowChange > FLAT_TOLERANCE) {
+                return "상승 삼각형";
+            }
+            if (flatLows && highChange < -FLAT_TOLERANCE) {
+                return "하락 삼각형";
+            }
+            if (highChange < -FLAT_TOLERANCE && lowChange > FLAT_TOLERANCE) {
+                return "대칭 삼각형";
+            }
+        }
+
+        return "횡보".equals(trend) ? "박스권" : trend + " 추세 지속";
+    }
+
+    /**
+     * 쌍바닥(쌍봉) 여부
+     * 마지막 두 저점(고점)의 가격 차이가 3% 이내, 두 번째가 최근 20개 캔들 안에 있고,
+     * 사이의 넥라인이 3% 이상 떨어져 있을 때
+     */
+    private boolean isDouble(long[] values, long[] opposite, List<Integer> pivots, int n, boolean top) {
+        if (pivots.size() < 2) {
+            return false;
+        }
+        int first = pivots.get(pivots.size() - 2);
+        int second = pivots.get(pivots.size() - 1);
+        if (second < n - RECENT_PIVOT_BARS || second - first < PIVOT_WINDOW * 2) {
+            return false;
+        }
+
+        long a = values[first];
+        long b = values[second];
+        if (Math.abs(a - b) > Math.min(a, b) * DOUBLE_TOLERANCE) {
+            return false;
+        }
+
+        long neckline = opposite[first + 1];
+        for (int i = first + 1; i < second; i++) {
+            neckline = top ? Math.min(neckline, opposite[i]) : Math.max(neckline, opposite[i]);
+        }
+        return top
+                ? neckline <= Math.min(a, b) * (1 - MIN_NECKLINE_DEPTH)
+                : neckline >= Math.max(a, b) * (1 + MIN_NECKLINE_DEPTH);
+    }
+
+    /**
+     * 고점(저점)들의 회귀선이 패턴 구간 동안 움직인 폭 (종가 대비 비율)
+     */
+    private double pivotChange(long[] values, List<Integer> pivots, long lastClose) {
+        int m = pivots.size();
+        double meanX = 0;
+        double meanY = 0;
+        for (int i : pivots) {
+            meanX += i;
+            meanY += values[i];
+        }
+        meanX /= m;
+        meanY /= m;
+
+        double covariance = 0;
+        double variance = 0;
+        for (int i : pivots) {
+            covariance += (i - meanX) * (values[i] - meanY);
+            variance += (i - meanX) * (i - meanX);
+        }
+        double slope = variance == 0 ? 0 : covariance / variance;
+        return slope * PATTERN_WINDOW / lastClose;
+    }
+
+    /**
+     * [from, to) 구간 종가 회귀선의 시작→끝 변화율
+     */
+    private double relativeChange(long[] values, int from, int to) {
+        int m = to - from;
+        double meanX = (m - 1) / 2.0;
+        double meanY = 0;
+        for (int i = from; i < to; i++) {
+            meanY += values[i];
+        }
+        meanY /= m;
+
+        double covariance = 0;
+        double variance = 0;
+        for (int i = from; i < to; i++) {
+            double x = i - from - meanX;
+            covariance += x * (values[i] - meanY);
+            variance += x * x;
+        }
+        double slope = variance == 0 ? 0 : covariance / variance;
+        return meanY == 0 ? 0 : slope * (m - 1) / meanY;
+    }
+
+    /**
+     * 최근 5개 캔들 평균 거래량과 직전 20개 캔들 평균 비교
+     */
+    private String volumeAnalysis(long[] volume) {
+        int n = volume.length;
+        double recent = average(volume, n - 5, n);
+        double previous = average(volume, Math.max(0, n - 25), n - 5);
+        if (previous == 0) {
+            return "거래량 비교 불가";
+        }
+        double ratio = recent / previous;
+        String direction = ratio >= 1.2 ? "증가" : ratio <= 0.8 ? "감소" : "보합";
+        return String.format("최근 5개 캔들 평균 거래량이 직전 20개 대비 %+.0f%% (%s)", (ratio - 1) * 100, direction);
+    }
+
+    /**
+     * 최근 20개 종가 변화율의 표준편차로 위험도 판단
+     */
+    private String riskLevel(long[] close) {
+        int n = close.length;
+        int from = Math.max(1, n - 20);
+        double sum = 0;
+        double sumOfSquares = 0;
+        int count = 0;
+        for (int i = from; i < n; i++) {
+            if (close[i - 1] == 0) {
+                continue;
+            }
+            double r = (double) (close[i] - close[i - 1]) / close[i - 1];
+            sum += r;
+            sumOfSquares += r * r;
+            count++;
+        }
+        if (count == 0) {
+            return "보통";
+        }
+        double mean = sum / count;
+        double volatility = Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+        if (volatility < 0.015) {
+            return "낮음";
+        }
+        return volatility < 0.03 ? "보통" : "높음";
+    }
+
+    private double average(long[] values, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum / (to - from);
+    }
+}
@@ -30,6 +30,7 @@ public class ContentProgressService {
     private final UserContentProgressRepository progressRepository;
     private final LearningContentRepository contentRepository;
     private final UserRepository userRepository;
+    private final CatalogCounterBuffer counterBuffer;
 
     /**
      * 진행도 업데이트
@@ -100,11 +101,11 @@ public class ContentProgressService {
         boolean wasLiked = progress.getIsLiked();
         progress.toggleLike();
 
-        // 콘텐츠의 좋아요 수 업데이트
+        // 콘텐츠의 좋아요 수 업데이트 (쓰기 지연 버퍼, 주기적으로 일괄 반영)
         if (progress.getIsLiked()) {
-            contentRepository.incrementLikeCount(contentId);
+            counterBuffer.increment(CatalogCounterBuffer.Counter.CONTENT_LIKE, contentId);
         } else {
-            contentRepository.decrementLikeCount(contentId);
+            counterBuffer.decrement(CatalogCounterBuffer.Counter.CONTENT_LIKE, contentId);
         }
 
         UserContentProgress savedProgress = progressRepository.save(progress);
@@ -9,8 +9,8 @@ import com.tradevision.entity.LearningContent;
 import com.tradevision.entity.UserContentProgress;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
-import com.tradevision.repository.ContentModuleRepository;
 import com.tradevision.repository.LearningContentRepository;
+import com.tradevision.repository.ModuleCount;
 import com.tradevision.repository.UserContentProgressRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +21,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 학습 콘텐츠 서비스
+ * 모듈/콘텐츠 목록은 카탈로그 스냅샷(CatalogCache)에서 응답하고, 사용자 진행도만 DB에서 조회
  */
 @Slf4j
 @Service
@@ -31,9 +35,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class LearningContentService {
 
-    private final ContentModuleRepository moduleRepository;
     private final LearningContentRepository contentRepository;
     private final UserContentProgressRepository progressRepository;
+    private final CatalogCounterBuffer counterBuffer;
+    private final CatalogCache catalogCache;
 
     /**
      * 모든 활성 모듈 조회
@@ -48,22 +53,10 @@ public class LearningContentService {
                                             Pageable pageable, Long userId) {
         log.info("모듈 목록 조회 - 난이도: {}, 카테고리: {}", difficulty, category);
 
-        Page<ContentModule> modulePage;
-
-        if (difficulty != null && category != null) {
-            modulePage = moduleRepository.findByDifficultyLevelAndCategoryAndIsActiveTrueOrderByDisplayOrderAsc(
-                    difficulty, category, pageable);
-        } else if (difficulty != null) {
-            modulePage = moduleRepository.findByDifficultyLevelAndIsActiveTrueOrderByDisplayOrderAsc(
-                    difficulty, pageable);
-        } else if (category != null) {
-            modulePage = moduleRepository.findByCategoryAndIsActiveTrueOrderByDisplayOrderAsc(
-                    category, pageable);
-        } else {
-            modulePage = moduleRepository.findByIsActiveTrueOrderByDisplayOrderAsc(pageable);
-        }
+        CatalogSnapshot catalog = catalogCache.current();
+        Page<ContentModule> modulePage = CatalogSnapshot.page(catalog.modules(difficulty, category), pageable);
 
-        return buildModuleListResponse(modulePage, userId);
+        return buildModuleListResponse(catalog, modulePage, userId);
     }
 
     /**
@@ -76,10 +69,15 @@ public class LearningContentService {
     public ModuleResponse getModuleById(Long moduleId, Long userId) {
         log.info("모듈 상세 조회 - 모듈 ID: {}", moduleId);
 
-        ContentModule module = moduleRepository.findByIdAndIsActiveTrue(moduleId)
+        CatalogSnapshot catalog = catalogCache.current();
+        ContentModule module = catalog.module(moduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LEARNING_CONTENT_NOT_FOUND));
 
-        return buildModuleResponse(module, userId);
+        Long completedCount = userId != null
+                ? progressRepository.countCompletedByModule(userId, moduleId)
+                : null;
+
+        return buildModuleResponse(module, catalog.contentCount(moduleId), completedCount);
     }
 
     /**
@@ -92,10 +90,10 @@ public class LearningContentService {
     public ModuleListResponse getRequiredModules(Pageable pageable, Long userId) {
         log.info("필수 모듈 조회");
 
-        Page<ContentModule> modulePage = moduleRepository
-                .findByIsRequiredTrueAndIsActiveTrueOrderByDisplayOrderAsc(pageable);
+        CatalogSnapshot catalog = catalogCache.current();
+        Page<ContentModule> modulePage = CatalogSnapshot.page(catalog.requiredModules(), pageable);
 
-        return buildModuleListResponse(modulePage, userId);
+        return buildModuleListResponse(catalog, modulePage, userId);
     }
 
     /**
@@ -109,11 +107,13 @@ public class LearningContentService {
     public ContentListResponse getContentsByModule(Long moduleId, Pageable pageable, Long userId) {
         log.info("모듈별 콘텐츠 조회 - 모듈 ID: {}", moduleId);
 
+        CatalogSnapshot catalog = catalogCache.current();
+
         // 모듈 존재 확인
-        moduleRepository.findByIdAndIsActiveTrue(moduleId)
+        catalog.module(moduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LEARNING_CONTENT_NOT_FOUND));
 
-        Page<LearningContent> contentPage = contentRepository.findByModuleIdAndIsActiveTrue(moduleId, pageable);
+        Page<LearningContent> contentPage = CatalogSnapshot.page(catalog.contentsByModule(moduleId), pageable);
 
         return buildContentListResponse(contentPage, userId);
     }
@@ -125,15 +125,14 @@ public class LearningContentService {
      * @param userId    사용자 ID (선택)
      * @return 콘텐츠 상세
      */
-    @Transactional
     public ContentResponse getContentById(Long contentId, Long userId) {
         log.info("콘텐츠 상세 조회 - 콘텐츠 ID: {}", contentId);
 
         LearningContent content = contentRepository.findByIdAndIsActiveTrue(contentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LEARNING_CONTENT_NOT_FOUND));
 
-        // 조회수 증가
-        contentRepository.incrementViewCount(contentId);
+        // 조회수 증가 (쓰기 지연 버퍼, 주기적으로 일괄 반영)
+        counterBuffer.increment(CatalogCounterBuffer.Counter.CONTENT_VIEW, contentId);
 
         return buildContentResponse(content, userId);
     }
@@ -149,8 +148,8 @@ public class LearningContentService {
     public ContentListResponse getContentsByType(ContentType contentType, Pageable pageable, Long userId) {
         log.info("타입별 콘텐츠 조회 - 타입: {}", contentType);
 
-        Page<LearningContent> contentPage = contentRepository
-                .findByContentTypeAndIsActiveTrueOrderByCreatedAtDesc(contentType, pageable);
+        Page<LearningContent> contentPage = CatalogSnapshot.page(
+                catalogCache.current().contentsByType(contentType), pageable);
 
         return buildContentListResponse(contentPage, userId);
     }
@@ -165,8 +164,7 @@ public class LearningContentService {
     public ContentListResponse getFreeContents(Pageable pageable, Long userId) {
         log.info("무료 콘텐츠 조회");
 
-        Page<LearningContent> contentPage = contentRepository
-                .findByIsFreeTrueAndIsActiveTrueOrderByViewCountDesc(pageable);
+        Page<LearningContent> contentPage = CatalogSnapshot.page(catalogCache.current().freeContents(), pageable);
 
         return buildContentListResponse(contentPage, userId);
     }
@@ -181,11 +179,10 @@ public class LearningContentService {
     public List<ContentResponse> getPopularContents(Pageable pageable, Long userId) {
         log.info("인기 콘텐츠 조회 - Top {}", pageable.getPageSize());
 
-        List<LearningContent> contents = contentRepository.findTopByViewCount(pageable);
+        List<LearningContent> contents = CatalogSnapshot.page(
+                catalogCache.current().popularContents(), pageable).getContent();
 
-        return contents.stream()
-                .map(content -> buildContentResponse(content, userId))
-                .toList();
+        return buildContentResponses(contents, userId);
     }
 
     /**
@@ -199,18 +196,40 @@ public class LearningContentService {
     public ContentListResponse searchContents(String keyword, Pageable pageable, Long userId) {
         log.info("콘텐츠 검색 - 키워드: {}", keyword);
 
-        Page<LearningContent> contentPage = contentRepository.searchByKeyword(keyword, pageable);
+        Page<LearningContent> contentPage = CatalogSnapshot.page(catalogCache.searchContents(keyword), pageable);
 
         return buildContentListResponse(contentPage, userId);
     }
 
+    /**
+     * 콘텐츠 제목 자동완성
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수
+     * @return 제목 목록 (조회수순)
+     */
+    public List<String> suggestContentTitles(String prefix, int limit) {
+        return catalogCache.suggestContentTitles(prefix, limit);
+    }
+
     /**
      * ModuleListResponse 빌더
+     * 모듈별 콘텐츠 수는 스냅샷에서, 사용자 완료 수는 모듈 목록 전체에 대해 한 번만 조회
      */
-    private ModuleListResponse buildModuleListResponse(Page<ContentModule> modulePage, Long userId) {
+    private ModuleListResponse buildModuleListResponse(CatalogSnapshot catalog, Page<ContentModule> modulePage,
+                                                       Long userId) {
+        List<ContentModule> modules = modulePage.getContent();
+        List<Long> moduleIds = modules.stream().map(ContentModule::getId).toList();
+
+        Map<Long, Long> completedCounts = userId == null || moduleIds.isEmpty()
+                ? Map.of()
+                : toCountMap(progressRepository.countCompletedByModuleIds(userId, moduleIds));
+
         return ModuleListResponse.builder()
-                .modules(modulePage.getContent().stream()
-                        .map(module -> buildModuleResponse(module, userId))
+                .modules(modules.stream()
+                        .map(module -> buildModuleResponse(module,
+                                catalog.contentCount(module.getId()),
+                                userId != null ? completedCounts.getOrDefault(module.getId(), 0L) : null))
                         .toList())
                 .currentPage(modulePage.getNumber())
                 .totalPages(modulePage.getTotalPages())
@@ -222,10 +241,12 @@ public class LearningContentService {
 
     /**
      * ModuleResponse 빌더
+     *
+     * @param module         모듈
+     * @param contentCount   활성 콘텐츠 수
+     * @param completedCount 사용자 완료 콘텐츠 수 (비로그인이면 null)
      */
-    private ModuleResponse buildModuleResponse(ContentModule module, Long userId) {
-        long contentCount = contentRepository.countByModuleIdAndIsActiveTrue(module.getId());
-
+    private ModuleResponse buildModuleResponse(ContentModule module, long contentCount, Long completedCount) {
         ModuleResponse.ModuleResponseBuilder builder = ModuleResponse.builder()
                 .id(module.getId())
                 .title(module.getTitle())
@@ -242,14 +263,7 @@ public class LearningContentService {
                 .updatedAt(module.getUpdatedAt());
 
         // 사용자 진행 정보 추가
-        if (userId != null) {
-            List<UserContentProgress> moduleProgress = progressRepository
-                    .findByUserIdAndModuleId(userId, module.getId());
-
-            long completedCount = moduleProgress.stream()
-                    .filter(UserContentProgress::getIsCompleted)
-                    .count();
-
+        if (completedCount != null) {
             int progressPercentage = contentCount > 0
                     ? (int) ((completedCount * 100) / contentCount)
                     : 0;
@@ -270,9 +284,7 @@ public class LearningContentService {
      */
     private ContentListResponse buildContentListResponse(Page<LearningContent> contentPage, Long userId) {
         return ContentListResponse.builder()
-                .contents(contentPage.getContent().stream()
-                        .map(content -> buildContentResponse(content, userId))
-                        .toList())
+                .contents(buildContentResponses(contentPage.getContent(), userId))
                 .currentPage(contentPage.getNumber())
                 .totalPages(contentPage.getTotalPages())
                 .totalElements(contentPage.getTotalElements())
@@ -282,9 +294,41 @@ public class LearningContentService {
     }
 
     /**
-     * ContentResponse 빌더
+     * 콘텐츠 목록 응답 변환
+     * 사용자 진행도는 목록 전체에 대해 IN 조회 한 번으로 가져옴
+     */
+    private List<ContentResponse> buildContentResponses(List<LearningContent> contents, Long userId) {
+        Map<Long, UserContentProgress> progressByContentId = Map.of();
+        if (userId != null && !contents.isEmpty()) {
+            List<Long> contentIds = contents.stream().map(LearningContent::getId).toList();
+            progressByContentId = progressRepository.findByUserIdAndContentIdIn(userId, contentIds).stream()
+                    .collect(Collectors.toMap(progress -> progress.getContent().getId(), Function.identity()));
+        }
+
+        Map<Long, UserContentProgress> progresses = progressByContentId;
+        return contents.stream()
+                .map(content -> buildContentResponse(content, progresses.get(content.getId())))
+                .toList();
+    }
+
+    /**
+     * ContentResponse 빌더 (콘텐츠 상세)
      */
     private ContentResponse buildContentResponse(LearningContent content, Long userId) {
+        UserContentProgress progress = userId != null
+                ? progressRepository.findByUserIdAndContentId(userId, content.getId()).orElse(null)
+                : null;
+
+        return buildContentResponse(content, progress);
+    }
+
+    /**
+     * ContentResponse 빌더
+     *
+     * @param content  콘텐츠 (module이 함께 조회된 상태)
+     * @param progress 사용자 진행도 (없으면 null)
+     */
+    private ContentResponse buildContentResponse(LearningContent content, UserContentProgress progress) {
         List<String> imageUrls = content.getImageUrls() != null
                 ? Arrays.asList(content.getImageUrls().split(","))
                 : List.of();
@@ -310,21 +354,22 @@ public class LearningContentService {
                 .updatedAt(content.getUpdatedAt());
 
         // 사용자 진행 정보 추가
-        if (userId != null) {
-            progressRepository.findByUserIdAndContentId(userId, content.getId())
-                    .ifPresent(progress -> builder.userProgress(
-                            ContentResponse.UserContentProgressInfo.builder()
-                                    .isCompleted(progress.getIsCompleted())
-                                    .progressPercentage(progress.getProgressPercentage())
-                                    .isLiked(progress.getIsLiked())
-                                    .isBookmarked(progress.getIsBookmarked())
-                                    .totalTimeSpentSeconds(progress.getTotalTimeSpentSeconds())
-                                    .quizScore(progress.getQuizScore())
-                                    .lastAccessedAt(progress.getLastAccessedAt())
-                                    .build()
-                    ));
+        if (progress != null) {
+            builder.userProgress(ContentResponse.UserContentProgressInfo.builder()
+                    .isCompleted(progress.getIsCompleted())
+                    .progressPercentage(progress.getProgressPercentage())
+                    .isLiked(progress.getIsLiked())
+                    .isBookmarked(progress.getIsBookmarked())
+                    .totalTimeSpentSeconds(progress.getTotalTimeSpentSeconds())
+                    .quizScore(progress.getQuizScore())
+                    .lastAccessedAt(progress.getLastAccessedAt())
+                    .build());
         }
 
         return builder.build();
     }
+
+    private Map<Long, Long> toCountMap(List<ModuleCount> counts) {
+        return counts.stream().collect(Collectors.toMap(ModuleCount::getModuleId, ModuleCount::getTotal));
+    }
 }
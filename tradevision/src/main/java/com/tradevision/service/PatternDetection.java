@@ -0,0 +1,70 @@
+package com.tradevision.service;
+
+import com.tradevision.dto.response.ChartAnalysisResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시세 데이터 기반 차트 패턴 감지 결과
+ *
+ * @param pattern         감지된 패턴 (쌍바닥, 쌍봉, 상승/하락/대칭 삼각형, 박스권 등)
+ * @param trend           추세 (상승/하락/횡보)
+ * @param supportLevel    주요 지지선 (원)
+ * @param resistanceLevel 주요 저항선 (원)
+ * @param volumeAnalysis  거래량 분석
+ * @param riskLevel       위험도 (낮음/보통/높음, 최근 변동성 기준)
+ * @param lastClose       마지막 종가 (원)
+ * @param barCount        감지에 사용한 캔들 수
+ * @param lastCandleTime  감지에 사용한 마지막 캔들 시각 (FAST 분석 결과 지문에 포함)
+ */
+public record PatternDetection(
+        String pattern,
+        String trend,
+        long supportLevel,
+        long resistanceLevel,
+        String volumeAnalysis,
+        String riskLevel,
+        long lastClose,
+        int barCount,
+        LocalDateTime lastCandleTime) {
+
+    /**
+     * AI 프롬프트에 덧붙일 참고 수치
+     */
+    public String toPromptHints() {
+        return String.format("""
+                - 최근 %d개 캔들 기준 추세: %s
+                - 감지된 패턴: %s
+                - 지지선: %,d원 / 저항선: %,d원 / 마지막 종가: %,d원
+                - 거래량: %s""",
+                barCount, trend, pattern, supportLevel, resistanceLevel, lastClose, volumeAnalysis);
+    }
+
+    /**
+     * 빠른 분석(FAST) 결과로 변환
+     * 수치 감지만으로는 매매 판단을 내리지 않으므로 매매 의견은 관망으로 고정
+     */
+    public ChartAnalysisResponse.AnalysisResult toAnalysisResult() {
+        return ChartAnalysisResponse.AnalysisResult.builder()
+                .pattern(pattern)
+                .trend(trend)
+                .supportLevel(String.valueOf(supportLevel))
+                .resistanceLevel(String.valueOf(resistanceLevel))
+                .volumeAnalysis(volumeAnalysis)
+                .tradingOpinion("관망")
+                .summary(String.format("최근 %d개 캔들 기준 %s 추세이며 %s 형태가 감지되었습니다. "
+                                + "지지선 %,d원과 저항선 %,d원 부근의 움직임을 확인하세요.",
+                        barCount, trend, pattern, supportLevel, resistanceLevel))
+                .keyPoints(List.of(
+                        String.format("마지막 종가 %,d원 (지지선 대비 %+.1f%%)", lastClose, percent(lastClose, supportLevel)),
+                        String.format("저항선 %,d원까지 %+.1f%%", resistanceLevel, percent(resistanceLevel, lastClose)),
+                        volumeAnalysis))
+                .riskLevel(riskLevel)
+                .build();
+    }
+
+    private static double percent(long value, long base) {
+        return base == 0 ? 0.0 : (value - base) * 100.0 / base;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tradevision.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * AI 분석용으로 전처리된 차트 이미지
+ */
+@Getter
+@AllArgsConstructor
+public class PreparedChartImage {
+
+    /**
+     * OpenAI에 전송할 이미지 경로 (축소본 또는 원본)
+     */
+    private final Path path;
+
+    /**
+     * 전송할 이미지 MIME 타입
+     */
+    private final String mimeType;
+
+    /**
+     * 히스토리 목록용 썸네일 경로 (생성 실패 시 null)
+     */
+    private final String thumbnailPath;
+}
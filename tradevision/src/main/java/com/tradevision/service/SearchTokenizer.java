@@ -0,0 +1,154 @@
+package com.tradevision.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 카탈로그 검색용 토크나이저
+ * - 영문/숫자: 단어 단위 (소문자)
+ * - 한글: 음절 bigram (한 음절 단어는 unigram)
+ *   검색어에서는 어절의 첫 bigram만 필수, 나머지는 선택 토큰이라 조사가 붙은 어절("이동평균선이란")도 일치
+ * - 모든 토큰은 자모로 분해해 저장하여, 입력 중인 미완성 음절("이동펴", "이동ㅍ")도 접두어로 일치
+ */
+final class SearchTokenizer {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    // 겹모음/겹받침은 입력 순서대로 풀어서 입력 도중 상태와 접두어가 맞도록 함
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    /**
+     * 검색어 토큰
+     *
+     * @param term     자모 분해된 토큰
+     * @param prefix   접두어 일치 여부 (마지막 토큰 / 한 음절 토큰)
+     * @param required 필수 여부 (어절의 첫 토큰 - 이후 bigram은 점수에만 반영)
+     */
+    record QueryTerm(String term, boolean prefix, boolean required) {
+    }
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 추출
+     */
+    static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String run : runs(text)) {
+            terms.addAll(runTerms(run));
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰 추출 (입력 중인 마지막 토큰은 접두어로 일치, 어절의 첫 토큰만 필수)
+     */
+    static List<QueryTerm> queryTerms(String text) {
+        List<String> runs = runs(text);
+        List<QueryTerm> terms = new ArrayList<>();
+        for (int r = 0; r < runs.size(); r++) {
+            String run = runs.get(r);
+            List<String> runTerms = runTerms(run);
+            for (int t = 0; t < runTerms.size(); t++) {
+                boolean last = r == runs.size() - 1 && t == runTerms.size() - 1;
+                boolean singleSyllable = run.length() == 1 && isHangul(run.charAt(0));
+                terms.add(new QueryTerm(runTerms.get(t), last || singleSyllable, t == 0));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 자동완성 키 (소문자, 공백/기호 제거, 자모 분해)
+     */
+    static String key(String text) {
+        StringBuilder key = new StringBuilder();
+        for (char c : normalize(text).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                appendJamo(c, key);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 텍스트를 같은 문자 종류(한글 / 영문·숫자)의 연속 구간으로 분리
+     */
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null) {
+            return runs;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean word = i < normalized.length() && Character.isLetterOrDigit(c);
+            boolean hangul = word && isHangul(c);
+            if (start >= 0 && (!word || hangul != hangulRun)) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+            if (word && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return runs;
+    }
+
+    private static List<String> runTerms(String run) {
+        if (!isHangul(run.charAt(0))) {
+            return List.of(run);
+        }
+        if (run.length() == 1) {
+            return List.of(jamo(run));
+        }
+        List<String> bigrams = new ArrayList<>(run.length() - 1);
+        for (int i = 0; i < run.length() - 1; i++) {
+            bigrams.add(jamo(run.substring(i, i + 2)));
+        }
+        return bigrams;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= HANGUL_BASE && c <= HANGUL_LAST) || (c >= 0x3131 && c <= 0x318E);
+    }
+
+    private static String jamo(String text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            appendJamo(c, out);
+        }
+        return out.toString();
+    }
+
+    private static void appendJamo(char c, StringBuilder out) {
+        if (c < HANGUL_BASE || c > HANGUL_LAST) {
+            out.append(c);
+            return;
+        }
+        int offset = c - HANGUL_BASE;
+        out.append(CHOSEONG[offset / 588])
+                .append(JUNGSEONG[(offset % 588) / 28])
+                .append(JONGSEONG[offset % 28]);
+    }
+}
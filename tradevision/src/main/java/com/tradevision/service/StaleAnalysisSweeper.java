@@ -0,0 +1,83 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.AnalysisStatus;
+import com.tradevision.entity.ChartAnalysis;
+import com.tradevision.repository.ChartAnalysisRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 끝나지 않은 분석 작업 정리
+ * 분석 작업은 워커 스레드풀 큐에만 있으므로 재시작/장애 시 PENDING/PROCESSING 상태로 남음
+ * 접수 후 app.analysis-recovery.stale-after가 지나도록 끝나지 않은 분석을 실패 처리하여
+ * SSE 구독자에게 종료를 알리고 예약한 일일 분석 한도를 반환 (재시도는 사용자가 다시 요청)
+ * 큐에서 오래 기다리다 실패 처리된 작업은 나중에 실행되더라도 워커가 PENDING 조건부 전환에 실패하여 건너뜀
+ */
+@Slf4j
+@Component
+public class StaleAnalysisSweeper {
+
+    private static final List<AnalysisStatus> IN_PROGRESS = List.of(AnalysisStatus.PENDING, AnalysisStatus.PROCESSING);
+    private static final String STALE_MESSAGE = "분석이 중단되었습니다. 다시 시도해주세요";
+
+    private final ChartAnalysisRepository chartAnalysisRepository;
+    private final ChartAnalysisWorker chartAnalysisWorker;
+    private final Duration staleAfter;
+    private final Clock clock;
+
+    @Autowired
+    public StaleAnalysisSweeper(
+            ChartAnalysisRepository chartAnalysisRepository,
+            ChartAnalysisWorker chartAnalysisWorker,
+            @Value("${app.analysis-recovery.stale-after:15m}") Duration staleAfter) {
+        this(chartAnalysisRepository, chartAnalysisWorker, staleAfter, Clock.systemDefaultZone());
+    }
+
+    StaleAnalysisSweeper(ChartAnalysisRepository chartAnalysisRepository, ChartAnalysisWorker chartAnalysisWorker,
+                         Duration staleAfter, Clock clock) {
+        this.chartAnalysisRepository = chartAnalysisRepository;
+        this.chartAnalysisWorker = chartAnalysisWorker;
+        this.staleAfter = staleAfter;
+        this.clock = clock;
+    }
+
+    /**
+     * 오래 끝나지 않은 분석 실패 처리 (app.analysis-recovery.interval-ms 주기, 한 인스턴스에서만 실행)
+     * 기동 직후 첫 실행에서 이전 프로세스가 남긴 분석도 정리됨
+     */
+    @Scheduled(initialDelayString = "${app.analysis-recovery.interval-ms:60000}",
+            fixedDelayString = "${app.analysis-recovery.interval-ms:60000}")
+    @SchedulerLock(name = "staleAnalysisSweep", lockAtMostFor = "PT5M")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(staleAfter);
+        List<ChartAnalysis> stale = chartAnalysisRepository
+                .findTop100ByStatusInAndCreatedAtBeforeOrderByIdAsc(IN_PROGRESS, before);
+
+        for (ChartAnalysis analysis : stale) {
+            ChartAnalysisJob job = ChartAnalysisJob.builder()
+                    .analysisId(analysis.getId())
+                    .userId(analysis.getUser().getId())
+                    .imagePath(analysis.getImagePath())
+                    .contentHash(analysis.getContentHash())
+                    .build();
+            try {
+                chartAnalysisWorker.fail(job, STALE_MESSAGE);
+            } catch (Exception e) {
+                log.warn("중단된 분석 정리 실패: analysisId={} - {}", analysis.getId(), e.getMessage());
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            log.info("중단된 분석 실패 처리: {}건 (접수 {} 이전)", stale.size(), before);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.dto.response.StockPriceResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 주식 시세 캐시 (캔들 타입별 TTL + 요청 병합)
+ * (종목 코드, 캔들 타입) → 시세 응답
+ * 같은 키에 대한 동시 캐시 미스는 하나의 KIS API 호출로 병합되고, 나머지 요청은 그 결과를 기다림
+ * 항목 수가 max-entries를 넘으면 만료된 항목을 먼저, 그래도 넘으면 오래전에 조회한 항목부터 제거
+ * (한 번에 max-entries의 90%까지 줄여 매 조회마다 정리하지 않도록 함, 조회 중인 항목은 제거하지 않음)
+ */
+@Component
+public class StockQuoteCache {
+
+    private final int maxEntries;
+    private final Duration minuteTtl;
+    private final Duration hourTtl;
+    private final Duration dayTtl;
+    private final Clock clock;
+    private final Map<QuoteKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    public StockQuoteCache(
+            @Value("${app.quote-cache.max-entries:5000}") int maxEntries,
+            @Value("${app.quote-cache.minute-ttl:3s}") Duration minuteTtl,
+            @Value("${app.quote-cache.hour-ttl:15s}") Duration hourTtl,
+            @Value("${app.quote-cache.day-ttl:60s}") Duration dayTtl) {
+        this(maxEntries, minuteTtl, hourTtl, dayTtl, Clock.systemDefaultZone());
+    }
+
+    StockQuoteCache(int maxEntries, Duration minuteTtl, Duration hourTtl, Duration dayTtl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.minuteTtl = minuteTtl;
+        this.hourTtl = hourTtl;
+        this.dayTtl = dayTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 시세 조회, 없거나 만료되었으면 loader로 조회 후 저장
+     * 조회 실패는 캐시하지 않고, 같은 조회를 기다리던 요청에 같은 예외를 전달
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @param loader     KIS API 시세 조회
+     * @return 시세 응답
+     */
+    public StockPriceResponse getOrLoad(String stockCode, CandleType candleType,
+                                        Supplier<StockPriceResponse> loader) {
+        QuoteKey key = new QuoteKey(stockCode, candleType);
+        Entry created = new Entry();
+        Entry entry = acquire(key, created);
+
+        if (entry == created) {
+            load(key, entry, loader);
+        }
+        return await(entry.future);
+    }
+
+    /**
+     * 캐시된 시세 조회, 없거나 만료되었으면 loader로 조회 후 저장 (논블로킹)
+     * getOrLoad와 같은 항목을 공유하므로 블로킹/논블로킹 요청이 섞여도 KIS API 호출은 한 번
+     * 구독을 취소해도 진행 중인 조회는 취소하지 않음 (같은 조회를 기다리는 다른 요청이 있을 수 있음)
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @param loader     KIS API 시세 조회 Mono
+     * @return 시세 응답 Mono
+     */
+    public Mono<StockPriceResponse> getOrLoadAsync(String stockCode, CandleType candleType,
+                                                   Supplier<Mono<StockPriceResponse>> loader) {
+        return Mono.defer(() -> {
+            QuoteKey key = new QuoteKey(stockCode, candleType);
+            Entry created = new Entry();
+            Entry entry = acquire(key, created);
+
+            if (entry == created) {
+                Mono.defer(loader).subscribe(
+                        response -> complete(key, entry, response),
+                        error -> fail(key, entry, error),
+                        () -> fail(key, entry, new IllegalStateException("시세 응답 없음: " + stockCode)));
+            }
+            return Mono.fromFuture(entry.future, true);
+        });
+    }
+
+    /**
+     * 만료되지 않은 캐시 시세만 조회 (조회 중이거나 실패한 항목은 제외)
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @return 시세 응답
+     */
+    public Optional<StockPriceResponse> getIfPresent(String stockCode, CandleType candleType) {
+        Entry entry = entries.get(new QuoteKey(stockCode, candleType));
+        if (entry == null || entry.expiresAt == null || entry.isExpired(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.future.getNow(null));
+    }
+
+    /**
+     * 현재 캐시 항목 수 (조회 중인 항목 포함)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캔들 타입별 TTL
+     * 분봉은 수 초, 시간봉은 수십 초, 일/주/월봉은 1분 단위로 갱신
+     */
+    Duration ttlFor(CandleType candleType) {
+        return switch (candleType) {
+            case M1, M5 -> minuteTtl;
+            case M15, H1 -> hourTtl;
+            case D, W, M -> dayTtl;
+        };
+    }
+
+    /**
+     * 유효한 항목이 있으면 그 항목을, 없거나 만료되었으면 새 항목(created)을 등록 후 반환
+     */
+    private Entry acquire(QuoteKey key, Entry created) {
+        Instant now = clock.instant();
+        return entries.compute(key, (k, existing) ->
+                existing != null && !existing.isExpired(now) ? existing : created);
+    }
+
+    private void load(QuoteKey key, Entry entry, Supplier<StockPriceResponse> loader) {
+        try {
+            complete(key, entry, loader.get());
+        } catch (RuntimeException e) {
+            fail(key, entry, e);
+        }
+    }
+
+    private void complete(QuoteKey key, Entry entry, StockPriceResponse response) {
+        entry.loadedSequence = loadSequence.incrementAndGet();
+        entry.expiresAt = clock.instant().plus(ttlFor(key.candleType()));
+        entry.future.complete(response);
+
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+    }
+
+    private void fail(QuoteKey key, Entry entry, Throwable error) {
+        entries.remove(key, entry);
+        entry.future.completeExceptionally(error);
+    }
+
+    /**
+     * 만료된 항목을 제거하고, 그래도 많으면 조회 완료 순서가 오래된 항목부터 max-entries의 90%까지 제거
+     */
+    private synchronized void evict() {
+        if (entries.size() <= maxEntries) {
+            return;  // 다른 스레드가 이미 정리함
+        }
+        Instant now = clock.instant();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+
+        int excess = entries.size() - (maxEntries - maxEntries / 10);
+        if (excess <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .filter(e -> e.getValue().expiresAt != null)
+                .sorted(Comparator.comparingLong(e -> e.getValue().loadedSequence))
+                .limit(excess)
+                .toList()
+                .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+    }
+
+    private StockPriceResponse await(CompletableFuture<StockPriceResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record QuoteKey(String stockCode, CandleType candleType) {
+    }
+
+    private static class Entry {
+        private final CompletableFuture<StockPriceResponse> future = new CompletableFuture<>();
+        private volatile Instant expiresAt;  // 조회 완료 전에는 null
+        private volatile long loadedSequence;  // 조회 완료 순서 (오래된 항목부터 제거)
+
+        private boolean isExpired(Instant now) {
+            return expiresAt != null && expiresAt.isBefore(now);
+        }
+    }
+}
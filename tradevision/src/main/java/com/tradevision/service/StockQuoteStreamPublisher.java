@@ -0,0 +1,185 @@
+package com.tradevision.service;
+
+import com.tradevision.client.RealtimeQuoteFeed;
+import com.tradevision.dto.response.StockTickResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실시간 시세 SSE 발행기
+ * 종목별로 상위 실시간 피드 구독을 하나만 유지하고, 받은 체결가를 여러 구독자(SseEmitter)에게 전달
+ * 구독자 수를 참조 카운트로 사용하여 첫 구독자가 오면 상위 구독을 시작하고 마지막 구독자가 떠나면 해제
+ * 마지막 체결가를 메모리에 유지하여 새 구독자에게 바로 전송
+ * 채널 맵 작업(compute) 안에서는 채널 등록/제거만 결정하고, 상위 구독 시작/해제(네트워크 I/O)는 작업이 끝난 뒤 수행
+ */
+@Component
+public class StockQuoteStreamPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(StockQuoteStreamPublisher.class);
+
+    private static final String TICK_EVENT = "tick";
+
+    private final RealtimeQuoteFeed realtimeQuoteFeed;
+    private final Scheduler fanOutScheduler;
+    private final long emitterTimeoutMs;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StockQuoteStreamPublisher(
+            RealtimeQuoteFeed realtimeQuoteFeed,
+            @Value("${app.quote-stream.timeout-ms:1800000}") long emitterTimeoutMs) {
+        this(realtimeQuoteFeed, Schedulers.boundedElastic(), emitterTimeoutMs);
+    }
+
+    StockQuoteStreamPublisher(RealtimeQuoteFeed realtimeQuoteFeed, Scheduler fanOutScheduler, long emitterTimeoutMs) {
+        this.realtimeQuoteFeed = realtimeQuoteFeed;
+        this.fanOutScheduler = fanOutScheduler;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    /**
+     * 종목 실시간 시세 스트림 구독
+     * 마지막 체결가가 있으면 먼저 전송
+     *
+     * @param stockCode 종목 코드
+     * @return SSE Emitter
+     */
+    public SseEmitter subscribe(String stockCode) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        // 채널 생성/구독자 추가를 원자적으로 처리 (동시에 마지막 구독자가 떠나며 채널이 제거되는 경우 방지)
+        boolean[] created = new boolean[1];
+        Channel channel = channels.compute(stockCode, (code, existing) -> {
+            Channel target = existing;
+            if (target == null) {
+                target = new Channel();
+                created[0] = true;
+            }
+            target.emitters.add(emitter);
+            return target;
+        });
+        if (created[0]) {
+            open(stockCode, channel);
+        }
+
+        emitter.onCompletion(() -> unsubscribe(stockCode, emitter));
+        emitter.onTimeout(() -> {
+            unsubscribe(stockCode, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe(stockCode, emitter));
+
+        synchronized (channel) {
+            if (channel.lastTick != null) {
+                send(stockCode, emitter, channel.lastTick);
+            }
+        }
+
+        log.debug("실시간 시세 구독: {} (구독자 {}명, 구독 종목 {}개)",
+                stockCode, channel.emitters.size(), channels.size());
+        return emitter;
+    }
+
+    /**
+     * 마지막 체결가 조회 (구독 중인 종목만)
+     *
+     * @param stockCode 종목 코드
+     * @return 마지막 체결가
+     */
+    public Optional<StockTickResponse> getLatestTick(String stockCode) {
+        Channel channel = channels.get(stockCode);
+        return channel != null ? Optional.ofNullable(channel.lastTick) : Optional.empty();
+    }
+
+    /**
+     * 상위 구독 중인 종목 수
+     */
+    public int activeSymbolCount() {
+        return channels.size();
+    }
+
+    /**
+     * 종목 구독자 수
+     */
+    public int subscriberCount(String stockCode) {
+        Channel channel = channels.get(stockCode);
+        return channel != null ? channel.emitters.size() : 0;
+    }
+
+    /**
+     * 구독 해제, 마지막 구독자였으면 상위 구독도 해제
+     */
+    void unsubscribe(String stockCode, SseEmitter emitter) {
+        Channel[] removed = new Channel[1];
+        channels.computeIfPresent(stockCode, (code, channel) -> {
+            if (!channel.emitters.remove(emitter) || !channel.emitters.isEmpty()) {
+                return channel;
+            }
+            removed[0] = channel;
+            return null;
+        });
+        if (removed[0] != null) {
+            removed[0].upstream.dispose();
+            log.debug("실시간 시세 상위 구독 해제: {}", stockCode);
+        }
+    }
+
+    /**
+     * 새로 등록한 채널의 상위 구독 시작
+     * 느린 구독자가 피드 수신 스레드를 막지 않도록 별도 스케줄러에서 전달하고, 밀리면 중간 체결가는 건너뜀
+     * 구독을 시작하는 사이 채널이 제거되었으면 (upstream 해제됨) 방금 시작한 구독도 바로 해제
+     */
+    private void open(String stockCode, Channel channel) {
+        channel.upstream.update(realtimeQuoteFeed.ticks(stockCode)
+                .onBackpressureLatest()
+                .publishOn(fanOutScheduler, 1)
+                .subscribe(
+                        tick -> broadcast(stockCode, channel, tick),
+                        error -> log.warn("실시간 시세 피드 오류: {} - {}", stockCode, error.getMessage())));
+        log.debug("실시간 시세 상위 구독 시작: {}", stockCode);
+    }
+
+    private void broadcast(String stockCode, Channel channel, StockTickResponse tick) {
+        synchronized (channel) {
+            channel.lastTick = tick;
+            channel.emitters.forEach(emitter -> send(stockCode, emitter, tick));
+        }
+    }
+
+    private void send(String stockCode, SseEmitter emitter, StockTickResponse tick) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(TICK_EVENT)
+                    .data(tick));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 - 구독 해제
+            log.debug("실시간 시세 전송 실패, 구독 해제: {}", e.getMessage());
+            unsubscribe(stockCode, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 종목 하나에 대한 구독 채널
+     */
+    private static class Channel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Disposable.Swap upstream = Disposables.swap();
+        private volatile StockTickResponse lastTick;
+    }
+}
@@ -4,19 +4,32 @@ import com.tradevision.client.KISApiClient;
 import com.tradevision.constant.CandleType;
 import com.tradevision.dto.external.KISStockPriceResponse;
 import com.tradevision.dto.response.StockPriceResponse;
+import com.tradevision.dto.response.StockQuotesResponse;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 주식 데이터 서비스
  * 한국투자증권 API를 통한 실시간 주식 시세 조회
+ * 시세는 StockQuoteCache에 캔들 타입별 TTL 동안 캐시 (동시 조회는 한 번의 API 호출로 병합)
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +38,17 @@ public class StockService {
     private static final Logger log = LoggerFactory.getLogger(StockService.class);
 
     private final KISApiClient kisApiClient;
+    private final StockQuoteCache stockQuoteCache;
+    private final StockQuoteStreamPublisher quoteStreamPublisher;
+
+    @Value("${app.stock-quotes.max-codes:100}")
+    private int maxQuoteCodes;
+
+    @Value("${app.stock-quotes.concurrency:10}")
+    private int quoteConcurrency;
+
+    @Value("${app.stock-quotes.timeout:10s}")
+    private Duration quoteTimeout;
 
     /**
      * 주식 현재가 조회
@@ -39,8 +63,157 @@ public class StockService {
         // 캔들 타입 기본값 설정
         CandleType targetCandleType = candleType != null ? candleType : CandleType.D;
 
+        // 캐시 조회, 미스 시 KIS API 호출 (실패 응답은 캐시하지 않음)
+        StockPriceResponse response = stockQuoteCache.getOrLoad(stockCode, targetCandleType,
+                () -> fetchStockPrice(stockCode, targetCandleType));
+
+        log.info("주식 시세 조회 완료: {} - 현재가 {}원", stockCode, response.getCurrentPrice());
+
+        return response;
+    }
+
+    /**
+     * 종목 실시간 시세 스트림 구독 (SSE)
+     * 같은 종목을 보는 사용자들은 하나의 상위 실시간 구독을 공유
+     *
+     * @param stockCode 종목 코드 (6자리)
+     * @return SSE Emitter
+     */
+    public SseEmitter streamStockPrice(String stockCode) {
+        if (stockCode == null || !stockCode.matches("^\\d{6}$")) {
+            throw new BusinessException(ErrorCode.INVALID_STOCK_CODE);
+        }
+        return quoteStreamPublisher.subscribe(stockCode);
+    }
+
+    /**
+     * 다중 종목 시세 조회
+     * 1. 캐시에 있는 종목은 바로 응답
+     * 2. 나머지 종목은 KIS API로 동시에 조회 (kisApi Rate Limiter로 전체 호출 수 제한)
+     * 종목별 실패(잘못된 코드, 조회 실패, 시간 초과)는 해당 종목 결과에만 기록
+     *
+     * @param stockCodes 종목 코드 목록 (요청 순서 유지, 중복 제거)
+     * @param candleType 캔들 타입 (기본값: 일봉)
+     * @return 종목별 시세 조회 결과
+     */
+    public StockQuotesResponse getStockQuotes(List<String> stockCodes, CandleType candleType) {
+        CandleType targetCandleType = candleType != null ? candleType : CandleType.D;
+        List<String> codes = stockCodes.stream().distinct().toList();
+
+        if (codes.size() > maxQuoteCodes) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "한 번에 조회할 수 있는 종목은 최대 " + maxQuoteCodes + "개입니다");
+        }
+
+        log.info("다중 종목 시세 조회: {}개 ({})", codes.size(), targetCandleType.getDisplayName());
+
+        // 1. 형식 검증 및 캐시 조회
+        Map<String, StockQuotesResponse.Item> results = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        int cacheHits = 0;
+        for (String code : codes) {
+            if (code == null || !code.matches("^\\d{6}$")) {
+                results.put(code, StockQuotesResponse.Item.failed(code,
+                        ErrorCode.INVALID_STOCK_CODE, ErrorCode.INVALID_STOCK_CODE.getMessage()));
+                continue;
+            }
+            Optional<StockPriceResponse> cached = stockQuoteCache.getIfPresent(code, targetCandleType);
+            if (cached.isPresent()) {
+                results.put(code, StockQuotesResponse.Item.success(cached.get()));
+                cacheHits++;
+            } else {
+                misses.add(code);
+            }
+        }
+
+        // 2. 캐시 미스 종목 동시 조회
+        if (!misses.isEmpty()) {
+            List<StockQuotesResponse.Item> fetched = Flux.fromIterable(misses)
+                    .flatMap(code -> fetchQuote(code, targetCandleType), quoteConcurrency)
+                    .collectList()
+                    .block();
+            fetched.forEach(item -> results.put(item.getStockCode(), item));
+        }
+
+        List<StockQuotesResponse.Item> items = codes.stream().map(results::get).toList();
+        int successCount = (int) items.stream().filter(StockQuotesResponse.Item::isSuccess).count();
+
+        log.info("다중 종목 시세 조회 완료: 성공 {}개, 실패 {}개 (캐시 적중 {}개)",
+                successCount, items.size() - successCount, cacheHits);
+
+        return StockQuotesResponse.builder()
+                .candleType(targetCandleType)
+                .totalCount(items.size())
+                .successCount(successCount)
+                .failedCount(items.size() - successCount)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * KIS API로 시세 조회 후 DTO 변환
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @return 주식 시세 정보
+     */
+    private StockPriceResponse fetchStockPrice(String stockCode, CandleType candleType) {
         // KIS API 호출
-        KISStockPriceResponse kisResponse = kisApiClient.getStockPrice(stockCode, targetCandleType);
+        KISStockPriceResponse kisResponse = kisApiClient.getStockPrice(stockCode, candleType);
+
+        return toStockPriceResponse(stockCode, kisResponse, candleType);
+    }
+
+    /**
+     * 단일 종목 시세 조회 (논블로킹, 캐시 경유)
+     * 실패는 예외 대신 실패 결과로 변환
+     *
+     * @param stockCode  종목 코드
+     * @param candleType 캔들 타입
+     * @return 종목별 조회 결과 Mono
+     */
+    private Mono<StockQuotesResponse.Item> fetchQuote(String stockCode, CandleType candleType) {
+        return stockQuoteCache.getOrLoadAsync(stockCode, candleType,
+                        () -> kisApiClient.getStockPriceReactive(stockCode, candleType)
+                                .map(kisResponse -> toStockPriceResponse(stockCode, kisResponse, candleType)))
+                .timeout(quoteTimeout)
+                .map(StockQuotesResponse.Item::success)
+                .onErrorResume(e -> Mono.just(toFailedItem(stockCode, e)));
+    }
+
+    /**
+     * 조회 실패를 종목별 실패 결과로 변환
+     *
+     * @param stockCode 종목 코드
+     * @param e         발생한 오류
+     * @return 실패 결과
+     */
+    private StockQuotesResponse.Item toFailedItem(String stockCode, Throwable e) {
+        log.warn("종목 시세 조회 실패: {} - {}", stockCode, e.getMessage());
+
+        if (e instanceof BusinessException businessException) {
+            return StockQuotesResponse.Item.failed(stockCode, businessException.getErrorCode(), e.getMessage());
+        }
+        if (e instanceof TimeoutException) {
+            return StockQuotesResponse.Item.failed(stockCode, ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                    "시세 조회 시간이 초과되었습니다");
+        }
+        return StockQuotesResponse.Item.failed(stockCode, ErrorCode.EXTERNAL_API_ERROR,
+                ErrorCode.EXTERNAL_API_ERROR.getMessage());
+    }
+
+    /**
+     * KIS API 응답 검증 후 DTO 변환
+     *
+     * @param stockCode   종목 코드
+     * @param kisResponse KIS API 응답
+     * @param candleType  캔들 타입
+     * @return 주식 시세 정보
+     */
+    private StockPriceResponse toStockPriceResponse(
+            String stockCode,
+            KISStockPriceResponse kisResponse,
+            CandleType candleType) {
 
         // 응답 데이터 검증
         if (kisResponse.getOutput() == null) {
@@ -48,11 +221,7 @@ public class StockService {
         }
 
         // DTO 변환
-        StockPriceResponse response = convertToStockPriceResponse(stockCode, kisResponse, targetCandleType);
-
-        log.info("주식 시세 조회 완료: {} - 현재가 {}원", stockCode, response.getCurrentPrice());
-
-        return response;
+        return convertToStockPriceResponse(stockCode, kisResponse, candleType);
     }
 
     /**
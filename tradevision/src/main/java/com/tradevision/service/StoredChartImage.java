@@ -0,0 +1,28 @@
+package com.tradevision.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 차트 이미지 정보
+ * 이미지 내용의 SHA-256 해시로 주소가 정해지므로 동일한 이미지는 한 번만 저장됨
+ */
+@Getter
+@AllArgsConstructor
+public class StoredChartImage {
+
+    /**
+     * 저장 경로
+     */
+    private final String path;
+
+    /**
+     * 이미지 내용 SHA-256 해시 (16진수)
+     */
+    private final String imageHash;
+
+    /**
+     * 파일 확장자 (소문자)
+     */
+    private final String extension;
+}
@@ -0,0 +1,398 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.dto.response.TechnicalIndicatorResponse;
+import com.tradevision.entity.CandleSeries;
+import com.tradevision.exception.BusinessException;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.service.indicator.IndicatorEngine;
+import com.tradevision.service.indicator.IndicatorSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 보조지표 서비스
+ * 캔들 이력(CandleHistoryService)을 시간순으로 IndicatorEngine에 흘려 SMA/EMA, RSI, MACD,
+ * 볼린저 밴드를 계산 (캔들당 O(1))
+ * - 종목/캔들 타입/지표 설정별 엔진을 메모리(LRU)에 유지하고, 재조회 시 새로 확정된 캔들만 반영
+ * - 엔진을 처음 만들 때는 조회 구간 앞의 워밍업 캔들부터 흘려 전체 이력 기준 값과 맞춤
+ * - 조회한 캔들이 엔진에 보관된 행과 시각이 하나라도 어긋나면 (중간에 채워진 캔들 등) 엔진을 다시 만듦
+ * - 진행 중일 수 있는 마지막 캔들은 엔진 복사본에만 반영 (다음 동기화에서 값이 바뀔 수 있음)
+ * - VWAP/OBV는 조회 구간 기준 누적값이므로 응답 구간에서 계산
+ */
+@Slf4j
+@Service
+public class TechnicalIndicatorService {
+
+    private static final int MIN_PERIOD = 2;
+    private static final int MAX_PERIOD = 200;
+    private static final int SMOOTHING_WARMUP_FACTOR = 3;  // EMA/RSI 평활 초기값 영향이 줄어들도록 기간의 3배
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final long KST_OFFSET_MILLIS = 9 * 3_600_000L;
+
+    private final CandleHistoryService candleHistoryService;
+    private final int maxRows;
+    private final Map<EngineKey, SeriesIndicators> engines;
+
+    public TechnicalIndicatorService(
+            CandleHistoryService candleHistoryService,
+            @Value("${app.indicators.max-series:200}") int maxSeries,
+            @Value("${app.candles.max-points:2000}") int maxPoints) {
+        this.candleHistoryService = candleHistoryService;
+        this.maxRows = maxPoints;
+        // accessOrder = true: 가장 오래 조회되지 않은 엔진부터 제거
+        this.engines = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EngineKey, SeriesIndicators> eldest) {
+                return size() > maxSeries;
+            }
+        };
+    }
+
+    /**
+     * 보조지표 조회
+     *
+     * @param stockCode       종목 코드 (6자리)
+     * @param candleType      캔들 타입 (기본값: 일봉)
+     * @param from            시작 시각 (선택)
+     * @param to              종료 시각 (선택)
+     * @param smaPeriod       단순 이동평균 기간
+     * @param emaPeriod       지수 이동평균 기간
+     * @param rsiPeriod       RSI 기간
+     * @param bollingerPeriod 볼린저 밴드 기간
+     * @return 캔들별 보조지표
+     */
+    public TechnicalIndicatorResponse getIndicators(String stockCode, CandleType candleType,
+                                                    LocalDateTime from, LocalDateTime to,
+                                                    int smaPeriod, int emaPeriod, int rsiPeriod, int bollingerPeriod) {
+        validatePeriod(smaPeriod);
+        validatePeriod(emaPeriod);
+        validatePeriod(rsiPeriod);
+        validatePeriod(bollingerPeriod);
+
+        IndicatorSettings defaults = IndicatorSettings.DEFAULT;
+        IndicatorSettings settings = new IndicatorSettings(smaPeriod, emaPeriod, rsiPeriod,
+                defaults.macdFast(), defaults.macdSlow(), defaults.macdSignal(),
+                bollingerPeriod, defaults.bollingerWidth());
+
+        CandleType targetCandleType = candleType != null ? candleType : CandleType.D;
+        CandleSeries candles = candleHistoryService.getSeries(stockCode, targetCandleType, from, to);
+        if (candles.isEmpty()) {
+            return calculate(stockCode, targetCandleType, candles, null);
+        }
+
+        SeriesIndicators indicators = indicatorsFor(new EngineKey(stockCode, targetCandleType, settings));
+        synchronized (indicators) {
+            if (!indicators.covers(candles)) {
+                CandleSeries warmup = candleHistoryService.getSeriesBefore(
+                        stockCode, targetCandleType, candles.firstTime(), warmupBars(settings));
+                indicators.reset();
+                indicators.append(warmup, warmup.size());
+                log.debug("보조지표 엔진 생성: {} ({}) 워밍업 {}건", stockCode, targetCandleType, warmup.size());
+            }
+            indicators.append(candles, candles.size() - 1);
+            return calculate(stockCode, targetCandleType, candles, indicators);
+        }
+    }
+
+    /**
+     * 응답 구간의 지표 값 구성
+     * 확정된 캔들은 엔진에 쌓인 값을 쓰고, 엔진에 반영되지 않은 마지막 캔들은 복사본으로 계산
+     */
+    private TechnicalIndicatorResponse calculate(String stockCode, CandleType candleType,
+                                                 CandleSeries candles, SeriesIndicators indicators) {
+        int n = candles.size();
+        long[] timestamps = candles.epochMillis();
+        long[] high = candles.highs();
+        long[] low = candles.lows();
+        long[] close = candles.closes();
+        long[] volume = candles.volumes();
+
+        Double[] sma = new Double[n];
+        Double[] ema = new Double[n];
+        Double[] rsi = new Double[n];
+        Double[] macd = new Double[n];
+        Double[] macdSignal = new Double[n];
+        Double[] macdHistogram = new Double[n];
+        Double[] bollingerUpper = new Double[n];
+        Double[] bollingerMiddle = new Double[n];
+        Double[] bollingerLower = new Double[n];
+
+        if (n > 0) {
+            int offset = indicators.indexOf(timestamps[0]);
+            for (int i = 0; i < n; i++) {
+                int row = offset + i;
+                if (row < indicators.size()) {
+                    sma[i] = valueOrNull(indicators.value(row, SeriesIndicators.SMA));
+                    ema[i] = valueOrNull(indicators.value(row, SeriesIndicators.EMA));
+                    rsi[i] = valueOrNull(indicators.value(row, SeriesIndicators.RSI));
+                    macd[i] = valueOrNull(indicators.value(row, SeriesIndicators.MACD));
+                    macdSignal[i] = valueOrNull(indicators.value(row, SeriesIndicators.MACD_SIGNAL));
+                    macdHistogram[i] = valueOrNull(indicators.value(row, SeriesIndicators.MACD_HISTOGRAM));
+                    bollingerUpper[i] = valueOrNull(indicators.value(row, SeriesIndicators.BOLLINGER_UPPER));
+                    bollingerMiddle[i] = valueOrNull(indicators.value(row, SeriesIndicators.BOLLINGER_MIDDLE));
+                    bollingerLower[i] = valueOrNull(indicators.value(row, SeriesIndicators.BOLLINGER_LOWER));
+                } else {
+                    IndicatorEngine engine = indicators.engine().copy();
+                    engine.update(high[i], low[i], close[i], volume[i]);
+                    sma[i] = valueOrNull(engine.sma());
+                    ema[i] = valueOrNull(engine.ema());
+                    rsi[i] = valueOrNull(engine.rsi());
+                    macd[i] = valueOrNull(engine.macd());
+                    macdSignal[i] = valueOrNull(engine.macdSignal());
+                    macdHistogram[i] = valueOrNull(engine.macdHistogram());
+                    bollingerUpper[i] = valueOrNull(engine.bollingerUpper());
+                    bollingerMiddle[i] = valueOrNull(engine.bollingerMiddle());
+                    bollingerLower[i] = valueOrNull(engine.bollingerLower());
+                }
+            }
+        }
+
+        log.debug("보조지표 계산 완료: {} ({}) {}건", stockCode, candleType, n);
+
+        return TechnicalIndicatorResponse.builder()
+                .stockCode(stockCode)
+                .candleType(candleType)
+                .count(n)
+                .timestamps(timestamps)
+                .close(close)
+                .sma(sma)
+                .ema(ema)
+                .rsi(rsi)
+                .macd(macd)
+                .macdSignal(macdSignal)
+                .macdHistogram(macdHistogram)
+                .bollingerUpper(bollingerUpper)
+                .bollingerMiddle(bollingerMiddle)
+                .bollingerLower(bollingerLower)
+                .vwap(vwap(timestamps, high, low, close, volume, isIntraday(candleType)))
+                .obv(obv(close, volume))
+                .build();
+    }
+
+    /**
+     * VWAP (조회 구간 누적, 분봉은 거래일마다 초기화)
+     */
+    private Double[] vwap(long[] timestamps, long[] high, long[] low, long[] close, long[] volume,
+                          boolean resetDaily) {
+        Double[] result = new Double[timestamps.length];
+        double cumulativePriceVolume = 0.0;
+        double cumulativeVolume = 0.0;
+        long currentDay = Long.MIN_VALUE;
+
+        for (int i = 0; i < timestamps.length; i++) {
+            if (resetDaily) {
+                long day = Math.floorDiv(timestamps[i] + KST_OFFSET_MILLIS, DAY_MILLIS);
+                if (day != currentDay) {
+                    cumulativePriceVolume = 0.0;
+                    cumulativeVolume = 0.0;
+                    currentDay = day;
+                }
+            }
+            double typicalPrice = (high[i] + low[i] + close[i]) / 3.0;
+            cumulativePriceVolume += typicalPrice * volume[i];
+            cumulativeVolume += volume[i];
+            result[i] = cumulativeVolume > 0 ? cumulativePriceVolume / cumulativeVolume : null;
+        }
+        return result;
+    }
+
+    /**
+     * OBV (조회 구간 첫 캔들 기준 0에서 누적)
+     */
+    private Double[] obv(long[] close, long[] volume) {
+        Double[] result = new Double[close.length];
+        double obv = 0.0;
+        for (int i = 0; i < close.length; i++) {
+            if (i > 0 && close[i] > close[i - 1]) {
+                obv += volume[i];
+            } else if (i > 0 && close[i] < close[i - 1]) {
+                obv -= volume[i];
+            }
+            result[i] = obv;
+        }
+        return result;
+    }
+
+    /**
+     * 엔진을 처음 만들 때 조회 구간 앞에서 흘려 넣을 캔들 수
+     * 이동 구간 지표는 기간만큼, 평활 지표(EMA/RSI/MACD)는 초기값 영향이 줄어들도록 기간의 여러 배
+     */
+    static int warmupBars(IndicatorSettings settings) {
+        return Math.max(
+                Math.max(settings.smaPeriod(), settings.bollingerPeriod()),
+                SMOOTHING_WARMUP_FACTOR * Math.max(
+                        Math.max(settings.emaPeriod(), settings.rsiPeriod() + 1),
+                        settings.macdSlow() + settings.macdSignal()));
+    }
+
+    private SeriesIndicators indicatorsFor(EngineKey key) {
+        synchronized (engines) {
+            return engines.computeIfAbsent(key, k -> new SeriesIndicators(k.settings(), maxRows));
+        }
+    }
+
+    private void validatePeriod(int period) {
+        if (period < MIN_PERIOD || period > MAX_PERIOD) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "지표 기간은 " + MIN_PERIOD + "~" + MAX_PERIOD + " 사이여야 합니다");
+        }
+    }
+
+    private boolean isIntraday(CandleType candleType) {
+        return candleType == CandleType.M1 || candleType == CandleType.M5
+                || candleType == CandleType.M15 || candleType == CandleType.H1;
+    }
+
+    /**
+     * 워밍업 구간(NaN)은 JSON에서 null로 표현
+     */
+    private Double valueOrNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private record EngineKey(String stockCode, CandleType candleType, IndicatorSettings settings) {
+    }
+
+    /**
+     * 시계열 하나의 증분 지표 상태
+     * 엔진에 반영한 확정 캔들의 시각과 지표 값을 행 단위(double[] 열 stride)로 보관 (최대 maxRows행)
+     * 호출자가 인스턴스 잠금을 잡고 사용
+     */
+    private static final class SeriesIndicators {
+
+        static final int SMA = 0;
+        static final int EMA = 1;
+        static final int RSI = 2;
+        static final int MACD = 3;
+        static final int MACD_SIGNAL = 4;
+        static final int MACD_HISTOGRAM = 5;
+        static final int BOLLINGER_UPPER = 6;
+        static final int BOLLINGER_MIDDLE = 7;
+        static final int BOLLINGER_LOWER = 8;
+        private static final int COLUMNS = 9;
+
+        private final IndicatorSettings settings;
+        private final int maxRows;
+        private IndicatorEngine engine;
+        private long[] times = new long[0];
+        private double[] values = new double[0];
+        private int size;
+
+        private SeriesIndicators(IndicatorSettings settings, int maxRows) {
+            this.settings = settings;
+            this.maxRows = maxRows;
+            this.engine = new IndicatorEngine(settings);
+        }
+
+        IndicatorEngine engine() {
+            return engine;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double value(int row, int column) {
+            return values[row * COLUMNS + column];
+        }
+
+        void reset() {
+            engine = new IndicatorEngine(settings);
+            size = 0;
+        }
+
+        /**
+         * 보관 중인 행에서 이어서 계산할 수 있는 시계열인지 여부
+         * 첫 캔들이 보관된 행에 있고, 겹치는 구간의 캔들 시각이 행 시각과 하나씩 일치해야 함
+         * (보관 구간 안에 나중에 채워진 캔들이 있거나 첫 캔들이 없으면 행과 캔들이 어긋나므로 다시 계산)
+         */
+        boolean covers(CandleSeries candles) {
+            if (size == 0) {
+                return false;
+            }
+            long[] candleTimes = candles.epochMillis();
+            int offset = Arrays.binarySearch(times, 0, size, candleTimes[0]);
+            if (offset < 0) {
+                return false;
+            }
+            int overlap = Math.min(candleTimes.length, size - offset);
+            for (int i = 0; i < overlap; i++) {
+                if (times[offset + i] != candleTimes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 시각 위치 (없으면 마지막 행 다음, covers 확인 후에는 엔진에 반영되지 않은 단일 캔들일 때만)
+         */
+        int indexOf(long epochMillis) {
+            int index = Arrays.binarySearch(times, 0, size, epochMillis);
+            return index >= 0 ? index : size;
+        }
+
+        /**
+         * 마지막으로 반영한 캔들 이후의 확정 캔들을 엔진에 반영 (캔들당 O(1))
+         *
+         * @param candles 캔들 시계열
+         * @param limit   반영할 캔들 수 (앞에서부터, 진행 중인 마지막 캔들 제외 시 size - 1)
+         */
+        void append(CandleSeries candles, int limit) {
+            long[] candleTimes = candles.epochMillis();
+            long[] high = candles.highs();
+            long[] low = candles.lows();
+            long[] close = candles.closes();
+            long[] volume = candles.volumes();
+            long lastTime = size > 0 ? times[size - 1] : Long.MIN_VALUE;
+
+            for (int i = 0; i < limit; i++) {
+                if (candleTimes[i] <= lastTime) {
+                    continue;
+                }
+                engine.update(high[i], low[i], close[i], volume[i]);
+                addRow(candleTimes[i]);
+            }
+        }
+
+        private void addRow(long time) {
+            if (size == times.length) {
+                if (size >= maxRows * 2) {
+                    compact();
+                } else {
+                    int capacity = Math.max(64, size * 2);
+                    times = Arrays.copyOf(times, capacity);
+                    values = Arrays.copyOf(values, capacity * COLUMNS);
+                }
+            }
+            int base = size * COLUMNS;
+            values[base + SMA] = engine.sma();
+            values[base + EMA] = engine.ema();
+            values[base + RSI] = engine.rsi();
+            values[base + MACD] = engine.macd();
+            values[base + MACD_SIGNAL] = engine.macdSignal();
+            values[base + MACD_HISTOGRAM] = engine.macdHistogram();
+            values[base + BOLLINGER_UPPER] = engine.bollingerUpper();
+            values[base + BOLLINGER_MIDDLE] = engine.bollingerMiddle();
+            values[base + BOLLINGER_LOWER] = engine.bollingerLower();
+            times[size++] = time;
+        }
+
+        /**
+         * 최근 maxRows행만 남김 (배열 크기는 유지하여 다음 압축까지 복사 없음)
+         */
+        private void compact() {
+            int drop = size - maxRows;
+            System.arraycopy(times, drop, times, 0, maxRows);
+            System.arraycopy(values, drop * COLUMNS, values, 0, maxRows * COLUMNS);
+            size = maxRows;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.tradevision.entity.User;
 import com.tradevision.entity.UserTechniqueProgress;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
+import com.tradevision.repository.TechniqueSummary;
 import com.tradevision.repository.TradingTechniqueRepository;
 import com.tradevision.repository.UserRepository;
 import com.tradevision.repository.UserTechniqueProgressRepository;
@@ -19,8 +20,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 매매기법 서비스
+ * 기법 목록은 카탈로그 스냅샷(CatalogCache)에서 응답하고, 본문은 상세 조회에서만 DB에서 로딩
  */
 @Slf4j
 @Service
@@ -31,6 +38,8 @@ public class TradingTechniqueService {
     private final TradingTechniqueRepository techniqueRepository;
     private final UserTechniqueProgressRepository progressRepository;
     private final UserRepository userRepository;
+    private final CatalogCounterBuffer counterBuffer;
+    private final CatalogCache catalogCache;
 
     /**
      * 모든 활성 기법 조회
@@ -42,7 +51,7 @@ public class TradingTechniqueService {
     public TechniqueListResponse getAllTechniques(Pageable pageable, Long userId) {
         log.info("모든 기법 조회 - 페이지: {}, 크기: {}", pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<TradingTechnique> techniquePage = techniqueRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
+        Page<TechniqueSummary> techniquePage = CatalogSnapshot.page(catalogCache.current().techniques(), pageable);
 
         return buildTechniqueListResponse(techniquePage, userId);
     }
@@ -54,15 +63,14 @@ public class TradingTechniqueService {
      * @param userId      사용자 ID (선택, 진행도 정보 포함)
      * @return 기법 상세
      */
-    @Transactional
     public TechniqueResponse getTechniqueById(Long techniqueId, Long userId) {
         log.info("기법 상세 조회 - 기법 ID: {}, 사용자 ID: {}", techniqueId, userId);
 
         TradingTechnique technique = techniqueRepository.findByIdAndIsActiveTrue(techniqueId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TECHNIQUE_NOT_FOUND));
 
-        // 조회수 증가
-        techniqueRepository.incrementViewCount(techniqueId);
+        // 조회수 증가 (쓰기 지연 버퍼, 주기적으로 일괄 반영)
+        counterBuffer.increment(CatalogCounterBuffer.Counter.TECHNIQUE_VIEW, techniqueId);
 
         return buildTechniqueResponse(technique, userId);
     }
@@ -78,8 +86,8 @@ public class TradingTechniqueService {
     public TechniqueListResponse getTechniquesByDifficulty(InvestmentLevel level, Pageable pageable, Long userId) {
         log.info("난이도별 기법 조회 - 난이도: {}", level);
 
-        Page<TradingTechnique> techniquePage = techniqueRepository
-                .findByDifficultyLevelAndIsActiveTrueOrderByRecommendationCountDesc(level, pageable);
+        Page<TechniqueSummary> techniquePage = CatalogSnapshot.page(
+                catalogCache.current().techniquesByDifficulty(level), pageable);
 
         return buildTechniqueListResponse(techniquePage, userId);
     }
@@ -95,8 +103,8 @@ public class TradingTechniqueService {
     public TechniqueListResponse getTechniquesByCategory(TechniqueCategory category, Pageable pageable, Long userId) {
         log.info("카테고리별 기법 조회 - 카테고리: {}", category);
 
-        Page<TradingTechnique> techniquePage = techniqueRepository
-                .findByCategoryAndIsActiveTrueOrderByViewCountDesc(category, pageable);
+        Page<TechniqueSummary> techniquePage = CatalogSnapshot.page(
+                catalogCache.current().techniquesByCategory(category), pageable);
 
         return buildTechniqueListResponse(techniquePage, userId);
     }
@@ -114,8 +122,8 @@ public class TradingTechniqueService {
             InvestmentLevel level, TechniqueCategory category, Pageable pageable, Long userId) {
         log.info("난이도&카테고리별 기법 조회 - 난이도: {}, 카테고리: {}", level, category);
 
-        Page<TradingTechnique> techniquePage = techniqueRepository
-                .findByDifficultyLevelAndCategoryAndIsActiveTrueOrderByRecommendationCountDesc(level, category, pageable);
+        Page<TechniqueSummary> techniquePage = CatalogSnapshot.page(
+                catalogCache.current().techniquesByDifficultyAndCategory(level, category), pageable);
 
         return buildTechniqueListResponse(techniquePage, userId);
     }
@@ -131,11 +139,22 @@ public class TradingTechniqueService {
     public TechniqueListResponse searchTechniques(String keyword, Pageable pageable, Long userId) {
         log.info("기법 검색 - 키워드: {}", keyword);
 
-        Page<TradingTechnique> techniquePage = techniqueRepository.searchByKeyword(keyword, pageable);
+        Page<TechniqueSummary> techniquePage = CatalogSnapshot.page(catalogCache.searchTechniques(keyword), pageable);
 
         return buildTechniqueListResponse(techniquePage, userId);
     }
 
+    /**
+     * 기법명 자동완성
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수
+     * @return 기법명 목록 (조회수순)
+     */
+    public List<String> suggestTechniqueNames(String prefix, int limit) {
+        return catalogCache.suggestTechniqueNames(prefix, limit);
+    }
+
     /**
      * 인기 기법 조회 (조회수 기준)
      *
@@ -146,11 +165,8 @@ public class TradingTechniqueService {
     public TechniqueListResponse getPopularTechniques(Pageable pageable, Long userId) {
         log.info("인기 기법 조회 - Top {}", pageable.getPageSize());
 
-        Page<TradingTechnique> techniquePage = Page.empty();
-        var techniques = techniqueRepository.findTopByViewCount(pageable);
-
-        // List를 Page로 변환
-        techniquePage = techniqueRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
+        Page<TechniqueSummary> techniquePage = CatalogSnapshot.page(
+                catalogCache.current().popularTechniques(), pageable);
 
         return buildTechniqueListResponse(techniquePage, userId);
     }
@@ -260,11 +276,22 @@ public class TradingTechniqueService {
 
     /**
      * TechniqueListResponse 빌더
+     * 목록은 요약 프로젝션만 사용하고, 사용자 진행도는 페이지 전체에 대해 IN 조회 한 번으로 가져옴
      */
-    private TechniqueListResponse buildTechniqueListResponse(Page<TradingTechnique> techniquePage, Long userId) {
+    private TechniqueListResponse buildTechniqueListResponse(Page<TechniqueSummary> techniquePage, Long userId) {
+        List<TechniqueSummary> summaries = techniquePage.getContent();
+
+        Map<Long, UserTechniqueProgress> progressByTechniqueId = Map.of();
+        if (userId != null && !summaries.isEmpty()) {
+            List<Long> techniqueIds = summaries.stream().map(TechniqueSummary::id).toList();
+            progressByTechniqueId = progressRepository.findByUserIdAndTechniqueIdIn(userId, techniqueIds).stream()
+                    .collect(Collectors.toMap(progress -> progress.getTechnique().getId(), Function.identity()));
+        }
+
+        Map<Long, UserTechniqueProgress> progresses = progressByTechniqueId;
         return TechniqueListResponse.builder()
-                .techniques(techniquePage.getContent().stream()
-                        .map(t -> buildTechniqueResponse(t, userId))
+                .techniques(summaries.stream()
+                        .map(summary -> buildTechniqueSummaryResponse(summary, progresses.get(summary.id())))
                         .toList())
                 .currentPage(techniquePage.getNumber())
                 .totalPages(techniquePage.getTotalPages())
@@ -275,7 +302,29 @@ public class TradingTechniqueService {
     }
 
     /**
-     * TechniqueResponse 빌더
+     * TechniqueResponse 빌더 (목록용, 본문 TEXT 필드 제외)
+     */
+    private TechniqueResponse buildTechniqueSummaryResponse(TechniqueSummary summary, UserTechniqueProgress progress) {
+        return TechniqueResponse.builder()
+                .id(summary.id())
+                .name(summary.name())
+                .nameEn(summary.nameEn())
+                .difficultyLevel(summary.difficultyLevel())
+                .category(summary.category())
+                .summary(summary.summary())
+                .advantages(summary.advantages())
+                .disadvantages(summary.disadvantages())
+                .riskLevel(summary.riskLevel())
+                .viewCount(summary.viewCount())
+                .recommendationCount(summary.recommendationCount())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .userProgress(progress != null ? buildUserProgressInfo(progress) : null)
+                .build();
+    }
+
+    /**
+     * TechniqueResponse 빌더 (상세)
      */
     private TechniqueResponse buildTechniqueResponse(TradingTechnique technique, Long userId) {
         TechniqueResponse.TechniqueResponseBuilder builder = TechniqueResponse.builder()
@@ -299,20 +348,25 @@ public class TradingTechniqueService {
         // 사용자 진행 정보 추가 (로그인한 경우)
         if (userId != null) {
             progressRepository.findByUserIdAndTechniqueId(userId, technique.getId())
-                    .ifPresent(progress -> builder.userProgress(
-                            TechniqueResponse.UserProgressInfo.builder()
-                                    .status(progress.getStatus().name())
-                                    .progressPercentage(progress.getProgressPercentage())
-                                    .isBookmarked(progress.getIsBookmarked())
-                                    .userRating(progress.getUserRating())
-                                    .isCompleted(progress.getIsCompleted())
-                                    .build()
-                    ));
+                    .ifPresent(progress -> builder.userProgress(buildUserProgressInfo(progress)));
         }
 
         return builder.build();
     }
 
+    /**
+     * UserProgressInfo 빌더
+     */
+    private TechniqueResponse.UserProgressInfo buildUserProgressInfo(UserTechniqueProgress progress) {
+        return TechniqueResponse.UserProgressInfo.builder()
+                .status(progress.getStatus().name())
+                .progressPercentage(progress.getProgressPercentage())
+                .isBookmarked(progress.getIsBookmarked())
+                .userRating(progress.getUserRating())
+                .isCompleted(progress.getIsCompleted())
+                .build();
+    }
+
     /**
      * ProgressResponse 빌더
      */
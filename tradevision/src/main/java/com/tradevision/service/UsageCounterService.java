@@ -0,0 +1,261 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.UsagePeriod;
+import com.tradevision.repository.UsageCounterRepository;
+import com.tradevision.repository.UsageCounterRepository.CounterId;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용량 카운터 서비스
+ * (사용자, 동작, 기간)별 사용 횟수를 usage_counters에 미리 집계하여 한도 확인을 이력 COUNT(*) 없이 처리
+ * - 조회: 메모리 카운터 (처음 조회 시 DB 카운터, 없으면 원본 이력 구간 집계로 적재)
+ * - 사용 기록: DB 카운터를 호출 트랜잭션 안에서 원자적으로 증가, 메모리 카운터는 커밋 후 반영
+ * - 한도 예약: 한도 기간 카운터를 조건부 UPDATE로 증가 (사용자별 카운터 행 잠금만 사용, 여러 인스턴스에서도 한도 보장)
+ * - 보정: 주기적으로 DB 카운터를 원본 이력 집계 값으로 맞춤 (한 인스턴스에서만)
+ * - 갱신: 주기적으로 메모리 카운터를 DB 카운터 값으로 맞춤 (인스턴스마다, 다른 인스턴스의 사용분 반영)
+ */
+@Slf4j
+@Service
+public class UsageCounterService {
+
+    private final UsageCounterRepository counterRepository;
+    private final Clock clock;
+    private final Map<CounterKey, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UsageCounterService(UsageCounterRepository counterRepository) {
+        this(counterRepository, Clock.systemDefaultZone());
+    }
+
+    UsageCounterService(UsageCounterRepository counterRepository, Clock clock) {
+        this.counterRepository = counterRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 기간 사용 횟수
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     * @param period     집계 기간
+     * @return 사용 횟수
+     */
+    public long currentCount(Long userId, String actionType, UsagePeriod period) {
+        return counter(currentKey(userId, actionType, period)).get();
+    }
+
+    /**
+     * 사용 기록 (모든 집계 기간의 카운터 증가)
+     * 원본 이력 행을 저장하기 전에 호출해야 카운터 초기 적재 시 이번 사용분이 중복 집계되지 않음
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     * @param delta      사용 횟수
+     */
+    public void increment(Long userId, String actionType, long delta) {
+        increment(userId, actionType, LocalDate.now(clock), delta);
+    }
+
+    /**
+     * 사용 기록 (발생 날짜가 속한 기간의 카운터 증가)
+     * 쓰기 지연으로 자정이 지난 뒤 반영되는 사용분도 발생한 날짜의 기간에 집계
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     * @param occurredOn 사용 발생 날짜
+     * @param delta      사용 횟수
+     */
+    public void increment(Long userId, String actionType, LocalDate occurredOn, long delta) {
+        for (UsagePeriod period : UsagePeriod.values()) {
+            CounterKey key = new CounterKey(userId, actionType, period, period.startOf(occurredOn));
+            AtomicLong counter = counter(key);
+            ensureRow(key, counter);
+            counterRepository.add(userId, actionType, period, key.periodStart(), delta);
+            afterCommit(() -> counter.addAndGet(delta));
+        }
+    }
+
+    /**
+     * 한도 예약 (모든 집계 기간의 카운터 증가, 한도 기간 카운터가 한도를 넘으면 예약 실패)
+     * 호출 트랜잭션이 롤백되면 예약도 함께 취소되고, 커밋 후 작업이 실패하면 release로 반환
+     *
+     * @param userId      사용자 ID
+     * @param actionType  동작 유형
+     * @param limitPeriod 한도 기간
+     * @param delta       예약할 사용 횟수
+     * @param limit       기간 한도
+     * @return 예약 성공 여부
+     */
+    public boolean tryReserve(Long userId, String actionType, UsagePeriod limitPeriod, long delta, long limit) {
+        // 다른 사용 기록과 잠금 순서가 같도록 enum 순서대로 증가, 한도 기간은 조건부 UPDATE
+        List<AtomicLong> reserved = new ArrayList<>(UsagePeriod.values().length);
+        for (UsagePeriod period : UsagePeriod.values()) {
+            CounterKey key = currentKey(userId, actionType, period);
+            AtomicLong counter = counter(key);
+            ensureRow(key, counter);  // 조건부 UPDATE 대상 행이 반드시 있도록
+            if (period != limitPeriod) {
+                counterRepository.add(userId, actionType, period, key.periodStart(), delta);
+            } else if (!counterRepository.reserve(userId, actionType, period, key.periodStart(), delta, limit)) {
+                // 앞서 증가시킨 기간은 되돌림 (호출자가 예외를 잡아 커밋하더라도 카운터가 어긋나지 않도록)
+                for (UsagePeriod previous : UsagePeriod.values()) {
+                    if (previous == period) {
+                        break;
+                    }
+                    counterRepository.add(userId, actionType, previous,
+                            currentKey(userId, actionType, previous).periodStart(), -delta);
+                }
+                return false;
+            }
+            reserved.add(counter);
+        }
+
+        afterCommit(() -> reserved.forEach(counter -> counter.addAndGet(delta)));
+        return true;
+    }
+
+    /**
+     * 현재 기간에 예약한 한도 반환
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     * @param delta      반환할 사용 횟수
+     */
+    public void release(Long userId, String actionType, long delta) {
+        release(userId, actionType, LocalDate.now(clock), delta);
+    }
+
+    /**
+     * 예약한 한도 반환 (작업 실패 등으로 사용하지 않은 예약)
+     * 예약한 날짜가 속한 기간의 카운터를 감소 (메모리 카운터는 적재되어 있을 때만 커밋 후 반영)
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     * @param reservedOn 예약한 날짜
+     * @param delta      반환할 사용 횟수
+     */
+    public void release(Long userId, String actionType, LocalDate reservedOn, long delta) {
+        for (UsagePeriod period : UsagePeriod.values()) {
+            CounterKey key = new CounterKey(userId, actionType, period, period.startOf(reservedOn));
+            counterRepository.add(userId, actionType, period, key.periodStart(), -delta);
+            afterCommit(() -> {
+                AtomicLong counter = counters.get(key);
+                if (counter != null) {
+                    counter.updateAndGet(count -> Math.max(count - delta, 0));
+                }
+            });
+        }
+    }
+
+    /**
+     * DB 카운터 보정 (app.usage-counters.reconcile-interval-ms 주기, ShedLock으로 한 인스턴스에서만 실행)
+     * 현재 기간의 모든 카운터를 원본 이력 집계 값으로 UPDATE 한 문장씩 대입
+     */
+    @Scheduled(initialDelayString = "${app.usage-counters.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.usage-counters.reconcile-interval-ms:300000}")
+    @SchedulerLock(name = "usageCounterReconcile", lockAtMostFor = "PT10M", lockAtLeastFor = "PT1M")
+    public void reconcile() {
+        LocalDate today = LocalDate.now(clock);
+        for (UsagePeriod period : UsagePeriod.values()) {
+            LocalDate periodStart = period.startOf(today);
+            List<CounterId> ids = counterRepository.findIds(period, periodStart);
+            for (CounterId id : ids) {
+                try {
+                    counterRepository.reconcile(id.userId(), id.actionType(), period, periodStart);
+                } catch (Exception e) {
+                    log.warn("사용량 카운터 보정 실패: {} {} {} - {}", id, period, periodStart, e.getMessage());
+                }
+            }
+            log.debug("사용량 카운터 보정 - {} {}: {}건", period, periodStart, ids.size());
+        }
+    }
+
+    /**
+     * 메모리 카운터 갱신 (app.usage-counters.refresh-interval-ms 주기, 인스턴스마다 실행)
+     * 지난 기간의 메모리 카운터는 제거하고, 현재 기간 카운터는 DB 카운터 값으로 맞춤 (다른 인스턴스의 사용분 반영)
+     * DB에는 쓰지 않으므로 여러 인스턴스가 동시에 실행해도 안전
+     */
+    @Scheduled(initialDelayString = "${app.usage-counters.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.usage-counters.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDate today = LocalDate.now(clock);
+        counters.keySet().removeIf(key -> !key.periodStart().equals(key.period().startOf(today)));
+
+        counters.forEach((key, counter) -> {
+            try {
+                counterRepository.find(key.userId(), key.actionType(), key.period(), key.periodStart())
+                        .ifPresent(counter::set);
+            } catch (Exception e) {
+                log.warn("사용량 카운터 갱신 실패: {} - {}", key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 메모리 카운터 (없으면 DB 카운터, DB에도 없으면 원본 이력 구간 집계로 적재)
+     */
+    private AtomicLong counter(CounterKey key) {
+        AtomicLong counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(key, this::load);
+    }
+
+    private AtomicLong load(CounterKey key) {
+        long count = counterRepository.find(key.userId(), key.actionType(), key.period(), key.periodStart())
+                .orElseGet(() -> {
+                    long source = counterRepository.countSource(key.userId(), key.actionType(), key.period(), key.periodStart());
+                    counterRepository.insertIfAbsent(key.userId(), key.actionType(), key.period(), key.periodStart(), source);
+                    return source;
+                });
+        return new AtomicLong(count);
+    }
+
+    /**
+     * 카운터 행이 없으면 메모리 카운터 값으로 다시 생성 (있으면 무시)
+     * 적재 시 만든 행은 호출 트랜잭션과 함께 롤백될 수 있고, 이때 메모리 카운터는 남아 다시 적재되지 않으므로
+     * 쓰기 전에 항상 확인해야 조건부 UPDATE가 행을 찾지 못해 한도 초과로 오판하지 않음
+     */
+    private void ensureRow(CounterKey key, AtomicLong counter) {
+        counterRepository.insertIfAbsent(key.userId(), key.actionType(), key.period(), key.periodStart(), counter.get());
+    }
+
+    private CounterKey currentKey(Long userId, String actionType, UsagePeriod period) {
+        return new CounterKey(userId, actionType, period, period.startOf(LocalDate.now(clock)));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+     * 롤백된 사용 기록이 메모리 카운터에 남지 않도록 함
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CounterKey(Long userId, String actionType, UsagePeriod period, LocalDate periodStart) {
+    }
+}
@@ -0,0 +1,265 @@
+package com.tradevision.service;
+
+import com.tradevision.entity.UsageEvent;
+import com.tradevision.entity.UsageTracking;
+import com.tradevision.repository.UsageEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용 이력 쓰기 지연(write-behind) 버퍼
+ * 요청 경로에서는 고정 크기 큐에 이벤트를 넣기만 하고, 백그라운드 기록기가 주기적으로 꺼내
+ * usage_tracking 일괄 INSERT와 사용량 카운터 증가를 한 트랜잭션으로 반영
+ * 큐가 가득 차면 호출 스레드가 한 배치를 직접 기록하여 공간을 만듦 (배압, DB가 느리면 요청도 느려짐)
+ * 장애 시 유실 범위는 마지막 반영 이후 app.usage-events.flush-interval-ms 이내이며, 종료 시 남은 이벤트를 반영
+ * 데이터 오류로 저장할 수 없는 이벤트는 버려 한 건 때문에 버퍼 전체가 막히지 않도록 함
+ * 아직 기록되지 않은 사용분은 (사용자/세션, 동작)별로 메모리에 집계하여 한도 확인에 더함
+ * (기록 전 사용분도 바로 한도에 반영, 다른 인스턴스의 기록 전 사용분은 다음 반영 주기까지 보이지 않음)
+ */
+@Slf4j
+@Component
+public class UsageEventBuffer {
+
+    private static final Comparator<CounterKey> COUNTER_ORDER =
+            Comparator.comparing(CounterKey::userId)
+                    .thenComparing(CounterKey::actionType)
+                    .thenComparing(CounterKey::occurredOn);
+
+    private final UsageEventRepository usageEventRepository;
+    private final UsageCounterService usageCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<UsageEvent> queue;
+    private final int batchSize;
+    private final LongAdder dropped = new LongAdder();
+    private final Map<PendingKey, Long> pendingUsage = new ConcurrentHashMap<>();
+
+    public UsageEventBuffer(
+            UsageEventRepository usageEventRepository,
+            UsageCounterService usageCounterService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.usage-events.buffer-capacity:10000}") int capacity,
+            @Value("${app.usage-events.batch-size:500}") int batchSize) {
+        this.usageEventRepository = usageEventRepository;
+        this.usageCounterService = usageCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 사용 이력 추가
+     * 큐가 가득 차면 호출 스레드에서 한 배치를 기록한 뒤 다시 시도하고, 그래도 실패하면 버림
+     *
+     * @param event 사용 이력
+     */
+    public void add(UsageEvent event) {
+        // 큐에 넣기 전에 집계해야 기록기가 먼저 꺼내 기록하더라도 집계가 남지 않음
+        track(event);
+        if (queue.offer(event)) {
+            return;
+        }
+
+        log.debug("사용 이력 버퍼 포화 - 호출 스레드에서 기록");
+        writeBatch();
+        if (!queue.offer(event)) {
+            drop(event);
+            log.warn("사용 이력 버퍼 포화로 이벤트 유실: {} (누적 {}건)", event.actionType(), dropped.sum());
+        }
+    }
+
+    /**
+     * 아직 기록되지 않은 이벤트 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 로그인 사용자의 아직 기록되지 않은 사용 횟수 (사용량 카운터에 더해 한도 확인)
+     * 차트 분석은 접수 시 한도를 예약하므로 집계하지 않음
+     *
+     * @param userId     사용자 ID
+     * @param actionType 동작 유형
+     * @return 기록 대기 중인 사용 횟수
+     */
+    public long pendingUserUsage(Long userId, String actionType) {
+        return pendingUsage.getOrDefault(new PendingKey(userId, null, actionType), 0L);
+    }
+
+    /**
+     * 세션의 아직 기록되지 않은 사용 횟수 (저장된 이력 수에 더해 비로그인 한도 확인)
+     *
+     * @param sessionId  세션 ID
+     * @param actionType 동작 유형
+     * @return 기록 대기 중인 사용 횟수
+     */
+    public long pendingSessionUsage(String sessionId, String actionType) {
+        return pendingUsage.getOrDefault(new PendingKey(null, sessionId, actionType), 0L);
+    }
+
+    /**
+     * 버퍼 포화나 데이터 오류로 버린 이벤트 수
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 쌓인 이벤트를 배치 단위로 기록 (app.usage-events.flush-interval-ms 주기)
+     * 시작 시점에 쌓여 있던 만큼만 기록하고, DB 장애로 실패하면 남은 이벤트는 다음 주기에 재시도
+     */
+    @Scheduled(initialDelayString = "${app.usage-events.flush-interval-ms:1000}",
+            fixedDelayString = "${app.usage-events.flush-interval-ms:1000}")
+    public void flush() {
+        int remaining = queue.size();
+        while (remaining > 0) {
+            int written = writeBatch();
+            if (written <= 0) {
+                return;
+            }
+            remaining -= written;
+        }
+    }
+
+    /**
+     * 종료 시 남은 이벤트 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 큐에서 최대 batchSize개를 꺼내 한 트랜잭션으로 기록
+     * 사용량 카운터를 먼저 증가시켜야 카운터 초기 적재 시 이번 이벤트가 중복 집계되지 않음
+     * 배치가 실패하면 한 건씩 다시 기록하여, 데이터 오류로 저장할 수 없는 이벤트만 버리고 나머지는 반영
+     *
+     * @return 기록하거나 버린 이벤트 수 (DB 장애로 큐에 되돌렸으면 -1)
+     */
+    private int writeBatch() {
+        List<UsageEvent> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            write(batch);
+            batch.forEach(this::untrack);
+            log.debug("사용 이력 기록: {}건", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            log.warn("사용 이력 일괄 기록 실패, 한 건씩 재시도 - {}건: {}", batch.size(), e.getMessage());
+            return writeEach(batch);
+        }
+    }
+
+    /**
+     * 한 건씩 기록
+     * 데이터 오류(삭제된 사용자, 컬럼 길이 초과 등)는 다시 시도해도 실패하므로 해당 이벤트만 버리고,
+     * 그 밖의 오류는 DB 장애로 보고 남은 이벤트를 큐에 되돌려 다음 주기에 재시도 (되돌릴 공간이 없으면 유실)
+     */
+    private int writeEach(List<UsageEvent> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            UsageEvent event = batch.get(i);
+            try {
+                write(List.of(event));
+                untrack(event);
+            } catch (DataIntegrityViolationException e) {
+                drop(event);
+                log.warn("저장할 수 없는 사용 이력 제외: userId={}, action={} - {}",
+                        event.userId(), event.actionType(), e.getMostSpecificCause().getMessage());
+            } catch (Exception e) {
+                log.warn("사용 이력 기록 실패, 다음 주기에 재시도 - {}건: {}", batch.size() - i, e.getMessage());
+                for (UsageEvent remaining : batch.subList(i, batch.size())) {
+                    if (!queue.offer(remaining)) {
+                        drop(remaining);
+                    }
+                }
+                return -1;
+            }
+        }
+        return batch.size();
+    }
+
+    /**
+     * 이벤트 목록을 한 트랜잭션으로 기록 (사용량 카운터 증가 후 일괄 INSERT)
+     */
+    private void write(List<UsageEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            countUsage(events).forEach((key, count) ->
+                    usageCounterService.increment(key.userId(), key.actionType(), key.occurredOn(), count));
+            usageEventRepository.insertAll(events);
+        });
+    }
+
+    /**
+     * 로그인 사용자의 (사용자, 동작, 발생 날짜)별 이벤트 수
+     * 차트 분석은 분석 접수 시 ChartAnalysisService에서 집계하므로 제외 (원본: chart_analyses)
+     * 여러 기록 스레드가 카운터 행을 같은 순서로 잠그도록 정렬
+     */
+    private Map<CounterKey, Long> countUsage(List<UsageEvent> batch) {
+        Map<CounterKey, Long> counts = new TreeMap<>(COUNTER_ORDER);
+        for (UsageEvent event : batch) {
+            if (event.userId() != null && !UsageTracking.ACTION_CHART_ANALYSIS.equals(event.actionType())) {
+                counts.merge(new CounterKey(event.userId(), event.actionType(), event.createdAt().toLocalDate()),
+                        1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 기록 대기 중인 사용분 집계 (이벤트를 큐에 넣을 때)
+     * 세션 한도는 저장된 이력 전체를 세므로 모든 동작을, 사용자 한도는 사용량 카운터와 같은 동작만 집계
+     */
+    private void track(UsageEvent event) {
+        pendingKeys(event).forEach(key -> pendingUsage.merge(key, 1L, Long::sum));
+    }
+
+    /**
+     * 기록을 마쳤거나 버린 이벤트의 대기 집계 제거 (0이 되면 항목 제거)
+     */
+    private void untrack(UsageEvent event) {
+        pendingKeys(event).forEach(key -> pendingUsage.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null));
+    }
+
+    private void drop(UsageEvent event) {
+        untrack(event);
+        dropped.increment();
+    }
+
+    private List<PendingKey> pendingKeys(UsageEvent event) {
+        List<PendingKey> keys = new ArrayList<>(2);
+        if (event.userId() != null && !UsageTracking.ACTION_CHART_ANALYSIS.equals(event.actionType())) {
+            keys.add(new PendingKey(event.userId(), null, event.actionType()));
+        }
+        if (event.sessionId() != null) {
+            keys.add(new PendingKey(null, event.sessionId(), event.actionType()));
+        }
+        return keys;
+    }
+
+    private record PendingKey(Long userId, String sessionId, String actionType) {
+    }
+
+    private record CounterKey(Long userId, String actionType, LocalDate occurredOn) {
+    }
+}
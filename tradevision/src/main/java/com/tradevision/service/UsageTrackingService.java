@@ -1,7 +1,7 @@
 package com.tradevision.service;
 
-import com.tradevision.entity.UsageTracking;
-import com.tradevision.entity.User;
+import com.tradevision.constant.UsagePeriod;
+import com.tradevision.entity.UsageEvent;
 import com.tradevision.entity.UserSubscription;
 import com.tradevision.repository.UsageTrackingRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,23 +17,19 @@ import java.time.LocalDateTime;
 @Slf4j
 public class UsageTrackingService {
 
+    private static final String CLIENT_IP_ATTRIBUTE = UsageTrackingService.class.getName() + ".clientIp";
+
     private final UsageTrackingRepository usageRepository;
     private final SubscriptionService subscriptionService;
+    private final UsageCounterService usageCounterService;
+    private final UsageEventBuffer usageEventBuffer;
 
-    @Transactional
+    /**
+     * 사용 이력 기록 (요청 경로에서는 버퍼에 넣기만 하고, 저장과 사용량 카운터 증가는 UsageEventBuffer가 일괄 반영)
+     */
     public void trackUsage(Long userId, String sessionId, String actionType, Long resourceId, String metadata, HttpServletRequest request) {
-        User user = userId != null ? User.builder().id(userId).build() : null;
-
-        UsageTracking usage = UsageTracking.builder()
-                .user(user)
-                .sessionId(sessionId)
-                .ipAddress(getClientIp(request))
-                .actionType(actionType)
-                .resourceId(resourceId)
-                .metadata(metadata)
-                .build();
-
-        usageRepository.save(usage);
+        usageEventBuffer.add(new UsageEvent(
+                userId, sessionId, getClientIp(request), actionType, resourceId, metadata, LocalDateTime.now()));
         log.debug("Usage tracked: {} for user/session: {}/{}", actionType, userId, sessionId);
     }
 
@@ -49,11 +45,10 @@ public class UsageTrackingService {
                 return true;
             }
 
-            long usageCount = usageRepository.countByUserIdAndActionTypeInCurrentMonth(userId, actionType);
+            long usageCount = currentMonthUsage(userId, actionType);
             return usageCount < subscription.getPlan().getMaxAnalysesPerMonth();
         } else if (sessionId != null) {
-            long usageCount = usageRepository.countBySessionIdAndActionTypeAndCreatedAtAfter(
-                    sessionId, actionType, LocalDateTime.now().minusDays(30));
+            long usageCount = sessionUsage(sessionId, actionType);
             return usageCount < 5;
         }
 
@@ -72,12 +67,11 @@ public class UsageTrackingService {
                 return -1;
             }
 
-            long usageCount = usageRepository.countByUserIdAndActionTypeInCurrentMonth(userId, actionType);
+            long usageCount = currentMonthUsage(userId, actionType);
             long maxUsage = subscription.getPlan().getMaxAnalysesPerMonth();
             return Math.max(0, maxUsage - usageCount);
         } else if (sessionId != null) {
-            long usageCount = usageRepository.countBySessionIdAndActionTypeAndCreatedAtAfter(
-                    sessionId, actionType, LocalDateTime.now().minusDays(30));
+            long usageCount = sessionUsage(sessionId, actionType);
             return Math.max(0, 5 - usageCount);
         }
 
@@ -85,14 +79,47 @@ public class UsageTrackingService {
     }
 
     public long getCurrentMonthUsage(Long userId, String actionType) {
-        return usageRepository.countByUserIdAndActionTypeInCurrentMonth(userId, actionType);
+        return currentMonthUsage(userId, actionType);
+    }
+
+    /**
+     * 이번 달 사용 횟수 (사용량 카운터 + 아직 기록되지 않은 사용분)
+     */
+    private long currentMonthUsage(Long userId, String actionType) {
+        return usageCounterService.currentCount(userId, actionType, UsagePeriod.MONTH)
+                + usageEventBuffer.pendingUserUsage(userId, actionType);
     }
 
+    /**
+     * 세션의 최근 30일 사용 횟수 (저장된 이력 + 아직 기록되지 않은 사용분)
+     */
+    private long sessionUsage(String sessionId, String actionType) {
+        return usageRepository.countBySessionIdAndActionTypeAndCreatedAtAfter(
+                sessionId, actionType, LocalDateTime.now().minusDays(30))
+                + usageEventBuffer.pendingSessionUsage(sessionId, actionType);
+    }
+
+    /**
+     * 클라이언트 IP (요청당 한 번만 헤더에서 확인하고 요청 속성에 보관)
+     */
     private String getClientIp(HttpServletRequest request) {
         if (request == null) {
             return null;
         }
 
+        Object resolved = request.getAttribute(CLIENT_IP_ATTRIBUTE);
+        if (resolved instanceof String ip) {
+            return ip;
+        }
+
+        String ip = resolveClientIp(request);
+        if (ip != null) {
+            request.setAttribute(CLIENT_IP_ATTRIBUTE, ip);
+        }
+        return ip;
+    }
+
+    private String resolveClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
             ip = request.getHeader("Proxy-Client-IP");
@@ -103,7 +130,9 @@ public class UsageTrackingService {
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
             ip = request.getRemoteAddr();
         }
-        return ip;
+        // 프록시를 여러 번 거치면 "클라이언트, 프록시1, ..." 형식이므로 첫 번째 값만 사용 (ip_address 45자)
+        int comma = ip != null ? ip.indexOf(',') : -1;
+        return comma >= 0 ? ip.substring(0, comma).trim() : ip;
     }
 
     @Transactional
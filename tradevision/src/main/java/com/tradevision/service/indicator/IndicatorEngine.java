@@ -0,0 +1,229 @@
+package com.tradevision.service.indicator;
+
+/**
+ * 증분 보조지표 엔진
+ * 캔들이 하나 확정될 때마다 update를 호출하면 모든 지표를 O(1)로 갱신 (갱신 중 객체 할당 없음)
+ * 지표가 아직 계산 가능한 만큼 캔들이 쌓이지 않은 구간(워밍업)에는 NaN 반환
+ *
+ * <p>스레드 안전하지 않음 - 시계열 하나당 엔진 하나를 단일 스레드에서 사용
+ */
+public final class IndicatorEngine {
+
+    private final RollingWindow smaWindow;
+    private final RollingWindow bollingerWindow;
+    private final double bollingerWidth;
+    private final Ema ema;
+    private final Ema macdFast;
+    private final Ema macdSlow;
+    private final Ema macdSignal;
+    private final int rsiPeriod;
+
+    // RSI (Wilder 평활)
+    private double averageGain;
+    private double averageLoss;
+    private int rsiSamples;
+
+    // VWAP (세션 누적)
+    private double cumulativePriceVolume;
+    private double cumulativeVolume;
+
+    // OBV
+    private double obv;
+
+    private double previousClose = Double.NaN;
+    private double macd = Double.NaN;
+    private long bars;
+
+    public IndicatorEngine(IndicatorSettings settings) {
+        this.smaWindow = new RollingWindow(settings.smaPeriod());
+        this.bollingerWindow = new RollingWindow(settings.bollingerPeriod());
+        this.bollingerWidth = settings.bollingerWidth();
+        this.ema = new Ema(settings.emaPeriod());
+        this.macdFast = new Ema(settings.macdFast());
+        this.macdSlow = new Ema(settings.macdSlow());
+        this.macdSignal = new Ema(settings.macdSignal());
+        this.rsiPeriod = settings.rsiPeriod();
+    }
+
+    private IndicatorEngine(IndicatorEngine other) {
+        this.smaWindow = other.smaWindow.copy();
+        this.bollingerWindow = other.bollingerWindow.copy();
+        this.bollingerWidth = other.bollingerWidth;
+        this.ema = other.ema.copy();
+        this.macdFast = other.macdFast.copy();
+        this.macdSlow = other.macdSlow.copy();
+        this.macdSignal = other.macdSignal.copy();
+        this.rsiPeriod = other.rsiPeriod;
+        this.averageGain = other.averageGain;
+        this.averageLoss = other.averageLoss;
+        this.rsiSamples = other.rsiSamples;
+        this.cumulativePriceVolume = other.cumulativePriceVolume;
+        this.cumulativeVolume = other.cumulativeVolume;
+        this.obv = other.obv;
+        this.previousClose = other.previousClose;
+        this.macd = other.macd;
+        this.bars = other.bars;
+    }
+
+    /**
+     * 현재 상태 복사본
+     * 진행 중인 마지막 캔들처럼 아직 확정되지 않은 캔들은 복사본에 반영하여 원본 엔진을 유지
+     */
+    public IndicatorEngine copy() {
+        return new IndicatorEngine(this);
+    }
+
+    /**
+     * 확정된 캔들 하나 반영
+     *
+     * @param high   고가
+     * @param low    저가
+     * @param close  종가
+     * @param volume 거래량
+     */
+    public void update(double high, double low, double close, double volume) {
+        smaWindow.add(close);
+        bollingerWindow.add(close);
+        ema.add(close);
+
+        macdFast.add(close);
+        macdSlow.add(close);
+        if (macdSlow.isReady()) {
+            macd = macdFast.value() - macdSlow.value();
+            macdSignal.add(macd);
+        }
+
+        double typicalPrice = (high + low + close) / 3.0;
+        cumulativePriceVolume += typicalPrice * volume;
+        cumulativeVolume += volume;
+
+        if (bars > 0) {
+            double change = close - previousClose;
+            double gain = change > 0 ? change : 0.0;
+            double loss = change < 0 ? -change : 0.0;
+            if (rsiSamples < rsiPeriod) {
+                // 첫 기간은 단순 평균
+                averageGain += gain / rsiPeriod;
+                averageLoss += loss / rsiPeriod;
+            } else {
+                averageGain = (averageGain * (rsiPeriod - 1) + gain) / rsiPeriod;
+                averageLoss = (averageLoss * (rsiPeriod - 1) + loss) / rsiPeriod;
+            }
+            rsiSamples++;
+
+            if (change > 0) {
+                obv += volume;
+            } else if (change < 0) {
+                obv -= volume;
+            }
+        }
+
+        previousClose = close;
+        bars++;
+    }
+
+    /**
+     * VWAP 세션 초기화 (분봉의 거래일 변경 시 호출)
+     */
+    public void resetVwap() {
+        cumulativePriceVolume = 0.0;
+        cumulativeVolume = 0.0;
+    }
+
+    public long bars() {
+        return bars;
+    }
+
+    public double sma() {
+        return smaWindow.isFull() ? smaWindow.mean() : Double.NaN;
+    }
+
+    public double ema() {
+        return ema.isReady() ? ema.value() : Double.NaN;
+    }
+
+    public double rsi() {
+        if (rsiSamples < rsiPeriod) {
+            return Double.NaN;
+        }
+        if (averageLoss == 0.0) {
+            return averageGain == 0.0 ? 50.0 : 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + averageGain / averageLoss);
+    }
+
+    public double macd() {
+        return macd;
+    }
+
+    public double macdSignal() {
+        return macdSignal.isReady() ? macdSignal.value() : Double.NaN;
+    }
+
+    public double macdHistogram() {
+        return macdSignal.isReady() ? macd - macdSignal.value() : Double.NaN;
+    }
+
+    public double bollingerMiddle() {
+        return bollingerWindow.isFull() ? bollingerWindow.mean() : Double.NaN;
+    }
+
+    public double bollingerUpper() {
+        return bollingerWindow.isFull()
+                ? bollingerWindow.mean() + bollingerWidth * bollingerWindow.standardDeviation()
+                : Double.NaN;
+    }
+
+    public double bollingerLower() {
+        return bollingerWindow.isFull()
+                ? bollingerWindow.mean() - bollingerWidth * bollingerWindow.standardDeviation()
+                : Double.NaN;
+    }
+
+    public double vwap() {
+        return cumulativeVolume > 0 ? cumulativePriceVolume / cumulativeVolume : Double.NaN;
+    }
+
+    public double obv() {
+        return bars > 0 ? obv : Double.NaN;
+    }
+
+    /**
+     * 지수 이동평균 (첫 기간은 단순 평균으로 시작)
+     */
+    private static final class Ema {
+        private final int period;
+        private final double alpha;
+        private double value;
+        private int count;
+
+        private Ema(int period) {
+            this.period = period;
+            this.alpha = 2.0 / (period + 1);
+        }
+
+        private Ema copy() {
+            Ema copy = new Ema(period);
+            copy.value = value;
+            copy.count = count;
+            return copy;
+        }
+
+        private void add(double x) {
+            if (count < period) {
+                value += x / period;
+                count++;
+            } else {
+                value += alpha * (x - value);
+            }
+        }
+
+        private boolean isReady() {
+            return count >= period;
+        }
+
+        private double value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.tradevision.service.indicator;
+
+/**
+ * 보조지표 계산 설정
+ *
+ * @param smaPeriod       단순 이동평균 기간
+ * @param emaPeriod       지수 이동평균 기간
+ * @param rsiPeriod       RSI 기간 (Wilder 평활)
+ * @param macdFast        MACD 단기 EMA 기간
+ * @param macdSlow        MACD 장기 EMA 기간
+ * @param macdSignal      MACD 시그널 EMA 기간
+ * @param bollingerPeriod 볼린저 밴드 기간
+ * @param bollingerWidth  볼린저 밴드 표준편차 배수
+ */
+public record IndicatorSettings(
+        int smaPeriod,
+        int emaPeriod,
+        int rsiPeriod,
+        int macdFast,
+        int macdSlow,
+        int macdSignal,
+        int bollingerPeriod,
+        double bollingerWidth) {
+
+    /**
+     * 일반적으로 쓰는 기본값 (SMA/EMA 20, RSI 14, MACD 12/26/9, 볼린저 20/2)
+     */
+    public static final IndicatorSettings DEFAULT = new IndicatorSettings(20, 20, 14, 12, 26, 9, 20, 2.0);
+
+    public IndicatorSettings {
+        if (smaPeriod < 1 || emaPeriod < 1 || rsiPeriod < 1 || macdFast < 1 || macdSignal < 1 || bollingerPeriod < 1) {
+            throw new IllegalArgumentException("indicator periods must be positive");
+        }
+        if (macdFast >= macdSlow) {
+            throw new IllegalArgumentException("macdFast must be shorter than macdSlow");
+        }
+        if (!(bollingerWidth > 0)) {
+            throw new IllegalArgumentException("bollingerWidth must be positive");
+        }
+    }
+}
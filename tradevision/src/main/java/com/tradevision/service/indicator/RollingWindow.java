@@ -0,0 +1,98 @@
+package com.tradevision.service.indicator;
+
+/**
+ * 고정 길이 이동 구간 (double[] 링 버퍼)
+ * 값 추가 시 가장 오래된 값을 덮어쓰며 합계/제곱합을 O(1)로 갱신
+ * 누적 부동소수점 오차를 막기 위해 버퍼를 한 바퀴 돌 때마다 합계를 다시 계산 (분할 상환 O(1))
+ */
+public final class RollingWindow {
+
+    private final double[] values;
+    private int next;
+    private int count;
+    private double sum;
+    private double sumOfSquares;
+
+    public RollingWindow(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.values = new double[period];
+    }
+
+    private RollingWindow(RollingWindow other) {
+        this.values = other.values.clone();
+        this.next = other.next;
+        this.count = other.count;
+        this.sum = other.sum;
+        this.sumOfSquares = other.sumOfSquares;
+    }
+
+    /**
+     * 현재 상태 복사본 (원본에 영향 없이 값을 더 추가해 볼 때 사용)
+     */
+    public RollingWindow copy() {
+        return new RollingWindow(this);
+    }
+
+    /**
+     * 값 추가
+     */
+    public void add(double value) {
+        if (count == values.length) {
+            double evicted = values[next];
+            sum -= evicted;
+            sumOfSquares -= evicted * evicted;
+        } else {
+            count++;
+        }
+        values[next] = value;
+        sum += value;
+        sumOfSquares += value * value;
+
+        if (++next == values.length) {
+            next = 0;
+            resync();
+        }
+    }
+
+    /**
+     * 구간이 모두 채워졌는지 여부
+     */
+    public boolean isFull() {
+        return count == values.length;
+    }
+
+    public int period() {
+        return values.length;
+    }
+
+    /**
+     * 평균 (채워진 값 기준)
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * 모표준편차 (볼린저 밴드 기준)
+     */
+    public double standardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double mean = sum / count;
+        return Math.sqrt(Math.max(0.0, sumOfSquares / count - mean * mean));
+    }
+
+    private void resync() {
+        double s = 0.0;
+        double sq = 0.0;
+        for (int i = 0; i < count; i++) {
+            s += values[i];
+            sq += values[i] * values[i];
+        }
+        sum = s;
+        sumOfSquares = sq;
+    }
+}
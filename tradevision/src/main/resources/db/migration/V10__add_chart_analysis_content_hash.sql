@@ -0,0 +1,9 @@
+-- TradeVision - 차트 분석 요청 지문 컬럼 추가
+-- 이미지 내용 SHA-256 + 종목 코드 + 캔들 타입 + 프롬프트 버전의 해시
+-- 같은 스크린샷 재업로드 시 기존 분석 결과를 재사용하기 위해 사용
+
+ALTER TABLE chart_analyses
+    ADD COLUMN content_hash CHAR(64) NULL COMMENT '분석 요청 지문 (SHA-256)' AFTER image_path;
+
+-- 지문으로 완료된 분석 결과 조회용
+CREATE INDEX idx_content_hash_status ON chart_analyses (content_hash, status);
@@ -0,0 +1,5 @@
+-- TradeVision - 차트 분석 썸네일 경로 컬럼 추가
+-- 히스토리 목록에서 원본 대신 작은 썸네일을 표시
+
+ALTER TABLE chart_analyses
+    ADD COLUMN thumbnail_path VARCHAR(500) NULL COMMENT '히스토리 목록용 썸네일 경로' AFTER image_path;
@@ -0,0 +1,7 @@
+-- TradeVision - 차트 일괄 분석 ID 컬럼 추가
+-- 여러 차트를 한 번에 접수한 경우 같은 batch_id로 묶어 진행 상황을 조회
+
+ALTER TABLE chart_analyses
+    ADD COLUMN batch_id VARCHAR(36) NULL COMMENT '일괄 분석 ID' AFTER user_id;
+
+CREATE INDEX idx_batch_user ON chart_analyses (batch_id, user_id);
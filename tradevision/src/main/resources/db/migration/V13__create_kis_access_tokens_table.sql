@@ -0,0 +1,9 @@
+-- TradeVision - KIS Access Token 저장 테이블 생성
+-- 재시작/다중 인스턴스 환경에서 토큰을 새로 발급하지 않고 공유 (App Key별 1행)
+
+CREATE TABLE kis_access_tokens (
+    token_key CHAR(64) PRIMARY KEY COMMENT 'App Key SHA-256 해시',
+    access_token VARCHAR(1000) NOT NULL COMMENT 'KIS Access Token',
+    expires_at DATETIME NOT NULL COMMENT '만료 일시',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '발급 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='한국투자증권 API Access Token';
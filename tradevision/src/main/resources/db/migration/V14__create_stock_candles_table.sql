@@ -0,0 +1,16 @@
+-- TradeVision - 종목별 OHLCV 캔들 이력 테이블 생성
+-- (종목, 캔들 타입, 시각) 기본 키 순으로 클러스터링되어 구간 조회가 연속 읽기가 됨
+-- 종목 코드 기준 파티션으로 종목별 데이터를 분리
+
+CREATE TABLE stock_candles (
+    stock_code CHAR(6) NOT NULL COMMENT '종목 코드',
+    candle_type VARCHAR(3) NOT NULL COMMENT '캔들 타입 (M1, M5, M15, H1, D, W, M)',
+    candle_time DATETIME NOT NULL COMMENT '캔들 시작 시각 (KST)',
+    open_price BIGINT NOT NULL COMMENT '시가',
+    high_price BIGINT NOT NULL COMMENT '고가',
+    low_price BIGINT NOT NULL COMMENT '저가',
+    close_price BIGINT NOT NULL COMMENT '종가',
+    volume BIGINT NOT NULL COMMENT '거래량',
+    PRIMARY KEY (stock_code, candle_type, candle_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='종목별 OHLCV 캔들 이력'
+  PARTITION BY KEY (stock_code) PARTITIONS 16;
@@ -0,0 +1,18 @@
+-- TradeVision - 사용량 집계 카운터 테이블 생성
+-- (사용자, 동작, 기간) 단위로 사용 횟수를 미리 집계하여 한도 확인 시 이력 COUNT(*) 대신 기본 키 조회 한 번으로 처리
+-- 카운터는 사용 시 원자적으로 증가하고, 주기적으로 원본(chart_analyses / usage_tracking)과 대조해 보정
+
+CREATE TABLE usage_counters (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    action_type VARCHAR(50) NOT NULL COMMENT '동작 유형 (CHART_ANALYSIS 등)',
+    period_type VARCHAR(5) NOT NULL COMMENT '집계 기간 (DAY, MONTH)',
+    period_start DATE NOT NULL COMMENT '기간 시작일 (DAY: 당일, MONTH: 1일)',
+    used_count INT NOT NULL DEFAULT 0 COMMENT '사용 횟수',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 갱신 일시',
+    PRIMARY KEY (user_id, action_type, period_type, period_start),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 기간 사용량 카운터';
+
+-- 카운터 적재/보정 시 usage_tracking 구간 집계가 사용자의 해당 기간 행만 읽도록 복합 인덱스 추가
+-- (chart_analyses는 V9의 idx_user_status_created 사용)
+CREATE INDEX idx_user_action_created ON usage_tracking (user_id, action_type, created_at);
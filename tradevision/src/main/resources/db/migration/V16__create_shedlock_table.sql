@@ -0,0 +1,11 @@
+-- TradeVision - 주기 작업 잠금 테이블 생성 (ShedLock)
+-- 여러 인스턴스가 같은 @Scheduled 작업을 동시에 실행하지 않도록 작업 이름별 잠금 만료 시각을 기록
+-- (사용량 카운터 보정 등 DB 값을 덮어쓰는 작업은 한 인스턴스에서만 실행)
+
+CREATE TABLE shedlock (
+    name VARCHAR(64) NOT NULL COMMENT '작업 이름',
+    lock_until TIMESTAMP(3) NOT NULL COMMENT '잠금 만료 시각',
+    locked_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '잠금 획득 시각',
+    locked_by VARCHAR(255) NOT NULL COMMENT '잠금 보유 인스턴스',
+    PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주기 작업 잠금';
@@ -0,0 +1,4 @@
+-- TradeVision - 진행 중 분석 작업 정리용 인덱스 추가
+-- 재시작/장애로 끝나지 않은 PENDING/PROCESSING 분석을 사용자와 무관하게 접수 시각 순으로 조회
+
+CREATE INDEX idx_status_created ON chart_analyses (status, created_at);
@@ -0,0 +1,11 @@
+-- TradeVision - 차트 분석 비동기 작업 상태 컬럼 추가
+-- 분석 요청은 PENDING 상태로 먼저 저장되고, 워커가 OpenAI 호출 후 결과를 채움
+
+ALTER TABLE chart_analyses
+    ADD COLUMN status ENUM('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'COMPLETED' COMMENT '분석 작업 상태' AFTER image_path,
+    ADD COLUMN error_message VARCHAR(500) NULL COMMENT '분석 실패 사유' AFTER analysis_result,
+    ADD COLUMN completed_at DATETIME NULL COMMENT '분석 완료 일시' AFTER created_at,
+    MODIFY COLUMN analysis_result JSON NULL COMMENT 'AI 분석 결과 (패턴, 지지/저항선, 의견 등)';
+
+-- 사용자별 진행 중인 작업 조회 및 일일 한도 계산용
+CREATE INDEX idx_user_status_created ON chart_analyses (user_id, status, created_at);
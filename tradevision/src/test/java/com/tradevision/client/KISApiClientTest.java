@@ -34,4 +34,18 @@ class KISApiClientTest {
         assertThat(clazz.getMethod("getAccessToken")).isNotNull();
         assertThat(clazz.getMethod("getStockPrice", String.class, com.tradevision.constant.CandleType.class)).isNotNull();
     }
+
+    @Test
+    @DisplayName("KISApiClient에 논블로킹(Mono) 메서드 존재 확인")
+    void reactiveMethodsExist() throws NoSuchMethodException {
+        // when
+        Class<?> clazz = KISApiClient.class;
+
+        // then
+        assertThat(clazz.getMethod("getAccessTokenReactive").getReturnType())
+                .isEqualTo(reactor.core.publisher.Mono.class);
+        assertThat(clazz.getMethod("getStockPriceReactive", String.class, com.tradevision.constant.CandleType.class)
+                .getReturnType())
+                .isEqualTo(reactor.core.publisher.Mono.class);
+    }
 }
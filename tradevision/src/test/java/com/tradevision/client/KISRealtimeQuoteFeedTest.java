@@ -0,0 +1,65 @@
+package com.tradevision.client;
+
+import com.tradevision.dto.response.StockTickResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KISRealtimeQuoteFeed 메시지 파싱 테스트
+ */
+@DisplayName("KISRealtimeQuoteFeed 테스트")
+class KISRealtimeQuoteFeedTest {
+
+    private static final String TICK_005930 =
+            "005930^093354^71900^5^-100^-0.14^72023.83^72100^72400^71700^71900^71800^1^3052507^219853241700";
+
+    @Test
+    @DisplayName("실시간 체결가 한 건 파싱")
+    void parseTicks_SingleTick() {
+        // when
+        List<StockTickResponse> ticks = KISRealtimeQuoteFeed.parseTicks("0|H0STCNT0|001|" + TICK_005930);
+
+        // then
+        assertThat(ticks).hasSize(1);
+        StockTickResponse tick = ticks.get(0);
+        assertThat(tick.getStockCode()).isEqualTo("005930");
+        assertThat(tick.getTradeTime()).isEqualTo(LocalTime.of(9, 33, 54));
+        assertThat(tick.getCurrentPrice()).isEqualTo(new BigDecimal("71900"));
+        assertThat(tick.getPriceChange()).isEqualTo(new BigDecimal("-100"));
+        assertThat(tick.getChangeRate()).isEqualTo(new BigDecimal("-0.14"));
+        assertThat(tick.getHighPrice()).isEqualTo(new BigDecimal("72400"));
+        assertThat(tick.getTradeVolume()).isEqualTo(1L);
+        assertThat(tick.getAccumulatedVolume()).isEqualTo(3052507L);
+    }
+
+    @Test
+    @DisplayName("한 메시지에 여러 건이 오면 모두 파싱")
+    void parseTicks_MultipleTicks() {
+        // given
+        String second = TICK_005930.replace("093354^71900", "093355^72000");
+
+        // when
+        List<StockTickResponse> ticks = KISRealtimeQuoteFeed.parseTicks(
+                "0|H0STCNT0|002|" + TICK_005930 + "^" + second);
+
+        // then
+        assertThat(ticks).extracting(StockTickResponse::getCurrentPrice)
+                .containsExactly(new BigDecimal("71900"), new BigDecimal("72000"));
+    }
+
+    @Test
+    @DisplayName("다른 TR 데이터는 무시")
+    void parseTicks_OtherTrId_Ignored() {
+        // when
+        List<StockTickResponse> ticks = KISRealtimeQuoteFeed.parseTicks("0|H0STASP0|001|005930^093354");
+
+        // then
+        assertThat(ticks).isEmpty();
+    }
+}
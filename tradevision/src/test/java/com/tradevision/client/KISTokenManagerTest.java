@@ -0,0 +1,159 @@
+package com.tradevision.client;
+
+import com.tradevision.entity.KisAccessToken;
+import com.tradevision.repository.KisAccessTokenRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KISTokenManager 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KISTokenManager 테스트")
+class KISTokenManagerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private KisAccessTokenRepository tokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+
+    private KISTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        // 토큰 발급 API: 요청마다 200ms 지연 후 새 토큰 응답
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(200))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body("{\"access_token\":\"token-" + tokenRequests.incrementAndGet()
+                                        + "\",\"token_type\":\"Bearer\",\"expires_in\":86400}")
+                                .build()))
+                .build();
+
+        tokenManager = new KISTokenManager(webClient, CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.ofDefaults(), tokenRepository, transactionManager,
+                "http://localhost", "app-key", "app-secret", Duration.ofHours(1), Clock.fixed(NOW, ZONE));
+    }
+
+    @Test
+    @DisplayName("동시에 만료를 감지해도 토큰 발급은 한 번만 수행")
+    void getAccessToken_Concurrent_IssuesOnce() throws Exception {
+        // given
+        given(tokenRepository.findByTokenKeyForUpdate(anyString())).willReturn(Optional.empty());
+        ExecutorService executor = Executors.newFixedThreadPool(50);
+        List<Callable<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            callers.add(tokenManager::getAccessToken);
+        }
+
+        // when
+        List<Future<String>> results = executor.invokeAll(callers, 10, TimeUnit.SECONDS);
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("token-1");
+        }
+        assertThat(tokenRequests.get()).isEqualTo(1);
+        verify(tokenRepository).saveAndFlush(any(KisAccessToken.class));
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("발급된 토큰은 재조회 시 저장소/API를 거치지 않음")
+    void getAccessToken_Cached_NoLookup() {
+        // given
+        given(tokenRepository.findByTokenKeyForUpdate(anyString())).willReturn(Optional.empty());
+        tokenManager.getAccessToken();
+
+        // when
+        String token = tokenManager.getAccessTokenReactive().block();
+
+        // then
+        assertThat(token).isEqualTo("token-1");
+        assertThat(tokenRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 유효한 토큰은 새로 발급하지 않고 재사용")
+    void getAccessToken_StoredToken_Reused() {
+        // given
+        KisAccessToken stored = KisAccessToken.builder()
+                .tokenKey("key")
+                .accessToken("stored-token")
+                .expiresAt(LocalDateTime.ofInstant(NOW, ZONE).plusHours(12))
+                .updatedAt(LocalDateTime.ofInstant(NOW, ZONE).minusHours(12))
+                .build();
+        given(tokenRepository.findByTokenKeyForUpdate(anyString())).willReturn(Optional.of(stored));
+
+        // when
+        String token = tokenManager.getAccessToken();
+
+        // then
+        assertThat(token).isEqualTo("stored-token");
+        assertThat(tokenRequests.get()).isZero();
+        verify(tokenRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("저장된 토큰이 곧 만료되면 새로 발급 후 갱신")
+    void refreshIfExpiringSoon_ExpiringToken_Reissues() {
+        // given
+        KisAccessToken stored = KisAccessToken.builder()
+                .tokenKey("key")
+                .accessToken("old-token")
+                .expiresAt(LocalDateTime.ofInstant(NOW, ZONE).plusMinutes(30))
+                .updatedAt(LocalDateTime.ofInstant(NOW, ZONE).minusHours(23))
+                .build();
+        given(tokenRepository.findByTokenKeyForUpdate(anyString())).willReturn(Optional.of(stored));
+
+        // when
+        tokenManager.refreshIfExpiringSoon();
+
+        // then
+        assertThat(tokenRequests.get()).isEqualTo(1);
+        assertThat(stored.getAccessToken()).isEqualTo("token-1");
+        assertThat(tokenManager.getAccessToken()).isEqualTo("token-1");
+    }
+}
@@ -0,0 +1,127 @@
+package com.tradevision.client;
+
+import com.tradevision.exception.ExternalApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenAICallLimiter 단위 테스트
+ */
+class OpenAICallLimiterTest {
+
+    @Test
+    @DisplayName("호출 완료 후 허가 반환")
+    void call_ReleasesPermit() {
+        // given
+        OpenAICallLimiter limiter = new OpenAICallLimiter(2, Duration.ofMillis(100));
+
+        // when
+        String result = limiter.call(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(limiter.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("호출 실패 시에도 허가 반환")
+    void call_ReleasesPermitOnFailure() {
+        // given
+        OpenAICallLimiter limiter = new OpenAICallLimiter(1, Duration.ofMillis(100));
+
+        // when & then
+        assertThatThrownBy(() -> limiter.call(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허가 대기 시간 초과 시 ExternalApiException")
+    void call_AcquireTimeout() throws InterruptedException {
+        // given
+        OpenAICallLimiter limiter = new OpenAICallLimiter(1, Duration.ofMillis(50));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> limiter.call(() -> {
+            holding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        holding.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.call(() -> "blocked"))
+                .isInstanceOf(ExternalApiException.class);
+
+        release.countDown();
+        holder.join();
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("논블로킹 호출 - 허가가 없으면 스레드를 붙잡지 않고 기다렸다가 반환된 허가로 실행")
+    void callReactive_WaitsForReleasedPermit() {
+        // given
+        OpenAICallLimiter limiter = new OpenAICallLimiter(1, Duration.ofSeconds(5));
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger started = new AtomicInteger();
+
+        // when
+        Mono<String> holding = limiter.callReactive(() -> {
+            started.incrementAndGet();
+            return first.asMono();
+        });
+        Mono<String> waiting = limiter.callReactive(() -> {
+            started.incrementAndGet();
+            return Mono.just("second");
+        });
+        holding.subscribe();
+        CompletableFuture<String> result = waiting.toFuture();
+
+        // then
+        assertThat(started.get()).isEqualTo(1);
+        assertThat(result).isNotDone();
+
+        // when
+        first.tryEmitValue("first");
+
+        // then
+        assertThat(result.join()).isEqualTo("second");
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("논블로킹 호출 - 허가 대기 시간 초과 시 ExternalApiException, 허가는 그대로")
+    void callReactive_AcquireTimeout() {
+        // given
+        OpenAICallLimiter limiter = new OpenAICallLimiter(1, Duration.ofMillis(50));
+        Sinks.One<String> holder = Sinks.one();
+        limiter.callReactive(holder::asMono).subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> limiter.callReactive(() -> Mono.just("blocked")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(ExternalApiException.class);
+
+        holder.tryEmitValue("done");
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+}
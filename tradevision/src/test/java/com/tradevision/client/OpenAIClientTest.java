@@ -0,0 +1,172 @@
+package com.tradevision.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpenAIClient 요청 본문 테스트
+ * 이미지를 스트리밍 인코딩한 요청 본문이 올바른 JSON인지 검증
+ */
+@DisplayName("OpenAIClient 테스트")
+class OpenAIClientTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<String> sentBody = new AtomicReference<>();
+    private final AtomicReference<HttpHeaders> sentHeaders = new AtomicReference<>();
+    private OpenAIClient openAIClient;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    MockClientHttpRequest httpRequest = new MockClientHttpRequest(HttpMethod.POST, URI.create("/"));
+                    return request.writeTo(httpRequest, ExchangeStrategies.withDefaults())
+                            .then(Mono.defer(() -> {
+                                sentHeaders.set(httpRequest.getHeaders());
+                                return httpRequest.getBodyAsString();
+                            }))
+                            .map(body -> {
+                                sentBody.set(body);
+                                return ClientResponse.create(HttpStatus.OK)
+                                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .body("{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"{}\"}}]}")
+                                        .build();
+                            });
+                })
+                .build();
+
+        openAIClient = new OpenAIClient(webClient, objectMapper,
+                CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(),
+                new OpenAICallLimiter(10, Duration.ofSeconds(5)));
+        ReflectionTestUtils.setField(openAIClient, "baseUrl", "http://localhost");
+        ReflectionTestUtils.setField(openAIClient, "apiKey", "test-key");
+        ReflectionTestUtils.setField(openAIClient, "model", "gpt-4o");
+        ReflectionTestUtils.setField(openAIClient, "maxTokens", 2000);
+    }
+
+    @Test
+    @DisplayName("이미지를 Base64 data URL로 스트리밍하여 요청 본문 생성")
+    void analyzeChart_StreamsImageAsDataUrl() throws Exception {
+        // given
+        byte[] imageBytes = new byte[100_001];
+        for (int i = 0; i < imageBytes.length; i++) {
+            imageBytes[i] = (byte) i;
+        }
+        Path imagePath = tempDir.resolve("chart.png");
+        Files.write(imagePath, imageBytes);
+
+        // when
+        String result = openAIClient.analyzeChart(imagePath, "image/png", "분석 \"프롬프트\"");
+
+        // then
+        assertThat(result).isEqualTo("{}");
+
+        JsonNode body = objectMapper.readTree(sentBody.get());
+        JsonNode content = body.get("messages").get(0).get("content");
+        assertThat(content.get(0).get("text").asText()).isEqualTo("분석 \"프롬프트\"");
+        assertThat(content.get(1).get("image_url").get("url").asText())
+                .isEqualTo("data:image/png;base64," + Base64.getEncoder().encodeToString(imageBytes));
+        assertThat(sentHeaders.get().getContentLength())
+                .isEqualTo(sentBody.get().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("논블로킹 분석 - 많은 동시 호출을 스레드 증가 없이 처리")
+    void analyzeChartReactive_ManyConcurrentCalls() throws Exception {
+        // given
+        Path imagePath = tempDir.resolve("chart.jpg");
+        Files.write(imagePath, new byte[]{1, 2, 3});
+        WebClient slowWebClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(200))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body("{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"{}\"}}]}")
+                                .build()))
+                .build();
+        OpenAIClient reactiveClient = new OpenAIClient(slowWebClient, objectMapper,
+                CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(),
+                new OpenAICallLimiter(100, Duration.ofSeconds(5)));
+        ReflectionTestUtils.setField(reactiveClient, "baseUrl", "http://localhost");
+        ReflectionTestUtils.setField(reactiveClient, "apiKey", "test-key");
+        int threadsBefore = Thread.activeCount();
+
+        // when
+        List<String> results = Flux.range(0, 300)
+                .flatMap(i -> reactiveClient.analyzeChartReactive(imagePath, "image/jpeg", "프롬프트"), 300)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // then: 300건 x 200ms를 순차 처리했다면 60초, 스레드당 1건이었다면 300개 스레드가 필요
+        assertThat(results).hasSize(300).containsOnly("{}");
+        assertThat(Thread.activeCount() - threadsBefore).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("논블로킹 분석 - 동시 호출 수 제한 적용")
+    void analyzeChartReactive_RespectsCallLimit() throws Exception {
+        // given
+        Path imagePath = tempDir.resolve("chart.jpg");
+        Files.write(imagePath, new byte[]{1, 2, 3});
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        WebClient slowWebClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(50))
+                            .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body("{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"{}\"}}]}")
+                                    .build())
+                            .doFinally(signal -> inFlight.decrementAndGet());
+                }))
+                .build();
+        OpenAICallLimiter limiter = new OpenAICallLimiter(2, Duration.ofSeconds(5));
+        OpenAIClient reactiveClient = new OpenAIClient(slowWebClient, objectMapper,
+                CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(), limiter);
+        ReflectionTestUtils.setField(reactiveClient, "baseUrl", "http://localhost");
+        ReflectionTestUtils.setField(reactiveClient, "apiKey", "test-key");
+
+        // when
+        List<String> results = Flux.range(0, 10)
+                .flatMap(i -> reactiveClient.analyzeChartReactive(imagePath, "image/jpeg", "프롬프트"), 10)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // then
+        assertThat(results).hasSize(10);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(limiter.availablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,102 @@
+package com.tradevision.config;
+
+import com.tradevision.client.OpenAICallLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기 Executor 부하 테스트
+ * 플랫폼 스레드풀(기본 설정)과 가상 스레드 실행 모드의 처리량 비교
+ * 실행: ./gradlew loadTest -Pjava21
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class AsyncExecutorLoadTest {
+
+    private static final int TASK_COUNT = 1000;
+    private static final long IO_LATENCY_MS = 50;  // OpenAI 호출을 흉내 낸 I/O 대기 시간
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+
+    @Test
+    @DisplayName("가상 스레드 모드 - 플랫폼 스레드풀보다 거부 없이 높은 처리량")
+    void virtualThreads_HigherThroughputThanPlatformPool() throws InterruptedException {
+        // given
+        Executor platform = asyncConfig.taskExecutor(5, 10, 100, false);
+        Executor virtual = asyncConfig.taskExecutor(5, 10, 100, true);
+        OpenAICallLimiter limiter = new OpenAICallLimiter(50, Duration.ofSeconds(30));
+
+        // when
+        LoadResult platformResult = run(platform, () -> sleep(IO_LATENCY_MS));
+        LoadResult virtualResult = run(virtual, () -> limiter.call(() -> sleep(IO_LATENCY_MS)));
+        ((ThreadPoolTaskExecutor) platform).shutdown();
+
+        // then
+        System.out.printf("platform: %s%nvirtual : %s%n", platformResult, virtualResult);
+        assertThat(virtualResult.completed()).isEqualTo(TASK_COUNT);
+        assertThat(virtualResult.rejected()).isZero();
+        assertThat(virtualResult.throughput()).isGreaterThan(platformResult.throughput());
+    }
+
+    private LoadResult run(Executor executor, Runnable task) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(TASK_COUNT);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                        completed.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                rejected.incrementAndGet();
+                latch.countDown();
+            }
+        }
+        assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        return new LoadResult(completed.get(), rejected.get(), elapsedMs);
+    }
+
+    private static Void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private record LoadResult(int completed, int rejected, long elapsedMs) {
+
+        double throughput() {
+            return completed * 1000.0 / Math.max(elapsedMs, 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("completed=%d, rejected=%d, elapsed=%dms, throughput=%.1f tasks/s",
+                    completed, rejected, elapsedMs, throughput());
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.tradevision.config;
 
-import com.tradevision.security.CustomUserDetailsService;
+import com.tradevision.constant.InvestmentLevel;
 import com.tradevision.security.JwtTokenProvider;
+import com.tradevision.security.UserPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,13 +10,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.Collections;
-
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -40,9 +37,6 @@ class SecurityConfigTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
-    @MockBean
-    private CustomUserDetailsService userDetailsService;
-
     @Test
     @DisplayName("공개 엔드포인트 (/api/auth/signup) - 인증 없이 접근 가능")
     void publicEndpoint_Signup_AccessibleWithoutAuth() throws Exception {
@@ -89,17 +83,9 @@ class SecurityConfigTest {
     void protectedEndpoint_WithValidJWT_AccessGranted() throws Exception {
         // given: 유효한 JWT 토큰
         String validToken = "valid-jwt-token";
-        String email = "test@example.com";
+        UserPrincipal principal = UserPrincipal.of(1L, "test@example.com", InvestmentLevel.BEGINNER, "FREE");
 
-        UserDetails userDetails = User.builder()
-                .username(email)
-                .password("encodedPassword")
-                .authorities(Collections.emptyList())
-                .build();
-
-        given(jwtTokenProvider.validateToken(validToken)).willReturn(true);
-        given(jwtTokenProvider.getEmailFromToken(validToken)).willReturn(email);
-        given(userDetailsService.loadUserByUsername(email)).willReturn(userDetails);
+        given(jwtTokenProvider.parseAccessToken(validToken)).willReturn(principal);
 
         // when & then: Authorization 헤더에 Bearer 토큰을 포함하여 요청
         mockMvc.perform(get("/api/protected-resource")
@@ -115,7 +101,7 @@ class SecurityConfigTest {
         // given: 유효하지 않은 JWT 토큰
         String invalidToken = "invalid-jwt-token";
 
-        given(jwtTokenProvider.validateToken(invalidToken)).willReturn(false);
+        given(jwtTokenProvider.parseAccessToken(invalidToken)).willReturn(null);
 
         // when & then
         mockMvc.perform(get("/api/protected-resource")
@@ -169,17 +155,9 @@ class SecurityConfigTest {
     void sessionManagement_Stateless() throws Exception {
         // given: 유효한 JWT 토큰
         String validToken = "valid-jwt-token";
-        String email = "test@example.com";
-
-        UserDetails userDetails = User.builder()
-                .username(email)
-                .password("encodedPassword")
-                .authorities(Collections.emptyList())
-                .build();
+        UserPrincipal principal = UserPrincipal.of(1L, "test@example.com", InvestmentLevel.BEGINNER, "FREE");
 
-        given(jwtTokenProvider.validateToken(validToken)).willReturn(true);
-        given(jwtTokenProvider.getEmailFromToken(validToken)).willReturn(email);
-        given(userDetailsService.loadUserByUsername(email)).willReturn(userDetails);
+        given(jwtTokenProvider.parseAccessToken(validToken)).willReturn(principal);
 
         // when: 첫 번째 요청
         mockMvc.perform(get("/api/protected-resource")
@@ -2,11 +2,16 @@ package com.tradevision.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradevision.constant.CandleType;
+import com.tradevision.dto.request.StockQuotesRequest;
 import com.tradevision.dto.request.StockSearchRequest;
+import com.tradevision.dto.response.CandleSeriesResponse;
 import com.tradevision.dto.response.StockPriceResponse;
+import com.tradevision.dto.response.StockQuotesResponse;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
+import com.tradevision.service.CandleHistoryService;
 import com.tradevision.service.StockService;
+import com.tradevision.service.TechnicalIndicatorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +24,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -46,6 +52,12 @@ class StockControllerTest {
     @MockBean
     private StockService stockService;
 
+    @MockBean
+    private CandleHistoryService candleHistoryService;
+
+    @MockBean
+    private TechnicalIndicatorService technicalIndicatorService;
+
     private StockPriceResponse mockStockPriceResponse;
 
     @BeforeEach
@@ -250,4 +262,93 @@ class StockControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("POST /api/stocks/quotes - 다중 종목 조회 (일부 실패 포함)")
+    @WithMockUser
+    void getStockQuotes_PartialFailure() throws Exception {
+        // given
+        StockQuotesRequest request = StockQuotesRequest.builder()
+                .stockCodes(List.of("005930", "999999"))
+                .candleType(CandleType.D)
+                .build();
+
+        StockQuotesResponse response = StockQuotesResponse.builder()
+                .candleType(CandleType.D)
+                .totalCount(2)
+                .successCount(1)
+                .failedCount(1)
+                .items(List.of(
+                        StockQuotesResponse.Item.success(mockStockPriceResponse),
+                        StockQuotesResponse.Item.failed("999999", ErrorCode.STOCK_NOT_FOUND,
+                                ErrorCode.STOCK_NOT_FOUND.getMessage())))
+                .build();
+
+        given(stockService.getStockQuotes(List.of("005930", "999999"), CandleType.D))
+                .willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/stocks/quotes")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.successCount").value(1))
+                .andExpect(jsonPath("$.data.items[0].quote.stockName").value("삼성전자"))
+                .andExpect(jsonPath("$.data.items[1].success").value(false))
+                .andExpect(jsonPath("$.data.items[1].errorCode").value("3005"));
+    }
+
+    @Test
+    @DisplayName("POST /api/stocks/quotes - 유효성 검증 실패 (빈 종목 목록)")
+    @WithMockUser
+    void getStockQuotes_EmptyCodes() throws Exception {
+        // given
+        StockQuotesRequest request = StockQuotesRequest.builder()
+                .stockCodes(List.of())
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/api/stocks/quotes")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/stocks/{stockCode}/candles - 캔들 이력 조회 성공")
+    @WithMockUser
+    void getCandles_Success() throws Exception {
+        // given
+        CandleSeriesResponse response = CandleSeriesResponse.builder()
+                .stockCode("005930")
+                .candleType(CandleType.D)
+                .count(2)
+                .timestamps(new long[]{1704121200000L, 1704207600000L})
+                .open(new long[]{78200, 78500})
+                .high(new long[]{79800, 79000})
+                .low(new long[]{78000, 77900})
+                .close(new long[]{79600, 78700})
+                .volume(new long[]{17142847, 20663950})
+                .build();
+        given(candleHistoryService.getCandles("005930", CandleType.D,
+                LocalDateTime.of(2024, 1, 2, 0, 0), LocalDateTime.of(2024, 1, 3, 23, 59)))
+                .willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/stocks/005930/candles")
+                        .param("type", "D")
+                        .param("from", "2024-01-02T00:00:00")
+                        .param("to", "2024-01-03T23:59:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.count").value(2))
+                .andExpect(jsonPath("$.data.close[0]").value(79600))
+                .andExpect(jsonPath("$.data.volume[1]").value(20663950));
+    }
 }
@@ -1,5 +1,6 @@
 package com.tradevision.repository;
 
+import com.tradevision.constant.AnalysisStatus;
 import com.tradevision.constant.CandleType;
 import com.tradevision.constant.InvestmentLevel;
 import com.tradevision.entity.ChartAnalysis;
@@ -329,4 +330,50 @@ class ChartAnalysisRepositoryTest {
         assertThat(result.isLast()).isTrue();
         assertThat(result.hasPrevious()).isTrue();
     }
+
+    @Test
+    @DisplayName("분석 시작 전환 - 대기 중인 분석만 한 번 전환")
+    void markProcessing_OnlyFromPending() {
+        // when
+        int first = chartAnalysisRepository.markProcessing(analysis1.getId());
+        int second = chartAnalysisRepository.markProcessing(analysis1.getId());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(chartAnalysisRepository.findStatusById(analysis1.getId())).contains(AnalysisStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("분석 완료 전환 - 분석 중이 아니면 변경하지 않음")
+    void markCompleted_OnlyFromProcessing() {
+        // given
+        LocalDateTime completedAt = LocalDateTime.now();
+
+        // when
+        int notStarted = chartAnalysisRepository.markCompleted(analysis2.getId(), "{}", null, completedAt);
+        chartAnalysisRepository.markProcessing(analysis2.getId());
+        int completed = chartAnalysisRepository.markCompleted(analysis2.getId(), "{}", null, completedAt);
+
+        // then
+        assertThat(notStarted).isZero();
+        assertThat(completed).isEqualTo(1);
+        assertThat(chartAnalysisRepository.findStatusById(analysis2.getId())).contains(AnalysisStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("실패 전환 - 이미 종료된 분석은 변경하지 않음")
+    void markFailed_OnlyFromInProgress() {
+        // given
+        LocalDateTime completedAt = LocalDateTime.now();
+
+        // when
+        int first = chartAnalysisRepository.markFailed(analysis3.getId(), "분석 실패", completedAt);
+        int second = chartAnalysisRepository.markFailed(analysis3.getId(), "분석 실패", completedAt);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(chartAnalysisRepository.findStatusById(analysis3.getId())).contains(AnalysisStatus.FAILED);
+    }
 }
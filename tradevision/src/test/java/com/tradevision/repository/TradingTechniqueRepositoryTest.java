@@ -190,6 +190,17 @@ class TradingTechniqueRepositoryTest {
         assertThat(result.get(0).getViewCount()).isGreaterThanOrEqualTo(result.get(1).getViewCount());
     }
 
+    @Test
+    @DisplayName("활성 기법 요약 전체 조회 - TEXT 컬럼 없이 카탈로그 스냅샷 적재")
+    void findAllActiveSummaries() {
+        // when
+        List<TechniqueSummary> result = techniqueRepository.findAllActiveSummaries();
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(TechniqueSummary::name).allSatisfy(name -> assertThat(name).isNotBlank());
+    }
+
     @Test
     @DisplayName("추천 기법 조회 (추천수 기준)")
     void findTopByRecommendationCount() {
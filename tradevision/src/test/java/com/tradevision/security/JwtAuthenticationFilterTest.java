@@ -1,5 +1,6 @@
 package com.tradevision.security;
 
+import com.tradevision.constant.InvestmentLevel;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,11 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
-import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -36,9 +34,6 @@ class JwtAuthenticationFilterTest {
     @Mock
     private JwtTokenProvider tokenProvider;
 
-    @Mock
-    private CustomUserDetailsService userDetailsService;
-
     @Mock
     private HttpServletRequest request;
 
@@ -62,18 +57,10 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_ValidToken_SetsAuthentication() throws ServletException, IOException {
         // given
         String token = "valid-jwt-token";
-        String email = "test@example.com";
-
-        UserDetails userDetails = User.builder()
-                .username(email)
-                .password("encodedPassword")
-                .authorities(Collections.emptyList())
-                .build();
+        UserPrincipal principal = UserPrincipal.of(1L, "test@example.com", InvestmentLevel.BEGINNER, "FREE");
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + token);
-        given(tokenProvider.validateToken(token)).willReturn(true);
-        given(tokenProvider.getEmailFromToken(token)).willReturn(email);
-        given(userDetailsService.loadUserByUsername(email)).willReturn(userDetails);
+        given(tokenProvider.parseAccessToken(token)).willReturn(principal);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -81,9 +68,12 @@ class JwtAuthenticationFilterTest {
         // then
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNotNull();
-        assertThat(authentication.getPrincipal()).isEqualTo(userDetails);
+        assertThat(authentication.getPrincipal()).isEqualTo(principal);
         assertThat(authentication.isAuthenticated()).isTrue();
 
+        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).getEmailFromToken(anyString());
+
         verify(filterChain).doFilter(request, response);
     }
 
@@ -100,7 +90,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).parseAccessToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -117,7 +107,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).parseAccessToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -128,7 +118,7 @@ class JwtAuthenticationFilterTest {
         String token = "invalid-jwt-token";
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + token);
-        given(tokenProvider.validateToken(token)).willReturn(false);
+        given(tokenProvider.parseAccessToken(token)).willReturn(null);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -137,7 +127,6 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(userDetailsService, never()).loadUserByUsername(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -148,8 +137,7 @@ class JwtAuthenticationFilterTest {
         String token = "valid-jwt-token";
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + token);
-        given(tokenProvider.validateToken(token)).willReturn(true);
-        given(tokenProvider.getEmailFromToken(token)).willThrow(new RuntimeException("토큰 파싱 실패"));
+        given(tokenProvider.parseAccessToken(token)).willThrow(new RuntimeException("토큰 파싱 실패"));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
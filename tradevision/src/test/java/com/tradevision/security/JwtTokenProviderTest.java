@@ -1,5 +1,7 @@
 package com.tradevision.security;
 
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.entity.User;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +25,7 @@ class JwtTokenProviderTest {
     private JwtTokenProvider jwtTokenProvider;
     private String testSecretKey;
     private SecretKey secretKey;
+    private User user;
 
     @BeforeEach
     void setUp() {
@@ -36,16 +39,21 @@ class JwtTokenProviderTest {
                 3600000L,  // 1시간
                 604800000L // 7일
         );
+
+        user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("encodedPassword")
+                .nickname("테스터")
+                .investmentLevel(InvestmentLevel.INTERMEDIATE)
+                .build();
     }
 
     @Test
     @DisplayName("Access Token 생성 성공")
     void generateAccessToken_Success() {
-        // given
-        String email = "test@example.com";
-
         // when
-        String accessToken = jwtTokenProvider.generateAccessToken(email);
+        String accessToken = jwtTokenProvider.generateAccessToken(user, "FREE");
 
         // then
         assertThat(accessToken).isNotNull();
@@ -70,8 +78,7 @@ class JwtTokenProviderTest {
     @DisplayName("유효한 토큰 검증 성공")
     void validateToken_ValidToken_ReturnsTrue() {
         // given
-        String email = "test@example.com";
-        String token = jwtTokenProvider.generateAccessToken(email);
+        String token = jwtTokenProvider.generateAccessToken(user, "FREE");
 
         // when
         boolean isValid = jwtTokenProvider.validateToken(token);
@@ -142,14 +149,80 @@ class JwtTokenProviderTest {
     @DisplayName("토큰에서 이메일 추출 성공")
     void getEmailFromToken_Success() {
         // given
-        String email = "test@example.com";
-        String token = jwtTokenProvider.generateAccessToken(email);
+        String token = jwtTokenProvider.generateAccessToken(user, "FREE");
 
         // when
         String extractedEmail = jwtTokenProvider.getEmailFromToken(token);
 
         // then
-        assertThat(extractedEmail).isEqualTo(email);
+        assertThat(extractedEmail).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Access Token 클레임으로 인증 정보 구성 성공")
+    void parseAccessToken_Success() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(user, "PRO");
+
+        // when
+        UserPrincipal principal = jwtTokenProvider.parseAccessToken(token);
+
+        // then
+        assertThat(principal).isNotNull();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("test@example.com");
+        assertThat(principal.getInvestmentLevel()).isEqualTo(InvestmentLevel.INTERMEDIATE);
+        assertThat(principal.getPlan()).isEqualTo("PRO");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 Access Token으로 인정하지 않음")
+    void parseAccessToken_RefreshToken_ReturnsNull() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken("test@example.com");
+
+        // when
+        UserPrincipal principal = jwtTokenProvider.parseAccessToken(refreshToken);
+
+        // then
+        assertThat(principal).isNull();
+    }
+
+    @Test
+    @DisplayName("검증된 Access Token은 캐시에서 재사용")
+    void parseAccessToken_Cached_ReusesPrincipal() {
+        // given
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(100);
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(testSecretKey, 3600000L, 604800000L, tokenCache);
+        String token = cachingProvider.generateAccessToken(user, "FREE");
+
+        // when
+        UserPrincipal first = cachingProvider.parseAccessToken(token);
+        UserPrincipal second = cachingProvider.parseAccessToken(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(tokenCache.missCount()).isEqualTo(1);
+        assertThat(tokenCache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 서명의 Access Token 인증 실패")
+    void parseAccessToken_InvalidSignature_ReturnsNull() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                "wrong-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long",
+                3600000L,
+                604800000L
+        );
+        String token = otherProvider.generateAccessToken(user, "FREE");
+
+        // when
+        UserPrincipal principal = jwtTokenProvider.parseAccessToken(token);
+
+        // then
+        assertThat(principal).isNull();
     }
 
     @Test
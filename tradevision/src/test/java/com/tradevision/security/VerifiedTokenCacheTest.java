@@ -0,0 +1,115 @@
+package com.tradevision.security;
+
+import com.tradevision.constant.InvestmentLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VerifiedTokenCache 단위 테스트
+ */
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final UserPrincipal principal = UserPrincipal.of(1L, "test@example.com", InvestmentLevel.BEGINNER, "FREE");
+
+    @Test
+    @DisplayName("저장한 토큰은 적중, 다른 토큰은 미스로 집계")
+    void get_CountsHitsAndMisses() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        cache.put("token-a", principal, clock.instant().plus(Duration.ofHours(1)));
+
+        // when
+        UserPrincipal hit = cache.get("token-a");
+        UserPrincipal miss = cache.get("token-b");
+
+        // then
+        assertThat(hit).isSameAs(principal);
+        assertThat(miss).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서도 무효")
+    void get_ExpiredToken_ReturnsNull() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        cache.put("token-a", principal, clock.instant().plus(Duration.ofMinutes(10)));
+
+        // when
+        clock.advance(Duration.ofMinutes(10));
+
+        // then
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면 가장 오래 사용되지 않은 토큰을 제거하고 크기를 유지")
+    void put_Full_EvictsLeastRecentlyUsed() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+        cache.put("token-a", principal, clock.instant().plus(Duration.ofHours(1)));
+        cache.put("token-b", principal, clock.instant().plus(Duration.ofHours(1)));
+        cache.get("token-a");
+
+        // when
+        cache.put("token-c", principal, clock.instant().plus(Duration.ofHours(1)));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token-a")).isNotNull();
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.get("token-c")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("최대 개수 0이면 캐시 사용 안 함")
+    void disabled_NeverStores() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, clock);
+
+        // when
+        cache.put("token-a", principal, clock.instant().plus(Duration.ofHours(1)));
+
+        // then
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.missCount()).isZero();
+    }
+
+    /**
+     * 테스트용 시계 (시간을 직접 진행)
+     */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package com.tradevision.service;
 
 import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.constant.SubscriptionStatus;
 import com.tradevision.dto.request.LoginRequest;
 import com.tradevision.dto.request.RefreshTokenRequest;
 import com.tradevision.dto.request.SignupRequest;
 import com.tradevision.dto.response.AuthResponse;
 import com.tradevision.entity.RefreshToken;
+import com.tradevision.entity.SubscriptionPlan;
 import com.tradevision.entity.User;
+import com.tradevision.entity.UserSubscription;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
 import com.tradevision.exception.UnauthorizedException;
 import com.tradevision.repository.RefreshTokenRepository;
 import com.tradevision.repository.UserRepository;
+import com.tradevision.repository.UserSubscriptionRepository;
 import com.tradevision.security.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -53,6 +57,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserSubscriptionRepository subscriptionRepository;
+
     @InjectMocks
     private AuthService authService;
 
@@ -156,7 +163,7 @@ class AuthServiceTest {
         // given
         given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
         given(passwordEncoder.matches("password123", "encodedPassword123")).willReturn(true);
-        given(jwtTokenProvider.generateAccessToken("test@example.com")).willReturn("access-token-12345");
+        given(jwtTokenProvider.generateAccessToken(testUser, "FREE")).willReturn("access-token-12345");
         given(jwtTokenProvider.generateRefreshToken("test@example.com")).willReturn("refresh-token-12345");
         given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(604800000L);
 
@@ -199,7 +206,7 @@ class AuthServiceTest {
                 .isInstanceOf(UnauthorizedException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(User.class), anyString());
         verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
     }
 
@@ -209,7 +216,7 @@ class AuthServiceTest {
         // given
         given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
         given(passwordEncoder.matches("password123", "encodedPassword123")).willReturn(true);
-        given(jwtTokenProvider.generateAccessToken("test@example.com")).willReturn("access-token");
+        given(jwtTokenProvider.generateAccessToken(testUser, "FREE")).willReturn("access-token");
         given(jwtTokenProvider.generateRefreshToken("test@example.com")).willReturn("refresh-token");
         given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(604800000L);
 
@@ -227,6 +234,30 @@ class AuthServiceTest {
         assertThat(savedToken.getUser()).isEqualTo(testUser);
     }
 
+    @Test
+    @DisplayName("로그인 시 활성 구독 플랜을 Access Token 클레임으로 발급")
+    void login_ActiveSubscription_IssuesTokenWithPlan() {
+        // given
+        UserSubscription subscription = UserSubscription.builder()
+                .user(testUser)
+                .plan(SubscriptionPlan.builder().id(2L).name("PRO").build())
+                .status(SubscriptionStatus.ACTIVE)
+                .build();
+
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
+        given(passwordEncoder.matches("password123", "encodedPassword123")).willReturn(true);
+        given(subscriptionRepository.findActiveSubscriptionByUserId(1L)).willReturn(Optional.of(subscription));
+        given(jwtTokenProvider.generateAccessToken(testUser, "PRO")).willReturn("pro-access-token");
+        given(jwtTokenProvider.generateRefreshToken("test@example.com")).willReturn("refresh-token");
+        given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(604800000L);
+
+        // when
+        AuthResponse authResponse = authService.login(loginRequest);
+
+        // then
+        assertThat(authResponse.getAccessToken()).isEqualTo("pro-access-token");
+    }
+
     // ========== 토큰 갱신 테스트 ==========
 
     @Test
@@ -244,7 +275,7 @@ class AuthServiceTest {
 
         given(jwtTokenProvider.validateToken("valid-refresh-token")).willReturn(true);
         given(refreshTokenRepository.findByToken("valid-refresh-token")).willReturn(Optional.of(refreshToken));
-        given(jwtTokenProvider.generateAccessToken("test@example.com")).willReturn("new-access-token");
+        given(jwtTokenProvider.generateAccessToken(testUser, "FREE")).willReturn("new-access-token");
 
         // when
         AuthResponse authResponse = authService.refresh(request);
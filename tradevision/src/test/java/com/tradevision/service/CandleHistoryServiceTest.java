@@ -0,0 +1,248 @@
+package com.tradevision.service;
+
+import com.tradevision.client.KISApiClient;
+import com.tradevision.constant.CandleType;
+import com.tradevision.dto.external.KISCandleResponse;
+import com.tradevision.dto.response.CandleSeriesResponse;
+import com.tradevision.entity.CandleSeries;
+import com.tradevision.exception.BusinessException;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.repository.StockCandleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CandleHistoryService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandleHistoryService 테스트")
+class CandleHistoryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 2, 10, 0);
+
+    @Mock
+    private KISApiClient kisApiClient;
+
+    @Mock
+    private StockCandleRepository candleRepository;
+
+    private CandleHistoryService candleHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(CandleSeries.KST), CandleSeries.KST);
+        candleHistoryService = new CandleHistoryService(kisApiClient, candleRepository,
+                100, 2000, Duration.ofSeconds(30), Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    @DisplayName("일봉 조회 - DB 이력과 KIS 최신 캔들을 병합하고 새 캔들은 저장")
+    void getCandles_MergeStoredAndFetched() {
+        // given
+        CandleSeries stored = CandleSeries.builder(2)
+                .add(LocalDate.of(2024, 12, 27).atStartOfDay(), 53700, 54100, 53200, 53700, 11000000)
+                .add(LocalDate.of(2024, 12, 30).atStartOfDay(), 53500, 53900, 53100, 53300, 12000000)
+                .build();
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000))).willReturn(stored);
+        given(kisApiClient.getPeriodCandles(eq("005930"), eq(CandleType.D), any(), any()))
+                .willReturn(candleResponse(List.of(
+                        dailyCandle("20250102", 53000, 54000, 52500, 53800, 15000000),
+                        dailyCandle("20241230", 53500, 53900, 53100, 53400, 12500000))));
+
+        LocalDateTime from = LocalDate.of(2024, 12, 27).atStartOfDay();
+
+        // when
+        CandleSeriesResponse response = candleHistoryService.getCandles("005930", CandleType.D, from, null);
+
+        // then
+        assertThat(response.getCount()).isEqualTo(3);
+        assertThat(response.getClose()).containsExactly(53700, 53400, 53800);  // 12/30은 KIS 값으로 갱신
+        assertThat(response.getVolume()).containsExactly(11000000, 12500000, 15000000);
+
+        ArgumentCaptor<CandleSeries> saved = ArgumentCaptor.forClass(CandleSeries.class);
+        verify(candleRepository).upsertAll(eq("005930"), eq(CandleType.D), saved.capture());
+        assertThat(saved.getValue().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동기화 주기 내 재조회 - 메모리에서 처리 (DB/KIS 재호출 없음)")
+    void getCandles_WithinSyncInterval_ServedFromMemory() {
+        // given
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000)))
+                .willReturn(CandleSeries.empty());
+        given(kisApiClient.getPeriodCandles(eq("005930"), eq(CandleType.D), any(), any()))
+                .willReturn(candleResponse(List.of(dailyCandle("20250102", 53000, 54000, 52500, 53800, 15000000))));
+
+        // when
+        candleHistoryService.getCandles("005930", CandleType.D, null, null);
+        CandleSeriesResponse second = candleHistoryService.getCandles("005930", CandleType.D, null, null);
+
+        // then
+        assertThat(second.getCount()).isEqualTo(1);
+        verify(candleRepository, times(1)).findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000));
+        verify(kisApiClient, times(1)).getPeriodCandles(eq("005930"), eq(CandleType.D), any(), any());
+    }
+
+    @Test
+    @DisplayName("5분봉 조회 - 당일 1분봉을 재집계")
+    void getCandles_FiveMinute_AggregatedFromMinuteCandles() {
+        // given
+        List<KISCandleResponse.Candle> minutes = new ArrayList<>();
+        for (int minute = 6; minute >= 0; minute--) {  // KIS는 최신순으로 응답
+            minutes.add(minuteCandle(LocalTime.of(9, minute), 70000 + minute * 100, 1000));
+        }
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.M5), any(), any(), eq(2000)))
+                .willReturn(CandleSeries.empty());
+        given(kisApiClient.getMinuteCandles(eq("005930"), any())).willReturn(candleResponse(minutes));
+
+        // when
+        CandleSeriesResponse response = candleHistoryService.getCandles("005930", CandleType.M5, null, null);
+
+        // then
+        assertThat(response.getCount()).isEqualTo(2);  // 09:00, 09:05
+        assertThat(response.getOpen()).containsExactly(70000, 70500);
+        assertThat(response.getClose()).containsExactly(70400, 70600);
+        assertThat(response.getVolume()).containsExactly(5000, 2000);
+        verify(kisApiClient, times(1)).getMinuteCandles(eq("005930"), any());
+    }
+
+    @Test
+    @DisplayName("DB에 없는 앞 구간 - KIS에서 받아 저장하고 이후 요청은 메모리에서 처리")
+    void getCandles_BackfillsOlderRangeFromKis() {
+        // given
+        CandleSeries stored = CandleSeries.builder(1)
+                .add(LocalDate.of(2024, 12, 30).atStartOfDay(), 53500, 53900, 53100, 53300, 12000000)
+                .build();
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000))).willReturn(stored);
+        given(kisApiClient.getPeriodCandles("005930", CandleType.D, LocalDate.of(2024, 12, 26), LocalDate.of(2024, 12, 30)))
+                .willReturn(candleResponse(List.of(
+                        dailyCandle("20241230", 53500, 53900, 53100, 53300, 12000000),
+                        dailyCandle("20241227", 53700, 54100, 53200, 53700, 11000000),
+                        dailyCandle("20241226", 53000, 53500, 52800, 53200, 10000000))));
+        given(kisApiClient.getPeriodCandles("005930", CandleType.D, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2)))
+                .willReturn(candleResponse(List.of(dailyCandle("20250102", 53000, 54000, 52500, 53800, 15000000))));
+        LocalDateTime from = LocalDate.of(2024, 12, 26).atStartOfDay();
+
+        // when
+        CandleSeriesResponse first = candleHistoryService.getCandles("005930", CandleType.D, from, null);
+        CandleSeriesResponse second = candleHistoryService.getCandles("005930", CandleType.D, from, null);
+
+        // then
+        assertThat(first.getClose()).containsExactly(53200, 53700, 53300, 53800);
+        assertThat(second.getClose()).containsExactly(53200, 53700, 53300, 53800);
+        verify(candleRepository, times(1)).findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000));
+        verify(candleRepository, times(1)).upsertAll(eq("005930"), eq(CandleType.D), any());
+    }
+
+    @Test
+    @DisplayName("KIS 장애 - 요청 실패 대신 DB에 저장된 캔들로 응답")
+    void getCandles_KisFailure_ReturnsStoredSeries() {
+        // given
+        CandleSeries stored = CandleSeries.builder(1)
+                .add(LocalDate.of(2024, 12, 30).atStartOfDay(), 53500, 53900, 53100, 53300, 12000000)
+                .build();
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000))).willReturn(stored);
+        given(kisApiClient.getPeriodCandles(eq("005930"), eq(CandleType.D), any(), any()))
+                .willThrow(new BusinessException(ErrorCode.KIS_API_ERROR));
+
+        // when
+        CandleSeriesResponse response = candleHistoryService.getCandles("005930", CandleType.D, null, null);
+
+        // then
+        assertThat(response.getCount()).isEqualTo(1);
+        assertThat(response.getClose()).containsExactly(53300);
+        verify(candleRepository, never()).upsertAll(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메모리 시계열 제한 - 최근 max-points개만 유지하고 잘린 구간은 DB에서 다시 조회")
+    void getCandles_TrimsMemorySeries() {
+        // given
+        candleHistoryService = new CandleHistoryService(kisApiClient, candleRepository,
+                100, 2, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Clock.fixed(NOW.toInstant(CandleSeries.KST), CandleSeries.KST));
+        CandleSeries stored = CandleSeries.builder(3)
+                .add(LocalDate.of(2024, 12, 26).atStartOfDay(), 53000, 53500, 52800, 53200, 10000000)
+                .add(LocalDate.of(2024, 12, 27).atStartOfDay(), 53700, 54100, 53200, 53700, 11000000)
+                .add(LocalDate.of(2024, 12, 30).atStartOfDay(), 53500, 53900, 53100, 53300, 12000000)
+                .build();
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2))).willReturn(stored);
+        given(kisApiClient.getPeriodCandles(eq("005930"), eq(CandleType.D), any(), any()))
+                .willReturn(candleResponse(List.of()));
+        LocalDateTime from = LocalDate.of(2024, 12, 26).atStartOfDay();
+
+        // when
+        candleHistoryService.getCandles("005930", CandleType.D, from, null);
+        CandleSeriesResponse second = candleHistoryService.getCandles("005930", CandleType.D, from, null);
+
+        // then
+        assertThat(second.getClose()).containsExactly(53700, 53300);
+        verify(candleRepository, times(2)).findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("저장된 캔들 조회 - KIS를 호출하지 않고 DB 이력만 반환")
+    void getStoredSeries_ReadsDbWithoutKis() {
+        // given
+        CandleSeries stored = CandleSeries.builder(1)
+                .add(LocalDate.of(2024, 12, 30).atStartOfDay(), 53500, 53900, 53100, 53300, 12000000)
+                .build();
+        given(candleRepository.findRange(eq("005930"), eq(CandleType.D), any(), any(), eq(2000))).willReturn(stored);
+
+        // when
+        CandleSeries series = candleHistoryService.getStoredSeries("005930", CandleType.D);
+
+        // then
+        assertThat(series.size()).isEqualTo(1);
+        assertThat(series.lastTime()).isEqualTo(LocalDate.of(2024, 12, 30).atStartOfDay());
+        verify(kisApiClient, never()).getPeriodCandles(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 종목 코드 - 예외 발생")
+    void getCandles_InvalidStockCode() {
+        // when & then
+        assertThatThrownBy(() -> candleHistoryService.getCandles("12345", CandleType.D, null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_STOCK_CODE);
+        verify(candleRepository, never()).findRange(any(), any(), any(), any(), anyInt());
+    }
+
+    private KISCandleResponse candleResponse(List<KISCandleResponse.Candle> candles) {
+        return new KISCandleResponse("0", "MCA00000", "정상처리 되었습니다.", candles);
+    }
+
+    private KISCandleResponse.Candle dailyCandle(String date, long open, long high, long low, long close, long volume) {
+        return new KISCandleResponse.Candle(date, null, String.valueOf(open), String.valueOf(high),
+                String.valueOf(low), String.valueOf(close), null, String.valueOf(volume), null);
+    }
+
+    private KISCandleResponse.Candle minuteCandle(LocalTime time, long price, long volume) {
+        String hhmmss = String.format("%02d%02d%02d", time.getHour(), time.getMinute(), 0);
+        return new KISCandleResponse.Candle("20250102", hhmmss, String.valueOf(price), String.valueOf(price),
+                String.valueOf(price), null, String.valueOf(price), null, String.valueOf(volume));
+    }
+}
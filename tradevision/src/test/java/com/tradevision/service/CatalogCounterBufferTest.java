@@ -0,0 +1,98 @@
+package com.tradevision.service;
+
+import com.tradevision.service.CatalogCounterBuffer.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CatalogCounterBuffer 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogCounterBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogCounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new CatalogCounterBuffer(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("반영 - ID별 증감분을 카운터별 배치 UPDATE 한 번으로 반영")
+    @SuppressWarnings("unchecked")
+    void flush_BatchesDeltasPerCounter() {
+        // given
+        buffer.increment(Counter.CONTENT_VIEW, 1L);
+        buffer.increment(Counter.CONTENT_VIEW, 1L);
+        buffer.increment(Counter.CONTENT_VIEW, 1L);
+        buffer.increment(Counter.CONTENT_VIEW, 2L);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("learning_contents SET view_count"), captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(new Object[]{3L, 1L}, new Object[]{1L, 2L});
+        assertThat(buffer.pending(Counter.CONTENT_VIEW, 1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 - 증가와 감소가 상쇄되면 UPDATE 하지 않음")
+    void flush_SkipsZeroDelta() {
+        // given
+        buffer.increment(Counter.CONTENT_LIKE, 1L);
+        buffer.decrement(Counter.CONTENT_LIKE, 1L);
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 배치 트랜잭션을 롤백하고 증감분을 버퍼에 되돌려 다음 주기에 재시도")
+    void flush_RestoresDeltaOnFailure() {
+        // given
+        buffer.increment(Counter.TECHNIQUE_VIEW, 7L);
+        buffer.increment(Counter.TECHNIQUE_VIEW, 7L);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pending(Counter.TECHNIQUE_VIEW, 7L)).isEqualTo(2L);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.tradevision.service;
+
+import com.tradevision.service.CatalogSearchIndex.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogSearchIndex 테스트
+ */
+class CatalogSearchIndexTest {
+
+    private CatalogSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CatalogSearchIndex();
+        upsert(1L, "이동평균선 교차 전략", "Moving Average Crossover", "단기와 장기 이동평균선의 교차");
+        upsert(2L, "볼린저밴드 전략", "Bollinger Bands Strategy", "변동성 기반 매매 기법");
+        upsert(3L, "RSI 다이버전스", "RSI Divergence", "이동평균과 함께 쓰는 보조지표");
+    }
+
+    @Test
+    @DisplayName("한글 검색 - 조사가 붙은 어절도 일치하고 제목 일치가 요약 일치보다 앞섬")
+    void search_KoreanBigrams_RankedByBm25() {
+        // when
+        List<Long> result = index.search("이동평균");
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("한글 검색 - 조사가 붙은 검색어도 어절 앞부분이 일치하면 반환")
+    void search_ParticleAttachedQuery() {
+        // when
+        List<Long> result = index.search("이동평균선이란");
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("짧은 접두어 - 펼쳐지는 용어가 많아도 모든 일치 문서를 반환")
+    void search_ShortPrefix_KeepsAllMatches() {
+        // given
+        for (int i = 0; i < 70; i++) {
+            char second = (char) (0xAC00 + 588 * (i % 19) + 28 * (i / 19));
+            index.upsert(100L + i, List.of(new Field("가" + second, 1f)), List.of());
+        }
+
+        // when
+        List<Long> result = index.search("가");
+
+        // then
+        assertThat(result).hasSize(70).contains(169L);
+    }
+
+    @Test
+    @DisplayName("입력 중 검색 - 미완성 음절도 자모 접두어로 일치")
+    void search_IncompleteSyllable() {
+        // when & then
+        assertThat(index.search("이동펴")).containsExactly(1L, 3L);
+        assertThat(index.search("볼린ㅈ")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("영문 검색 - 대소문자 무시, 마지막 단어는 접두어 일치")
+    void search_EnglishPrefix() {
+        // when & then
+        assertThat(index.search("Bollinger BAN")).containsExactly(2L);
+        assertThat(index.search("diver")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("여러 단어 검색 - 모든 단어를 포함하는 문서만 반환")
+    void search_AllTermsRequired() {
+        // when & then
+        assertThat(index.search("전략 rsi")).isEmpty();
+        assertThat(index.search("교차 전략")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 바뀐 문서만 다시 색인하고 삭제된 문서는 검색되지 않음")
+    void upsertAndRemove() {
+        // when
+        upsert(2L, "켈트너 채널", "Keltner Channel", "변동성 기반 매매 기법");
+        index.remove(1L);
+
+        // then
+        assertThat(index.search("볼린저")).isEmpty();
+        assertThat(index.search("켈트너")).containsExactly(2L);
+        assertThat(index.search("이동평균")).containsExactly(3L);
+        assertThat(index.ids()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 제목 시작 또는 제목 중간 단어 시작과 일치")
+    void suggest() {
+        // when & then
+        assertThat(index.suggest("교차")).containsExactly(1L);
+        assertThat(index.suggest("보")).containsExactly(2L);
+        assertThat(index.suggest("bol")).containsExactly(2L);
+        assertThat(index.suggest(" ")).isEmpty();
+    }
+
+    private void upsert(Long id, String title, String titleEn, String summary) {
+        index.upsert(id,
+                List.of(new Field(title, 3f), new Field(titleEn, 2f), new Field(summary, 1f)),
+                List.of(title, titleEn));
+    }
+}
@@ -0,0 +1,79 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.ContentType;
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.constant.TechniqueCategory;
+import com.tradevision.entity.ContentModule;
+import com.tradevision.entity.LearningContent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogSnapshot 테스트
+ */
+class CatalogSnapshotTest {
+
+    private final ContentModule module = ContentModule.builder()
+            .id(1L)
+            .title("이동평균선 학습")
+            .difficultyLevel(InvestmentLevel.BEGINNER)
+            .category(TechniqueCategory.MOVING_AVERAGE)
+            .displayOrder(1)
+            .isRequired(true)
+            .isActive(true)
+            .build();
+
+    @Test
+    @DisplayName("인덱스 - 모듈별은 표시 순서, 무료/인기는 조회수순")
+    void indexesArePreSorted() {
+        // given
+        LearningContent second = content(10L, 2, 300L, true);
+        LearningContent first = content(11L, 1, 100L, false);
+        LearningContent third = content(12L, 3, 200L, true);
+
+        // when
+        CatalogSnapshot snapshot = CatalogSnapshot.of(1L, Instant.now(),
+                List.of(module), List.of(second, first, third), List.of());
+
+        // then
+        assertThat(snapshot.contentsByModule(1L)).extracting(LearningContent::getId).containsExactly(11L, 10L, 12L);
+        assertThat(snapshot.popularContents()).extracting(LearningContent::getId).containsExactly(10L, 12L, 11L);
+        assertThat(snapshot.freeContents()).extracting(LearningContent::getId).containsExactly(10L, 12L);
+        assertThat(snapshot.contentCount(1L)).isEqualTo(3);
+        assertThat(snapshot.contentCount(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("페이징 - 범위를 벗어난 페이지는 빈 목록과 전체 개수 반환")
+    void pageOutOfRange() {
+        // when
+        Page<Integer> page = CatalogSnapshot.page(List.of(1, 2, 3), PageRequest.of(2, 2));
+
+        // then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    private LearningContent content(Long id, int displayOrder, long viewCount, boolean free) {
+        return LearningContent.builder()
+                .id(id)
+                .module(module)
+                .title("콘텐츠 " + id)
+                .summary("요약")
+                .contentBody("내용")
+                .contentType(ContentType.ARTICLE)
+                .displayOrder(displayOrder)
+                .isFree(free)
+                .isActive(true)
+                .viewCount(viewCount)
+                .likeCount(0L)
+                .build();
+    }
+}
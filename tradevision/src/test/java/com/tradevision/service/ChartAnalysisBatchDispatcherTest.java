@@ -0,0 +1,101 @@
+package com.tradevision.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ChartAnalysisBatchDispatcher 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartAnalysisBatchDispatcher 테스트")
+class ChartAnalysisBatchDispatcherTest {
+
+    @Mock
+    private ChartAnalysisWorker chartAnalysisWorker;
+
+    @Mock
+    private ChartAnalysisProgressPublisher progressPublisher;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("사용자별 동시 실행 수를 넘지 않고 모든 작업 실행")
+    void submit_RespectsPerUserConcurrency() throws Exception {
+        // given
+        ChartAnalysisBatchDispatcher dispatcher =
+                new ChartAnalysisBatchDispatcher(chartAnalysisWorker, progressPublisher, executor, 2);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(10);
+        willAnswer(invocation -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            done.countDown();
+            return null;
+        }).given(chartAnalysisWorker).execute(any(ChartAnalysisJob.class));
+
+        List<ChartAnalysisJob> jobs = LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> ChartAnalysisJob.builder().analysisId(id).userId(1L).build())
+                .toList();
+
+        // when
+        dispatcher.submit(jobs);
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        verify(chartAnalysisWorker, times(10)).execute(any(ChartAnalysisJob.class));
+    }
+
+    @Test
+    @DisplayName("모든 작업이 끝난 사용자의 대기열은 제거")
+    void submit_RemovesIdleLane() throws Exception {
+        // given
+        ChartAnalysisBatchDispatcher dispatcher =
+                new ChartAnalysisBatchDispatcher(chartAnalysisWorker, progressPublisher, executor, 2);
+        CountDownLatch done = new CountDownLatch(3);
+        willAnswer(invocation -> {
+            done.countDown();
+            return null;
+        }).given(chartAnalysisWorker).execute(any(ChartAnalysisJob.class));
+
+        List<ChartAnalysisJob> jobs = LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> ChartAnalysisJob.builder().analysisId(id).userId(id).build())
+                .toList();
+
+        // when
+        dispatcher.submit(jobs);
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.laneCount()).isZero();
+    }
+}
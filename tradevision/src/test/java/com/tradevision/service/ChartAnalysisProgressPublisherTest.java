@@ -0,0 +1,78 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.AnalysisStage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChartAnalysisProgressPublisher 단위 테스트
+ */
+@DisplayName("ChartAnalysisProgressPublisher 테스트")
+class ChartAnalysisProgressPublisherTest {
+
+    private final ChartAnalysisProgressPublisher publisher = new ChartAnalysisProgressPublisher();
+
+    @Test
+    @DisplayName("구독자가 없는 분석의 이벤트와 응답 조각은 채널을 만들지 않음")
+    void publish_NoSubscribers_CreatesNoChannel() {
+        // when
+        publisher.publish(1L, AnalysisStage.SENT);
+        publisher.publishToken(1L, "상승");
+        publisher.publishToken(1L, " 추세");
+
+        // then
+        assertThat(publisher.activeChannelCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 떠나면 채널 제거")
+    void unsubscribe_LastSubscriber_RemovesChannel() {
+        // given
+        SseEmitter first = publisher.subscribe(1L);
+        SseEmitter second = publisher.subscribe(1L);
+        publisher.publishToken(1L, "상승");
+
+        // when
+        publisher.unsubscribe(1L, first);
+
+        // then
+        assertThat(publisher.activeChannelCount()).isEqualTo(1);
+
+        // when
+        publisher.unsubscribe(1L, second);
+        publisher.publishToken(1L, " 추세");
+
+        // then
+        assertThat(publisher.activeChannelCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 단계 발행 시 채널 제거")
+    void publish_TerminalStage_RemovesChannel() {
+        // given
+        publisher.subscribe(1L);
+        publisher.publish(1L, AnalysisStage.SENT);
+
+        // when
+        publisher.publish(1L, AnalysisStage.SAVED);
+
+        // then
+        assertThat(publisher.activeChannelCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 종료된 분석에 구독하면 빈 채널을 남기지 않음")
+    void completeImmediately_RemovesEmptyChannel() {
+        // given
+        SseEmitter emitter = publisher.subscribe(1L);
+
+        // when
+        publisher.completeImmediately(emitter, 1L, AnalysisStage.FAILED, "분석 실패");
+
+        // then
+        assertThat(publisher.activeChannelCount()).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package com.tradevision.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChartAnalysisResultCache 단위 테스트
+ */
+@DisplayName("ChartAnalysisResultCache 테스트")
+class ChartAnalysisResultCacheTest {
+
+    @Test
+    @DisplayName("최대 개수 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void put_ExceedsMaxEntries_EvictsLeastRecentlyUsed() {
+        // given
+        ChartAnalysisResultCache cache = new ChartAnalysisResultCache(2, Duration.ofHours(1), new MutableClock());
+        cache.put("a", "{\"pattern\":\"a\"}");
+        cache.put("b", "{\"pattern\":\"b\"}");
+        cache.get("a");
+
+        // when
+        cache.put("c", "{\"pattern\":\"c\"}");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않음")
+    void get_Expired_ReturnsEmpty() {
+        // given
+        MutableClock clock = new MutableClock();
+        ChartAnalysisResultCache cache = new ChartAnalysisResultCache(10, Duration.ofMinutes(10), clock);
+        cache.put("a", "{\"pattern\":\"a\"}");
+
+        // when
+        clock.advance(Duration.ofMinutes(11));
+
+        // then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    /**
+     * 테스트용 시계 (시간을 직접 진행)
+     */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -2,10 +2,16 @@ package com.tradevision.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradevision.client.OpenAIClient;
+import com.tradevision.constant.AnalysisMode;
+import com.tradevision.constant.AnalysisStatus;
 import com.tradevision.constant.CandleType;
+import com.tradevision.constant.UsagePeriod;
+import com.tradevision.dto.request.ChartAnalysisBatchRequest;
 import com.tradevision.dto.request.ChartAnalysisRequest;
+import com.tradevision.dto.response.ChartAnalysisBatchResponse;
 import com.tradevision.dto.response.ChartAnalysisResponse;
 import com.tradevision.entity.ChartAnalysis;
+import com.tradevision.entity.UsageTracking;
 import com.tradevision.entity.User;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
@@ -16,9 +22,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,6 +43,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -53,6 +64,30 @@ class ChartAnalysisServiceTest {
     @Mock
     private OpenAIClient openAIClient;
 
+    @Mock
+    private ChartAnalysisWorker chartAnalysisWorker;
+
+    @Mock
+    private ChartAnalysisBatchDispatcher chartAnalysisBatchDispatcher;
+
+    @Mock
+    private ChartAnalysisProgressPublisher progressPublisher;
+
+    @Mock
+    private ChartImageStorage chartImageStorage;
+
+    @Mock
+    private ChartImagePreprocessor chartImagePreprocessor;
+
+    @Mock
+    private ChartAnalysisResultCache analysisResultCache;
+
+    @Mock
+    private ChartPatternDetector chartPatternDetector;
+
+    @Mock
+    private UsageCounterService usageCounterService;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -63,12 +98,13 @@ class ChartAnalysisServiceTest {
     private ChartAnalysis testAnalysis;
     private MultipartFile validImage;
     private String mockAnalysisJson;
+    private StoredChartImage storedImage;
 
     @BeforeEach
     void setUp() {
         // 필드 설정
-        ReflectionTestUtils.setField(chartAnalysisService, "uploadDir", "uploads/charts");
         ReflectionTestUtils.setField(chartAnalysisService, "dailyAnalysisLimit", 10);
+        ReflectionTestUtils.setField(chartAnalysisService, "maxBatchItems", 20);
 
         // 테스트 사용자
         testUser = User.builder()
@@ -85,6 +121,9 @@ class ChartAnalysisServiceTest {
                 "test image content".getBytes()
         );
 
+        // 저장된 이미지 정보
+        storedImage = new StoredChartImage("uploads/charts/ab/abcdef.jpg", "abcdef", "jpg");
+
         // Mock AI 분석 결과 JSON
         mockAnalysisJson = """
                 {
@@ -124,12 +163,11 @@ class ChartAnalysisServiceTest {
                 .build();
 
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(chartAnalysisRepository.countTodayAnalyses(anyLong(), any(LocalDateTime.class)))
-                .willReturn(0L);
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
         given(openAIClient.buildChartAnalysisPrompt(anyString(), anyString(), anyString()))
                 .willReturn("분석 프롬프트");
-        given(openAIClient.analyzeChart(anyString(), anyString()))
-                .willReturn(mockAnalysisJson);
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
         given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
                 .willReturn(testAnalysis);
         given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
@@ -148,6 +186,319 @@ class ChartAnalysisServiceTest {
 
         verify(userRepository).findById(1L);
         verify(chartAnalysisRepository).save(any(ChartAnalysis.class));
+        verify(chartAnalysisWorker).process(any(ChartAnalysisJob.class));
+        verify(openAIClient, never()).analyzeChart(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("차트 분석 접수 - PENDING 상태로 저장 후 즉시 반환")
+    void analyzeChart_SavesPendingAnalysis() {
+        // given
+        ChartAnalysisRequest request = ChartAnalysisRequest.builder()
+                .chartImage(validImage)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .build();
+
+        ChartAnalysis pendingAnalysis = ChartAnalysis.builder()
+                .id(2L)
+                .user(testUser)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .imagePath("uploads/charts/1/test.jpg")
+                .status(AnalysisStatus.PENDING)
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(openAIClient.buildChartAnalysisPrompt(anyString(), anyString(), anyString()))
+                .willReturn("분석 프롬프트");
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
+                .willReturn(pendingAnalysis);
+
+        // when
+        ChartAnalysisResponse result = chartAnalysisService.analyzeChart(request, 1L);
+
+        // then
+        assertThat(result.getAnalysisId()).isEqualTo(2L);
+        assertThat(result.getStatus()).isEqualTo(AnalysisStatus.PENDING);
+        assertThat(result.getAnalysisResult()).isNull();
+
+        ArgumentCaptor<ChartAnalysis> analysisCaptor = ArgumentCaptor.forClass(ChartAnalysis.class);
+        verify(chartAnalysisRepository).save(analysisCaptor.capture());
+        assertThat(analysisCaptor.getValue().getStatus()).isEqualTo(AnalysisStatus.PENDING);
+
+        ArgumentCaptor<ChartAnalysisJob> jobCaptor = ArgumentCaptor.forClass(ChartAnalysisJob.class);
+        verify(chartAnalysisWorker).process(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getAnalysisId()).isEqualTo(2L);
+        assertThat(jobCaptor.getValue().getPrompt()).isEqualTo("분석 프롬프트");
+        verify(usageCounterService).tryReserve(1L, UsageTracking.ACTION_CHART_ANALYSIS, UsagePeriod.DAY, 1, 10);
+        verify(usageCounterService, never()).release(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("차트 분석 접수 - 작업 큐 포화 시 실패 처리")
+    void analyzeChart_WorkerQueueFull_MarksFailed() throws Exception {
+        // given
+        ChartAnalysisRequest request = ChartAnalysisRequest.builder()
+                .chartImage(validImage)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(openAIClient.buildChartAnalysisPrompt(anyString(), anyString(), anyString()))
+                .willReturn("분석 프롬프트");
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
+                .willReturn(testAnalysis);
+        given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
+                .willReturn(ChartAnalysisResponse.AnalysisResult.builder().build());
+        willThrow(new TaskRejectedException("queue full"))
+                .given(chartAnalysisWorker).process(any(ChartAnalysisJob.class));
+
+        // when
+        chartAnalysisService.analyzeChart(request, 1L);
+
+        // then
+        verify(chartAnalysisWorker).fail(any(ChartAnalysisJob.class), anyString());
+    }
+
+    @Test
+    @DisplayName("차트 분석 접수 - 같은 사용자의 동일 요청이 있으면 기존 분석 반환하고 예약한 한도 반환")
+    void analyzeChart_DuplicateRequest_ReturnsExistingAnalysis() throws Exception {
+        // given
+        ChartAnalysisRequest request = ChartAnalysisRequest.builder()
+                .chartImage(validImage)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(openAIClient.buildChartAnalysisPrompt(anyString(), anyString(), anyString()))
+                .willReturn("분석 프롬프트");
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartImageStorage.fingerprint("abcdef", "005930", "D", OpenAIClient.PROMPT_VERSION))
+                .willReturn("fingerprint");
+        given(chartAnalysisRepository.findFirstByUserIdAndContentHashAndStatusNotOrderByIdDesc(
+                1L, "fingerprint", AnalysisStatus.FAILED))
+                .willReturn(Optional.of(testAnalysis));
+        given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
+                .willReturn(ChartAnalysisResponse.AnalysisResult.builder().build());
+
+        // when
+        ChartAnalysisResponse result = chartAnalysisService.analyzeChart(request, 1L);
+
+        // then
+        assertThat(result.getAnalysisId()).isEqualTo(1L);
+        verify(chartAnalysisRepository, never()).save(any(ChartAnalysis.class));
+        verify(chartAnalysisWorker, never()).process(any(ChartAnalysisJob.class));
+        verify(usageCounterService).release(1L, UsageTracking.ACTION_CHART_ANALYSIS, 1);
+    }
+
+    @Test
+    @DisplayName("차트 분석 접수 - 캐시된 결과가 있으면 OpenAI 호출 없이 완료")
+    void analyzeChart_CachedResult_CompletesWithoutWorker() throws Exception {
+        // given
+        ChartAnalysisRequest request = ChartAnalysisRequest.builder()
+                .chartImage(validImage)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(openAIClient.buildChartAnalysisPrompt(anyString(), anyString(), anyString()))
+                .willReturn("분석 프롬프트");
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartImageStorage.fingerprint("abcdef", "005930", "D", OpenAIClient.PROMPT_VERSION))
+                .willReturn("fingerprint");
+        given(analysisResultCache.get("fingerprint")).willReturn(Optional.of(mockAnalysisJson));
+        given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
+                .willReturn(ChartAnalysisResponse.AnalysisResult.builder()
+                        .pattern("상승 삼각형")
+                        .build());
+
+        // when
+        ChartAnalysisResponse result = chartAnalysisService.analyzeChart(request, 1L);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(AnalysisStatus.COMPLETED);
+        assertThat(result.getAnalysisResult().getPattern()).isEqualTo("상승 삼각형");
+
+        ArgumentCaptor<ChartAnalysis> analysisCaptor = ArgumentCaptor.forClass(ChartAnalysis.class);
+        verify(chartAnalysisRepository).save(analysisCaptor.capture());
+        assertThat(analysisCaptor.getValue().getContentHash()).isEqualTo("fingerprint");
+        assertThat(analysisCaptor.getValue().getAnalysisResult()).isEqualTo(mockAnalysisJson);
+        verify(chartAnalysisWorker, never()).process(any(ChartAnalysisJob.class));
+    }
+
+    @Test
+    @DisplayName("빠른 분석 - 시세 기반 감지 결과로 OpenAI 호출 없이 완료")
+    void analyzeChart_FastMode_CompletesFromDetection() throws Exception {
+        // given
+        ChartAnalysisRequest request = ChartAnalysisRequest.builder()
+                .chartImage(validImage)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .analysisMode(AnalysisMode.FAST)
+                .build();
+        PatternDetection detection = new PatternDetection(
+                "쌍바닥", "상승", 68000L, 74000L, "보합", "보통", 71000L, 120, LocalDateTime.of(2025, 1, 15, 0, 0));
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(chartPatternDetector.detect("005930", CandleType.D)).willReturn(Optional.of(detection));
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartImageStorage.fingerprint("abcdef", "005930", "D", ChartPatternDetector.VERSION + "@2025-01-15T00:00"))
+                .willReturn("fast-fingerprint");
+        given(objectMapper.writeValueAsString(any(ChartAnalysisResponse.AnalysisResult.class)))
+                .willReturn(mockAnalysisJson);
+        given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
+                .willReturn(detection.toAnalysisResult());
+
+        // when
+        ChartAnalysisResponse result = chartAnalysisService.analyzeChart(request, 1L);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(AnalysisStatus.COMPLETED);
+        assertThat(result.getAnalysisResult().getPattern()).isEqualTo("쌍바닥");
+        assertThat(result.getAnalysisResult().getSupportLevel()).isEqualTo("68000");
+        verify(openAIClient, never()).buildChartAnalysisPrompt(any(), any(), any());
+        verify(chartAnalysisWorker, never()).process(any(ChartAnalysisJob.class));
+    }
+
+    @Test
+    @DisplayName("AI 분석 - 시세 기반 감지 결과를 프롬프트 참고 수치로 포함")
+    void analyzeChart_FullMode_IncludesDetectionHints() throws Exception {
+        // given
+        ChartAnalysisRequest request = ChartAnalysisRequest.builder()
+                .chartImage(validImage)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .candleType(CandleType.D)
+                .build();
+        PatternDetection detection = new PatternDetection(
+                "상승 삼각형", "상승", 68000L, 74000L, "보합", "보통", 71000L, 120, LocalDateTime.of(2025, 1, 15, 0, 0));
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(chartPatternDetector.detect("005930", CandleType.D)).willReturn(Optional.of(detection));
+        given(openAIClient.buildChartAnalysisPrompt("005930", "삼성전자", "일봉", detection.toPromptHints()))
+                .willReturn("참고 수치 포함 프롬프트");
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartAnalysisRepository.save(any(ChartAnalysis.class))).willReturn(testAnalysis);
+        given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
+                .willReturn(ChartAnalysisResponse.AnalysisResult.builder().build());
+
+        // when
+        chartAnalysisService.analyzeChart(request, 1L);
+
+        // then
+        ArgumentCaptor<ChartAnalysisJob> jobCaptor = ArgumentCaptor.forClass(ChartAnalysisJob.class);
+        verify(chartAnalysisWorker).process(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getPrompt()).isEqualTo("참고 수치 포함 프롬프트");
+    }
+
+    @Test
+    @DisplayName("일괄 분석 접수 - 같은 batchId로 저장 후 분배기에 한 번에 제출")
+    @SuppressWarnings("unchecked")
+    void analyzeBatch_Success() {
+        // given
+        ChartAnalysisBatchRequest request = ChartAnalysisBatchRequest.builder()
+                .chartImages(List.of(validImage, validImage, validImage))
+                .stockCodes(List.of("005930"))
+                .candleTypes(List.of(CandleType.D, CandleType.W, CandleType.M))
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
+        given(openAIClient.buildChartAnalysisPrompt(any(), any(), anyString()))
+                .willReturn("분석 프롬프트");
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
+        given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ChartAnalysisBatchResponse result = chartAnalysisService.analyzeBatch(request, 1L);
+
+        // then
+        assertThat(result.getBatchId()).isNotBlank();
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getInProgressCount()).isEqualTo(3);
+        assertThat(result.getItems()).extracting(ChartAnalysisResponse::getCandleType)
+                .containsExactly(CandleType.D, CandleType.W, CandleType.M);
+
+        ArgumentCaptor<ChartAnalysis> analysisCaptor = ArgumentCaptor.forClass(ChartAnalysis.class);
+        verify(chartAnalysisRepository, times(3)).save(analysisCaptor.capture());
+        assertThat(analysisCaptor.getAllValues()).extracting(ChartAnalysis::getBatchId)
+                .containsOnly(result.getBatchId());
+        assertThat(analysisCaptor.getAllValues()).extracting(ChartAnalysis::getStockCode)
+                .containsOnly("005930");
+
+        ArgumentCaptor<List<ChartAnalysisJob>> jobsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chartAnalysisBatchDispatcher).submit(jobsCaptor.capture());
+        assertThat(jobsCaptor.getValue()).hasSize(3);
+        verify(usageCounterService).tryReserve(1L, UsageTracking.ACTION_CHART_ANALYSIS, UsagePeriod.DAY, 3, 10);
+        verify(chartAnalysisWorker, never()).process(any(ChartAnalysisJob.class));
+    }
+
+    @Test
+    @DisplayName("일괄 분석 실패 - 남은 일일 한도보다 많은 차트")
+    void analyzeBatch_ExceedsRemainingDailyLimit_ThrowsException() {
+        // given
+        ChartAnalysisBatchRequest request = ChartAnalysisBatchRequest.builder()
+                .chartImages(List.of(validImage, validImage, validImage))
+                .candleTypes(List.of(CandleType.D))
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(false);  // 남은 한도 2
+
+        // when & then
+        assertThatThrownBy(() -> chartAnalysisService.analyzeBatch(request, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_LIMIT_EXCEEDED);
+        verify(chartImageStorage, never()).store(any(MultipartFile.class));
+    }
+
+    @Test
+    @DisplayName("일괄 분석 실패 - 최대 차트 수 초과")
+    void analyzeBatch_TooManyItems_ThrowsException() {
+        // given
+        ReflectionTestUtils.setField(chartAnalysisService, "maxBatchItems", 2);
+        ChartAnalysisBatchRequest request = ChartAnalysisBatchRequest.builder()
+                .chartImages(List.of(validImage, validImage, validImage))
+                .candleTypes(List.of(CandleType.D))
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // when & then
+        assertThatThrownBy(() -> chartAnalysisService.analyzeBatch(request, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BATCH_SIZE_EXCEEDED);
     }
 
     @Test
@@ -177,8 +528,8 @@ class ChartAnalysisServiceTest {
                 .build();
 
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(chartAnalysisRepository.countTodayAnalyses(anyLong(), any(LocalDateTime.class)))
-                .willReturn(10L);  // 한도 도달
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(false);  // 한도 도달
 
         // when & then
         assertThatThrownBy(() -> chartAnalysisService.analyzeChart(request, 1L))
@@ -204,13 +555,12 @@ class ChartAnalysisServiceTest {
                 .build();
 
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(chartAnalysisRepository.countTodayAnalyses(anyLong(), any(LocalDateTime.class)))
-                .willReturn(0L);
 
         // when & then
         assertThatThrownBy(() -> chartAnalysisService.analyzeChart(request, 1L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_SIZE_EXCEEDED);
+        verify(usageCounterService, never()).tryReserve(anyLong(), anyString(), any(), anyLong(), anyLong());
     }
 
     @Test
@@ -230,13 +580,12 @@ class ChartAnalysisServiceTest {
                 .build();
 
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(chartAnalysisRepository.countTodayAnalyses(anyLong(), any(LocalDateTime.class)))
-                .willReturn(0L);
 
         // when & then
         assertThatThrownBy(() -> chartAnalysisService.analyzeChart(request, 1L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_IMAGE_FORMAT);
+        verify(usageCounterService, never()).tryReserve(anyLong(), anyString(), any(), anyLong(), anyLong());
     }
 
     @Test
@@ -310,12 +659,11 @@ class ChartAnalysisServiceTest {
                 .build();
 
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(chartAnalysisRepository.countTodayAnalyses(anyLong(), any(LocalDateTime.class)))
-                .willReturn(0L);
+        given(usageCounterService.tryReserve(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), eq(UsagePeriod.DAY), anyLong(), eq(10L)))
+                .willReturn(true);
         given(openAIClient.buildChartAnalysisPrompt(anyString(), anyString(), anyString()))
                 .willReturn("프롬프트");
-        given(openAIClient.analyzeChart(anyString(), anyString()))
-                .willReturn(mockAnalysisJson);
+        given(chartImageStorage.store(any(MultipartFile.class))).willReturn(storedImage);
         given(chartAnalysisRepository.save(any(ChartAnalysis.class)))
                 .willReturn(testAnalysis);
         given(objectMapper.readValue(anyString(), eq(ChartAnalysisResponse.AnalysisResult.class)))
@@ -348,11 +696,10 @@ class ChartAnalysisServiceTest {
                 .build();
 
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(chartAnalysisRepository.countTodayAnalyses(anyLong(), any(LocalDateTime.class)))
-                .willReturn(0L);
 
         // when & then
         assertThatThrownBy(() -> chartAnalysisService.analyzeChart(request, 1L))
                 .isInstanceOf(BusinessException.class);
+        verify(usageCounterService, never()).tryReserve(anyLong(), anyString(), any(), anyLong(), anyLong());
     }
 }
@@ -0,0 +1,251 @@
+package com.tradevision.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradevision.client.OpenAIClient;
+import com.tradevision.constant.AnalysisStage;
+import com.tradevision.constant.AnalysisStatus;
+import com.tradevision.constant.CandleType;
+import com.tradevision.entity.ChartAnalysis;
+import com.tradevision.entity.UsageTracking;
+import com.tradevision.entity.User;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.exception.ExternalApiException;
+import com.tradevision.repository.ChartAnalysisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ChartAnalysisWorker 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartAnalysisWorker 테스트")
+class ChartAnalysisWorkerTest {
+
+    @Mock
+    private ChartAnalysisRepository chartAnalysisRepository;
+
+    @Mock
+    private OpenAIClient openAIClient;
+
+    @Mock
+    private ChartAnalysisProgressPublisher progressPublisher;
+
+    @Mock
+    private ChartAnalysisResultCache analysisResultCache;
+
+    @Mock
+    private ChartImagePreprocessor chartImagePreprocessor;
+
+    @Mock
+    private UsageCounterService usageCounterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path tempDir;
+
+    private ChartAnalysisWorker chartAnalysisWorker;
+    private ChartAnalysis pendingAnalysis;
+    private ChartAnalysisJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TransactionStatus transactionStatus = new SimpleTransactionStatus();
+        given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+
+        chartAnalysisWorker = new ChartAnalysisWorker(
+                chartAnalysisRepository, openAIClient, progressPublisher, analysisResultCache,
+                chartImagePreprocessor, usageCounterService, new ObjectMapper(), transactionManager);
+
+        Path imagePath = tempDir.resolve("chart.jpg");
+        Files.write(imagePath, "test image content".getBytes());
+
+        pendingAnalysis = ChartAnalysis.builder()
+                .id(1L)
+                .user(User.builder().id(1L).build())
+                .stockCode("005930")
+                .candleType(CandleType.D)
+                .imagePath(imagePath.toString())
+                .status(AnalysisStatus.PENDING)
+                .createdAt(LocalDateTime.of(2025, 1, 15, 23, 59))
+                .build();
+
+        job = ChartAnalysisJob.builder()
+                .analysisId(1L)
+                .userId(1L)
+                .imagePath(imagePath.toString())
+                .contentHash("fingerprint")
+                .prompt("분석 프롬프트")
+                .build();
+    }
+
+    private void givenPreparedImage() {
+        Path imagePath = Path.of(job.getImagePath());
+        given(chartImagePreprocessor.prepare(imagePath.toString()))
+                .willReturn(new PreparedChartImage(imagePath, "image/jpeg", tempDir.resolve("chart-thumb320.jpg").toString()));
+    }
+
+    @Test
+    @DisplayName("분석 작업 성공 - COMPLETED 상태로 결과 저장")
+    void execute_Success() {
+        // given
+        givenPreparedImage();
+        given(chartAnalysisRepository.markProcessing(1L)).willReturn(1);
+        given(chartAnalysisRepository.markCompleted(eq(1L), anyString(), anyString(), any(LocalDateTime.class))).willReturn(1);
+        given(openAIClient.analyzeChartStream(any(Path.class), eq("image/jpeg"), anyString(), any())).willAnswer(invocation -> {
+            Consumer<String> onToken = invocation.getArgument(3);
+            onToken.accept("{\"pattern\":");
+            onToken.accept("\"상승 삼각형\"}");
+            return "{\"pattern\":\"상승 삼각형\"}";
+        });
+
+        // when
+        chartAnalysisWorker.execute(job);
+
+        // then
+        verify(chartAnalysisRepository).markCompleted(eq(1L), eq("{\"pattern\":\"상승 삼각형\"}"),
+                endsWith("chart-thumb320.jpg"), any(LocalDateTime.class));
+        verify(analysisResultCache).put("fingerprint", "{\"pattern\":\"상승 삼각형\"}");
+        verify(usageCounterService, never()).release(anyLong(), anyString(), any(LocalDate.class), anyLong());
+
+        InOrder inOrder = inOrder(progressPublisher);
+        inOrder.verify(progressPublisher).publish(1L, AnalysisStage.ENCODED);
+        inOrder.verify(progressPublisher).publish(1L, AnalysisStage.SENT);
+        inOrder.verify(progressPublisher).publish(1L, AnalysisStage.FIRST_TOKEN);
+        inOrder.verify(progressPublisher).publishToken(1L, "{\"pattern\":");
+        inOrder.verify(progressPublisher).publishToken(1L, "\"상승 삼각형\"}");
+        inOrder.verify(progressPublisher).publish(1L, AnalysisStage.PARSED);
+        inOrder.verify(progressPublisher).publish(1L, AnalysisStage.SAVED);
+    }
+
+    @Test
+    @DisplayName("분석 작업 성공 - 코드 블록으로 감싼 응답에서 JSON 추출")
+    void execute_CodeFencedResponse_ExtractsJson() {
+        // given
+        givenPreparedImage();
+        given(chartAnalysisRepository.markProcessing(1L)).willReturn(1);
+        given(chartAnalysisRepository.markCompleted(eq(1L), anyString(), anyString(), any(LocalDateTime.class))).willReturn(1);
+        given(openAIClient.analyzeChartStream(any(Path.class), eq("image/jpeg"), anyString(), any()))
+                .willReturn("```json\n{\"trend\":\"상승\"}\n```");
+
+        // when
+        chartAnalysisWorker.execute(job);
+
+        // then
+        verify(chartAnalysisRepository).markCompleted(eq(1L), eq("{\"trend\":\"상승\"}"), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("분석 작업 실패 - FAILED 상태로 변경되고 예약한 한도 반환, 공유 이미지는 유지")
+    void execute_OpenAiFailure_MarksFailed() {
+        // given
+        givenPreparedImage();
+        given(chartAnalysisRepository.markProcessing(1L)).willReturn(1);
+        given(chartAnalysisRepository.markFailed(eq(1L), anyString(), any(LocalDateTime.class))).willReturn(1);
+        given(chartAnalysisRepository.findById(1L)).willReturn(Optional.of(pendingAnalysis));
+        given(openAIClient.analyzeChartStream(any(Path.class), eq("image/jpeg"), anyString(), any()))
+                .willThrow(new ExternalApiException(ErrorCode.OPENAI_API_ERROR));
+
+        // when
+        chartAnalysisWorker.execute(job);
+
+        // then
+        assertThat(Files.exists(Path.of(job.getImagePath()))).isTrue();
+        verify(analysisResultCache, never()).put(anyString(), anyString());
+        verify(progressPublisher).publish(eq(1L), eq(AnalysisStage.FAILED), anyString());
+        verify(usageCounterService).release(1L, UsageTracking.ACTION_CHART_ANALYSIS, LocalDate.of(2025, 1, 15), 1);
+    }
+
+    @Test
+    @DisplayName("대기 중에 이미 실패 처리된 분석은 실행하지 않음")
+    void execute_AlreadyFailed_Skips() {
+        // given
+        given(chartAnalysisRepository.markProcessing(1L)).willReturn(0);
+
+        // when
+        chartAnalysisWorker.execute(job);
+
+        // then
+        verify(chartImagePreprocessor, never()).prepare(anyString());
+        verify(openAIClient, never()).analyzeChartStream(any(Path.class), anyString(), anyString(), any());
+        verify(progressPublisher, never()).publish(anyLong(), any(AnalysisStage.class));
+    }
+
+    @Test
+    @DisplayName("분석 중에 실패 처리된 분석은 결과를 저장하지 않음")
+    void execute_FailedWhileProcessing_DiscardsResult() {
+        // given
+        givenPreparedImage();
+        given(chartAnalysisRepository.markProcessing(1L)).willReturn(1);
+        given(chartAnalysisRepository.markCompleted(eq(1L), anyString(), anyString(), any(LocalDateTime.class))).willReturn(0);
+        given(openAIClient.analyzeChartStream(any(Path.class), eq("image/jpeg"), anyString(), any()))
+                .willReturn("{\"trend\":\"상승\"}");
+
+        // when
+        chartAnalysisWorker.execute(job);
+
+        // then
+        verify(analysisResultCache, never()).put(anyString(), anyString());
+        verify(progressPublisher, never()).publish(1L, AnalysisStage.SAVED);
+    }
+
+    @Test
+    @DisplayName("이미 종료된 분석은 실패 처리하지 않고 한도도 반환하지 않음")
+    void fail_TerminalAnalysis_NoRelease() {
+        // given
+        given(chartAnalysisRepository.markFailed(eq(1L), anyString(), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        chartAnalysisWorker.fail(job, "분석이 중단되었습니다. 다시 시도해주세요");
+
+        // then
+        verify(chartAnalysisRepository, never()).findById(anyLong());
+        verify(usageCounterService, never()).release(anyLong(), anyString(), any(LocalDate.class), anyLong());
+        verify(progressPublisher, never()).publish(anyLong(), any(AnalysisStage.class), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 분석을 두 번 실패 처리해도 한도는 한 번만 반환")
+    void fail_Twice_ReleasesOnce() {
+        // given
+        given(chartAnalysisRepository.markFailed(eq(1L), anyString(), any(LocalDateTime.class))).willReturn(1, 0);
+        given(chartAnalysisRepository.findById(1L)).willReturn(Optional.of(pendingAnalysis));
+
+        // when
+        chartAnalysisWorker.fail(job, "분석이 중단되었습니다. 다시 시도해주세요");
+        chartAnalysisWorker.fail(job, "AI 분석에 실패했습니다. 다시 시도해주세요");
+
+        // then
+        verify(usageCounterService, times(1)).release(1L, UsageTracking.ACTION_CHART_ANALYSIS, LocalDate.of(2025, 1, 15), 1);
+        verify(progressPublisher, times(1)).publish(eq(1L), eq(AnalysisStage.FAILED), anyString());
+    }
+}
@@ -0,0 +1,128 @@
+package com.tradevision.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChartImagePreprocessor 단위 테스트
+ */
+@DisplayName("ChartImagePreprocessor 테스트")
+class ChartImagePreprocessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ChartImagePreprocessor chartImagePreprocessor;
+
+    @BeforeEach
+    void setUp() {
+        chartImagePreprocessor = new ChartImagePreprocessor();
+        ReflectionTestUtils.setField(chartImagePreprocessor, "maxDimension", 1000);
+        ReflectionTestUtils.setField(chartImagePreprocessor, "quality", 0.9);
+        ReflectionTestUtils.setField(chartImagePreprocessor, "thumbnailSize", 200);
+    }
+
+    @Test
+    @DisplayName("최대 해상도를 넘는 이미지는 축소본을 사용하고 MIME 타입 유지")
+    void prepare_LargeImage_Downscaled() throws Exception {
+        // given
+        Path original = writeImage("large.png", 3000, 1500);
+
+        // when
+        PreparedChartImage prepared = chartImagePreprocessor.prepare(original.toString());
+
+        // then
+        assertThat(prepared.getPath()).isNotEqualTo(original);
+        assertThat(prepared.getMimeType()).isEqualTo("image/png");
+        BufferedImage resized = ImageIO.read(prepared.getPath().toFile());
+        assertThat(resized.getWidth()).isEqualTo(1000);
+        assertThat(resized.getHeight()).isEqualTo(500);
+
+        BufferedImage thumbnail = ImageIO.read(Path.of(prepared.getThumbnailPath()).toFile());
+        assertThat(Math.max(thumbnail.getWidth(), thumbnail.getHeight())).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("최대 해상도 이하 이미지는 원본을 그대로 사용")
+    void prepare_SmallImage_UsesOriginal() throws Exception {
+        // given
+        Path original = writeImage("small.jpg", 800, 600);
+
+        // when
+        PreparedChartImage prepared = chartImagePreprocessor.prepare(original.toString());
+
+        // then
+        assertThat(prepared.getPath()).isEqualTo(original);
+        assertThat(prepared.getMimeType()).isEqualTo("image/jpeg");
+        assertThat(prepared.getThumbnailPath()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("확장자와 실제 포맷이 다르면 이미지 헤더의 포맷을 사용")
+    void prepare_PngSavedAsJpg_UsesDecodedFormat() throws Exception {
+        // given
+        BufferedImage image = new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_RGB);
+        Path original = tempDir.resolve("mislabeled.jpg");
+        ImageIO.write(image, "png", original.toFile());
+
+        // when
+        PreparedChartImage prepared = chartImagePreprocessor.prepare(original.toString());
+
+        // then
+        assertThat(prepared.getMimeType()).isEqualTo("image/png");
+        assertThat(prepared.getPath().getFileName().toString()).isEqualTo("mislabeled-1000q90.png");
+        assertThat(prepared.getThumbnailPath()).endsWith("mislabeled-thumb200q90.png");
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.map(path -> path.getFileName().toString())).noneMatch(name -> name.endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    @DisplayName("품질 설정이 바뀌면 이전 축소본을 재사용하지 않음")
+    void prepare_QualityChanged_WritesNewFile() throws Exception {
+        // given
+        Path original = writeImage("quality.png", 3000, 1500);
+        PreparedChartImage before = chartImagePreprocessor.prepare(original.toString());
+        ReflectionTestUtils.setField(chartImagePreprocessor, "quality", 0.7);
+
+        // when
+        PreparedChartImage after = chartImagePreprocessor.prepare(original.toString());
+
+        // then
+        assertThat(after.getPath()).isNotEqualTo(before.getPath());
+        assertThat(after.getPath().getFileName().toString()).isEqualTo("quality-1000q70.png");
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 원본으로 진행하고 썸네일은 생략")
+    void prepare_NotAnImage_FallsBackToOriginal() throws Exception {
+        // given
+        Path original = tempDir.resolve("broken.jpg");
+        Files.writeString(original, "not an image");
+
+        // when
+        PreparedChartImage prepared = chartImagePreprocessor.prepare(original.toString());
+
+        // then
+        assertThat(prepared.getPath()).isEqualTo(original);
+        assertThat(prepared.getThumbnailPath()).isNull();
+    }
+
+    private Path writeImage(String filename, int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Path path = tempDir.resolve(filename);
+        ImageIO.write(image, filename.endsWith(".png") ? "png" : "jpg", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,63 @@
+package com.tradevision.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChartImageStorage 단위 테스트
+ */
+@DisplayName("ChartImageStorage 테스트")
+class ChartImageStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ChartImageStorage chartImageStorage;
+
+    @BeforeEach
+    void setUp() {
+        chartImageStorage = new ChartImageStorage();
+        ReflectionTestUtils.setField(chartImageStorage, "uploadDir", tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("동일한 이미지는 같은 경로에 한 번만 저장")
+    void store_SameContent_StoredOnce() throws Exception {
+        // given
+        MockMultipartFile first = new MockMultipartFile("chartImage", "a.jpg", "image/jpeg", "chart".getBytes());
+        MockMultipartFile second = new MockMultipartFile("chartImage", "b.JPG", "image/jpeg", "chart".getBytes());
+
+        // when
+        StoredChartImage firstStored = chartImageStorage.store(first);
+        StoredChartImage secondStored = chartImageStorage.store(second);
+
+        // then
+        assertThat(secondStored.getPath()).isEqualTo(firstStored.getPath());
+        assertThat(secondStored.getImageHash()).hasSize(64).isEqualTo(firstStored.getImageHash());
+        assertThat(Files.readString(Path.of(firstStored.getPath()))).isEqualTo("chart");
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("요청 지문은 종목/캔들 타입/프롬프트 버전에 따라 달라짐")
+    void fingerprint_DependsOnRequestAttributes() {
+        String base = chartImageStorage.fingerprint("abc", "005930", "D", "v1");
+
+        assertThat(chartImageStorage.fingerprint("abc", "005930", "D", "v1")).isEqualTo(base);
+        assertThat(chartImageStorage.fingerprint("abc", "000660", "D", "v1")).isNotEqualTo(base);
+        assertThat(chartImageStorage.fingerprint("abc", "005930", "W", "v1")).isNotEqualTo(base);
+        assertThat(chartImageStorage.fingerprint("abc", "005930", "D", "v2")).isNotEqualTo(base);
+    }
+}
@@ -0,0 +1,105 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.entity.CandleSeries;
+import com.tradevision.exception.BusinessException;
+import com.tradevision.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ChartPatternDetector 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartPatternDetector 테스트")
+class ChartPatternDetectorTest {
+
+    @Mock
+    private CandleHistoryService candleHistoryService;
+
+    @InjectMocks
+    private ChartPatternDetector chartPatternDetector;
+
+    @Test
+    @DisplayName("쌍바닥 - 비슷한 두 저점과 그 사이 넥라인 감지")
+    void detect_DoubleBottom() {
+        // given: 100 → 80 → 95 → 80 → 92 (두 바닥 80, 넥라인 95)
+        CandleSeries series = series(
+                100, 96, 92, 88, 84, 80, 84, 88, 92, 95,
+                92, 88, 84, 80, 84, 88, 90, 91, 92, 92,
+                92, 92, 92, 92, 92, 92, 92, 92, 92, 92);
+
+        // when
+        Optional<PatternDetection> result = chartPatternDetector.detect(series);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().pattern()).isEqualTo("쌍바닥");
+        assertThat(result.get().supportLevel()).isEqualTo(80 * 1000L - 500);  // 두 번 닿은 저점
+        assertThat(result.get().barCount()).isEqualTo(30);
+        assertThat(result.get().lastCandleTime()).isEqualTo(LocalDate.of(2025, 1, 31).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("상승 추세 - 지지선은 종가 아래, 저항선은 종가 위")
+    void detect_UptrendLevels() {
+        // given: 계단식 상승 (조정마다 저점이 높아짐)
+        int[] closes = new int[40];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 100 + i - (i % 5 == 4 ? 3 : 0);
+        }
+        CandleSeries series = series(closes);
+
+        // when
+        PatternDetection result = chartPatternDetector.detect(series).orElseThrow();
+
+        // then
+        assertThat(result.trend()).isEqualTo("상승");
+        assertThat(result.supportLevel()).isLessThanOrEqualTo(result.lastClose());
+        assertThat(result.resistanceLevel()).isGreaterThanOrEqualTo(result.lastClose());
+    }
+
+    @Test
+    @DisplayName("캔들 부족 - 감지하지 않음")
+    void detect_NotEnoughBars() {
+        // given
+        CandleSeries series = series(100, 101, 102, 103, 104);
+
+        // when & then
+        assertThat(chartPatternDetector.detect(series)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시세 조회 실패 - 분석을 막지 않도록 빈 결과 반환")
+    void detect_HistoryFailure_ReturnsEmpty() {
+        // given
+        given(candleHistoryService.getStoredSeries("005930", CandleType.D))
+                .willThrow(new BusinessException(ErrorCode.KIS_API_ERROR));
+
+        // when & then
+        assertThat(chartPatternDetector.detect("005930", CandleType.D)).isEmpty();
+    }
+
+    /**
+     * 종가(천원 단위)로 일봉 시계열 생성 (고가/저가는 종가 ±500원)
+     */
+    private CandleSeries series(int... closes) {
+        CandleSeries.Builder builder = CandleSeries.builder(closes.length);
+        LocalDate date = LocalDate.of(2025, 1, 2);
+        for (int i = 0; i < closes.length; i++) {
+            long close = closes[i] * 1000L;
+            builder.add(date.plusDays(i).atStartOfDay(), close, close + 500, close - 500, close, 100_000);
+        }
+        return builder.build();
+    }
+}
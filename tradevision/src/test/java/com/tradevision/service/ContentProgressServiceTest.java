@@ -49,6 +49,9 @@ class ContentProgressServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CatalogCounterBuffer counterBuffer;
+
     @InjectMocks
     private ContentProgressService contentProgressService;
 
@@ -163,7 +166,7 @@ class ContentProgressServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getIsLiked()).isTrue();
-        verify(contentRepository).incrementLikeCount(1L);
+        verify(counterBuffer).increment(CatalogCounterBuffer.Counter.CONTENT_LIKE, 1L);
     }
 
     @Test
@@ -0,0 +1,199 @@
+package com.tradevision.service;
+
+import com.tradevision.config.TestJpaConfig;
+import com.tradevision.constant.ContentType;
+import com.tradevision.constant.InvestmentLevel;
+import com.tradevision.constant.TechniqueCategory;
+import com.tradevision.dto.ContentListResponse;
+import com.tradevision.dto.ModuleListResponse;
+import com.tradevision.entity.ContentModule;
+import com.tradevision.entity.LearningContent;
+import com.tradevision.entity.User;
+import com.tradevision.entity.UserContentProgress;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LearningContentService 쿼리 수 회귀 테스트
+ * 목록 조회가 항목 수와 관계없이 고정된 수의 SQL만 실행하는지 확인 (N+1 방지)
+ * 카탈로그는 스냅샷에서 응답하므로 목록 조회에서 실행되는 SQL은 사용자 진행도 조회뿐
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestJpaConfig.class, LearningContentService.class, CatalogCounterBuffer.class, CatalogCache.class})
+@ActiveProfiles("test")
+@DisplayName("LearningContentService 쿼리 수 테스트")
+class LearningContentQueryCountTest {
+
+    private static final int MODULE_COUNT = 5;
+    private static final int CONTENTS_PER_MODULE = 4;
+
+    @Autowired
+    private LearningContentService learningContentService;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private List<ContentModule> modules;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .email("query@example.com")
+                .password("encodedPassword")
+                .nickname("쿼리테스트")
+                .investmentLevel(InvestmentLevel.BEGINNER)
+                .build();
+        entityManager.persist(user);
+
+        modules = new ArrayList<>();
+        for (int m = 0; m < MODULE_COUNT; m++) {
+            ContentModule module = ContentModule.builder()
+                    .title("모듈 " + m)
+                    .titleEn("Module " + m)
+                    .description("설명 " + m)
+                    .difficultyLevel(InvestmentLevel.BEGINNER)
+                    .category(TechniqueCategory.MOVING_AVERAGE)
+                    .displayOrder(m)
+                    .estimatedDurationMinutes(30)
+                    .isRequired(true)
+                    .isActive(true)
+                    .build();
+            entityManager.persist(module);
+            modules.add(module);
+
+            for (int c = 0; c < CONTENTS_PER_MODULE; c++) {
+                LearningContent content = LearningContent.builder()
+                        .module(module)
+                        .title("이동평균 콘텐츠 " + m + "-" + c)
+                        .titleEn("Content " + m + "-" + c)
+                        .summary("요약")
+                        .contentBody("내용")
+                        .contentType(ContentType.ARTICLE)
+                        .displayOrder(c)
+                        .estimatedDurationMinutes(10)
+                        .isFree(true)
+                        .isActive(true)
+                        .viewCount((long) (m * 10 + c))
+                        .likeCount(0L)
+                        .build();
+                entityManager.persist(content);
+
+                entityManager.persist(UserContentProgress.builder()
+                        .user(user)
+                        .content(content)
+                        .isCompleted(c % 2 == 0)
+                        .progressPercentage(c % 2 == 0 ? 100 : 50)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // 카탈로그 적재 - 모듈, 콘텐츠(모듈 포함), 매매기법 요약 각 1회
+        catalogCache.refresh();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("모듈 목록 - 완료 수 집계만 실행")
+    void getAllModules_ConstantQueries() {
+        // when
+        ModuleListResponse response = learningContentService.getAllModules(
+                null, null, PageRequest.of(0, 20), user.getId());
+
+        // then
+        assertThat(response.getModules()).hasSize(MODULE_COUNT);
+        assertThat(response.getModules().get(0).getContentCount()).isEqualTo(CONTENTS_PER_MODULE);
+        assertThat(response.getModules().get(0).getUserProgress().getCompletedContentCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필수 모듈 목록 (비로그인) - DB 조회 없음")
+    void getRequiredModules_Anonymous_ConstantQueries() {
+        // when
+        ModuleListResponse response = learningContentService.getRequiredModules(PageRequest.of(0, 20), null);
+
+        // then
+        assertThat(response.getModules()).hasSize(MODULE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모듈별 콘텐츠 목록 - 진행도 IN 조회만 실행")
+    void getContentsByModule_ConstantQueries() {
+        // when
+        ContentListResponse response = learningContentService.getContentsByModule(
+                modules.get(0).getId(), PageRequest.of(0, 20), user.getId());
+
+        // then
+        assertThat(response.getContents()).hasSize(CONTENTS_PER_MODULE);
+        assertThat(response.getContents().get(0).getModuleName()).isEqualTo("모듈 0");
+        assertThat(response.getContents().get(0).getUserProgress().getIsCompleted()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타입별 콘텐츠 목록 - 진행도 IN 조회만 실행")
+    void getContentsByType_ConstantQueries() {
+        // when
+        ContentListResponse response = learningContentService.getContentsByType(
+                ContentType.ARTICLE, PageRequest.of(0, 50), user.getId());
+
+        // then
+        assertThat(response.getContents()).hasSize(MODULE_COUNT * CONTENTS_PER_MODULE);
+        assertThat(response.getContents()).allSatisfy(content -> {
+            assertThat(content.getModuleName()).startsWith("모듈");
+            assertThat(content.getUserProgress()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무료/인기/검색 콘텐츠 목록 - 각각 진행도 IN 조회 1개")
+    void freePopularSearch_ConstantQueries() {
+        // when & then
+        learningContentService.getFreeContents(PageRequest.of(0, 50), user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        assertThat(learningContentService.getPopularContents(PageRequest.of(0, 10), user.getId())).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        learningContentService.searchContents("이동평균", PageRequest.of(0, 50), user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
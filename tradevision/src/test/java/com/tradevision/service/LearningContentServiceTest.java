@@ -5,12 +5,12 @@ import com.tradevision.constant.InvestmentLevel;
 import com.tradevision.constant.TechniqueCategory;
 import com.tradevision.dto.ContentListResponse;
 import com.tradevision.dto.ContentResponse;
+import com.tradevision.dto.ModuleListResponse;
 import com.tradevision.dto.ModuleResponse;
 import com.tradevision.entity.ContentModule;
 import com.tradevision.entity.LearningContent;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
-import com.tradevision.repository.ContentModuleRepository;
 import com.tradevision.repository.LearningContentRepository;
 import com.tradevision.repository.UserContentProgressRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,11 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,15 +40,18 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 class LearningContentServiceTest {
 
-    @Mock
-    private ContentModuleRepository moduleRepository;
-
     @Mock
     private LearningContentRepository contentRepository;
 
     @Mock
     private UserContentProgressRepository progressRepository;
 
+    @Mock
+    private CatalogCounterBuffer counterBuffer;
+
+    @Mock
+    private CatalogCache catalogCache;
+
     @InjectMocks
     private LearningContentService learningContentService;
 
@@ -92,8 +94,7 @@ class LearningContentServiceTest {
     @DisplayName("모듈 상세 조회 - 성공")
     void getModuleById_Success() {
         // given
-        given(moduleRepository.findByIdAndIsActiveTrue(1L)).willReturn(Optional.of(module));
-        given(contentRepository.countByModuleIdAndIsActiveTrue(1L)).willReturn(5L);
+        given(catalogCache.current()).willReturn(catalog());
 
         // when
         ModuleResponse response = learningContentService.getModuleById(1L, null);
@@ -102,14 +103,14 @@ class LearningContentServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getTitle()).isEqualTo("이동평균선 학습");
-        assertThat(response.getContentCount()).isEqualTo(5L);
+        assertThat(response.getContentCount()).isEqualTo(1L);
     }
 
     @Test
     @DisplayName("모듈 상세 조회 - 실패 (모듈 없음)")
     void getModuleById_NotFound() {
         // given
-        given(moduleRepository.findByIdAndIsActiveTrue(999L)).willReturn(Optional.empty());
+        given(catalogCache.current()).willReturn(catalog());
 
         // when & then
         assertThatThrownBy(() -> learningContentService.getModuleById(999L, null))
@@ -122,10 +123,7 @@ class LearningContentServiceTest {
     void getContentsByModule_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<LearningContent> contentPage = new PageImpl<>(List.of(content), pageable, 1);
-
-        given(moduleRepository.findByIdAndIsActiveTrue(1L)).willReturn(Optional.of(module));
-        given(contentRepository.findByModuleIdAndIsActiveTrue(1L, pageable)).willReturn(contentPage);
+        given(catalogCache.current()).willReturn(catalog());
 
         // when
         ContentListResponse response = learningContentService.getContentsByModule(1L, pageable, null);
@@ -150,7 +148,7 @@ class LearningContentServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getTitle()).isEqualTo("이동평균선이란?");
         assertThat(response.getContentType()).isEqualTo(ContentType.ARTICLE);
-        verify(contentRepository).incrementViewCount(1L);
+        verify(counterBuffer).increment(CatalogCounterBuffer.Counter.CONTENT_VIEW, 1L);
     }
 
     @Test
@@ -170,9 +168,7 @@ class LearningContentServiceTest {
     void searchContents_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<LearningContent> contentPage = new PageImpl<>(List.of(content), pageable, 1);
-
-        given(contentRepository.searchByKeyword("이동평균", pageable)).willReturn(contentPage);
+        given(catalogCache.searchContents("이동평균")).willReturn(List.of(content));
 
         // when
         ContentListResponse response = learningContentService.searchContents("이동평균", pageable, null);
@@ -188,7 +184,7 @@ class LearningContentServiceTest {
     void getPopularContents_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 5);
-        given(contentRepository.findTopByViewCount(pageable)).willReturn(List.of(content));
+        given(catalogCache.current()).willReturn(catalog());
 
         // when
         List<ContentResponse> response = learningContentService.getPopularContents(pageable, null);
@@ -198,4 +194,34 @@ class LearningContentServiceTest {
         assertThat(response).hasSize(1);
         assertThat(response.get(0).getViewCount()).isEqualTo(100L);
     }
+
+    @Test
+    @DisplayName("모듈 목록 조회 - 스냅샷에서 난이도 필터 후 페이징")
+    void getAllModules_FromCatalog() {
+        // given
+        ContentModule advanced = ContentModule.builder()
+                .id(2L)
+                .title("패턴 심화")
+                .difficultyLevel(InvestmentLevel.ADVANCED)
+                .category(TechniqueCategory.MOVING_AVERAGE)
+                .displayOrder(2)
+                .isRequired(false)
+                .isActive(true)
+                .build();
+        given(catalogCache.current()).willReturn(
+                CatalogSnapshot.of(1L, Instant.now(), List.of(advanced, module), List.of(content), List.of()));
+
+        // when
+        ModuleListResponse response = learningContentService.getAllModules(
+                InvestmentLevel.BEGINNER, null, PageRequest.of(0, 10), null);
+
+        // then
+        assertThat(response.getModules()).extracting(ModuleResponse::getId).containsExactly(1L);
+        assertThat(response.getModules().get(0).getContentCount()).isEqualTo(1L);
+        assertThat(response.getTotalElements()).isEqualTo(1);
+    }
+
+    private CatalogSnapshot catalog() {
+        return CatalogSnapshot.of(1L, Instant.now(), List.of(module), List.of(content), List.of());
+    }
 }
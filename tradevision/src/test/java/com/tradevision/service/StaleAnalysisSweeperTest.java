@@ -0,0 +1,117 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.AnalysisStatus;
+import com.tradevision.constant.CandleType;
+import com.tradevision.entity.ChartAnalysis;
+import com.tradevision.entity.User;
+import com.tradevision.repository.ChartAnalysisRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * StaleAnalysisSweeper 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StaleAnalysisSweeper 테스트")
+class StaleAnalysisSweeperTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    @Mock
+    private ChartAnalysisRepository chartAnalysisRepository;
+
+    @Mock
+    private ChartAnalysisWorker chartAnalysisWorker;
+
+    @Test
+    @DisplayName("정리 - 기준 시간이 지난 진행 중 분석을 실패 처리하여 한도 반환")
+    void sweep_FailsStaleAnalyses() {
+        // given
+        StaleAnalysisSweeper sweeper = sweeper();
+        given(chartAnalysisRepository.findTop100ByStatusInAndCreatedAtBeforeOrderByIdAsc(
+                List.of(AnalysisStatus.PENDING, AnalysisStatus.PROCESSING), NOW.minusMinutes(15)))
+                .willReturn(List.of(analysis(1L, 10L), analysis(2L, 20L)));
+
+        // when
+        sweeper.sweep();
+
+        // then
+        ArgumentCaptor<ChartAnalysisJob> captor = ArgumentCaptor.forClass(ChartAnalysisJob.class);
+        verify(chartAnalysisWorker, times(2)).fail(captor.capture(), anyString());
+        assertThat(captor.getAllValues())
+                .extracting(ChartAnalysisJob::getAnalysisId, ChartAnalysisJob::getUserId)
+                .containsExactly(
+                        tuple(1L, 10L),
+                        tuple(2L, 20L));
+    }
+
+    @Test
+    @DisplayName("정리 - 한 건 실패해도 나머지 분석은 계속 정리")
+    void sweep_OneFailure_ContinuesWithOthers() {
+        // given
+        StaleAnalysisSweeper sweeper = sweeper();
+        given(chartAnalysisRepository.findTop100ByStatusInAndCreatedAtBeforeOrderByIdAsc(any(), any()))
+                .willReturn(List.of(analysis(1L, 10L), analysis(2L, 20L)));
+        willThrow(new IllegalStateException("db down")).willDoNothing()
+                .given(chartAnalysisWorker).fail(any(), anyString());
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(chartAnalysisWorker, times(2)).fail(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("정리 - 대상이 없으면 아무것도 하지 않음")
+    void sweep_NothingStale() {
+        // given
+        StaleAnalysisSweeper sweeper = sweeper();
+        given(chartAnalysisRepository.findTop100ByStatusInAndCreatedAtBeforeOrderByIdAsc(any(), any()))
+                .willReturn(List.of());
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(chartAnalysisWorker, never()).fail(any(), anyString());
+    }
+
+    private StaleAnalysisSweeper sweeper() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        return new StaleAnalysisSweeper(chartAnalysisRepository, chartAnalysisWorker, Duration.ofMinutes(15), clock);
+    }
+
+    private ChartAnalysis analysis(Long id, Long userId) {
+        return ChartAnalysis.builder()
+                .id(id)
+                .user(User.builder().id(userId).build())
+                .stockCode("005930")
+                .candleType(CandleType.D)
+                .imagePath("uploads/charts/" + id + ".jpg")
+                .status(AnalysisStatus.PROCESSING)
+                .createdAt(NOW.minusHours(1))
+                .build();
+    }
+}
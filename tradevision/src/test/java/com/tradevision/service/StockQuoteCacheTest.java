@@ -0,0 +1,189 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.dto.response.StockPriceResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StockQuoteCache 단위 테스트
+ */
+@DisplayName("StockQuoteCache 테스트")
+class StockQuoteCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final StockQuoteCache cache = new StockQuoteCache(100,
+            Duration.ofSeconds(3), Duration.ofSeconds(15), Duration.ofSeconds(60), clock);
+
+    @Test
+    @DisplayName("같은 키의 동시 캐시 미스는 한 번의 조회로 병합")
+    void getOrLoad_ConcurrentMisses_LoadOnce() throws Exception {
+        // given
+        int callers = 20;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<StockPriceResponse>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> cache.getOrLoad("005930", CandleType.M1, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return quote("005930", "70000");
+            })));
+        }
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);  // 나머지 요청이 진행 중인 조회를 기다리도록 대기
+        releaseLoader.countDown();
+
+        // then
+        for (Future<StockPriceResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getCurrentPrice()).isEqualTo(new BigDecimal("70000"));
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("캔들 타입별 TTL이 지나면 다시 조회")
+    void getOrLoad_ExpiredByCandleType_Reloads() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOrLoad("005930", CandleType.M1, () -> quote("005930", String.valueOf(loads.incrementAndGet())));
+        cache.getOrLoad("005930", CandleType.D, () -> quote("005930", String.valueOf(loads.incrementAndGet())));
+
+        // when
+        clock.advance(Duration.ofSeconds(5));
+        cache.getOrLoad("005930", CandleType.M1, () -> quote("005930", String.valueOf(loads.incrementAndGet())));
+        cache.getOrLoad("005930", CandleType.D, () -> quote("005930", String.valueOf(loads.incrementAndGet())));
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);  // M1만 재조회, D는 캐시 사용
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않음")
+    void getOrLoad_Failure_NotCached() {
+        // when
+        assertThatThrownBy(() -> cache.getOrLoad("005930", CandleType.D, () -> {
+            throw new IllegalStateException("KIS 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(cache.size()).isZero();
+        StockPriceResponse result = cache.getOrLoad("005930", CandleType.D, () -> quote("005930", "70000"));
+        assertThat(result.getCurrentPrice()).isEqualTo(new BigDecimal("70000"));
+    }
+
+    @Test
+    @DisplayName("논블로킹 조회 - 진행 중인 조회에 합류하고 완료 후 캐시에서 조회 가능")
+    void getOrLoadAsync_JoinsInFlightLoad() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<StockPriceResponse> upstream = Sinks.one();
+
+        // when
+        Mono<StockPriceResponse> first = cache.getOrLoadAsync("005930", CandleType.D, () -> {
+            loads.incrementAndGet();
+            return upstream.asMono();
+        });
+        Mono<StockPriceResponse> second = cache.getOrLoadAsync("005930", CandleType.D, () -> {
+            loads.incrementAndGet();
+            return Mono.just(quote("005930", "1"));
+        });
+        first.subscribe();
+        second.subscribe();
+        assertThat(cache.getIfPresent("005930", CandleType.D)).isEmpty();  // 조회 중
+        upstream.tryEmitValue(quote("005930", "70000"));
+
+        // then
+        assertThat(second.block().getCurrentPrice()).isEqualTo(new BigDecimal("70000"));
+        assertThat(cache.getIfPresent("005930", CandleType.D)).isPresent();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수 초과 - TTL 안의 항목이라도 오래전에 조회한 항목부터 제거")
+    void getOrLoad_OverMaxEntries_EvictsOldest() {
+        // given
+        StockQuoteCache smallCache = new StockQuoteCache(10,
+                Duration.ofSeconds(3), Duration.ofSeconds(15), Duration.ofSeconds(60), clock);
+        for (int i = 0; i < 10; i++) {
+            String stockCode = String.format("%06d", i);
+            smallCache.getOrLoad(stockCode, CandleType.D, () -> quote(stockCode, "70000"));
+        }
+
+        // when
+        smallCache.getOrLoad("000010", CandleType.D, () -> quote("000010", "70000"));
+
+        // then
+        assertThat(smallCache.size()).isEqualTo(9);
+        assertThat(smallCache.getIfPresent("000000", CandleType.D)).isEmpty();
+        assertThat(smallCache.getIfPresent("000001", CandleType.D)).isEmpty();
+        assertThat(smallCache.getIfPresent("000002", CandleType.D)).isPresent();
+        assertThat(smallCache.getIfPresent("000010", CandleType.D)).isPresent();
+    }
+
+    private StockPriceResponse quote(String stockCode, String price) {
+        return StockPriceResponse.builder()
+                .stockCode(stockCode)
+                .currentPrice(new BigDecimal(price))
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 테스트용 시계 (시간을 직접 진행)
+     */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.tradevision.service;
+
+import com.tradevision.client.RealtimeQuoteFeed;
+import com.tradevision.dto.response.StockTickResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StockQuoteStreamPublisher 단위 테스트
+ * 실제 KIS WebSocket 대신 종목별 구독/해제 횟수를 기록하는 테스트용 피드 사용
+ */
+@DisplayName("StockQuoteStreamPublisher 테스트")
+class StockQuoteStreamPublisherTest {
+
+    private final FakeQuoteFeed feed = new FakeQuoteFeed();
+    private final StockQuoteStreamPublisher publisher =
+            new StockQuoteStreamPublisher(feed, Schedulers.immediate(), 60_000);
+
+    @Test
+    @DisplayName("같은 종목의 여러 구독자는 상위 구독 하나를 공유")
+    void subscribe_SameSymbol_SingleUpstream() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            publisher.subscribe("005930");
+        }
+        publisher.subscribe("000660");
+
+        // then
+        assertThat(feed.subscriptions("005930")).isEqualTo(1);
+        assertThat(feed.subscriptions("000660")).isEqualTo(1);
+        assertThat(publisher.subscriberCount("005930")).isEqualTo(100);
+        assertThat(publisher.activeSymbolCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 떠나면 상위 구독 해제")
+    void unsubscribe_LastSubscriber_CancelsUpstream() {
+        // given
+        SseEmitter first = publisher.subscribe("005930");
+        SseEmitter second = publisher.subscribe("005930");
+
+        // when
+        publisher.unsubscribe("005930", first);
+
+        // then
+        assertThat(feed.cancellations("005930")).isZero();
+        assertThat(publisher.subscriberCount("005930")).isEqualTo(1);
+
+        // when
+        publisher.unsubscribe("005930", second);
+
+        // then
+        assertThat(feed.cancellations("005930")).isEqualTo(1);
+        assertThat(publisher.activeSymbolCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("체결가 수신 시 마지막 체결가를 메모리에 유지")
+    void tick_UpdatesLatestTick() {
+        // given
+        publisher.subscribe("005930");
+
+        // when
+        feed.emit(tick("005930", "71000"));
+        feed.emit(tick("005930", "71100"));
+
+        // then
+        assertThat(publisher.getLatestTick("005930"))
+                .hasValueSatisfying(tick -> assertThat(tick.getCurrentPrice()).isEqualTo(new BigDecimal("71100")));
+        assertThat(publisher.getLatestTick("000660")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해제 후 다시 구독하면 상위 구독을 새로 시작")
+    void subscribe_AfterRelease_ResubscribesUpstream() {
+        // given
+        SseEmitter emitter = publisher.subscribe("005930");
+        publisher.unsubscribe("005930", emitter);
+
+        // when
+        publisher.subscribe("005930");
+
+        // then
+        assertThat(feed.subscriptions("005930")).isEqualTo(2);
+        assertThat(publisher.subscriberCount("005930")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상위 구독은 채널 등록이 끝난 뒤 맵 작업 밖에서 시작")
+    void subscribe_StartsUpstreamAfterRegistration() {
+        // given
+        AtomicInteger subscribersAtUpstream = new AtomicInteger(-1);
+        feed.onSubscribe(() -> subscribersAtUpstream.set(publisher.subscriberCount("005930")));
+
+        // when
+        publisher.subscribe("005930");
+
+        // then
+        assertThat(subscribersAtUpstream).hasValue(1);
+        assertThat(feed.subscriptions("005930")).isEqualTo(1);
+    }
+
+    private StockTickResponse tick(String stockCode, String price) {
+        return StockTickResponse.builder()
+                .stockCode(stockCode)
+                .tradeTime(LocalTime.of(9, 30))
+                .currentPrice(new BigDecimal(price))
+                .build();
+    }
+
+    /**
+     * 테스트용 실시간 피드 (종목별 구독/해제 횟수 기록)
+     */
+    private static class FakeQuoteFeed implements RealtimeQuoteFeed {
+        private final Sinks.Many<StockTickResponse> sink = Sinks.many().multicast().directBestEffort();
+        private final Map<String, AtomicInteger> subscriptions = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> cancellations = new ConcurrentHashMap<>();
+        private volatile Runnable onSubscribe = () -> {
+        };
+
+        @Override
+        public Flux<StockTickResponse> ticks(String stockCode) {
+            return sink.asFlux()
+                    .filter(tick -> stockCode.equals(tick.getStockCode()))
+                    .doOnSubscribe(s -> {
+                        counter(subscriptions, stockCode).incrementAndGet();
+                        onSubscribe.run();
+                    })
+                    .doOnCancel(() -> counter(cancellations, stockCode).incrementAndGet());
+        }
+
+        void onSubscribe(Runnable action) {
+            onSubscribe = action;
+        }
+
+        void emit(StockTickResponse tick) {
+            sink.tryEmitNext(tick);
+        }
+
+        int subscriptions(String stockCode) {
+            return counter(subscriptions, stockCode).get();
+        }
+
+        int cancellations(String stockCode) {
+            return counter(cancellations, stockCode).get();
+        }
+
+        private AtomicInteger counter(Map<String, AtomicInteger> counters, String stockCode) {
+            return counters.computeIfAbsent(stockCode, code -> new AtomicInteger());
+        }
+    }
+}
@@ -4,23 +4,29 @@ import com.tradevision.client.KISApiClient;
 import com.tradevision.constant.CandleType;
 import com.tradevision.dto.external.KISStockPriceResponse;
 import com.tradevision.dto.response.StockPriceResponse;
+import com.tradevision.dto.response.StockQuotesResponse;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -33,13 +39,22 @@ class StockServiceTest {
     @Mock
     private KISApiClient kisApiClient;
 
-    @InjectMocks
+    @Mock
+    private StockQuoteStreamPublisher quoteStreamPublisher;
+
     private StockService stockService;
 
     private KISStockPriceResponse mockKISResponse;
 
     @BeforeEach
     void setUp() {
+        StockQuoteCache stockQuoteCache = new StockQuoteCache(100,
+                Duration.ofSeconds(3), Duration.ofSeconds(15), Duration.ofSeconds(60));
+        stockService = new StockService(kisApiClient, stockQuoteCache, quoteStreamPublisher);
+        ReflectionTestUtils.setField(stockService, "maxQuoteCodes", 100);
+        ReflectionTestUtils.setField(stockService, "quoteConcurrency", 10);
+        ReflectionTestUtils.setField(stockService, "quoteTimeout", Duration.ofSeconds(5));
+
         KISStockPriceResponse.Output output = new KISStockPriceResponse.Output(
                 "70000",      // 현재가
                 "1000",       // 전일 대비
@@ -243,4 +258,99 @@ class StockServiceTest {
         // then
         assertThat(result.getVolume()).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("주식 시세 조회 - TTL 내 재조회는 캐시 사용")
+    void getStockPrice_Cached_CallsApiOnce() {
+        // given
+        String stockCode = "005930";
+
+        given(kisApiClient.getStockPrice(stockCode, CandleType.D))
+                .willReturn(mockKISResponse);
+
+        // when
+        StockPriceResponse first = stockService.getStockPrice(stockCode, CandleType.D);
+        StockPriceResponse second = stockService.getStockPrice(stockCode, CandleType.D);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(kisApiClient, times(1)).getStockPrice(stockCode, CandleType.D);
+    }
+
+    @Test
+    @DisplayName("주식 시세 조회 - 실패 응답은 캐시하지 않음")
+    void getStockPrice_Failure_NotCached() {
+        // given
+        String stockCode = "005930";
+
+        given(kisApiClient.getStockPrice(stockCode, CandleType.D))
+                .willThrow(new RuntimeException("API 오류"))
+                .willReturn(mockKISResponse);
+
+        // when
+        assertThatThrownBy(() -> stockService.getStockPrice(stockCode, CandleType.D))
+                .isInstanceOf(RuntimeException.class);
+        StockPriceResponse result = stockService.getStockPrice(stockCode, CandleType.D);
+
+        // then
+        assertThat(result.getCurrentPrice()).isEqualTo(new BigDecimal("70000"));
+        verify(kisApiClient, times(2)).getStockPrice(stockCode, CandleType.D);
+    }
+
+    @Test
+    @DisplayName("다중 종목 시세 조회 - 캐시 적중 종목은 API 호출 없이 응답")
+    void getStockQuotes_CacheHit_SkipsApi() {
+        // given
+        given(kisApiClient.getStockPrice("005930", CandleType.D)).willReturn(mockKISResponse);
+        stockService.getStockPrice("005930", CandleType.D);  // 캐시 적재
+
+        given(kisApiClient.getStockPriceReactive("000660", CandleType.D))
+                .willReturn(Mono.just(mockKISResponse));
+
+        // when
+        StockQuotesResponse result = stockService.getStockQuotes(List.of("005930", "000660"), CandleType.D);
+
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(StockQuotesResponse.Item::getStockCode)
+                .containsExactly("005930", "000660");
+        verify(kisApiClient, never()).getStockPriceReactive("005930", CandleType.D);
+    }
+
+    @Test
+    @DisplayName("다중 종목 시세 조회 - 일부 실패해도 나머지 종목은 성공")
+    void getStockQuotes_PartialFailure() {
+        // given
+        given(kisApiClient.getStockPriceReactive("005930", CandleType.D))
+                .willReturn(Mono.just(mockKISResponse));
+        given(kisApiClient.getStockPriceReactive("999999", CandleType.D))
+                .willReturn(Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "주식 시세 조회 실패")));
+
+        // when
+        StockQuotesResponse result = stockService.getStockQuotes(
+                List.of("005930", "999999", "12345", "005930"), null);
+
+        // then
+        assertThat(result.getCandleType()).isEqualTo(CandleType.D);
+        assertThat(result.getTotalCount()).isEqualTo(3);  // 중복 제거
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getItems().get(0).getQuote().getCurrentPrice()).isEqualTo(new BigDecimal("70000"));
+        assertThat(result.getItems().get(1).getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_ERROR.getCode());
+        assertThat(result.getItems().get(2).getErrorCode()).isEqualTo(ErrorCode.INVALID_STOCK_CODE.getCode());
+    }
+
+    @Test
+    @DisplayName("다중 종목 시세 조회 실패 - 최대 종목 수 초과")
+    void getStockQuotes_TooManyCodes_ThrowsException() {
+        // given
+        ReflectionTestUtils.setField(stockService, "maxQuoteCodes", 2);
+        List<String> codes = List.of("005930", "000660", "035420");
+
+        // when & then
+        assertThatThrownBy(() -> stockService.getStockQuotes(codes, CandleType.D))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
 }
@@ -0,0 +1,191 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.CandleType;
+import com.tradevision.dto.response.TechnicalIndicatorResponse;
+import com.tradevision.entity.CandleSeries;
+import com.tradevision.exception.BusinessException;
+import com.tradevision.exception.ErrorCode;
+import com.tradevision.service.indicator.IndicatorSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TechnicalIndicatorService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TechnicalIndicatorService 테스트")
+class TechnicalIndicatorServiceTest {
+
+    // 2025-01-02 15:29, 15:30, 2025-01-03 09:00 (KST)
+    private static final long[] TIMESTAMPS = {1735799340000L, 1735799400000L, 1735862400000L};
+
+    @Mock
+    private CandleHistoryService candleHistoryService;
+
+    private TechnicalIndicatorService technicalIndicatorService;
+
+    @BeforeEach
+    void setUp() {
+        technicalIndicatorService = new TechnicalIndicatorService(candleHistoryService, 10, 100);
+    }
+
+    @Test
+    @DisplayName("분봉 보조지표 - 워밍업 구간은 null, VWAP은 거래일마다 초기화")
+    void getIndicators_Intraday() {
+        // given
+        given(candleHistoryService.getSeries("005930", CandleType.M1, null, null))
+                .willReturn(candles());
+        given(candleHistoryService.getSeriesBefore(eq("005930"), eq(CandleType.M1), any(), anyInt()))
+                .willReturn(CandleSeries.empty());
+
+        // when
+        TechnicalIndicatorResponse result = technicalIndicatorService.getIndicators(
+                "005930", CandleType.M1, null, null, 2, 2, 2, 2);
+
+        // then
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(result.getSma()[0]).isNull();
+        assertThat(result.getSma()[1]).isEqualTo(70050.0);
+        assertThat(result.getSma()[2]).isEqualTo(70000.0);  // 진행 중인 마지막 캔들 포함
+        assertThat(result.getVwap()[1]).isEqualTo((70000.0 * 100 + 70100.0 * 300) / 400);
+        assertThat(result.getVwap()[2]).isEqualTo(69900.0);  // 다음 거래일 첫 캔들
+        assertThat(result.getObv()).containsExactly(0.0, 300.0, 250.0);
+    }
+
+    @Test
+    @DisplayName("일봉 보조지표 - VWAP은 조회 구간 전체 누적")
+    void getIndicators_Daily_VwapAnchoredToRange() {
+        // given
+        given(candleHistoryService.getSeries("005930", CandleType.D, null, null))
+                .willReturn(candles());
+        given(candleHistoryService.getSeriesBefore(eq("005930"), eq(CandleType.D), any(), anyInt()))
+                .willReturn(CandleSeries.empty());
+
+        // when
+        TechnicalIndicatorResponse result = technicalIndicatorService.getIndicators(
+                "005930", CandleType.D, null, null, 2, 2, 2, 2);
+
+        // then
+        assertThat(result.getVwap()[2]).isEqualTo((70000.0 * 100 + 70100.0 * 300 + 69900.0 * 50) / 450);
+    }
+
+    @Test
+    @DisplayName("워밍업 - 조회 구간 앞 캔들로 첫 캔들부터 지표 계산")
+    void getIndicators_WarmupBeforeRange() {
+        // given
+        CandleSeries warmup = CandleSeries.builder(1)
+                .add(time(TIMESTAMPS[0]).minusMinutes(1), 69800, 69800, 69800, 69800, 100)
+                .build();
+        given(candleHistoryService.getSeries("005930", CandleType.M1, null, null))
+                .willReturn(candles());
+        given(candleHistoryService.getSeriesBefore(eq("005930"), eq(CandleType.M1), eq(time(TIMESTAMPS[0])), anyInt()))
+                .willReturn(warmup);
+
+        // when
+        TechnicalIndicatorResponse result = technicalIndicatorService.getIndicators(
+                "005930", CandleType.M1, null, null, 2, 2, 2, 2);
+
+        // then
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(result.getSma()[0]).isEqualTo(69900.0);
+        assertThat(result.getObv()[0]).isEqualTo(0.0);  // OBV는 조회 구간 기준
+    }
+
+    @Test
+    @DisplayName("재조회 - 기존 엔진에 새 캔들만 반영 (워밍업 재조회 없음)")
+    void getIndicators_ReusesEngine() {
+        // given
+        CandleSeries firstTwo = CandleSeries.builder(2)
+                .add(time(TIMESTAMPS[0]), 70000, 70000, 70000, 70000, 100)
+                .add(time(TIMESTAMPS[1]), 70000, 70100, 70100, 70100, 300)
+                .build();
+        given(candleHistoryService.getSeries("005930", CandleType.M1, null, null))
+                .willReturn(firstTwo, candles());
+        given(candleHistoryService.getSeriesBefore(eq("005930"), eq(CandleType.M1), any(), anyInt()))
+                .willReturn(CandleSeries.empty());
+
+        // when
+        technicalIndicatorService.getIndicators("005930", CandleType.M1, null, null, 2, 2, 2, 2);
+        TechnicalIndicatorResponse second = technicalIndicatorService.getIndicators(
+                "005930", CandleType.M1, null, null, 2, 2, 2, 2);
+
+        // then
+        assertThat(second.getSma()).containsExactly(null, 70050.0, 70000.0);
+        verify(candleHistoryService, times(1)).getSeriesBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재조회 - 엔진 구간 안에 채워진 캔들이 있으면 엔진을 다시 만들어 시각별 값을 맞춤")
+    void getIndicators_BackfilledCandle_RebuildsEngine() {
+        // given
+        CandleSeries backfilled = CandleSeries.builder(4)
+                .add(time(TIMESTAMPS[0]), 70000, 70000, 70000, 70000, 100)
+                .add(time(TIMESTAMPS[0]).plusSeconds(30), 70300, 70300, 70300, 70300, 100)
+                .add(time(TIMESTAMPS[1]), 70000, 70100, 70100, 70100, 300)
+                .add(time(TIMESTAMPS[2]), 69900, 69900, 69900, 69900, 50)
+                .build();
+        given(candleHistoryService.getSeries("005930", CandleType.M1, null, null))
+                .willReturn(candles(), backfilled);
+        given(candleHistoryService.getSeriesBefore(eq("005930"), eq(CandleType.M1), any(), anyInt()))
+                .willReturn(CandleSeries.empty());
+
+        // when
+        technicalIndicatorService.getIndicators("005930", CandleType.M1, null, null, 2, 2, 2, 2);
+        TechnicalIndicatorResponse second = technicalIndicatorService.getIndicators(
+                "005930", CandleType.M1, null, null, 2, 2, 2, 2);
+
+        // then
+        assertThat(second.getSma()).containsExactly(null, 70150.0, 70200.0, 70000.0);
+        verify(candleHistoryService, times(2)).getSeriesBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("워밍업 캔들 수 - 이동 구간은 기간, 평활 지표는 기간의 3배")
+    void warmupBars() {
+        // given
+        IndicatorSettings settings = new IndicatorSettings(200, 20, 14, 12, 26, 9, 20, 2.0);
+
+        // when & then
+        assertThat(TechnicalIndicatorService.warmupBars(settings)).isEqualTo(200);
+        assertThat(TechnicalIndicatorService.warmupBars(IndicatorSettings.DEFAULT)).isEqualTo(3 * (26 + 9));
+    }
+
+    @Test
+    @DisplayName("지표 기간 범위 초과 - 예외 발생")
+    void getIndicators_InvalidPeriod() {
+        // when & then
+        assertThatThrownBy(() -> technicalIndicatorService.getIndicators(
+                "005930", CandleType.D, null, null, 500, 20, 14, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+        verify(candleHistoryService, never()).getSeries(any(), any(), any(), any());
+    }
+
+    private CandleSeries candles() {
+        return CandleSeries.builder(3)
+                .add(time(TIMESTAMPS[0]), 70000, 70000, 70000, 70000, 100)
+                .add(time(TIMESTAMPS[1]), 70000, 70100, 70100, 70100, 300)
+                .add(time(TIMESTAMPS[2]), 69900, 69900, 69900, 69900, 50)
+                .build();
+    }
+
+    private LocalDateTime time(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(epochMillis / 1000, 0, CandleSeries.KST);
+    }
+}
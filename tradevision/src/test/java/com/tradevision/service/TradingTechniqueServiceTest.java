@@ -9,6 +9,7 @@ import com.tradevision.entity.User;
 import com.tradevision.entity.UserTechniqueProgress;
 import com.tradevision.exception.BusinessException;
 import com.tradevision.exception.ErrorCode;
+import com.tradevision.repository.TechniqueSummary;
 import com.tradevision.repository.TradingTechniqueRepository;
 import com.tradevision.repository.UserRepository;
 import com.tradevision.repository.UserTechniqueProgressRepository;
@@ -24,6 +25,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,10 +51,17 @@ class TradingTechniqueServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CatalogCounterBuffer counterBuffer;
+
+    @Mock
+    private CatalogCache catalogCache;
+
     @InjectMocks
     private TradingTechniqueService techniqueService;
 
     private TradingTechnique technique;
+    private TechniqueSummary summary;
     private User user;
     private UserTechniqueProgress progress;
 
@@ -76,6 +85,10 @@ class TradingTechniqueServiceTest {
                 .recommendationCount(50L)
                 .build();
 
+        summary = new TechniqueSummary(1L, "이동평균선", "Moving Average",
+                InvestmentLevel.BEGINNER, TechniqueCategory.MOVING_AVERAGE, "기초 기법",
+                "장점", "단점", 2, 100L, 50L, null, null);
+
         user = User.builder()
                 .id(1L)
                 .email("test@example.com")
@@ -100,8 +113,7 @@ class TradingTechniqueServiceTest {
     void getAllTechniques_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<TradingTechnique> techniquePage = new PageImpl<>(List.of(technique), pageable, 1);
-        given(techniqueRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable)).willReturn(techniquePage);
+        given(catalogCache.current()).willReturn(catalog(summary));
 
         // when
         TechniqueListResponse response = techniqueService.getAllTechniques(pageable, null);
@@ -110,6 +122,44 @@ class TradingTechniqueServiceTest {
         assertThat(response.getTechniques()).hasSize(1);
         assertThat(response.getTotalElements()).isEqualTo(1);
         assertThat(response.getTechniques().get(0).getName()).isEqualTo("이동평균선");
+        assertThat(response.getTechniques().get(0).getDescription()).isNull();
+        verifyNoInteractions(progressRepository);
+    }
+
+    @Test
+    @DisplayName("모든 기법 조회 - 사용자 진행도는 페이지 단위로 한 번만 조회")
+    void getAllTechniques_WithUserProgress_BatchLookup() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        TechniqueSummary other = new TechniqueSummary(2L, "RSI", "RSI",
+                InvestmentLevel.INTERMEDIATE, TechniqueCategory.MOVING_AVERAGE, "보조지표",
+                null, null, 3, 10L, 5L, null, null);
+        given(catalogCache.current()).willReturn(catalog(summary, other));
+        given(progressRepository.findByUserIdAndTechniqueIdIn(1L, List.of(1L, 2L))).willReturn(List.of(progress));
+
+        // when
+        TechniqueListResponse response = techniqueService.getAllTechniques(pageable, 1L);
+
+        // then
+        assertThat(response.getTechniques().get(0).getUserProgress().getProgressPercentage()).isEqualTo(50);
+        assertThat(response.getTechniques().get(1).getUserProgress()).isNull();
+        verify(progressRepository).findByUserIdAndTechniqueIdIn(1L, List.of(1L, 2L));
+        verify(progressRepository, never()).findByUserIdAndTechniqueId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("인기 기법 조회 - 조회수순 요약 조회 사용")
+    void getPopularTechniques() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(catalogCache.current()).willReturn(catalog(summary));
+
+        // when
+        TechniqueListResponse response = techniqueService.getPopularTechniques(pageable, null);
+
+        // then
+        assertThat(response.getTechniques()).hasSize(1);
+        assertThat(response.getTechniques().get(0).getViewCount()).isEqualTo(100L);
     }
 
     @Test
@@ -124,7 +174,7 @@ class TradingTechniqueServiceTest {
         // then
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getName()).isEqualTo("이동평균선");
-        verify(techniqueRepository).incrementViewCount(1L);
+        verify(counterBuffer).increment(CatalogCounterBuffer.Counter.TECHNIQUE_VIEW, 1L);
     }
 
     @Test
@@ -160,9 +210,7 @@ class TradingTechniqueServiceTest {
     void getTechniquesByDifficulty() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<TradingTechnique> techniquePage = new PageImpl<>(List.of(technique), pageable, 1);
-        given(techniqueRepository.findByDifficultyLevelAndIsActiveTrueOrderByRecommendationCountDesc(
-                InvestmentLevel.BEGINNER, pageable)).willReturn(techniquePage);
+        given(catalogCache.current()).willReturn(catalog(summary));
 
         // when
         TechniqueListResponse response = techniqueService.getTechniquesByDifficulty(
@@ -178,9 +226,7 @@ class TradingTechniqueServiceTest {
     void getTechniquesByCategory() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<TradingTechnique> techniquePage = new PageImpl<>(List.of(technique), pageable, 1);
-        given(techniqueRepository.findByCategoryAndIsActiveTrueOrderByViewCountDesc(
-                TechniqueCategory.MOVING_AVERAGE, pageable)).willReturn(techniquePage);
+        given(catalogCache.current()).willReturn(catalog(summary));
 
         // when
         TechniqueListResponse response = techniqueService.getTechniquesByCategory(
@@ -196,8 +242,7 @@ class TradingTechniqueServiceTest {
     void searchTechniques() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<TradingTechnique> techniquePage = new PageImpl<>(List.of(technique), pageable, 1);
-        given(techniqueRepository.searchByKeyword("이동평균", pageable)).willReturn(techniquePage);
+        given(catalogCache.searchTechniques("이동평균")).willReturn(List.of(summary));
 
         // when
         TechniqueListResponse response = techniqueService.searchTechniques("이동평균", pageable, null);
@@ -348,4 +393,26 @@ class TradingTechniqueServiceTest {
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).getStatus()).isEqualTo(ProgressStatus.IN_PROGRESS);
     }
+
+    @Test
+    @DisplayName("인기 기법 조회 - 스냅샷의 조회수순 목록을 페이징")
+    void getPopularTechniques_OrderedByViewCount() {
+        // given
+        TechniqueSummary hot = new TechniqueSummary(2L, "RSI", "RSI",
+                InvestmentLevel.INTERMEDIATE, TechniqueCategory.MOVING_AVERAGE, "보조지표",
+                null, null, 3, 500L, 5L, null, null);
+        given(catalogCache.current()).willReturn(catalog(summary, hot));
+
+        // when
+        TechniqueListResponse response = techniqueService.getPopularTechniques(PageRequest.of(0, 1), null);
+
+        // then
+        assertThat(response.getTechniques()).extracting(TechniqueResponse::getId).containsExactly(2L);
+        assertThat(response.getTotalElements()).isEqualTo(2);
+        assertThat(response.getTotalPages()).isEqualTo(2);
+    }
+
+    private CatalogSnapshot catalog(TechniqueSummary... techniques) {
+        return CatalogSnapshot.of(1L, Instant.now(), List.of(), List.of(), List.of(techniques));
+    }
 }
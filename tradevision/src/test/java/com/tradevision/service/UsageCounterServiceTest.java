@@ -0,0 +1,296 @@
+package com.tradevision.service;
+
+import com.tradevision.constant.UsagePeriod;
+import com.tradevision.repository.UsageCounterRepository;
+import com.tradevision.repository.UsageCounterRepository.CounterId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UsageCounterService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UsageCounterService 테스트")
+class UsageCounterServiceTest {
+
+    private static final String ACTION = "CHART_ANALYSIS";
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private UsageCounterRepository counterRepository;
+
+    private final MutableClock clock = new MutableClock();
+    private UsageCounterService usageCounterService;
+
+    @BeforeEach
+    void setUp() {
+        usageCounterService = new UsageCounterService(counterRepository, clock);
+    }
+
+    @Test
+    @DisplayName("처음 조회 시 DB 카운터를 적재하고 이후에는 메모리에서 응답")
+    void currentCount_LoadsOnceThenServesFromMemory() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(3L));
+
+        // when
+        long first = usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY);
+        long second = usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY);
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(3);
+        verify(counterRepository, times(1)).find(1L, ACTION, UsagePeriod.DAY, TODAY);
+        verify(counterRepository, never()).countSource(1L, ACTION, UsagePeriod.DAY, TODAY);
+    }
+
+    @Test
+    @DisplayName("DB 카운터가 없으면 원본 이력 구간 집계로 초기화")
+    void currentCount_NoCounter_SeedsFromSource() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(Optional.empty());
+        given(counterRepository.countSource(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(7L);
+
+        // when
+        long count = usageCounterService.currentCount(1L, ACTION, UsagePeriod.MONTH);
+
+        // then
+        assertThat(count).isEqualTo(7);
+        verify(counterRepository).insertIfAbsent(1L, ACTION, UsagePeriod.MONTH, MONTH_START, 7L);
+    }
+
+    @Test
+    @DisplayName("사용 기록 시 일간/월간 DB 카운터와 메모리 카운터 모두 증가")
+    void increment_UpdatesAllPeriods() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(2L));
+        given(counterRepository.find(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(Optional.of(5L));
+
+        // when
+        usageCounterService.increment(1L, ACTION, 1);
+
+        // then
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.DAY, TODAY, 1);
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.MONTH, MONTH_START, 1);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(3);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.MONTH)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("지난 날짜 사용 기록 - 발생 날짜가 속한 기간의 카운터 증가")
+    void increment_OccurredYesterday_UpdatesThatPeriod() {
+        // given
+        LocalDate yesterday = TODAY.minusDays(1);
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, yesterday)).willReturn(Optional.of(4L));
+        given(counterRepository.find(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(Optional.of(5L));
+
+        // when
+        usageCounterService.increment(1L, ACTION, yesterday, 2);
+
+        // then
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.DAY, yesterday, 2);
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.MONTH, MONTH_START, 2);
+        verify(counterRepository, never()).add(1L, ACTION, UsagePeriod.DAY, TODAY, 2);
+    }
+
+    @Test
+    @DisplayName("한도 예약 성공 - 한도 기간은 조건부 증가, 나머지 기간은 그대로 증가")
+    void tryReserve_WithinLimit_ReservesAllPeriods() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(9L));
+        given(counterRepository.find(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(Optional.of(20L));
+        given(counterRepository.reserve(1L, ACTION, UsagePeriod.DAY, TODAY, 1, 10)).willReturn(true);
+
+        // when
+        boolean reserved = usageCounterService.tryReserve(1L, ACTION, UsagePeriod.DAY, 1, 10);
+
+        // then
+        assertThat(reserved).isTrue();
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.MONTH, MONTH_START, 1);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(10);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.MONTH)).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("한도 예약 - 첫 요청이 롤백되어 카운터 행이 사라져도 다음 요청은 행을 다시 만들고 예약")
+    void tryReserve_AfterRolledBackFirstRequest_RecreatesRowAndReserves() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.empty());
+        given(counterRepository.countSource(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(0L);
+        given(counterRepository.find(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(Optional.of(0L));
+        given(counterRepository.reserve(1L, ACTION, UsagePeriod.DAY, TODAY, 1, 10)).willReturn(true);
+
+        // 첫 요청: 카운터 적재 후 예약했지만 트랜잭션 롤백 (커밋 콜백 없이 종료)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            usageCounterService.tryReserve(1L, ACTION, UsagePeriod.DAY, 1, 10);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // when
+        boolean reserved = usageCounterService.tryReserve(1L, ACTION, UsagePeriod.DAY, 1, 10);
+
+        // then
+        assertThat(reserved).isTrue();
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).reserve(1L, ACTION, UsagePeriod.DAY, TODAY, 1, 10);          // 첫 요청
+        inOrder.verify(counterRepository).insertIfAbsent(1L, ACTION, UsagePeriod.DAY, TODAY, 0L); // 예약 전 행 재생성
+        inOrder.verify(counterRepository).reserve(1L, ACTION, UsagePeriod.DAY, TODAY, 1, 10);          // 둘째 요청
+        verify(counterRepository, times(3)).insertIfAbsent(1L, ACTION, UsagePeriod.DAY, TODAY, 0L);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도 예약 실패 - 한도를 넘으면 어떤 카운터도 변경하지 않음")
+    void tryReserve_OverLimit_ChangesNothing() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(10L));
+        given(counterRepository.reserve(1L, ACTION, UsagePeriod.DAY, TODAY, 1, 10)).willReturn(false);
+
+        // when
+        boolean reserved = usageCounterService.tryReserve(1L, ACTION, UsagePeriod.DAY, 1, 10);
+
+        // then
+        assertThat(reserved).isFalse();
+        verify(counterRepository, never()).add(anyLong(), anyString(), any(), any(), anyLong());
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한도 예약 실패 - 한도 기간보다 앞서 증가시킨 기간은 되돌림")
+    void tryReserve_OverMonthlyLimit_RevertsEarlierPeriods() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(1L));
+        given(counterRepository.find(1L, ACTION, UsagePeriod.MONTH, MONTH_START)).willReturn(Optional.of(30L));
+        given(counterRepository.reserve(1L, ACTION, UsagePeriod.MONTH, MONTH_START, 1, 30)).willReturn(false);
+
+        // when
+        boolean reserved = usageCounterService.tryReserve(1L, ACTION, UsagePeriod.MONTH, 1, 30);
+
+        // then
+        assertThat(reserved).isFalse();
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.DAY, TODAY, 1);
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.DAY, TODAY, -1);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도 반환 - 예약한 날짜가 속한 기간의 카운터를 감소")
+    void release_DecrementsReservedPeriods() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(5L));
+        usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY);
+
+        // when
+        usageCounterService.release(1L, ACTION, TODAY, 1);
+
+        // then
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.DAY, TODAY, -1);
+        verify(counterRepository).add(1L, ACTION, UsagePeriod.MONTH, MONTH_START, -1);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("보정 - 현재 기간의 DB 카운터마다 원본 집계 값을 한 문장으로 대입")
+    void reconcile_AssignsSourceCountPerCounter() {
+        // given
+        given(counterRepository.findIds(UsagePeriod.DAY, TODAY)).willReturn(List.of(new CounterId(1L, ACTION)));
+        given(counterRepository.findIds(UsagePeriod.MONTH, MONTH_START))
+                .willReturn(List.of(new CounterId(1L, ACTION), new CounterId(2L, "CONTENT_VIEW")));
+
+        // when
+        usageCounterService.reconcile();
+
+        // then
+        verify(counterRepository).reconcile(1L, ACTION, UsagePeriod.DAY, TODAY);
+        verify(counterRepository).reconcile(1L, ACTION, UsagePeriod.MONTH, MONTH_START);
+        verify(counterRepository).reconcile(2L, "CONTENT_VIEW", UsagePeriod.MONTH, MONTH_START);
+        verify(counterRepository, never()).add(anyLong(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("갱신 - 메모리 카운터를 DB 카운터 값으로 맞춤 (다른 인스턴스 사용분 반영)")
+    void refresh_SetsMemoryFromStoredCounter() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY))
+                .willReturn(Optional.of(4L), Optional.of(6L));
+        usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY);
+
+        // when
+        usageCounterService.refresh();
+
+        // then
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isEqualTo(6);
+        verify(counterRepository, never()).add(anyLong(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("갱신 - 지난 기간 카운터는 메모리에서 제거하고 새 기간은 다시 적재")
+    void refresh_PeriodRolledOver_DropsOldCounters() {
+        // given
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY)).willReturn(Optional.of(9L));
+        usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY);
+        clock.advance(Duration.ofDays(1));
+        given(counterRepository.find(1L, ACTION, UsagePeriod.DAY, TODAY.plusDays(1))).willReturn(Optional.empty());
+        given(counterRepository.countSource(1L, ACTION, UsagePeriod.DAY, TODAY.plusDays(1))).willReturn(0L);
+
+        // when
+        usageCounterService.refresh();
+
+        // then
+        verify(counterRepository, times(1)).find(1L, ACTION, UsagePeriod.DAY, TODAY);
+        assertThat(usageCounterService.currentCount(1L, ACTION, UsagePeriod.DAY)).isZero();
+    }
+
+    /**
+     * 테스트용 시계 (시간을 직접 진행)
+     */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-15T03:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.tradevision.service;
+
+import com.tradevision.entity.UsageEvent;
+import com.tradevision.entity.UsageTracking;
+import com.tradevision.repository.UsageEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UsageEventBuffer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UsageEventBuffer 테스트")
+class UsageEventBufferTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2025, 1, 15, 23, 59);
+
+    @Mock
+    private UsageEventRepository usageEventRepository;
+
+    @Mock
+    private UsageCounterService usageCounterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("반영 - 배치 단위 일괄 INSERT, 로그인 사용자의 동작별 카운터는 한 번에 증가")
+    @SuppressWarnings("unchecked")
+    void flush_InsertsInBatchesAndAggregatesCounters() {
+        // given
+        UsageEventBuffer buffer = new UsageEventBuffer(
+                usageEventRepository, usageCounterService, transactionManager, 100, 2);
+        buffer.add(event(1L, UsageTracking.ACTION_CONTENT_VIEW));
+        buffer.add(event(1L, UsageTracking.ACTION_CONTENT_VIEW));
+        buffer.add(event(null, UsageTracking.ACTION_CONTENT_VIEW));  // 비로그인 - 카운터 없음
+        buffer.add(event(1L, UsageTracking.ACTION_CHART_ANALYSIS)); // 차트 분석 - 별도 집계
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<UsageEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(usageEventRepository, times(2)).insertAll(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(2));
+        verify(usageCounterService).increment(1L, UsageTracking.ACTION_CONTENT_VIEW, OCCURRED_AT.toLocalDate(), 2L);
+        verify(usageCounterService, never())
+                .increment(anyLong(), eq(UsageTracking.ACTION_CHART_ANALYSIS), any(LocalDate.class), anyLong());
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("배압 - 버퍼가 가득 차면 호출 스레드가 한 배치를 기록한 뒤 추가")
+    void add_Full_CallerWritesBatch() {
+        // given
+        UsageEventBuffer buffer = new UsageEventBuffer(
+                usageEventRepository, usageCounterService, transactionManager, 2, 2);
+        buffer.add(event(1L, UsageTracking.ACTION_LOGIN));
+        buffer.add(event(2L, UsageTracking.ACTION_LOGIN));
+
+        // when
+        buffer.add(event(3L, UsageTracking.ACTION_LOGIN));
+
+        // then
+        verify(usageEventRepository).insertAll(anyList());
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(buffer.droppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 - DB 장애면 이벤트를 버퍼에 되돌려 다음 주기에 재시도")
+    void flush_Failure_RequeuesEvents() {
+        // given
+        UsageEventBuffer buffer = new UsageEventBuffer(
+                usageEventRepository, usageCounterService, transactionManager, 100, 10);
+        buffer.add(event(1L, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        buffer.add(event(1L, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        willThrow(new QueryTimeoutException("timeout")).given(usageEventRepository).insertAll(anyList());
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(usageEventRepository, times(2)).insertAll(anyList());  // 일괄 기록 + 첫 건 재시도
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        assertThat(buffer.droppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 데이터 오류 이벤트만 버리고 나머지는 한 건씩 기록")
+    @SuppressWarnings("unchecked")
+    void flush_InvalidEvent_DropsOnlyThatEvent() {
+        // given
+        UsageEventBuffer buffer = new UsageEventBuffer(
+                usageEventRepository, usageCounterService, transactionManager, 100, 10);
+        buffer.add(event(1L, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        buffer.add(event(99L, UsageTracking.ACTION_TECHNIQUE_VIEW));  // 삭제된 사용자
+        buffer.add(event(2L, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        willAnswer(invocation -> {
+            List<UsageEvent> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.userId() == 99L)) {
+                throw new DataIntegrityViolationException("foreign key constraint fails");
+            }
+            return null;
+        }).given(usageEventRepository).insertAll(anyList());
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<UsageEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(usageEventRepository, times(4)).insertAll(captor.capture());  // 일괄 1회 + 한 건씩 3회
+        assertThat(captor.getAllValues().subList(1, 4))
+                .extracting(events -> events.get(0).userId())
+                .containsExactly(1L, 99L, 2L);
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(buffer.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 - 자정 전에 발생한 이벤트는 발생 날짜의 카운터에 집계")
+    void flush_CountsByOccurredDate() {
+        // given
+        UsageEventBuffer buffer = new UsageEventBuffer(
+                usageEventRepository, usageCounterService, transactionManager, 100, 10);
+        buffer.add(event(1L, UsageTracking.ACTION_CONTENT_VIEW));
+        buffer.add(new UsageEvent(1L, "session", "127.0.0.1", UsageTracking.ACTION_CONTENT_VIEW,
+                null, null, OCCURRED_AT.plusMinutes(2)));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(usageCounterService).increment(1L, UsageTracking.ACTION_CONTENT_VIEW, LocalDate.of(2025, 1, 15), 1L);
+        verify(usageCounterService).increment(1L, UsageTracking.ACTION_CONTENT_VIEW, LocalDate.of(2025, 1, 16), 1L);
+    }
+
+    @Test
+    @DisplayName("기록 대기 사용분 - 큐에 넣는 즉시 집계하고 기록 후 제거, 재시도 대기 중에는 유지")
+    void pendingUsage_TrackedUntilWritten() {
+        // given
+        UsageEventBuffer buffer = new UsageEventBuffer(
+                usageEventRepository, usageCounterService, transactionManager, 100, 10);
+        buffer.add(event(1L, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        buffer.add(event(1L, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        buffer.add(event(1L, UsageTracking.ACTION_CHART_ANALYSIS));  // 차트 분석 - 접수 시 예약
+        buffer.add(event(null, UsageTracking.ACTION_TECHNIQUE_VIEW));
+        willThrow(new QueryTimeoutException("timeout"))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willDoNothing()
+                .given(usageEventRepository).insertAll(anyList());
+
+        // then
+        assertThat(buffer.pendingUserUsage(1L, UsageTracking.ACTION_TECHNIQUE_VIEW)).isEqualTo(2);
+        assertThat(buffer.pendingUserUsage(1L, UsageTracking.ACTION_CHART_ANALYSIS)).isZero();
+        assertThat(buffer.pendingSessionUsage("session", UsageTracking.ACTION_TECHNIQUE_VIEW)).isEqualTo(3);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pendingUserUsage(1L, UsageTracking.ACTION_TECHNIQUE_VIEW)).isEqualTo(2);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pendingUserUsage(1L, UsageTracking.ACTION_TECHNIQUE_VIEW)).isZero();
+        assertThat(buffer.pendingSessionUsage("session", UsageTracking.ACTION_TECHNIQUE_VIEW)).isZero();
+    }
+
+    private UsageEvent event(Long userId, String actionType) {
+        return new UsageEvent(userId, "session", "127.0.0.1", actionType, null, null, OCCURRED_AT);
+    }
+}
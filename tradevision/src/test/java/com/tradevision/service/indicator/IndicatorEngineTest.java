@@ -0,0 +1,169 @@
+package com.tradevision.service.indicator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * IndicatorEngine 단위 테스트
+ */
+@DisplayName("IndicatorEngine 테스트")
+class IndicatorEngineTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    @DisplayName("워밍업 구간 - 기간 미만이면 NaN")
+    void warmUp_ReturnsNaN() {
+        // given
+        IndicatorEngine engine = new IndicatorEngine(IndicatorSettings.DEFAULT);
+
+        // when
+        for (int i = 0; i < 19; i++) {
+            engine.update(101, 99, 100, 1000);
+        }
+
+        // then
+        assertThat(engine.sma()).isNaN();
+        assertThat(engine.ema()).isNaN();
+        assertThat(engine.bollingerMiddle()).isNaN();
+        assertThat(engine.macd()).isNaN();
+        assertThat(engine.rsi()).isEqualTo(50.0);  // 14개 변화량 모두 0
+        assertThat(engine.vwap()).isCloseTo(100.0, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("SMA/볼린저 밴드 - 링 버퍼 결과가 구간 전체 재계산과 일치")
+    void smaAndBollinger_MatchBruteForce() {
+        // given
+        int period = 20;
+        IndicatorEngine engine = new IndicatorEngine(IndicatorSettings.DEFAULT);
+        double[] closes = randomWalk(500, 42);
+
+        for (int i = 0; i < closes.length; i++) {
+            // when
+            engine.update(closes[i] + 1, closes[i] - 1, closes[i], 100);
+
+            // then
+            if (i >= period - 1) {
+                double mean = 0;
+                for (int j = i - period + 1; j <= i; j++) {
+                    mean += closes[j];
+                }
+                mean /= period;
+                double variance = 0;
+                for (int j = i - period + 1; j <= i; j++) {
+                    variance += (closes[j] - mean) * (closes[j] - mean);
+                }
+                double sd = Math.sqrt(variance / period);
+
+                assertThat(engine.sma()).isCloseTo(mean, within(1e-6));
+                assertThat(engine.bollingerUpper()).isCloseTo(mean + 2 * sd, within(1e-6));
+                assertThat(engine.bollingerLower()).isCloseTo(mean - 2 * sd, within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("EMA/MACD - 단순 평균으로 시작 후 지수 평활")
+    void emaAndMacd() {
+        // given
+        IndicatorSettings settings = new IndicatorSettings(3, 3, 3, 2, 3, 2, 3, 2.0);
+        IndicatorEngine engine = new IndicatorEngine(settings);
+
+        // when
+        engine.update(0, 0, 1, 0);
+        engine.update(0, 0, 2, 0);
+        engine.update(0, 0, 3, 0);   // EMA3 = 2 (첫 3개 단순 평균)
+        engine.update(0, 0, 4, 0);
+
+        // then
+        double fast = 1.5;
+        fast += (2.0 / 3) * (3 - fast);
+        fast += (2.0 / 3) * (4 - fast);
+        double slow = 2.0 + 0.5 * (4 - 2.0);
+        assertThat(engine.ema()).isCloseTo(3.0, within(TOLERANCE));
+        assertThat(engine.macd()).isCloseTo(fast - slow, within(TOLERANCE));
+        assertThat(engine.macdSignal()).isNotNaN();
+    }
+
+    @Test
+    @DisplayName("RSI - 상승만 있으면 100, 하락만 있으면 0")
+    void rsi_Extremes() {
+        // given
+        IndicatorEngine rising = new IndicatorEngine(IndicatorSettings.DEFAULT);
+        IndicatorEngine falling = new IndicatorEngine(IndicatorSettings.DEFAULT);
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            rising.update(0, 0, 100 + i, 0);
+            falling.update(0, 0, 100 - i, 0);
+        }
+
+        // then
+        assertThat(rising.rsi()).isEqualTo(100.0);
+        assertThat(falling.rsi()).isCloseTo(0.0, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("VWAP/OBV - 거래량 가중 평균과 종가 방향별 거래량 누적, VWAP 초기화")
+    void vwapAndObv() {
+        // given
+        IndicatorEngine engine = new IndicatorEngine(IndicatorSettings.DEFAULT);
+
+        // when
+        engine.update(12, 8, 10, 100);   // 전형가 10
+        engine.update(24, 18, 21, 300);  // 전형가 21, 상승
+        engine.update(21, 15, 18, 50);   // 전형가 18, 하락
+
+        // then
+        assertThat(engine.vwap()).isCloseTo((10 * 100 + 21 * 300 + 18 * 50) / 450.0, within(TOLERANCE));
+        assertThat(engine.obv()).isCloseTo(300 - 50, within(TOLERANCE));
+
+        engine.resetVwap();
+        assertThat(engine.vwap()).isNaN();
+        engine.update(30, 30, 30, 10);
+        assertThat(engine.vwap()).isCloseTo(30.0, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("복사본 - 복사본에 반영한 캔들은 원본에 영향 없음")
+    void copy_IsIndependent() {
+        // given
+        IndicatorEngine engine = new IndicatorEngine(IndicatorSettings.DEFAULT);
+        IndicatorEngine reference = new IndicatorEngine(IndicatorSettings.DEFAULT);
+        double[] closes = randomWalk(100, 7);
+        for (double close : closes) {
+            engine.update(close + 1, close - 1, close, 100);
+            reference.update(close + 1, close - 1, close, 100);
+        }
+
+        // when
+        IndicatorEngine copy = engine.copy();
+        copy.update(80000, 79000, 79500, 1000);
+        reference.update(80000, 79000, 79500, 1000);
+
+        // then
+        assertThat(copy.ema()).isCloseTo(reference.ema(), within(TOLERANCE));
+        assertThat(copy.rsi()).isCloseTo(reference.rsi(), within(TOLERANCE));
+        assertThat(copy.macdSignal()).isCloseTo(reference.macdSignal(), within(TOLERANCE));
+        assertThat(copy.bollingerUpper()).isCloseTo(reference.bollingerUpper(), within(TOLERANCE));
+        assertThat(engine.bars()).isEqualTo(100);
+        assertThat(engine.sma()).isNotCloseTo(copy.sma(), within(TOLERANCE));
+    }
+
+    private double[] randomWalk(int n, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n];
+        double price = 70000;
+        for (int i = 0; i < n; i++) {
+            price += random.nextGaussian() * 300;
+            values[i] = price;
+        }
+        return values;
+    }
+}